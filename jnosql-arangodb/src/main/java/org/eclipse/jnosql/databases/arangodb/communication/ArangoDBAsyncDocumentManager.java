@@ -0,0 +1,525 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoDatabaseAsync;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.util.RawJson;
+import jakarta.json.JsonObject;
+import org.eclipse.jnosql.communication.graph.CommunicationEdge;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyMap;
+import static org.eclipse.jnosql.databases.arangodb.communication.ArangoDBUtil.FROM;
+import static org.eclipse.jnosql.databases.arangodb.communication.ArangoDBUtil.ID;
+import static org.eclipse.jnosql.databases.arangodb.communication.ArangoDBUtil.KEY;
+import static org.eclipse.jnosql.databases.arangodb.communication.ArangoDBUtil.TO;
+import static org.eclipse.jnosql.databases.arangodb.communication.DefaultArangoDBDocumentManager.extractId;
+import static org.eclipse.jnosql.databases.arangodb.communication.DefaultArangoDBDocumentManager.extractKey;
+import static org.eclipse.jnosql.databases.arangodb.communication.DefaultArangoDBDocumentManager.updateEntity;
+
+/**
+ * The non-blocking counterpart of {@link ArangoDBDocumentManager}, backed by {@link ArangoDatabaseAsync}.
+ * Writes, counts and edge operations return a {@link CompletionStage}; queries return a {@link Flow.Publisher} that
+ * honors the subscriber's demand, so the next batch of a cursor is fetched from the server only when it is requested.
+ * A query is sent to the database only when the subscriber first requests items.
+ * It follows the same collection, batch and query settings as the blocking manager and shares the
+ * {@link ArangoDBQueryCache} of its factory; a collection not known yet is checked, or created, through the async
+ * driver as well, so no operation blocks the calling thread.
+ *
+ * @see ArangoDBDocumentManagerFactory#async(String)
+ */
+public class ArangoDBAsyncDocumentManager implements AutoCloseable {
+
+    private final ArangoDatabaseAsync db;
+
+    private final ArangoDBCollections collections;
+
+    private final ArangoDBBatchOptions batchOptions;
+
+    private final ArangoDBQueryOptions queryOptions;
+
+    private final ArangoDBQueryCache queryCache;
+
+    ArangoDBAsyncDocumentManager(ArangoDatabaseAsync db, ArangoDBCollections collections,
+                                 ArangoDBBatchOptions batchOptions, ArangoDBQueryOptions queryOptions,
+                                 ArangoDBQueryCache queryCache) {
+        this.db = db;
+        this.collections = collections;
+        this.batchOptions = batchOptions;
+        this.queryOptions = queryOptions;
+        this.queryCache = queryCache;
+    }
+
+    /**
+     * @return the database name
+     */
+    public String name() {
+        return db.name();
+    }
+
+    /**
+     * @return the registry of the collections known to exist
+     */
+    public ArangoDBCollections collections() {
+        return collections;
+    }
+
+    /**
+     * @return the cache of the AQL generated from select, count and delete queries
+     */
+    public ArangoDBQueryCache queryCache() {
+        return queryCache;
+    }
+
+    /**
+     * Inserts an entity; the {@code _key}, {@code _id} and {@code _rev} returned are written back into it.
+     *
+     * @param entity the entity to be inserted
+     * @return the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<CommunicationEntity> insert(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        String collection = entity.name();
+        RawJson document = CommunicationEntitySerde.write(entity);
+        return collections.executeAsync(collection, () -> db.collection(collection).insertDocument(document))
+                .thenApply(result -> {
+                    updateEntity(entity, result.getKey(), result.getId(), result.getRev());
+                    return entity;
+                });
+    }
+
+    /**
+     * Inserts the entities through the multi-document API, see
+     * {@link ArangoDBDocumentManager#insert(Iterable, ArangoDBBatchOptions)}; the chunks are sent one after the other.
+     *
+     * @param entities the entities to be inserted
+     * @return the inserted entities
+     * @throws NullPointerException when entities is null
+     * @throws ArangoDBException    as the failure of the stage, when any document cannot be inserted
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities) {
+        return insert(entities, batchOptions);
+    }
+
+    /**
+     * Inserts the entities through the multi-document API with the given options; the chunks are sent one after
+     * the other, and when any document of a chunk fails, the following chunks are not sent.
+     *
+     * @param entities the entities to be inserted
+     * @param options  the chunk size and the policy on duplicated keys
+     * @return the inserted entities
+     * @throws NullPointerException when there is any null parameter
+     * @throws ArangoDBException    as the failure of the stage, when any document cannot be inserted
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities,
+                                                                 ArangoDBBatchOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        List<CommunicationEntity> result = DefaultArangoDBDocumentManager.toList(entities);
+        return writeInChunks(result, options, (collection, chunk) -> {
+            List<RawJson> documents = chunk.stream().map(CommunicationEntitySerde::write).toList();
+            return db.collection(collection).insertDocuments(documents, options.createOptions())
+                    .thenApply(multi -> multi.getDocumentsAndErrors());
+        });
+    }
+
+    /**
+     * Updates an entity, which must have either {@code _key} or {@code _id}.
+     *
+     * @param entity the entity to be updated
+     * @return the updated entity
+     * @throws NullPointerException     when entity is null
+     * @throws IllegalArgumentException when the entity has neither {@code _key} nor {@code _id}
+     */
+    public CompletionStage<CommunicationEntity> update(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        String collection = entity.name();
+        String key = requiredKey(entity);
+        RawJson document = CommunicationEntitySerde.write(entity);
+        return collections.executeAsync(collection, () -> db.collection(collection).updateDocument(key, document))
+                .thenApply(result -> {
+                    updateEntity(entity, result.getKey(), result.getId(), result.getRev());
+                    return entity;
+                });
+    }
+
+    /**
+     * Updates the entities through the multi-document API; the chunks are sent one after the other, and when any
+     * document of a chunk fails, the following chunks are not sent.
+     *
+     * @param entities the entities to be updated, each one with either {@code _key} or {@code _id}
+     * @return the updated entities
+     * @throws NullPointerException     when entities is null
+     * @throws IllegalArgumentException when an entity has neither {@code _key} nor {@code _id}
+     * @throws ArangoDBException        as the failure of the stage, when any document cannot be updated
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> update(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> result = DefaultArangoDBDocumentManager.toList(entities);
+        result.forEach(ArangoDBAsyncDocumentManager::requiredKey);
+        return writeInChunks(result, batchOptions, (collection, chunk) -> {
+            List<RawJson> documents = chunk.stream().map(DefaultArangoDBDocumentManager::toUpdateDocument).toList();
+            return db.collection(collection).updateDocuments(documents)
+                    .thenApply(multi -> multi.getDocumentsAndErrors());
+        });
+    }
+
+    /**
+     * Deletes the documents that match the query.
+     *
+     * @param query the query
+     * @return the stage completed when the documents are deleted
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Void> delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        AQLQueryResult delete = queryCache.delete(query);
+        return collections.executeAsync(query.name(), () -> db.query(delete.query(), Void.class, delete.values(),
+                        toAqlQueryOptions(ArangoDBQueryOptions.EMPTY)))
+                .thenApply(cursor -> null);
+    }
+
+    /**
+     * Finds the documents that match the given query.
+     *
+     * @param query the query
+     * @return the publisher of the result
+     * @throws NullPointerException when query is null
+     */
+    public Flow.Publisher<CommunicationEntity> select(SelectQuery query) {
+        return select(query, ArangoDBQueryOptions.EMPTY);
+    }
+
+    /**
+     * Finds the documents that match the given query, applying the cursor options on top of the defaults defined at
+     * configuration.
+     *
+     * @param query   the query
+     * @param options the cursor options
+     * @return the publisher of the result
+     * @throws NullPointerException when there is any null parameter
+     */
+    public Flow.Publisher<CommunicationEntity> select(SelectQuery query, ArangoDBQueryOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        return new ArangoDBCursorPublisher<>(() -> {
+            AQLQueryResult result = queryCache.select(query);
+            return collections.executeAsync(query.name(), () -> db.query(result.query(), RawJson.class,
+                    result.values(), toAqlQueryOptions(options)));
+        }, CommunicationEntitySerde::read);
+    }
+
+    /**
+     * Returns the number of documents that match the given query.
+     *
+     * @param query the query
+     * @return the number of documents
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Long> count(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        AQLQueryResult count = queryCache.count(query);
+        return collections.executeAsync(query.name(), () -> first(count.query(), count.values(), Long.class))
+                .thenApply(result -> result.orElse(0L));
+    }
+
+    /**
+     * Returns the number of documents in the collection.
+     *
+     * @param collection the collection name
+     * @return the number of documents
+     * @throws NullPointerException when collection is null
+     */
+    public CompletionStage<Long> count(String collection) {
+        Objects.requireNonNull(collection, "document collection is required");
+        return first("RETURN LENGTH(" + collection + ")", emptyMap(), Number.class)
+                .thenApply(result -> result.map(Number::longValue).orElse(0L));
+    }
+
+    /**
+     * Executes an AQL query, where the result is converted to {@link CommunicationEntity} at the Eclipse JNoSQL side.
+     *
+     * @param query  the AQL query
+     * @param params the named parameters for the query
+     * @return the publisher of the result
+     * @throws NullPointerException when either the query or params are null
+     */
+    public Flow.Publisher<CommunicationEntity> aql(String query, Map<String, Object> params) {
+        return aql(query, params, ArangoDBQueryOptions.EMPTY);
+    }
+
+    /**
+     * Executes an AQL query with the given cursor options, where the options not defined are taken from the ones
+     * defined at configuration.
+     *
+     * @param query   the AQL query
+     * @param params  the named parameters for the query
+     * @param options the cursor options
+     * @return the publisher of the result
+     * @throws NullPointerException when there is any null parameter
+     */
+    public Flow.Publisher<CommunicationEntity> aql(String query, Map<String, Object> params,
+                                                   ArangoDBQueryOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(params, "values is required");
+        Objects.requireNonNull(options, "options is required");
+        return new ArangoDBCursorPublisher<>(() -> db.query(query, RawJson.class, params, toAqlQueryOptions(options)),
+                CommunicationEntitySerde::read);
+    }
+
+    /**
+     * Executes an AQL query, where the result is serialized at the ArangoDB side.
+     *
+     * @param query  the AQL query
+     * @param params the named parameters for the query
+     * @param type   the type of the result
+     * @param <T>    the type
+     * @return the publisher of the result
+     * @throws NullPointerException when there is any null parameter
+     */
+    public <T> Flow.Publisher<T> aql(String query, Map<String, Object> params, Class<T> type) {
+        return aql(query, params, type, ArangoDBQueryOptions.EMPTY);
+    }
+
+    /**
+     * Executes an AQL query with the given cursor options, where the result is serialized at the ArangoDB side.
+     *
+     * @param query   the AQL query
+     * @param params  the named parameters for the query
+     * @param type    the type of the result
+     * @param options the cursor options
+     * @param <T>     the type
+     * @return the publisher of the result
+     * @throws NullPointerException when there is any null parameter
+     */
+    public <T> Flow.Publisher<T> aql(String query, Map<String, Object> params, Class<T> type,
+                                     ArangoDBQueryOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(params, "values is required");
+        Objects.requireNonNull(type, "typeClass is required");
+        Objects.requireNonNull(options, "options is required");
+        return new ArangoDBCursorPublisher<>(() -> db.query(query, type, params, toAqlQueryOptions(options)),
+                Function.identity());
+    }
+
+    /**
+     * Creates an edge between the source and the target; an entity without {@code _key} or {@code _id}, or one that
+     * does not exist, is inserted first.
+     *
+     * @param source     the source entity
+     * @param label      the edge collection
+     * @param target     the target entity
+     * @param properties the edge properties
+     * @return the created edge
+     * @throws NullPointerException when there is any null parameter
+     */
+    public CompletionStage<CommunicationEdge> edge(CommunicationEntity source, String label,
+                                                   CommunicationEntity target, Map<String, Object> properties) {
+        Objects.requireNonNull(source, "Source entity is required");
+        Objects.requireNonNull(target, "Target entity is required");
+        Objects.requireNonNull(label, "Relationship type is required");
+        Objects.requireNonNull(properties, "Properties map is required");
+
+        CompletableFuture<Void> checked = CompletableFuture.allOf(
+                collections.checkAsync(source.name()).toCompletableFuture(),
+                collections.checkAsync(target.name()).toCompletableFuture(),
+                collections.checkEdgeAsync(label).toCompletableFuture());
+        return checked.thenCompose(ignored -> {
+            CompletableFuture<CommunicationEntity> sourceStage = ensureEntityExists(source).toCompletableFuture();
+            CompletableFuture<CommunicationEntity> targetStage = ensureEntityExists(target).toCompletableFuture();
+            return sourceStage.thenCompose(from -> targetStage.thenCompose(to -> {
+                CommunicationEntity entity = CommunicationEntity.of(label);
+                entity.add(FROM, extractId(from).orElseThrow());
+                entity.add(TO, extractId(to).orElseThrow());
+                properties.forEach(entity::add);
+                return db.collection(label).insertDocument(CommunicationEntitySerde.write(entity))
+                        .thenApply(result -> new ArangoDBCommunicationEdge(result.getId(), from, to, label,
+                                properties));
+            }));
+        });
+    }
+
+    /**
+     * Removes the edges of the label between the source and the target.
+     *
+     * @param source the source entity
+     * @param label  the edge collection
+     * @param target the target entity
+     * @return the stage completed when the edges are removed
+     * @throws NullPointerException when there is any null parameter
+     */
+    public CompletionStage<Void> remove(CommunicationEntity source, String label, CommunicationEntity target) {
+        Objects.requireNonNull(source, "Source entity is required");
+        Objects.requireNonNull(target, "Target entity is required");
+        Objects.requireNonNull(label, "Relationship type is required");
+
+        String sourceId = extractId(source).orElseThrow();
+        String targetId = extractId(target).orElseThrow();
+
+        return db.query("""
+                FOR e IN @@collection
+                FILTER e._from == @source AND e._to == @target
+                REMOVE e IN @@collection
+                """, Void.class, Map.of(
+                "@collection", label,
+                "source", sourceId,
+                "target", targetId
+        )).thenApply(cursor -> null);
+    }
+
+    /**
+     * Deletes the edge by its id, in the format {@code collection/key}.
+     *
+     * @param id  the edge id
+     * @param <K> the id type
+     * @return the stage completed when the edge is deleted
+     * @throws IllegalArgumentException when the id is not a String in the format {@code collection/key}
+     */
+    public <K> CompletionStage<Void> deleteEdge(K id) {
+        String[] elements = edgeId(id);
+        String query = """
+                FOR e IN @@collection
+                FILTER e._key == @key
+                REMOVE e IN @@collection
+                """;
+        return db.query(query, Void.class, Map.of("@collection", elements[0], "key", elements[1]))
+                .thenApply(cursor -> null);
+    }
+
+    /**
+     * Finds the edge by its id, in the format {@code collection/key}, together with its source and target.
+     *
+     * @param id  the edge id
+     * @param <K> the id type
+     * @return the edge, or empty when it does not exist
+     * @throws IllegalArgumentException when the id is not a String in the format {@code collection/key}
+     */
+    public <K> CompletionStage<Optional<CommunicationEdge>> findEdgeById(K id) {
+        String[] elements = edgeId(id);
+        String query = """
+                FOR e IN @@collection
+                FILTER e._key == @key
+                RETURN {
+                  edge: e,
+                  source: DOCUMENT(e._from),
+                  target: DOCUMENT(e._to)
+                }
+                """;
+        Map<String, Object> bindVars = Map.of("@collection", elements[0], "key", elements[1]);
+        return first(query, bindVars, JsonObject.class)
+                .thenApply(result -> result.map(it -> ArangoDBUtil.toEdge(
+                        it.getJsonObject("edge"),
+                        it.getJsonObject("source"),
+                        it.getJsonObject("target"))));
+    }
+
+    /**
+     * Closes the underlying driver.
+     */
+    @Override
+    public void close() {
+        db.arango().shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "ArangoDBAsyncDocumentManager{" +
+                "database='" + db.name() + '\'' +
+                '}';
+    }
+
+    private CompletionStage<CommunicationEntity> ensureEntityExists(CommunicationEntity entity) {
+        Optional<String> key = extractKey(entity);
+        if (key.isEmpty()) {
+            return insert(entity);
+        }
+        return db.collection(entity.name()).documentExists(key.get())
+                .thenCompose(exists -> Boolean.TRUE.equals(exists)
+                        ? CompletableFuture.completedFuture(entity) : insert(entity));
+    }
+
+    private <T> CompletionStage<Optional<T>> first(String query, Map<String, Object> params, Class<T> type) {
+        return db.query(query, type, params, toAqlQueryOptions(ArangoDBQueryOptions.EMPTY))
+                .thenApply(cursor -> {
+                    List<T> result = cursor.getResult();
+                    if (Boolean.TRUE.equals(cursor.hasMore())) {
+                        cursor.close();
+                    }
+                    return result.isEmpty() ? Optional.<T>empty() : Optional.ofNullable(result.get(0));
+                });
+    }
+
+    /**
+     * Sends the chunks one after the other, each one when the previous has been written back, so no chunk is sent
+     * after a failed one, as in the blocking manager.
+     */
+    private CompletionStage<Iterable<CommunicationEntity>> writeInChunks(
+            List<CommunicationEntity> entities, ArangoDBBatchOptions options,
+            BiFunction<String, List<CommunicationEntity>, CompletionStage<List<Object>>> write) {
+        Map<String, List<CommunicationEntity>> byCollection = new LinkedHashMap<>();
+        for (CommunicationEntity entity : entities) {
+            byCollection.computeIfAbsent(entity.name(), k -> new ArrayList<>()).add(entity);
+        }
+        CompletionStage<Void> written = CompletableFuture.completedFuture(null);
+        for (Map.Entry<String, List<CommunicationEntity>> entry : byCollection.entrySet()) {
+            String collection = entry.getKey();
+            List<CommunicationEntity> collectionEntities = entry.getValue();
+            for (int start = 0; start < collectionEntities.size(); start += options.chunkSize()) {
+                List<CommunicationEntity> chunk = collectionEntities.subList(start,
+                        Math.min(start + options.chunkSize(), collectionEntities.size()));
+                written = written.thenCompose(ignored -> collections.executeAsync(collection,
+                                () -> write.apply(collection, chunk)))
+                        .thenAccept(results -> DefaultArangoDBDocumentManager.writeBack(collection, chunk, results));
+            }
+        }
+        return written.thenApply(v -> entities);
+    }
+
+    private AqlQueryOptions toAqlQueryOptions(ArangoDBQueryOptions options) {
+        return options.or(queryOptions).toAqlQueryOptions();
+    }
+
+    private static String requiredKey(CommunicationEntity entity) {
+        return extractKey(entity).orElseThrow(() ->
+                new IllegalArgumentException("To update an entity is necessary to have either " + KEY + " or " + ID));
+    }
+
+    private static <K> String[] edgeId(K id) {
+        if (!(id instanceof String idString)) {
+            throw new IllegalArgumentException("The id must be a String");
+        }
+        var elements = idString.split("/");
+        if (elements.length != 2) {
+            throw new IllegalArgumentException("The id must be in the format collection/key");
+        }
+        return elements;
+    }
+}
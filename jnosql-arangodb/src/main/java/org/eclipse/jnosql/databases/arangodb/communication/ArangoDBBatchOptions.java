@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.OverwriteMode;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The options of the batched writes of {@link ArangoDBDocumentManager#insert(Iterable, ArangoDBBatchOptions)} and
+ * {@link ArangoDBDocumentManager#update(Iterable, ArangoDBBatchOptions)}, which send the entities of each collection
+ * through the ArangoDB multi-document API, one request per chunk, instead of one request per entity.
+ * This class is immutable; use {@link ArangoDBBatchOptions#builder()} to create an instance.
+ *
+ * @see ArangoDBConfigurations#BATCH_SIZE
+ * @see ArangoDBConfigurations#BATCH_ON_DUPLICATE
+ */
+public final class ArangoDBBatchOptions {
+
+    /**
+     * The default number of entities sent per request.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    /**
+     * The options with the default chunk size, where the insert of a duplicated key fails.
+     */
+    public static final ArangoDBBatchOptions DEFAULT = builder().build();
+
+    private final int chunkSize;
+
+    private final OverwriteMode onDuplicate;
+
+    private ArangoDBBatchOptions(ArangoDBBatchOptionsBuilder builder) {
+        this.chunkSize = builder.chunkSize;
+        this.onDuplicate = builder.onDuplicate;
+    }
+
+    /**
+     * @return the maximum number of entities sent per request
+     */
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return what the insert does when a document with the same key already exists;
+     * when absent, the insert of that document fails
+     */
+    public Optional<OverwriteMode> onDuplicate() {
+        return Optional.ofNullable(onDuplicate);
+    }
+
+    DocumentCreateOptions createOptions() {
+        var options = new DocumentCreateOptions();
+        if (onDuplicate != null) {
+            options.overwriteMode(onDuplicate);
+        }
+        return options;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ArangoDBBatchOptions that)) {
+            return false;
+        }
+        return chunkSize == that.chunkSize && onDuplicate == that.onDuplicate;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(chunkSize, onDuplicate);
+    }
+
+    @Override
+    public String toString() {
+        return "ArangoDBBatchOptions{" +
+                "chunkSize=" + chunkSize +
+                ", onDuplicate=" + onDuplicate +
+                '}';
+    }
+
+    /**
+     * Creates a new builder instance
+     *
+     * @return a {@link ArangoDBBatchOptionsBuilder} instance
+     */
+    public static ArangoDBBatchOptionsBuilder builder() {
+        return new ArangoDBBatchOptionsBuilder();
+    }
+
+    static ArangoDBBatchOptions of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        ArangoDBBatchOptionsBuilder builder = builder();
+        settings.get(ArangoDBConfigurations.BATCH_SIZE)
+                .map(Object::toString).map(Integer::valueOf)
+                .ifPresent(builder::chunkSize);
+        settings.get(ArangoDBConfigurations.BATCH_ON_DUPLICATE)
+                .map(Object::toString).map(value -> value.toLowerCase(Locale.US)).map(OverwriteMode::valueOf)
+                .ifPresent(builder::onDuplicate);
+        return builder.build();
+    }
+
+    /**
+     * The builder of {@link ArangoDBBatchOptions}
+     */
+    public static final class ArangoDBBatchOptionsBuilder {
+
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        private OverwriteMode onDuplicate;
+
+        private ArangoDBBatchOptionsBuilder() {
+        }
+
+        /**
+         * Defines the maximum number of entities sent per request
+         *
+         * @param chunkSize the chunk size
+         * @return this builder
+         * @throws IllegalArgumentException when chunkSize is not positive
+         */
+        public ArangoDBBatchOptionsBuilder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Defines what the insert does when a document with the same key already exists:
+         * fail ({@link OverwriteMode#conflict}), keep the existing one ({@link OverwriteMode#ignore}),
+         * replace it ({@link OverwriteMode#replace}) or merge into it ({@link OverwriteMode#update}).
+         *
+         * @param onDuplicate the policy
+         * @return this builder
+         * @throws NullPointerException when onDuplicate is null
+         */
+        public ArangoDBBatchOptionsBuilder onDuplicate(OverwriteMode onDuplicate) {
+            this.onDuplicate = Objects.requireNonNull(onDuplicate, "onDuplicate is required");
+            return this;
+        }
+
+        /**
+         * Creates a {@link ArangoDBBatchOptions} instance
+         *
+         * @return a {@link ArangoDBBatchOptions} instance
+         */
+        public ArangoDBBatchOptions build() {
+            return new ArangoDBBatchOptions(this);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoCollectionAsync;
+import com.arangodb.ArangoDBException;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.ArangoDatabaseAsync;
+import com.arangodb.entity.CollectionType;
+import com.arangodb.model.CollectionCreateOptions;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.arangodb.internal.ArangoErrors.ERROR_ARANGO_DATA_SOURCE_NOT_FOUND;
+
+/**
+ * The registry of the collections known to exist in an ArangoDB database, so the manager does not check, or create,
+ * a collection on every operation. Each collection is checked once with a single request and then trusted
+ * for the time to live; a collection dropped outside of the manager is checked again on the first operation that fails
+ * because it does not exist.
+ * The time to live is configured by {@link ArangoDBConfigurations#COLLECTION_CACHE_TTL}, and a zero time to live
+ * checks the collection on every operation.
+ * The collections listed in {@link ArangoDBConfigurations#COLLECTIONS} and
+ * {@link ArangoDBConfigurations#EDGE_COLLECTIONS} are created and validated when the manager is created.
+ *
+ * @see ArangoDBDocumentManager#collections()
+ */
+public final class ArangoDBCollections {
+
+    /**
+     * The default time to live of a known collection.
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private static final Logger LOGGER = Logger.getLogger(ArangoDBCollections.class.getName());
+
+    private static final int ERROR_ARANGO_DUPLICATE_NAME = 1207;
+
+    private final ArangoDatabase database;
+
+    private final ArangoDatabaseAsync async;
+
+    private final long ttl;
+
+    private final Map<String, KnownCollection> collections = new ConcurrentHashMap<>();
+
+    ArangoDBCollections(ArangoDatabase database, Duration ttl) {
+        this(database, null, ttl);
+    }
+
+    /**
+     * @param async the database of the async driver, which checks the collections of the non-blocking operations
+     */
+    ArangoDBCollections(ArangoDatabase database, ArangoDatabaseAsync async, Duration ttl) {
+        this.database = Objects.requireNonNull(database, "database is required");
+        this.async = async;
+        Objects.requireNonNull(ttl, "ttl is required");
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl cannot be negative: " + ttl);
+        }
+        this.ttl = ttl.toNanos();
+    }
+
+    /**
+     * @return the time a collection is trusted to exist after it has been checked
+     */
+    public Duration ttl() {
+        return Duration.ofNanos(ttl);
+    }
+
+    /**
+     * @return the number of known collections, including the expired ones not checked again yet
+     */
+    public int size() {
+        return collections.size();
+    }
+
+    /**
+     * Checks whether the collection is known to exist and has not expired.
+     *
+     * @param collection the collection name
+     * @return true when the collection is known
+     * @throws NullPointerException when collection is null
+     */
+    public boolean isKnown(String collection) {
+        Objects.requireNonNull(collection, "collection is required");
+        KnownCollection known = collections.get(collection);
+        return known != null && !known.isExpired(System.nanoTime());
+    }
+
+    /**
+     * Forgets the collection, so it is checked again on the next operation.
+     *
+     * @param collection the collection name
+     * @throws NullPointerException when collection is null
+     */
+    public void invalidate(String collection) {
+        Objects.requireNonNull(collection, "collection is required");
+        collections.remove(collection);
+    }
+
+    /**
+     * Forgets every collection.
+     */
+    public void clear() {
+        collections.clear();
+    }
+
+    /**
+     * Ensures the document collection exists, creating it when needed.
+     */
+    void check(String collection) {
+        known(collection, CollectionType.DOCUMENT);
+    }
+
+    /**
+     * Ensures the edge collection exists, creating it when needed.
+     *
+     * @throws IllegalStateException when the collection exists but is not an edge collection
+     */
+    void checkEdge(String collection) {
+        if (known(collection, CollectionType.EDGES) != CollectionType.EDGES) {
+            throw new IllegalStateException(String.format("The collection %s is not an edge collection", collection));
+        }
+    }
+
+    /**
+     * Creates, or validates, the collections when the manager is created.
+     */
+    void prepare(List<String> documents, List<String> edges) {
+        documents.forEach(collection -> {
+            if (known(collection, CollectionType.DOCUMENT) != CollectionType.DOCUMENT) {
+                throw new IllegalStateException(String.format("The collection %s is not a document collection",
+                        collection));
+            }
+        });
+        edges.forEach(this::checkEdge);
+    }
+
+    /**
+     * Runs the operation on the collection; when it fails because the collection was dropped in the meantime,
+     * the collection is checked again, and the operation retried once.
+     */
+    <T> T execute(String collection, Supplier<T> operation) {
+        check(collection);
+        try {
+            return operation.get();
+        } catch (ArangoDBException exception) {
+            if (!ERROR_ARANGO_DATA_SOURCE_NOT_FOUND.equals(exception.getErrorNum())
+                    || !collections.containsKey(collection)) {
+                throw exception;
+            }
+            LOGGER.log(Level.FINE, "The collection {0} no longer exists, checking it again", collection);
+            invalidate(collection);
+            check(collection);
+            return operation.get();
+        }
+    }
+
+    /**
+     * The non-blocking counterpart of {@link #check(String)}: a collection that is not known yet is checked, or
+     * created, through the async driver, so the calling thread never waits for the server.
+     */
+    CompletionStage<Void> checkAsync(String collection) {
+        return knownAsync(collection, CollectionType.DOCUMENT).thenAccept(type -> {
+        });
+    }
+
+    /**
+     * The non-blocking counterpart of {@link #checkEdge(String)}.
+     */
+    CompletionStage<Void> checkEdgeAsync(String collection) {
+        return knownAsync(collection, CollectionType.EDGES).thenAccept(type -> {
+            if (type != CollectionType.EDGES) {
+                throw new IllegalStateException(String.format("The collection %s is not an edge collection",
+                        collection));
+            }
+        });
+    }
+
+    /**
+     * The non-blocking counterpart of {@link #execute(String, Supplier)}: the collection is checked with
+     * {@link #checkAsync(String)} before the operation, and the retry is chained to the failed stage.
+     */
+    <T> CompletionStage<T> executeAsync(String collection, Supplier<? extends CompletionStage<T>> operation) {
+        return checkAsync(collection).thenCompose(ignored -> operation.get()).exceptionallyCompose(throwable -> {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause() : throwable;
+            if (!(cause instanceof ArangoDBException exception)
+                    || !ERROR_ARANGO_DATA_SOURCE_NOT_FOUND.equals(exception.getErrorNum())
+                    || !collections.containsKey(collection)) {
+                return CompletableFuture.failedStage(throwable);
+            }
+            LOGGER.log(Level.FINE, "The collection {0} no longer exists, checking it again", collection);
+            invalidate(collection);
+            return checkAsync(collection).thenCompose(ignored -> operation.get());
+        });
+    }
+
+    private CollectionType known(String collection, CollectionType type) {
+        Objects.requireNonNull(collection, "collection is required");
+        long now = System.nanoTime();
+        KnownCollection known = collections.get(collection);
+        if (known != null && !known.isExpired(now)) {
+            return known.type();
+        }
+        if (ttl == 0L) {
+            return fetch(collection, type);
+        }
+        return collections.compute(collection, (name, current) -> {
+            if (current != null && !current.isExpired(now)) {
+                return current;
+            }
+            return new KnownCollection(fetch(name, type), now + ttl);
+        }).type();
+    }
+
+    private CollectionType fetch(String name, CollectionType type) {
+        ArangoCollection collection = database.collection(name);
+        try {
+            return collection.getInfo().getType();
+        } catch (ArangoDBException exception) {
+            if (!ERROR_ARANGO_DATA_SOURCE_NOT_FOUND.equals(exception.getErrorNum())) {
+                throw exception;
+            }
+        }
+        try {
+            collection.create(new CollectionCreateOptions().type(type));
+            return type;
+        } catch (ArangoDBException exception) {
+            if (!Integer.valueOf(ERROR_ARANGO_DUPLICATE_NAME).equals(exception.getErrorNum())) {
+                throw exception;
+            }
+            return collection.getInfo().getType();
+        }
+    }
+
+    private CompletionStage<CollectionType> knownAsync(String collection, CollectionType type) {
+        Objects.requireNonNull(collection, "collection is required");
+        Objects.requireNonNull(async, "async database is required");
+        long now = System.nanoTime();
+        KnownCollection known = collections.get(collection);
+        if (known != null && !known.isExpired(now)) {
+            return CompletableFuture.completedFuture(known.type());
+        }
+        return fetchAsync(collection, type).thenApply(fetched -> {
+            if (ttl > 0L) {
+                collections.put(collection, new KnownCollection(fetched, now + ttl));
+            }
+            return fetched;
+        });
+    }
+
+    private CompletionStage<CollectionType> fetchAsync(String name, CollectionType type) {
+        ArangoCollectionAsync collection = async.collection(name);
+        return collection.getInfo().<CollectionType>thenApply(info -> info.getType())
+                .exceptionallyCompose(throwable -> {
+                    if (!isError(throwable, ERROR_ARANGO_DATA_SOURCE_NOT_FOUND)) {
+                        return CompletableFuture.<CollectionType>failedStage(throwable);
+                    }
+                    return collection.create(new CollectionCreateOptions().type(type))
+                            .<CollectionType>thenApply(created -> type)
+                            .exceptionallyCompose(failure -> isError(failure, ERROR_ARANGO_DUPLICATE_NAME)
+                                    ? collection.getInfo().thenApply(info -> info.getType())
+                                    : CompletableFuture.<CollectionType>failedStage(failure));
+                });
+    }
+
+    private static boolean isError(Throwable throwable, Integer errorNum) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        return cause instanceof ArangoDBException exception && errorNum.equals(exception.getErrorNum());
+    }
+
+    static ArangoDBCollections of(ArangoDatabase database, Settings settings) {
+        return of(database, null, settings);
+    }
+
+    static ArangoDBCollections of(ArangoDatabase database, ArangoDatabaseAsync async, Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        Duration ttl = settings.get(ArangoDBConfigurations.COLLECTION_CACHE_TTL)
+                .map(Object::toString).map(Long::valueOf).map(Duration::ofMillis)
+                .orElse(DEFAULT_TTL);
+        var collections = new ArangoDBCollections(database, async, ttl);
+        collections.prepare(names(settings, ArangoDBConfigurations.COLLECTIONS),
+                names(settings, ArangoDBConfigurations.EDGE_COLLECTIONS));
+        return collections;
+    }
+
+    private static List<String> names(Settings settings, ArangoDBConfigurations configuration) {
+        return settings.get(configuration)
+                .map(Object::toString)
+                .map(names -> Arrays.stream(names.split(","))
+                        .map(String::trim)
+                        .filter(name -> !name.isEmpty())
+                        .toList())
+                .orElse(List.of());
+    }
+
+    private record KnownCollection(CollectionType type, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -66,7 +66,62 @@ public enum ArangoDBConfigurations implements Supplier<String> {
     /**
      *Set hosts split by comma
      */
-    HOST_LIST("jnosql.arangodb.acquire.host.list");
+    HOST_LIST("jnosql.arangodb.acquire.host.list"),
+    /**
+     * The time in milliseconds a collection is trusted to exist after it has been checked, so the document manager
+     * does not check it on every operation. Zero checks the collection on every operation. By default, five minutes.
+     *
+     * @see ArangoDBCollections
+     */
+    COLLECTION_CACHE_TTL("jnosql.arangodb.collection.cache.ttl"),
+    /**
+     * The document collections, split by comma, to create or validate when the document manager is created.
+     */
+    COLLECTIONS("jnosql.arangodb.collections"),
+    /**
+     * The edge collections, split by comma, to create or validate when the document manager is created.
+     */
+    EDGE_COLLECTIONS("jnosql.arangodb.edge.collections"),
+    /**
+     * The maximum number of entities sent per request when inserting or updating several entities. By default, 1000.
+     *
+     * @see ArangoDBBatchOptions
+     */
+    BATCH_SIZE("jnosql.arangodb.batch.size"),
+    /**
+     * What a batched insert does when a document with the same key already exists, as a
+     * {@link com.arangodb.model.OverwriteMode}: conflict, ignore, replace or update. By default, the insert fails.
+     */
+    BATCH_ON_DUPLICATE("jnosql.arangodb.batch.on.duplicate"),
+    /**
+     * The default number of documents transferred per batch when reading an AQL cursor.
+     *
+     * @see ArangoDBQueryOptions
+     */
+    QUERY_BATCH_SIZE("jnosql.arangodb.query.batch.size"),
+    /**
+     * Whether AQL queries stream their results by default, instead of computing them all before the first batch.
+     */
+    QUERY_STREAM("jnosql.arangodb.query.stream"),
+    /**
+     * The default time in seconds the server keeps an idle AQL cursor.
+     */
+    QUERY_TTL("jnosql.arangodb.query.ttl"),
+    /**
+     * The default maximum memory in bytes an AQL query may use on the server.
+     */
+    QUERY_MEMORY_LIMIT("jnosql.arangodb.query.memory.limit"),
+    /**
+     * The default maximum execution time in milliseconds of an AQL query on the server.
+     */
+    QUERY_MAX_RUNTIME("jnosql.arangodb.query.max.runtime"),
+    /**
+     * The maximum number of AQL queries generated from select, count and delete queries that are kept for reuse.
+     * Zero disables the cache. By default, 1000.
+     *
+     * @see ArangoDBQueryCache
+     */
+    QUERY_CACHE_SIZE("jnosql.arangodb.query.cache.size");
     private final String configuration;
 
     ArangoDBConfigurations(String configuration) {
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoCursorAsync;
+import org.eclipse.jnosql.communication.driver.reactive.PagePublisher;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link Flow.Publisher} over an AQL cursor of the async driver, which fetches each batch of the cursor on demand
+ * through {@link PagePublisher}. Cancelling the subscription, or a failing conversion, closes the server-side cursor
+ * when it still has batches to return.
+ *
+ * @param <S> the type of the documents in the cursor
+ * @param <T> the type emitted to the subscriber
+ */
+final class ArangoDBCursorPublisher<S, T> implements Flow.Publisher<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(ArangoDBCursorPublisher.class.getName());
+
+    private final PagePublisher<ArangoCursorAsync<S>, S, T> publisher;
+
+    ArangoDBCursorPublisher(Supplier<? extends CompletionStage<ArangoCursorAsync<S>>> query,
+                            Function<? super S, ? extends T> mapper) {
+        this.publisher = new PagePublisher<>(query, new Batches<>(), mapper);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        publisher.subscribe(subscriber);
+    }
+
+    private static final class Batches<S> implements PagePublisher.Pages<ArangoCursorAsync<S>, S> {
+
+        @Override
+        public Iterator<S> items(ArangoCursorAsync<S> cursor) {
+            return cursor.getResult().iterator();
+        }
+
+        @Override
+        public boolean hasNext(ArangoCursorAsync<S> cursor) {
+            return Boolean.TRUE.equals(cursor.hasMore());
+        }
+
+        @Override
+        public CompletionStage<ArangoCursorAsync<S>> next(ArangoCursorAsync<S> cursor) {
+            return cursor.nextBatch();
+        }
+
+        @Override
+        public void close(ArangoCursorAsync<S> cursor) {
+            if (hasNext(cursor)) {
+                cursor.close().whenComplete((ignored, throwable) -> {
+                    if (throwable != null) {
+                        LOGGER.log(Level.FINEST, throwable, () -> "An error closing the AQL cursor");
+                    }
+                });
+            }
+        }
+    }
+}
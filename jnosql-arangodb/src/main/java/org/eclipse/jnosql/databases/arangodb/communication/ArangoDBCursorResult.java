@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The result of an AQL query together with the cursor statistics, such as the full count requested through
+ * {@link ArangoDBQueryOptions.ArangoDBQueryOptionsBuilder#fullCount(boolean)} to paginate without a second query.
+ * The statistics are the ones the server returned with the first batch; a streaming cursor only knows them once
+ * it is fully read, so they are usually absent when {@link ArangoDBQueryOptions#stream()} is enabled.
+ * Closing the {@link #stream()} closes the server-side cursor.
+ *
+ * @param <T> the type of the result
+ */
+public final class ArangoDBCursorResult<T> {
+
+    private final Stream<T> stream;
+
+    private final Long fullCount;
+
+    private final Long count;
+
+    ArangoDBCursorResult(Stream<T> stream, Long fullCount, Long count) {
+        this.stream = Objects.requireNonNull(stream, "stream is required");
+        this.fullCount = fullCount;
+        this.count = count;
+    }
+
+    /**
+     * @return the query result
+     */
+    public Stream<T> stream() {
+        return stream;
+    }
+
+    /**
+     * @return the number of documents before the last LIMIT of the query, when it was requested
+     */
+    public Optional<Long> fullCount() {
+        return Optional.ofNullable(fullCount);
+    }
+
+    /**
+     * @return the number of documents in the result, when the server reported it
+     */
+    public Optional<Long> count() {
+        return Optional.ofNullable(count);
+    }
+
+    /**
+     * Returns a result with the same statistics where every element of the stream is mapped.
+     *
+     * @param mapper the mapper function
+     * @param <R>    the new type
+     * @return the mapped result
+     * @throws NullPointerException when mapper is null
+     */
+    public <R> ArangoDBCursorResult<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is required");
+        return new ArangoDBCursorResult<>(stream.map(mapper), fullCount, count);
+    }
+
+    @Override
+    public String toString() {
+        return "ArangoDBCursorResult{" +
+                "fullCount=" + fullCount +
+                ", count=" + count +
+                '}';
+    }
+}
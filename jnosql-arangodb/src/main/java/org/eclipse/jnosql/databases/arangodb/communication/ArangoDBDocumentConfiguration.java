@@ -36,7 +36,7 @@ public final class ArangoDBDocumentConfiguration extends ArangoDBConfiguration
         requireNonNull(settings, "settings is required");
 
         ArangoDBBuilder arangoDBBuilder = getArangoDBBuilder(settings);
-        return new ArangoDBDocumentManagerFactory(arangoDBBuilder);
+        return new ArangoDBDocumentManagerFactory(arangoDBBuilder, settings);
     }
 
 }
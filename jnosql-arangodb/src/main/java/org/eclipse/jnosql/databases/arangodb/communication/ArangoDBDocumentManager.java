@@ -17,6 +17,7 @@ package org.eclipse.jnosql.databases.arangodb.communication;
 import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.util.Map;
 import java.util.stream.Stream;
@@ -40,6 +41,42 @@ public interface ArangoDBDocumentManager extends DatabaseManager, GraphDatabaseM
      */
     Stream<CommunicationEntity> aql(String query, Map<String, Object> params);
 
+    /**
+     * Inserts the entities through the ArangoDB multi-document API: the entities are grouped by collection and sent
+     * in chunks, one request per chunk, and the {@code _key}, {@code _id} and {@code _rev} returned are written back
+     * into each entity.
+     * When any document of a chunk fails, the following chunks are not sent.
+     *
+     * @param entities the entities
+     * @param options  the chunk size and the policy on duplicated keys
+     * @return the entities
+     * @throws NullPointerException when there is any null parameter
+     * @throws ArangoDBException    when any document of a chunk cannot be inserted
+     */
+    Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, ArangoDBBatchOptions options);
+
+    /**
+     * Updates the entities through the ArangoDB multi-document API: the entities are grouped by collection and sent
+     * in chunks, one request per chunk, and the {@code _key}, {@code _id} and {@code _rev} returned are written back
+     * into each entity.
+     * When any document of a chunk fails, the following chunks are not sent.
+     *
+     * @param entities the entities, each one with either {@code _key} or {@code _id}
+     * @param options  the chunk size
+     * @return the entities
+     * @throws NullPointerException     when there is any null parameter
+     * @throws IllegalArgumentException when an entity has neither {@code _key} nor {@code _id}
+     * @throws ArangoDBException        when any document of a chunk cannot be updated
+     */
+    Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities, ArangoDBBatchOptions options);
+
+    /**
+     * Returns the registry of the collections known to exist, which spares the existence check on every operation.
+     *
+     * @return the known collections
+     */
+    ArangoDBCollections collections();
+
     /**
      * Executes an ArangoDB query using the ArangoDB Query Language (AQL).
      *
@@ -72,5 +109,71 @@ public interface ArangoDBDocumentManager extends DatabaseManager, GraphDatabaseM
      * @throws NullPointerException when either the query or type are null
      */
     <T> Stream<T> aql(String query, Class<T> type);
+
+    /**
+     * Executes an ArangoDB query using the ArangoDB Query Language (AQL) with the given cursor options, where the
+     * options not defined are taken from {@link #queryOptions()}.
+     *
+     * @param query   the AQL query
+     * @param params  the named parameters for the query
+     * @param options the cursor options
+     * @return a {@link Stream} of {@link CommunicationEntity} representing the query result
+     * @throws NullPointerException when there is any null parameter
+     */
+    Stream<CommunicationEntity> aql(String query, Map<String, Object> params, ArangoDBQueryOptions options);
+
+    /**
+     * Executes an ArangoDB query using the ArangoDB Query Language (AQL) with the given cursor options, where the
+     * options not defined are taken from {@link #queryOptions()}.
+     * The serialization of the query result will happen at the ArangoDB side.
+     *
+     * @param query   the AQL query
+     * @param params  the named parameters for the query
+     * @param type    the type of the result
+     * @param options the cursor options
+     * @param <T>     the type
+     * @return a {@link Stream} of the specified type representing the query result
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> Stream<T> aql(String query, Map<String, Object> params, Class<T> type, ArangoDBQueryOptions options);
+
+    /**
+     * Executes an ArangoDB query using the ArangoDB Query Language (AQL) and returns the result together with the
+     * cursor statistics, such as the full count when {@link ArangoDBQueryOptions#fullCount()} is enabled.
+     *
+     * @param query   the AQL query
+     * @param params  the named parameters for the query
+     * @param options the cursor options
+     * @return the query result and its statistics
+     * @throws NullPointerException when there is any null parameter
+     */
+    ArangoDBCursorResult<CommunicationEntity> aqlCursor(String query, Map<String, Object> params,
+                                                        ArangoDBQueryOptions options);
+
+    /**
+     * Returns the query result with the given cursor options, where the options not defined are taken from
+     * {@link #queryOptions()}.
+     *
+     * @param query   the query
+     * @param options the cursor options
+     * @return a {@link Stream} of {@link CommunicationEntity} representing the query result
+     * @throws NullPointerException when there is any null parameter
+     */
+    Stream<CommunicationEntity> select(SelectQuery query, ArangoDBQueryOptions options);
+
+    /**
+     * Returns the cursor options applied to every query, defined through {@link ArangoDBConfigurations}.
+     *
+     * @return the default cursor options
+     */
+    ArangoDBQueryOptions queryOptions();
+
+    /**
+     * Returns the cache of the AQL generated from select, count and delete queries, with its hit and miss
+     * statistics. The cache is shared by every manager created from the same factory.
+     *
+     * @return the AQL cache
+     */
+    ArangoDBQueryCache queryCache();
 }
 
@@ -16,23 +16,50 @@ package org.eclipse.jnosql.databases.arangodb.communication;
 
 
 import com.arangodb.ArangoDB;
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManagerFactory;
 
+import java.util.Objects;
+
 
 public final class ArangoDBDocumentManagerFactory implements DatabaseManagerFactory {
 
 
     private final ArangoDBBuilder arangoDBBuilder;
 
-    ArangoDBDocumentManagerFactory(ArangoDBBuilder arangoDBBuilder) {
+    private final Settings settings;
+
+    private final ArangoDBQueryCache queryCache;
+
+    ArangoDBDocumentManagerFactory(ArangoDBBuilder arangoDBBuilder, Settings settings) {
         this.arangoDBBuilder = arangoDBBuilder;
+        this.settings = settings;
+        this.queryCache = ArangoDBQueryCache.of(settings);
     }
 
     @Override
     public ArangoDBDocumentManager apply(String database) {
         ArangoDB arangoDB = arangoDBBuilder.build();
         ArangoDBUtil.checkDatabase(database, arangoDB);
-        return new DefaultArangoDBDocumentManager(database, arangoDB);
+        var db = arangoDB.db(database);
+        return new DefaultArangoDBDocumentManager(db, ArangoDBCollections.of(db, settings),
+                ArangoDBBatchOptions.of(settings), ArangoDBQueryOptions.of(settings), queryCache);
+    }
+
+    /**
+     * Creates the non-blocking manager of the database, sharing the query cache with the blocking ones.
+     *
+     * @param database the database name
+     * @return a new {@link ArangoDBAsyncDocumentManager}, which owns its own driver instance
+     * @throws NullPointerException when database is null
+     */
+    public ArangoDBAsyncDocumentManager async(String database) {
+        Objects.requireNonNull(database, "database is required");
+        ArangoDB arangoDB = arangoDBBuilder.build();
+        ArangoDBUtil.checkDatabase(database, arangoDB);
+        var async = arangoDB.async().db(database);
+        return new ArangoDBAsyncDocumentManager(async, ArangoDBCollections.of(arangoDB.db(database), async, settings),
+                ArangoDBBatchOptions.of(settings), ArangoDBQueryOptions.of(settings), queryCache);
     }
 
     @Override
@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, least-recently-used cache of the AQL generated from select, count and delete queries.
+ * The key is the shape of the query, its collection, sorts, and the operators and field names of its condition,
+ * so a derived query that runs again with other values reuses the AQL and only recomputes the bind values;
+ * the LIMIT is not part of the shape, so every page of a query shares the same entry.
+ * This class is thread-safe; it is shared by every manager created from the same factory.
+ *
+ * @see ArangoDBConfigurations#QUERY_CACHE_SIZE
+ */
+public final class ArangoDBQueryCache {
+
+    static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private final int maxSize;
+
+    private final Map<QueryAQLConverter.Shape, QueryAQLConverter.AQLTemplate> templates;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    ArangoDBQueryCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryAQLConverter.Shape,
+                    QueryAQLConverter.AQLTemplate> eldest) {
+                return size() > ArangoDBQueryCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the number of conversions that reused a cached AQL
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of conversions that had to generate a new AQL
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of AQL queries currently cached
+     */
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    /**
+     * @return the maximum number of AQL queries kept; zero means the cache is disabled
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes every cached AQL and resets the hit and miss counters.
+     */
+    public synchronized void clear() {
+        templates.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    AQLQueryResult select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (maxSize == 0) {
+            return QueryAQLConverter.select(query);
+        }
+        return convert(QueryAQLConverter.Kind.SELECT, query.name(), query.condition().orElse(null),
+                query.sorts(), query.skip(), query.limit());
+    }
+
+    AQLQueryResult count(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (maxSize == 0) {
+            return QueryAQLConverter.count(query);
+        }
+        return convert(QueryAQLConverter.Kind.COUNT, query.name(), query.condition().orElse(null),
+                Collections.emptyList(), 0L, 0L);
+    }
+
+    AQLQueryResult delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (maxSize == 0) {
+            return QueryAQLConverter.delete(query);
+        }
+        return convert(QueryAQLConverter.Kind.DELETE, query.name(), query.condition().orElse(null),
+                Collections.emptyList(), 0L, 0L);
+    }
+
+    private AQLQueryResult convert(QueryAQLConverter.Kind kind, String collection, CriteriaCondition condition,
+                                   List<Sort<?>> sorts, long skip, long limit) {
+        List<Object> values = new ArrayList<>();
+        var shape = QueryAQLConverter.shape(kind, collection, condition, sorts, values);
+        QueryAQLConverter.AQLTemplate template;
+        synchronized (this) {
+            template = templates.get(shape);
+        }
+        if (template == null) {
+            misses.increment();
+            template = QueryAQLConverter.compile(kind, collection, condition, sorts);
+            synchronized (this) {
+                templates.put(shape, template);
+            }
+        } else {
+            hits.increment();
+        }
+        return template.apply(values, skip, limit);
+    }
+
+    static ArangoDBQueryCache of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        int maxSize = settings.get(ArangoDBConfigurations.QUERY_CACHE_SIZE)
+                .map(Object::toString).map(Integer::valueOf)
+                .orElse(DEFAULT_MAX_SIZE);
+        return new ArangoDBQueryCache(maxSize);
+    }
+
+    @Override
+    public String toString() {
+        return "ArangoDBQueryCache{" +
+                "maxSize=" + maxSize +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                '}';
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.model.AqlQueryOptions;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The cursor options of an AQL query, such as the batch size, whether the cursor streams the results instead of
+ * computing them all up front, the cursor time to live, the memory limit and whether the full count is requested
+ * for pagination. Every option is optional: when absent, the value configured through {@link ArangoDBConfigurations}
+ * is used, or the server's default otherwise.
+ * This class is immutable; use {@link ArangoDBQueryOptions#builder()} to create an instance.
+ *
+ * @see ArangoDBDocumentManager#aql(String, java.util.Map, ArangoDBQueryOptions)
+ */
+public final class ArangoDBQueryOptions {
+
+    /**
+     * The options without any value defined, so the server's defaults are kept.
+     */
+    public static final ArangoDBQueryOptions EMPTY = builder().build();
+
+    private final Integer batchSize;
+
+    private final Boolean stream;
+
+    private final Duration ttl;
+
+    private final Boolean fullCount;
+
+    private final Long memoryLimit;
+
+    private final Duration maxRuntime;
+
+    private ArangoDBQueryOptions(ArangoDBQueryOptionsBuilder builder) {
+        this.batchSize = builder.batchSize;
+        this.stream = builder.stream;
+        this.ttl = builder.ttl;
+        this.fullCount = builder.fullCount;
+        this.memoryLimit = builder.memoryLimit;
+        this.maxRuntime = builder.maxRuntime;
+    }
+
+    /**
+     * @return the number of documents transferred per batch from the server
+     */
+    public Optional<Integer> batchSize() {
+        return Optional.ofNullable(batchSize);
+    }
+
+    /**
+     * @return whether the results are produced lazily while the cursor is read, instead of all up front
+     */
+    public Optional<Boolean> stream() {
+        return Optional.ofNullable(stream);
+    }
+
+    /**
+     * @return the time the server keeps an idle cursor
+     */
+    public Optional<Duration> ttl() {
+        return Optional.ofNullable(ttl);
+    }
+
+    /**
+     * @return whether the number of documents before the last LIMIT is returned
+     */
+    public Optional<Boolean> fullCount() {
+        return Optional.ofNullable(fullCount);
+    }
+
+    /**
+     * @return the maximum memory in bytes the query may use on the server
+     */
+    public Optional<Long> memoryLimit() {
+        return Optional.ofNullable(memoryLimit);
+    }
+
+    /**
+     * @return the maximum execution time of the query on the server
+     */
+    public Optional<Duration> maxRuntime() {
+        return Optional.ofNullable(maxRuntime);
+    }
+
+    /**
+     * Returns the options of this instance, where the absent ones are taken from the defaults.
+     *
+     * @param defaults the default options
+     * @return the merged options
+     * @throws NullPointerException when defaults is null
+     */
+    public ArangoDBQueryOptions or(ArangoDBQueryOptions defaults) {
+        Objects.requireNonNull(defaults, "defaults is required");
+        if (this == EMPTY || this.equals(EMPTY)) {
+            return defaults;
+        }
+        var builder = builder();
+        builder.batchSize = batchSize != null ? batchSize : defaults.batchSize;
+        builder.stream = stream != null ? stream : defaults.stream;
+        builder.ttl = ttl != null ? ttl : defaults.ttl;
+        builder.fullCount = fullCount != null ? fullCount : defaults.fullCount;
+        builder.memoryLimit = memoryLimit != null ? memoryLimit : defaults.memoryLimit;
+        builder.maxRuntime = maxRuntime != null ? maxRuntime : defaults.maxRuntime;
+        return builder.build();
+    }
+
+    AqlQueryOptions toAqlQueryOptions() {
+        var options = new AqlQueryOptions();
+        if (batchSize != null) {
+            options.batchSize(batchSize);
+        }
+        if (stream != null) {
+            options.stream(stream);
+        }
+        if (ttl != null) {
+            options.ttl(Math.toIntExact(ttl.toSeconds()));
+        }
+        if (fullCount != null) {
+            options.fullCount(fullCount);
+        }
+        if (memoryLimit != null) {
+            options.memoryLimit(memoryLimit);
+        }
+        if (maxRuntime != null) {
+            options.maxRuntime(maxRuntime.toMillis() / 1000D);
+        }
+        return options;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ArangoDBQueryOptions that)) {
+            return false;
+        }
+        return Objects.equals(batchSize, that.batchSize)
+                && Objects.equals(stream, that.stream)
+                && Objects.equals(ttl, that.ttl)
+                && Objects.equals(fullCount, that.fullCount)
+                && Objects.equals(memoryLimit, that.memoryLimit)
+                && Objects.equals(maxRuntime, that.maxRuntime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batchSize, stream, ttl, fullCount, memoryLimit, maxRuntime);
+    }
+
+    @Override
+    public String toString() {
+        return "ArangoDBQueryOptions{" +
+                "batchSize=" + batchSize +
+                ", stream=" + stream +
+                ", ttl=" + ttl +
+                ", fullCount=" + fullCount +
+                ", memoryLimit=" + memoryLimit +
+                ", maxRuntime=" + maxRuntime +
+                '}';
+    }
+
+    /**
+     * Creates a new builder instance
+     *
+     * @return a {@link ArangoDBQueryOptionsBuilder} instance
+     */
+    public static ArangoDBQueryOptionsBuilder builder() {
+        return new ArangoDBQueryOptionsBuilder();
+    }
+
+    static ArangoDBQueryOptions of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        ArangoDBQueryOptionsBuilder builder = builder();
+        settings.get(ArangoDBConfigurations.QUERY_BATCH_SIZE)
+                .map(Object::toString).map(Integer::valueOf)
+                .ifPresent(builder::batchSize);
+        settings.get(ArangoDBConfigurations.QUERY_STREAM)
+                .map(Object::toString).map(Boolean::valueOf)
+                .ifPresent(builder::stream);
+        settings.get(ArangoDBConfigurations.QUERY_TTL)
+                .map(Object::toString).map(Long::valueOf).map(Duration::ofSeconds)
+                .ifPresent(builder::ttl);
+        settings.get(ArangoDBConfigurations.QUERY_MEMORY_LIMIT)
+                .map(Object::toString).map(Long::valueOf)
+                .ifPresent(builder::memoryLimit);
+        settings.get(ArangoDBConfigurations.QUERY_MAX_RUNTIME)
+                .map(Object::toString).map(Long::valueOf).map(Duration::ofMillis)
+                .ifPresent(builder::maxRuntime);
+        return builder.build();
+    }
+
+    /**
+     * The builder of {@link ArangoDBQueryOptions}
+     */
+    public static final class ArangoDBQueryOptionsBuilder {
+
+        private Integer batchSize;
+
+        private Boolean stream;
+
+        private Duration ttl;
+
+        private Boolean fullCount;
+
+        private Long memoryLimit;
+
+        private Duration maxRuntime;
+
+        private ArangoDBQueryOptionsBuilder() {
+        }
+
+        /**
+         * Defines the number of documents transferred per batch from the server
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is not positive
+         */
+        public ArangoDBQueryOptionsBuilder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Defines whether the results are produced lazily while the cursor is read, instead of all up front
+         *
+         * @param stream the stream flag
+         * @return this builder
+         */
+        public ArangoDBQueryOptionsBuilder stream(boolean stream) {
+            this.stream = stream;
+            return this;
+        }
+
+        /**
+         * Defines the time the server keeps an idle cursor, in seconds precision; a fraction of a second is
+         * rounded up, so a time to live below one second is not sent as zero, which means the server default
+         *
+         * @param ttl the time to live
+         * @return this builder
+         * @throws NullPointerException     when ttl is null
+         * @throws IllegalArgumentException when ttl is negative
+         */
+        public ArangoDBQueryOptionsBuilder ttl(Duration ttl) {
+            Objects.requireNonNull(ttl, "ttl is required");
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("ttl cannot be negative: " + ttl);
+            }
+            this.ttl = ttl.toNanosPart() == 0 ? ttl : Duration.ofSeconds(ttl.toSeconds() + 1);
+            return this;
+        }
+
+        /**
+         * Defines whether the number of documents before the last LIMIT is returned,
+         * see {@link ArangoDBCursorResult#fullCount()}
+         *
+         * @param fullCount the full count flag
+         * @return this builder
+         */
+        public ArangoDBQueryOptionsBuilder fullCount(boolean fullCount) {
+            this.fullCount = fullCount;
+            return this;
+        }
+
+        /**
+         * Defines the maximum memory in bytes the query may use on the server
+         *
+         * @param memoryLimit the memory limit
+         * @return this builder
+         * @throws IllegalArgumentException when memoryLimit is negative
+         */
+        public ArangoDBQueryOptionsBuilder memoryLimit(long memoryLimit) {
+            if (memoryLimit < 0) {
+                throw new IllegalArgumentException("memoryLimit cannot be negative: " + memoryLimit);
+            }
+            this.memoryLimit = memoryLimit;
+            return this;
+        }
+
+        /**
+         * Defines the maximum execution time of the query on the server
+         *
+         * @param maxRuntime the maximum time
+         * @return this builder
+         * @throws NullPointerException when maxRuntime is null
+         */
+        public ArangoDBQueryOptionsBuilder maxRuntime(Duration maxRuntime) {
+            this.maxRuntime = Objects.requireNonNull(maxRuntime, "maxRuntime is required");
+            return this;
+        }
+
+        /**
+         * Creates a {@link ArangoDBQueryOptions} instance
+         *
+         * @return a {@link ArangoDBQueryOptions} instance
+         */
+        public ArangoDBQueryOptions build() {
+            return new ArangoDBQueryOptions(this);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.util.RawJson;
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+import org.eclipse.jnosql.communication.ValueUtil;
+import org.eclipse.jnosql.communication.driver.metrics.ConversionClock;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.databases.arangodb.communication.ArangoDBUtil.ID;
+import static org.eclipse.jnosql.databases.arangodb.communication.ArangoDBUtil.KEY;
+
+/**
+ * Writes a {@link CommunicationEntity} straight to the JSON sent to ArangoDB and reads it straight from the JSON
+ * returned, through the streaming JSON-P API and the driver's {@link RawJson} pass-through type, so there is no
+ * intermediate {@link jakarta.json.JsonObject} tree between the entity and the driver.
+ * The conversion follows the same rules of {@link ArangoDBUtil#toJsonObject(CommunicationEntity)} and
+ * {@link ArangoDBUtil#toEntity(jakarta.json.JsonObject)}; the time spent on it is reported to
+ * {@link ConversionClock} as conversion time.
+ */
+final class CommunicationEntitySerde {
+
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(Map.of());
+
+    private static final JsonParserFactory PARSER_FACTORY = Json.createParserFactory(Map.of());
+
+    private CommunicationEntitySerde() {
+    }
+
+    /**
+     * Writes the entity as a document, where a null {@code _key} is left out so the server generates one.
+     *
+     * @param entity the entity
+     * @return the document
+     */
+    static RawJson write(CommunicationEntity entity) {
+        return write(entity, null);
+    }
+
+    /**
+     * Writes the entity as a document, adding the given {@code _key} when it is not null.
+     *
+     * @param entity the entity
+     * @param key    the key to add, or null
+     * @return the document
+     */
+    static RawJson write(CommunicationEntity entity, String key) {
+        Objects.requireNonNull(entity, "entity is required");
+        return ConversionClock.measure(() -> {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = GENERATOR_FACTORY.createGenerator(writer)) {
+                generator.writeStartObject();
+                writeElements(generator, entity.elements());
+                if (key != null) {
+                    generator.write(KEY, key);
+                }
+                generator.writeEnd();
+            }
+            return RawJson.of(writer.toString());
+        });
+    }
+
+    /**
+     * Reads a document, where the entity name is the collection of its {@code _id}.
+     *
+     * @param json the document
+     * @return the entity
+     * @throws NullPointerException when the document has no {@code _id}
+     * @throws ArangoDBException    when the document is not a JSON object
+     */
+    static CommunicationEntity read(RawJson json) {
+        Objects.requireNonNull(json, "json is required");
+        return ConversionClock.measure(() -> {
+            try (JsonParser parser = PARSER_FACTORY.createParser(new StringReader(json.get()))) {
+                if (parser.next() != JsonParser.Event.START_OBJECT) {
+                    throw new ArangoDBException("The AQL result is not a document: " + json.get());
+                }
+                List<Element> elements = readObject(parser);
+                String id = null;
+                for (Element element : elements) {
+                    if (ID.equals(element.name())) {
+                        id = (String) element.get();
+                    }
+                }
+                Objects.requireNonNull(id, "The document does not contain an _id");
+                return CommunicationEntity.of(id.substring(0, id.indexOf('/')), elements);
+            }
+        });
+    }
+
+    private static void writeElements(JsonGenerator generator, Iterable<?> elements) {
+        for (Object item : elements) {
+            Element element = (Element) item;
+            if (KEY.equals(element.name()) && Objects.isNull(element.get())) {
+                continue;
+            }
+            generator.writeKey(element.name());
+            Object value = ValueUtil.convert(element.value(), ArangoDBValueWriteDecorator.ARANGO_DB_VALUE_WRITER);
+            writeValue(generator, value);
+        }
+    }
+
+    private static void writeValue(JsonGenerator generator, Object value) {
+        if (value instanceof Element element) {
+            generator.writeStartObject();
+            writeElements(generator, Collections.singletonList(element));
+            generator.writeEnd();
+        } else if (value instanceof Iterable<?> iterable) {
+            if (isSubDocument(iterable)) {
+                generator.writeStartObject();
+                writeElements(generator, iterable);
+            } else {
+                generator.writeStartArray();
+                for (Object it : iterable) {
+                    writeValue(generator, it);
+                }
+            }
+            generator.writeEnd();
+        } else if (value instanceof Map<?, ?> map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                generator.writeKey((String) entry.getKey());
+                writeValue(generator, entry.getValue());
+            }
+            generator.writeEnd();
+        } else if (Objects.isNull(value)) {
+            generator.writeNull();
+        } else if (value instanceof Number number) {
+            writeNumber(generator, number);
+        } else if (value instanceof String string) {
+            generator.write(string);
+        } else if (value instanceof Boolean bool) {
+            generator.write(bool);
+        } else {
+            throw new IllegalArgumentException("Unsupported type: " + value.getClass());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            generator.write(number.longValue());
+        } else if (number instanceof Double value) {
+            generator.write(value);
+        } else if (number instanceof BigDecimal value) {
+            generator.write(value);
+        } else if (number instanceof BigInteger value) {
+            generator.write(value);
+        } else {
+            generator.write(new BigDecimal(number.toString()));
+        }
+    }
+
+    private static boolean isSubDocument(Iterable<?> iterable) {
+        for (Object item : iterable) {
+            if (!(item instanceof Element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Element> readObject(JsonParser parser) {
+        List<Element> elements = new ArrayList<>();
+        JsonParser.Event event;
+        while ((event = parser.next()) != JsonParser.Event.END_OBJECT) {
+            if (event == JsonParser.Event.KEY_NAME) {
+                String name = parser.getString();
+                elements.add(Element.of(name, readValue(parser, parser.next())));
+            }
+        }
+        return elements;
+    }
+
+    private static List<Object> readArray(JsonParser parser) {
+        List<Object> values = new ArrayList<>();
+        JsonParser.Event event;
+        while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+            values.add(readValue(parser, event));
+        }
+        return values;
+    }
+
+    private static Object readValue(JsonParser parser, JsonParser.Event event) {
+        return switch (event) {
+            case START_OBJECT -> readObject(parser);
+            case START_ARRAY -> readArray(parser);
+            case VALUE_STRING -> parser.getString();
+            case VALUE_NUMBER -> readNumber(parser);
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE -> false;
+            case VALUE_NULL -> null;
+            default -> throw new ArangoDBException("Unexpected JSON event: " + event);
+        };
+    }
+
+    private static Number readNumber(JsonParser parser) {
+        BigDecimal number = parser.getBigDecimal();
+        if (!parser.isIntegralNumber()) {
+            return number;
+        }
+        try {
+            long value = number.longValueExact();
+            if (value == (int) value) {
+                return (int) value;
+            }
+            return value;
+        } catch (ArithmeticException exception) {
+            return number;
+        }
+    }
+}
@@ -19,7 +19,11 @@ import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDatabase;
 import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.util.RawJson;
 import jakarta.json.JsonObject;
 import org.eclipse.jnosql.communication.graph.CommunicationEdge;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
@@ -28,9 +32,13 @@ import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -53,8 +61,22 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
 
     private final ArangoDatabase db;
 
-    DefaultArangoDBDocumentManager(String database, ArangoDB arangoDB) {
-        db = arangoDB.db(database);
+    private final ArangoDBCollections collections;
+
+    private final ArangoDBBatchOptions batchOptions;
+
+    private final ArangoDBQueryOptions queryOptions;
+
+    private final ArangoDBQueryCache queryCache;
+
+    DefaultArangoDBDocumentManager(ArangoDatabase db, ArangoDBCollections collections,
+                                   ArangoDBBatchOptions batchOptions, ArangoDBQueryOptions queryOptions,
+                                   ArangoDBQueryCache queryCache) {
+        this.db = db;
+        this.collections = collections;
+        this.batchOptions = batchOptions;
+        this.queryOptions = queryOptions;
+        this.queryCache = queryCache;
     }
 
     @Override
@@ -71,10 +93,9 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     public CommunicationEntity insert(CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
         String collectionName = entity.name();
-        checkCollection(collectionName);
-        JsonObject jsonObject = ArangoDBUtil.toJsonObject(entity);
-        DocumentCreateEntity<Void> arangoDocument = db
-                .collection(collectionName).insertDocument(jsonObject);
+        RawJson document = CommunicationEntitySerde.write(entity);
+        DocumentCreateEntity<Void> arangoDocument = collections.execute(collectionName, () -> db
+                .collection(collectionName).insertDocument(document));
         updateEntity(entity, arangoDocument.getKey(), arangoDocument.getId(), arangoDocument.getRev());
         return entity;
     }
@@ -83,12 +104,11 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     public CommunicationEntity update(CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
         String collectionName = entity.name();
-        checkCollection(collectionName);
-        JsonObject jsonObject = ArangoDBUtil.toJsonObject(entity);
+        RawJson document = CommunicationEntitySerde.write(entity);
         String key = extractKey(entity).orElseThrow(() ->
                 new IllegalArgumentException("To update an entity is necessary to have either " + KEY + " or " + ID));
-        DocumentUpdateEntity<Void> arangoDocument = db
-                .collection(collectionName).updateDocument(key, jsonObject);
+        DocumentUpdateEntity<Void> arangoDocument = collections.execute(collectionName, () -> db
+                .collection(collectionName).updateDocument(key, document));
         updateEntity(entity, arangoDocument.getKey(), arangoDocument.getId(), arangoDocument.getRev());
         return entity;
     }
@@ -96,24 +116,35 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
 
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        return update(entities, batchOptions);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities, ArangoDBBatchOptions options) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(Collectors.toList());
+        requireNonNull(options, "options is required");
+        List<CommunicationEntity> result = toList(entities);
+        result.forEach(entity -> extractKey(entity).orElseThrow(() ->
+                new IllegalArgumentException("To update an entity is necessary to have either " + KEY + " or " + ID)));
+        writeInChunks(result, options, (collection, chunk) -> {
+            List<RawJson> documents = chunk.stream().map(DefaultArangoDBDocumentManager::toUpdateDocument).toList();
+            return db.collection(collection).updateDocuments(documents).getDocumentsAndErrors();
+        });
+        return result;
     }
 
     @Override
     public void delete(DeleteQuery query) {
         requireNonNull(query, "query is required");
         try {
-            checkCollection(query.name());
+            collections.check(query.name());
             if (query.condition().isEmpty()) {
-                AQLQueryResult delete = QueryAQLConverter.delete(query);
+                AQLQueryResult delete = queryCache.delete(query);
                 db.query(delete.query(), Void.class);
                 return;
             }
 
-            AQLQueryResult delete = QueryAQLConverter.delete(query);
+            AQLQueryResult delete = queryCache.delete(query);
             db.query(delete.query(), Void.class, delete.values(), null);
         } catch (com.arangodb.ArangoDBException exception) {
             if (ERROR_ARANGO_DATA_SOURCE_NOT_FOUND.equals(exception.getErrorNum())) {
@@ -127,23 +158,28 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
 
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) throws NullPointerException {
+        return select(query, ArangoDBQueryOptions.EMPTY);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query, ArangoDBQueryOptions options) {
         requireNonNull(query, "query is required");
-        checkCollection(query.name());
-        AQLQueryResult result = QueryAQLConverter.select(query);
+        requireNonNull(options, "options is required");
+        AQLQueryResult result = queryCache.select(query);
         LOGGER.finest("Executing AQL: " + result.query());
-        ArangoCursor<JsonObject> documents = db.query(result.query(),
-                JsonObject.class,
-                result.values(), null);
+        ArangoCursor<RawJson> documents = collections.execute(query.name(), () -> db.query(result.query(),
+                RawJson.class,
+                result.values(), toAqlQueryOptions(options)));
 
-        return StreamSupport.stream(documents.spliterator(), false)
-                .map(ArangoDBUtil::toEntity);
+        return stream(documents).map(CommunicationEntitySerde::read);
     }
 
     @Override
     public long count(String documentCollection) {
         requireNonNull(documentCollection, "document collection is required");
         String aql = "RETURN LENGTH(" + documentCollection + ")";
-        ArangoCursor<Object> query = db.query(aql, Object.class, emptyMap(), null);
+        ArangoCursor<Object> query = db.query(aql, Object.class, emptyMap(),
+                toAqlQueryOptions(ArangoDBQueryOptions.EMPTY));
         return StreamSupport.stream(query.spliterator(), false).findFirst().map(Number.class::cast)
                 .map(Number::longValue).orElse(0L);
     }
@@ -151,49 +187,73 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     @Override
     public long count(SelectQuery query) {
         requireNonNull(query, "query is required");
-        checkCollection(query.name());
-        AQLQueryResult aqlQuery = QueryAQLConverter.count(query);
+        AQLQueryResult aqlQuery = queryCache.count(query);
         LOGGER.finest("Executing AQL: " + aqlQuery.query());
-        return aql(aqlQuery.query(), aqlQuery.values(), Long.class).findFirst().orElse(0L);
+        return collections.execute(query.name(), () -> aql(aqlQuery.query(), aqlQuery.values(), Long.class)
+                .findFirst().orElse(0L));
     }
 
     @Override
     public Stream<CommunicationEntity> aql(String query, Map<String, Object> params) throws NullPointerException {
-        requireNonNull(query, "query is required");
-        requireNonNull(params, "values is required");
-        ArangoCursor<JsonObject> result = db.query(query, JsonObject.class, params, null);
-        return StreamSupport.stream(result.spliterator(), false)
-                .map(ArangoDBUtil::toEntity);
+        return aql(query, params, ArangoDBQueryOptions.EMPTY);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> aql(String query, Map<String, Object> params, ArangoDBQueryOptions options) {
+        return aql(query, params, RawJson.class, options).map(CommunicationEntitySerde::read);
     }
 
     @Override
     public <T> Stream<T> aql(String query, Map<String, Object> params, Class<T> type) {
+        return aql(query, params, type, ArangoDBQueryOptions.EMPTY);
+    }
+
+    @Override
+    public <T> Stream<T> aql(String query, Class<T> type) {
+        return aql(query, emptyMap(), type, ArangoDBQueryOptions.EMPTY);
+    }
+
+    @Override
+    public <T> Stream<T> aql(String query, Map<String, Object> params, Class<T> type, ArangoDBQueryOptions options) {
         requireNonNull(query, "query is required");
         requireNonNull(params, "values is required");
         requireNonNull(type, "typeClass is required");
-        ArangoCursor<T> result = db.query(query, type, params, null);
-        return StreamSupport.stream(result.spliterator(), false);
+        requireNonNull(options, "options is required");
+        return stream(db.query(query, type, params, toAqlQueryOptions(options)));
     }
 
     @Override
-    public <T> Stream<T> aql(String query, Class<T> type) {
+    public ArangoDBCursorResult<CommunicationEntity> aqlCursor(String query, Map<String, Object> params,
+                                                               ArangoDBQueryOptions options) {
         requireNonNull(query, "query is required");
-        requireNonNull(type, "typeClass is required");
-        return db.query(query, type, emptyMap(), null).stream();
+        requireNonNull(params, "values is required");
+        requireNonNull(options, "options is required");
+        ArangoCursor<RawJson> cursor = db.query(query, RawJson.class, params, toAqlQueryOptions(options));
+        var stats = cursor.getStats();
+        Long fullCount = stats == null ? null : stats.getFullCount();
+        Long count = cursor.getCount() == null ? null : cursor.getCount().longValue();
+        return new ArangoDBCursorResult<>(stream(cursor), fullCount, count).map(CommunicationEntitySerde::read);
     }
 
     @Override
-    public void close() {
-        db.arango().shutdown();
+    public ArangoDBQueryOptions queryOptions() {
+        return queryOptions;
     }
 
+    @Override
+    public ArangoDBQueryCache queryCache() {
+        return queryCache;
+    }
 
-    private void checkCollection(String collectionName) {
-        ArangoDBUtil.checkCollection(db.name(), db.arango(), collectionName);
+    @Override
+    public void close() {
+        db.arango().shutdown();
     }
 
-    private void checkEdgeCollection(String collectionName) {
-        ArangoDBUtil.checkEdgeCollection(db.name(), db.arango(), collectionName);
+
+    @Override
+    public ArangoDBCollections collections() {
+        return collections;
     }
 
     @Override
@@ -203,10 +263,20 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
 
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        return insert(entities, batchOptions);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, ArangoDBBatchOptions options) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(Collectors.toList());
+        requireNonNull(options, "options is required");
+        List<CommunicationEntity> result = toList(entities);
+        writeInChunks(result, options, (collection, chunk) -> {
+            List<RawJson> documents = chunk.stream().map(CommunicationEntitySerde::write).toList();
+            return db.collection(collection).insertDocuments(documents, options.createOptions())
+                    .getDocumentsAndErrors();
+        });
+        return result;
     }
 
     @Override
@@ -218,12 +288,75 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
                 .collect(Collectors.toList());
     }
 
+    private AqlQueryOptions toAqlQueryOptions(ArangoDBQueryOptions options) {
+        return options.or(queryOptions).toAqlQueryOptions();
+    }
+
+    /**
+     * Streams the cursor lazily, closing the server-side cursor when the stream is closed, which matters for
+     * streaming cursors that hold server resources until they are fully read or closed.
+     */
+    private static <T> Stream<T> stream(ArangoCursor<T> cursor) {
+        return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> {
+            try {
+                cursor.close();
+            } catch (Exception exception) {
+                LOGGER.log(Level.FINEST, exception, () -> "An error closing the AQL cursor");
+            }
+        });
+    }
+
     @Override
     public ArangoDB getArangoDB() {
         return db.arango();
     }
 
-    private void updateEntity(CommunicationEntity entity, String key, String id, String rev) {
+    private void writeInChunks(List<CommunicationEntity> entities, ArangoDBBatchOptions options,
+                               BiFunction<String, List<CommunicationEntity>, List<Object>> write) {
+        Map<String, List<CommunicationEntity>> byCollection = new LinkedHashMap<>();
+        for (CommunicationEntity entity : entities) {
+            byCollection.computeIfAbsent(entity.name(), k -> new ArrayList<>()).add(entity);
+        }
+        byCollection.forEach((collection, collectionEntities) -> {
+            for (int start = 0; start < collectionEntities.size(); start += options.chunkSize()) {
+                List<CommunicationEntity> chunk = collectionEntities.subList(start,
+                        Math.min(start + options.chunkSize(), collectionEntities.size()));
+                List<Object> results = collections.execute(collection, () -> write.apply(collection, chunk));
+                writeBack(collection, chunk, results);
+            }
+        });
+    }
+
+    static void writeBack(String collection, List<CommunicationEntity> chunk, List<Object> results) {
+        List<String> errors = new ArrayList<>();
+        for (int index = 0; index < chunk.size(); index++) {
+            Object result = results.get(index);
+            if (result instanceof DocumentEntity document) {
+                updateEntity(chunk.get(index), document.getKey(), document.getId(), document.getRev());
+            } else if (result instanceof ErrorEntity error) {
+                errors.add(error.getErrorNum() + ": " + error.getErrorMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ArangoDBException(String.format("%d of %d documents could not be written in the collection %s: %s",
+                    errors.size(), chunk.size(), collection, errors));
+        }
+    }
+
+    static RawJson toUpdateDocument(CommunicationEntity entity) {
+        boolean hasKey = entity.find(KEY).map(Element::get).isPresent();
+        return CommunicationEntitySerde.write(entity, hasKey ? null : extractKey(entity).orElseThrow());
+    }
+
+    static List<CommunicationEntity> toList(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> result = new ArrayList<>();
+        for (CommunicationEntity entity : entities) {
+            result.add(requireNonNull(entity, "entity is required"));
+        }
+        return result;
+    }
+
+    static void updateEntity(CommunicationEntity entity, String key, String id, String rev) {
         entity.add(Element.of(KEY, key));
         entity.add(Element.of(ID, id));
         entity.add(Element.of(REV, rev));
@@ -236,9 +369,9 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         requireNonNull(label, "Relationship type is required");
         requireNonNull(properties, "Properties map is required");
 
-        checkCollection(source.name());
-        checkCollection(target.name());
-        checkEdgeCollection(label);
+        collections.check(source.name());
+        collections.check(target.name());
+        collections.checkEdge(label);
 
         source = ensureEntityExists(source);
         target = ensureEntityExists(target);
@@ -248,8 +381,7 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         entity.add(TO, extractId(target).orElseThrow());
         properties.forEach(entity::add);
 
-        JsonObject jsonObject = ArangoDBUtil.toJsonObject(entity);
-        String id = db.collection(label).insertDocument(jsonObject).getId();
+        String id = db.collection(label).insertDocument(CommunicationEntitySerde.write(entity)).getId();
         return new ArangoDBCommunicationEdge(id, source, target, label, properties);
     }
 
@@ -334,7 +466,7 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
                         it.getJsonObject("target")));
     }
 
-    private Optional<String> extractId(CommunicationEntity entity) {
+    static Optional<String> extractId(CommunicationEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
         Objects.requireNonNull(entity.name(), "entity name is required");
         if (entity.name().isEmpty()) {
@@ -343,7 +475,7 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         return extractKey(entity).map(key -> entity.name() + "/" + key);
     }
 
-    private Optional<String> extractKey(CommunicationEntity entity) {
+    static Optional<String> extractKey(CommunicationEntity entity) {
         return entity.find(KEY, String.class).or(() ->
                 entity.find(ID, String.class)
                         .map(id -> {
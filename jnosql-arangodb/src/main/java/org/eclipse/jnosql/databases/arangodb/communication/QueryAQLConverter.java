@@ -25,8 +25,10 @@ import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -58,52 +60,74 @@ final class QueryAQLConverter {
 
     public static AQLQueryResult delete(DeleteQuery query) throws NullPointerException {
 
-        return convert(query.name(),
+        return convert(Kind.DELETE, query.name(),
                 query.condition().orElse(null),
                 Collections.emptyList(),
                 0L,
-                0L,
-                REMOVE, true);
+                0L);
     }
 
     public static AQLQueryResult select(SelectQuery query) throws NullPointerException {
 
-        return convert(query.name(),
+        return convert(Kind.SELECT, query.name(),
                 query.condition().orElse(null),
                 query.sorts(),
                 query.skip(),
-                query.limit(),
-                RETURN, false);
+                query.limit());
 
     }
 
     public static AQLQueryResult count(SelectQuery query) throws NullPointerException {
 
-        AQLQueryResult q = convert(query.name(),
+        return convert(Kind.COUNT, query.name(),
                 query.condition().orElse(null),
                 Collections.emptyList(),
                 0L,
-                0L,
-                RETURN, false);
-
-        StringBuilder aql = new StringBuilder();
+                0L);
+    }
 
-        aql.append("RETURN LENGTH(")
-                .append(q.query())
-                .append(")");
-        return new AQLQueryResult(aql.toString(), q.values());
+    /**
+     * Returns the shape of a query: its kind, collection, sorts, and the operators and field names of its condition,
+     * which is everything that defines the AQL but the bind values and the LIMIT; the bind values are added to the
+     * given list in the order of the parameters of {@link #compile(Kind, String, CriteriaCondition, List)}.
+     */
+    static Shape shape(Kind kind, String collection, CriteriaCondition condition, List<Sort<?>> sorts,
+                       List<Object> values) {
+        List<Object> tokens = new ArrayList<>();
+        if (condition != null) {
+            shape(condition, tokens, values);
+        }
+        List<String> sortTokens = new ArrayList<>(sorts.size());
+        for (Sort<?> sort : sorts) {
+            sortTokens.add(sort.property() + SEPARATOR + (sort.isAscending() ? Direction.ASC : Direction.DESC));
+        }
+        return new Shape(kind, collection, tokens, sortTokens);
     }
 
+    static AQLTemplate compile(Kind kind, String collection, CriteriaCondition condition, List<Sort<?>> sorts) {
+        return compile(kind, collection, condition, sorts, new ArrayList<>());
+    }
 
-    private static AQLQueryResult convert(String documentCollection,
+    private static AQLQueryResult convert(Kind kind, String documentCollection,
                                           CriteriaCondition documentCondition,
                                           List<Sort<?>> sorts,
                                           long firstResult,
-                                          long maxResult,
-                                          String conclusion, boolean delete) {
+                                          long maxResult) {
+        List<Object> values = new ArrayList<>();
+        return compile(kind, documentCollection, documentCondition, sorts, values)
+                .apply(values, firstResult, maxResult);
+    }
+
+    private static AQLTemplate compile(Kind kind, String documentCollection,
+                                       CriteriaCondition documentCondition,
+                                       List<Sort<?>> sorts,
+                                       List<Object> values) {
         StringBuilder aql = new StringBuilder();
-        Map<String, Object> params = new HashMap<>();
+        Map<String, Object> params = new LinkedHashMap<>();
         char entity = Character.toLowerCase(documentCollection.charAt(0));
+        if (Kind.COUNT.equals(kind)) {
+            aql.append("RETURN LENGTH(");
+        }
         aql.append("FOR ").append(entity).append(IN).append(documentCollection);
 
         Optional.ofNullable(documentCondition).ifPresent(condition -> {
@@ -113,21 +137,75 @@ final class QueryAQLConverter {
         if (!sorts.isEmpty()) {
             sort(sorts, aql, entity);
         }
+        String head = aql.toString();
+        aql.setLength(0);
+
+        aql.append(Kind.DELETE.equals(kind) ? REMOVE : RETURN).append(entity);
+        if (Kind.DELETE.equals(kind)) {
+            aql.append(IN).append(documentCollection);
+        } else if (Kind.COUNT.equals(kind)) {
+            aql.append(")");
+        }
+        values.addAll(params.values());
+        return new AQLTemplate(head, aql.toString(), List.copyOf(params.keySet()));
+    }
 
+    private static String limit(long firstResult, long maxResult) {
         if (firstResult > 0 && maxResult > 0) {
-            aql.append(LIMIT).append(firstResult)
-                    .append(", ").append(maxResult);
+            return LIMIT + firstResult + ", " + maxResult;
         } else if (maxResult > 0) {
-            aql.append(LIMIT).append(maxResult);
+            return LIMIT + maxResult;
         } else if (firstResult > 0) {
-            aql.append(LIMIT).append(firstResult).append(", null");
+            return LIMIT + firstResult + ", null";
         }
+        return "";
+    }
 
-        aql.append(conclusion).append(entity);
-        if (delete) {
-            aql.append(IN).append(documentCollection);
+    private static void shape(CriteriaCondition condition, List<Object> tokens, List<Object> values) {
+        Element document = condition.element();
+        tokens.add(condition.condition());
+        switch (condition.condition()) {
+            case AND, OR -> {
+                List<CriteriaCondition> conditions = document.get(new TypeReference<List<CriteriaCondition>>() {
+                });
+                tokens.add(conditions.size());
+                for (CriteriaCondition dc : conditions) {
+                    shape(dc, tokens, values);
+                }
+            }
+            case NOT -> shape(document.get(CriteriaCondition.class), tokens, values);
+            case BETWEEN -> {
+                tokens.add(document.name());
+                List<Object> betweenList = ValueUtil.convertToList(document.value(),
+                        ArangoDBValueWriteDecorator.ARANGO_DB_VALUE_WRITER);
+                values.add(bindValue(Element.of(document.name(), betweenList.get(0)), GREATER_EQUALS_THAN));
+                values.add(bindValue(Element.of(document.name(), betweenList.get(1)), LESSER_EQUALS_THAN));
+            }
+            case IN -> {
+                tokens.add(document.name());
+                values.add(bindValue(document, IN));
+            }
+            case CONTAINS, STARTS_WITH, ENDS_WITH -> {
+                tokens.add(document.name());
+                values.add(bindValue(likeElement(condition), LIKE));
+            }
+            case EQUALS, GREATER_EQUALS_THAN, GREATER_THAN, LESSER_THAN, LESSER_EQUALS_THAN, LIKE -> {
+                tokens.add(document.name());
+                values.add(bindValue(document, EQUALS));
+            }
+            default -> throw new IllegalArgumentException("The condition does not support in AQL: "
+                    + condition.condition());
         }
-        return new AQLQueryResult(aql.toString(), params);
+    }
+
+    private static Element likeElement(CriteriaCondition condition) {
+        Element document = condition.element();
+        StringMatch match = switch (condition.condition()) {
+            case CONTAINS -> StringMatch.CONTAINS;
+            case STARTS_WITH -> StringMatch.STARTS_WITH;
+            default -> StringMatch.ENDS_WITH;
+        };
+        return Element.of(document.name(), match.format(document.get(String.class)));
     }
 
     private static void sort(List<Sort<?>> sorts, StringBuilder aql, char entity) {
@@ -172,13 +250,9 @@ final class QueryAQLConverter {
                 appendCondition(aql, params, entity, document, LIKE);
                 return;
             case CONTAINS:
-                appendCondition(aql, params, entity, Element.of(document.name(), StringMatch.CONTAINS.format(document.get(String.class))), LIKE);
-                return;
             case STARTS_WITH:
-                appendCondition(aql, params, entity, Element.of(document.name(), StringMatch.STARTS_WITH.format(document.get(String.class))), LIKE);
-                return;
             case ENDS_WITH:
-                appendCondition(aql, params, entity, Element.of(document.name(), StringMatch.ENDS_WITH.format(document.get(String.class))), LIKE);
+                appendCondition(aql, params, entity, likeElement(condition), LIKE);
                 return;
             case AND:
 
@@ -227,11 +301,14 @@ final class QueryAQLConverter {
         String nameParam = getNameParam(document.name(), params);
         aql.append(SEPARATOR).append(entity).append('.').append(document.name())
                 .append(condition).append(PARAM_APPENDER).append(nameParam);
+        params.put(nameParam, bindValue(document, condition));
+    }
+
+    private static Object bindValue(Element document, String condition) {
         if (IN.equals(condition)) {
-            params.put(nameParam, ValueUtil.convertToList(document.value(), ArangoDBValueWriteDecorator.ARANGO_DB_VALUE_WRITER));
-        } else {
-            params.put(nameParam, ValueUtil.convert(document.value(), ArangoDBValueWriteDecorator.ARANGO_DB_VALUE_WRITER));
+            return ValueUtil.convertToList(document.value(), ArangoDBValueWriteDecorator.ARANGO_DB_VALUE_WRITER);
         }
+        return ValueUtil.convert(document.value(), ArangoDBValueWriteDecorator.ARANGO_DB_VALUE_WRITER);
     }
 
     private static String getNameParam(String name, Map<String, Object> params) {
@@ -240,7 +317,7 @@ final class QueryAQLConverter {
         String paramName = parameter;
         int counter = 1;
         while (params.containsKey(paramName)) {
-            paramName = parameter + '_' + counter;
+            paramName = parameter + '_' + counter++;
         }
 
         return paramName;
@@ -253,5 +330,35 @@ final class QueryAQLConverter {
         return name;
     }
 
+    /**
+     * The kind of AQL statement generated from a query.
+     */
+    enum Kind {
+        SELECT, COUNT, DELETE
+    }
+
+    /**
+     * Everything that defines the AQL of a query but its bind values and its LIMIT.
+     */
+    record Shape(Kind kind, String collection, List<Object> condition, List<String> sorts) {
+    }
 
+    /**
+     * A generated AQL, where the LIMIT goes between the head and the tail, with the bind parameter names in the
+     * order their values are collected by {@link #shape(Kind, String, CriteriaCondition, List, List)}.
+     */
+    record AQLTemplate(String head, String tail, List<String> names) {
+
+        AQLQueryResult apply(List<Object> values, long firstResult, long maxResult) {
+            if (values.size() != names.size()) {
+                throw new IllegalStateException(String.format("The AQL expects %d bind values but got %d",
+                        names.size(), values.size()));
+            }
+            Map<String, Object> params = new HashMap<>();
+            for (int index = 0; index < names.size(); index++) {
+                params.put(names.get(index), values.get(index));
+            }
+            return new AQLQueryResult(head + limit(firstResult, maxResult) + tail, params);
+        }
+    }
 }
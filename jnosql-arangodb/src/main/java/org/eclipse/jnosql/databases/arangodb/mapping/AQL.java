@@ -39,6 +39,12 @@ import java.lang.annotation.Target;
  * List<Person> findByName(@Param("name") String name);
  * }</pre>
  *
+ *Cursor options, for large results read in batches:
+ * <pre>{@code
+ * @AQL(value = "FOR p IN Person RETURN p", batchSize = 500, stream = AQL.Flag.TRUE)
+ * Stream<Person> findAll();
+ * }</pre>
+ *
  * @see ArangoDBRepository
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -52,4 +58,52 @@ public @interface AQL {
      * @return the AQL query
      */
     String value();
+
+    /**
+     * The number of documents transferred per batch from the server. Zero keeps the configured default.
+     *
+     * @return the batch size
+     */
+    int batchSize() default 0;
+
+    /**
+     * Whether the results are produced lazily while the cursor is read, instead of all before the first batch.
+     * {@link Flag#DEFAULT} keeps the configured default, so {@link Flag#FALSE} turns off streaming
+     * for this query even when it is enabled at configuration.
+     *
+     * @return the stream flag
+     */
+    Flag stream() default Flag.DEFAULT;
+
+    /**
+     * The time in seconds the server keeps an idle cursor. Zero keeps the configured default.
+     *
+     * @return the cursor time to live
+     */
+    int ttl() default 0;
+
+    /**
+     * The maximum memory in bytes the query may use on the server. Zero keeps the configured default.
+     *
+     * @return the memory limit
+     */
+    long memoryLimit() default 0;
+
+    /**
+     * A boolean option that can also keep the configured default, since an annotation attribute cannot be null.
+     */
+    enum Flag {
+        /**
+         * Keeps the configured default.
+         */
+        DEFAULT,
+        /**
+         * Enables the option.
+         */
+        TRUE,
+        /**
+         * Disables the option.
+         */
+        FALSE
+    }
 }
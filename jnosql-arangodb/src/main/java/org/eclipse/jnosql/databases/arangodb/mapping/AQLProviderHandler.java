@@ -15,12 +15,14 @@
 package org.eclipse.jnosql.databases.arangodb.mapping;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryOptions;
 import org.eclipse.jnosql.mapping.ProviderQuery;
 import org.eclipse.jnosql.mapping.core.repository.RepositoryMetadataUtils;
 import org.eclipse.jnosql.mapping.metadata.repository.RepositoryMetadata;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.ProviderQueryHandler;
 import org.eclipse.jnosql.mapping.metadata.repository.spi.RepositoryInvocationContext;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -43,12 +45,34 @@ class AQLProviderHandler  implements ProviderQueryHandler {
         Map<String, Object> attributes = sampleQueryProvider.attributes();
         var aql = (String) attributes.get("value");
         Map<String, Object> params = RepositoryMetadataUtils.INSTANCE.getParamsFromName(method, parameters);
+        Map<String, Object> values = params.isEmpty() ? emptyMap() : params;
+        ArangoDBQueryOptions options = options(attributes);
         Stream<T> result;
-        if (params.isEmpty()) {
-            result = template.aql(aql, emptyMap());
+        if (ArangoDBQueryOptions.EMPTY.equals(options)) {
+            result = template.aql(aql, values);
         } else {
-            result = template.aql(aql, params);
+            result = template.aql(aql, values, options);
         }
         return RepositoryMetadataUtils.INSTANCE.execute(context, result);
     }
+
+    static ArangoDBQueryOptions options(Map<String, Object> attributes) {
+        var builder = ArangoDBQueryOptions.builder();
+        if (attributes.get("batchSize") instanceof Number batchSize && batchSize.intValue() > 0) {
+            builder.batchSize(batchSize.intValue());
+        }
+        switch (String.valueOf(attributes.get("stream"))) {
+            case "TRUE" -> builder.stream(true);
+            case "FALSE" -> builder.stream(false);
+            default -> {
+            }
+        }
+        if (attributes.get("ttl") instanceof Number ttl && ttl.longValue() > 0) {
+            builder.ttl(Duration.ofSeconds(ttl.longValue()));
+        }
+        if (attributes.get("memoryLimit") instanceof Number memoryLimit && memoryLimit.longValue() > 0) {
+            builder.memoryLimit(memoryLimit.longValue());
+        }
+        return builder.build();
+    }
 }
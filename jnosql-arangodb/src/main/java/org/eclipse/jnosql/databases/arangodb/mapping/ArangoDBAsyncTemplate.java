@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.mapping;
+
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryOptions;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * The non-blocking counterpart of {@link ArangoDBTemplate}, backed by
+ * {@link org.eclipse.jnosql.databases.arangodb.communication.ArangoDBAsyncDocumentManager}.
+ * Writes and counts return a {@link CompletionStage}; queries return a {@link Flow.Publisher} that honors the
+ * subscriber's demand, fetching the next batch of the AQL cursor only when it is requested.
+ */
+public interface ArangoDBAsyncTemplate {
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity to be inserted
+     * @param <T>    the entity type
+     * @return the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> insert(T entity);
+
+    /**
+     * Inserts the entities through the multi-document API
+     *
+     * @param entities the entities to be inserted
+     * @param <T>      the entity type
+     * @return the inserted entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities);
+
+    /**
+     * Updates an entity
+     *
+     * @param entity the entity to be updated
+     * @param <T>    the entity type
+     * @return the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> update(T entity);
+
+    /**
+     * Updates the entities through the multi-document API
+     *
+     * @param entities the entities to be updated
+     * @param <T>      the entity type
+     * @return the updated entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> update(Iterable<T> entities);
+
+    /**
+     * Deletes the entities that match the query
+     *
+     * @param query the query
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Void> delete(DeleteQuery query);
+
+    /**
+     * Finds the entities that match the query
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when query is null
+     */
+    <T> Flow.Publisher<T> select(SelectQuery query);
+
+    /**
+     * Finds the entities that match the query, applying the cursor options on top of the defaults defined at
+     * configuration
+     *
+     * @param query   the query
+     * @param options the cursor options
+     * @param <T>     the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> Flow.Publisher<T> select(SelectQuery query, ArangoDBQueryOptions options);
+
+    /**
+     * Returns the number of entities that match the query
+     *
+     * @param query the query
+     * @return the number of entities
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Long> count(SelectQuery query);
+
+    /**
+     * Returns the number of entities of the type
+     *
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the number of entities
+     * @throws NullPointerException when type is null
+     */
+    <T> CompletionStage<Long> count(Class<T> type);
+
+    /**
+     * Executes an AQL query, where the result is converted to entities by Eclipse JNoSQL
+     *
+     * @param query  the AQL query
+     * @param params the named parameters for the query
+     * @param <T>    the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when either the query or params are null
+     */
+    <T> Flow.Publisher<T> aql(String query, Map<String, Object> params);
+
+    /**
+     * Executes an AQL query with the given cursor options, where the result is converted to entities by
+     * Eclipse JNoSQL
+     *
+     * @param query   the AQL query
+     * @param params  the named parameters for the query
+     * @param options the cursor options
+     * @param <T>     the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> Flow.Publisher<T> aql(String query, Map<String, Object> params, ArangoDBQueryOptions options);
+
+    /**
+     * Executes an AQL query, where the result is serialized directly by ArangoDB; the annotations supported by
+     * Eclipse JNoSQL are ignored
+     *
+     * @param query  the AQL query
+     * @param params the named parameters for the query
+     * @param type   the type of the result
+     * @param <T>    the type
+     * @return the publisher of the result
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> Flow.Publisher<T> aql(String query, Map<String, Object> params, Class<T> type);
+
+    /**
+     * Deletes the edge by its id, in the format {@code collection/key}
+     *
+     * @param id  the edge id
+     * @param <K> the id type
+     * @return the stage completed when the edge is deleted
+     * @throws IllegalArgumentException when the id is not in the format {@code collection/key}
+     */
+    <K> CompletionStage<Void> deleteEdge(K id);
+}
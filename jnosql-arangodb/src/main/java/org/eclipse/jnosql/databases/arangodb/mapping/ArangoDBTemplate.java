@@ -16,6 +16,8 @@ package org.eclipse.jnosql.databases.arangodb.mapping;
 
 
 
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBCursorResult;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryOptions;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
 import org.eclipse.jnosql.mapping.graph.GraphTemplate;
 
@@ -89,4 +91,39 @@ public interface ArangoDBTemplate extends DocumentTemplate, GraphTemplate {
      * @throws NullPointerException if {@code query} or {@code type} is {@code null}
      */
     <T> Stream<T> aql(String query, Class<T> type);
+
+    /**
+     * Executes an ArangoDB query using AQL with the given cursor options, such as the batch size or whether the
+     * cursor streams the results. The options not defined are taken from the ones configured in the document manager.
+     *
+     * <p>The conversion of query results to entity objects is handled by Eclipse JNoSQL,
+     * applying all supported annotations.</p>
+     *
+     * @param <T>     the entity type
+     * @param query   the AQL query string
+     * @param params  a map containing named parameters for the query
+     * @param options the cursor options
+     * @return a {@link Stream} of entities representing the query result
+     * @throws NullPointerException if any parameter is {@code null}
+     */
+    <T> Stream<T> aql(String query, Map<String, Object> params, ArangoDBQueryOptions options);
+
+    /**
+     * Executes an ArangoDB query using AQL and returns the entities together with the cursor statistics, such as the
+     * full count when {@link ArangoDBQueryOptions#fullCount()} is enabled, so a page and the total number of
+     * matching entities are read in one round trip.
+     *
+     * <p>Example query:</p>
+     * <pre>{@code
+     * FOR u IN users FILTER u.status == @status LIMIT @offset, @size RETURN u
+     * }</pre>
+     *
+     * @param <T>     the entity type
+     * @param query   the AQL query string
+     * @param params  a map containing named parameters for the query
+     * @param options the cursor options
+     * @return the entities and the cursor statistics
+     * @throws NullPointerException if any parameter is {@code null}
+     */
+    <T> ArangoDBCursorResult<T> aqlCursor(String query, Map<String, Object> params, ArangoDBQueryOptions options);
 }
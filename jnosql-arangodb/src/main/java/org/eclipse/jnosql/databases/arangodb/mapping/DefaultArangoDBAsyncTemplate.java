@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.mapping;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.driver.reactive.MappingPublisher;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBAsyncDocumentManager;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryOptions;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.stream.StreamSupport;
+
+
+@ApplicationScoped
+@Typed(ArangoDBAsyncTemplate.class)
+class DefaultArangoDBAsyncTemplate implements ArangoDBAsyncTemplate {
+
+    private Instance<ArangoDBAsyncDocumentManager> manager;
+
+    private EntityConverter converter;
+
+    private EntitiesMetadata entities;
+
+
+    @Inject
+    DefaultArangoDBAsyncTemplate(Instance<ArangoDBAsyncDocumentManager> manager,
+                                 EntityConverter converter,
+                                 EntitiesMetadata entities) {
+        this.manager = manager;
+        this.converter = converter;
+        this.entities = entities;
+    }
+
+    DefaultArangoDBAsyncTemplate() {
+        this(null, null, null);
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return this.manager.get().insert(this.converter.toCommunication(entity))
+                .thenApply(this.converter::toEntity);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return this.manager.get().insert(toCommunication(entities))
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public <T> CompletionStage<T> update(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return this.manager.get().update(this.converter.toCommunication(entity))
+                .thenApply(this.converter::toEntity);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> update(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return this.manager.get().update(toCommunication(entities))
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public CompletionStage<Void> delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return this.manager.get().delete(query);
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Flow.Publisher<CommunicationEntity> publisher = this.manager.get().select(query);
+        return new MappingPublisher<CommunicationEntity, T>(publisher, this.converter::toEntity);
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(SelectQuery query, ArangoDBQueryOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        Flow.Publisher<CommunicationEntity> publisher = this.manager.get().select(query, options);
+        return new MappingPublisher<CommunicationEntity, T>(publisher, this.converter::toEntity);
+    }
+
+    @Override
+    public CompletionStage<Long> count(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return this.manager.get().count(query);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> count(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        EntityMetadata entityMetadata = this.entities.get(type);
+        return this.manager.get().count(entityMetadata.name());
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> aql(String query, Map<String, Object> params) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(params, "values is required");
+        Flow.Publisher<CommunicationEntity> publisher = this.manager.get().aql(query, params);
+        return new MappingPublisher<CommunicationEntity, T>(publisher, this.converter::toEntity);
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> aql(String query, Map<String, Object> params, ArangoDBQueryOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(params, "values is required");
+        Objects.requireNonNull(options, "options is required");
+        Flow.Publisher<CommunicationEntity> publisher = this.manager.get().aql(query, params, options);
+        return new MappingPublisher<CommunicationEntity, T>(publisher, this.converter::toEntity);
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> aql(String query, Map<String, Object> params, Class<T> type) {
+        return this.manager.get().aql(query, params, type);
+    }
+
+    @Override
+    public <K> CompletionStage<Void> deleteEdge(K id) {
+        Objects.requireNonNull(id, "id is required");
+        return this.manager.get().deleteEdge(id);
+    }
+
+    private <T> List<CommunicationEntity> toCommunication(Iterable<T> entities) {
+        return StreamSupport.stream(entities.spliterator(), false)
+                .map(this.converter::toCommunication)
+                .toList();
+    }
+
+    private <T> Iterable<T> toEntities(Iterable<CommunicationEntity> entities) {
+        return StreamSupport.stream(entities.spliterator(), false)
+                .<T>map(this.converter::toEntity)
+                .toList();
+    }
+}
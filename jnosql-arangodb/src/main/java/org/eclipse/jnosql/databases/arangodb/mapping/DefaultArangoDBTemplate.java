@@ -20,7 +20,9 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBCursorResult;
 import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBDocumentManager;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryOptions;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.graph.AbstractGraphTemplate;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -110,4 +112,21 @@ class DefaultArangoDBTemplate extends AbstractGraphTemplate implements ArangoDBT
         return manager.get().aql(query, type);
     }
 
+    @Override
+    public <T> Stream<T> aql(String query, Map<String, Object> params, ArangoDBQueryOptions options) {
+        requireNonNull(query, "query is required");
+        requireNonNull(params, "values is required");
+        requireNonNull(options, "options is required");
+        return manager.get().aql(query, params, options).map(converter::toEntity).map(d -> (T) d);
+    }
+
+    @Override
+    public <T> ArangoDBCursorResult<T> aqlCursor(String query, Map<String, Object> params,
+                                                 ArangoDBQueryOptions options) {
+        requireNonNull(query, "query is required");
+        requireNonNull(params, "values is required");
+        requireNonNull(options, "options is required");
+        return manager.get().aqlCursor(query, params, options).map(converter::toEntity).map(d -> (T) d);
+    }
+
 }
@@ -9,19 +9,18 @@
 
 package org.eclipse.jnosql.databases.arangodb.mapping;
 
-
 import jakarta.data.exceptions.MappingException;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.enterprise.inject.Typed;
 import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBAsyncDocumentManager;
 import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBDocumentConfiguration;
 import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBDocumentManager;
-import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBDocumentManagerFactory;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 
-import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,16 +37,13 @@ class DocumentManagerSupplier implements Supplier<ArangoDBDocumentManager> {
     @Produces
     @Typed(ArangoDBDocumentManager.class)
     public ArangoDBDocumentManager get() {
-        Settings settings = MicroProfileSettings.INSTANCE;
-        ArangoDBDocumentConfiguration configuration = new ArangoDBDocumentConfiguration();
-        ArangoDBDocumentManagerFactory factory = configuration.apply(settings);
-        Optional<String> database = settings.get(DOCUMENT_DATABASE, String.class);
-        String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
-                + DOCUMENT_DATABASE.get()));
-        ArangoDBDocumentManager manager = factory.apply(db);
-        LOGGER.log(Level.FINEST, "Starting  a ArangoDBDocumentManager instance using Eclipse MicroProfile Config," +
-                " database name: " + db);
-        return manager;
+        return manager(ArangoDBDocumentManager.class, (settings, db) -> new ArangoDBDocumentConfiguration().apply(settings).apply(db));
+    }
+
+    @Produces
+    @Typed(ArangoDBAsyncDocumentManager.class)
+    public ArangoDBAsyncDocumentManager async() {
+        return manager(ArangoDBAsyncDocumentManager.class, (settings, db) -> new ArangoDBDocumentConfiguration().apply(settings).async(db));
     }
 
     public void close(@Disposes ArangoDBDocumentManager manager) {
@@ -55,4 +51,20 @@ class DocumentManagerSupplier implements Supplier<ArangoDBDocumentManager> {
         manager.close();
     }
 
+    public void close(@Disposes ArangoDBAsyncDocumentManager manager) {
+        LOGGER.log(Level.FINEST, "Closing ArangoDBAsyncDocumentManager resource, database name: " + manager.name());
+        manager.close();
+    }
+
+    private static <T> T manager(Class<T> type, BiFunction<Settings, String, T> factory) {
+        Settings settings = MicroProfileSettings.INSTANCE;
+        String db = settings.get(DOCUMENT_DATABASE, String.class)
+                .orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
+                        + DOCUMENT_DATABASE.get()));
+        T manager = factory.apply(settings, db);
+        LOGGER.log(Level.FINEST, "Starting  a " + type.getSimpleName() + " instance using Eclipse MicroProfile Config," +
+                " database name: " + db);
+        return manager;
+    }
+
 }
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.model.OverwriteMode;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArangoDBBatchOptionsTest {
+
+    @Test
+    void shouldUseDefaults() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ArangoDBBatchOptions.DEFAULT.chunkSize()).isEqualTo(ArangoDBBatchOptions.DEFAULT_CHUNK_SIZE);
+            soft.assertThat(ArangoDBBatchOptions.DEFAULT.onDuplicate()).isEmpty();
+            soft.assertThat(ArangoDBBatchOptions.DEFAULT.createOptions().getOverwriteMode()).isNull();
+        });
+    }
+
+    @Test
+    void shouldCreateOptions() {
+        var options = ArangoDBBatchOptions.builder().chunkSize(10).onDuplicate(OverwriteMode.update).build();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(options.chunkSize()).isEqualTo(10);
+            soft.assertThat(options.onDuplicate()).contains(OverwriteMode.update);
+            soft.assertThat(options.createOptions().getOverwriteMode()).isEqualTo(OverwriteMode.update);
+            soft.assertThat(options).isEqualTo(ArangoDBBatchOptions.builder().chunkSize(10)
+                    .onDuplicate(OverwriteMode.update).build());
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenChunkSizeIsNotPositive() {
+        assertThatThrownBy(() -> ArangoDBBatchOptions.builder().chunkSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenOnDuplicateIsNull() {
+        assertThatThrownBy(() -> ArangoDBBatchOptions.builder().onDuplicate(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldLoadFromSettings() {
+        var settings = Settings.builder()
+                .put(ArangoDBConfigurations.BATCH_SIZE.get(), "50")
+                .put(ArangoDBConfigurations.BATCH_ON_DUPLICATE.get(), "IGNORE")
+                .build();
+
+        var options = ArangoDBBatchOptions.of(settings);
+
+        assertThat(options).isEqualTo(ArangoDBBatchOptions.builder().chunkSize(50)
+                .onDuplicate(OverwriteMode.ignore).build());
+    }
+}
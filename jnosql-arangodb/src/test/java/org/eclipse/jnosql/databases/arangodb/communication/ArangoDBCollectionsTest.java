@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoCollectionAsync;
+import com.arangodb.ArangoDBException;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.ArangoDatabaseAsync;
+import com.arangodb.entity.CollectionEntity;
+import com.arangodb.entity.CollectionPropertiesEntity;
+import com.arangodb.entity.CollectionType;
+import com.arangodb.model.CollectionCreateOptions;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArangoDBCollectionsTest {
+
+    private ArangoDatabase database;
+
+    private ArangoCollection collection;
+
+    private ArangoDatabaseAsync async;
+
+    private ArangoCollectionAsync asyncCollection;
+
+    @BeforeEach
+    void setUp() {
+        this.database = Mockito.mock(ArangoDatabase.class);
+        this.collection = Mockito.mock(ArangoCollection.class);
+        when(database.collection("person")).thenReturn(collection);
+        this.async = Mockito.mock(ArangoDatabaseAsync.class);
+        this.asyncCollection = Mockito.mock(ArangoCollectionAsync.class);
+        when(async.collection("person")).thenReturn(asyncCollection);
+    }
+
+    @Test
+    void shouldReturnErrorWhenTtlIsNegative() {
+        assertThatThrownBy(() -> new ArangoDBCollections(database, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCheckCollectionOnce() {
+        type(CollectionType.DOCUMENT);
+        var collections = new ArangoDBCollections(database, Duration.ofMinutes(1));
+
+        collections.check("person");
+        collections.check("person");
+
+        verify(collection, times(1)).getInfo();
+        assertThat(collections.isKnown("person")).isTrue();
+        assertThat(collections.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCheckCollectionEveryTimeWhenTtlIsZero() {
+        type(CollectionType.DOCUMENT);
+        var collections = new ArangoDBCollections(database, Duration.ZERO);
+
+        collections.check("person");
+        collections.check("person");
+
+        verify(collection, times(2)).getInfo();
+        assertThat(collections.isKnown("person")).isFalse();
+    }
+
+    @Test
+    void shouldCheckAgainWhenInvalidated() {
+        type(CollectionType.DOCUMENT);
+        var collections = new ArangoDBCollections(database, Duration.ofMinutes(1));
+
+        collections.check("person");
+        collections.invalidate("person");
+        collections.check("person");
+
+        verify(collection, times(2)).getInfo();
+    }
+
+    @Test
+    void shouldCreateMissingCollection() {
+        var notFound = notFound();
+        when(collection.getInfo()).thenThrow(notFound);
+        var collections = new ArangoDBCollections(database, Duration.ofMinutes(1));
+
+        collections.checkEdge("person");
+
+        verify(collection).create(any(CollectionCreateOptions.class));
+        assertThat(collections.isKnown("person")).isTrue();
+    }
+
+    @Test
+    void shouldReturnErrorWhenIsNotEdgeCollection() {
+        type(CollectionType.DOCUMENT);
+        var collections = new ArangoDBCollections(database, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> collections.checkEdge("person"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRetryWhenCollectionWasDropped() {
+        type(CollectionType.DOCUMENT);
+        var collections = new ArangoDBCollections(database, Duration.ofMinutes(1));
+        var notFound = notFound();
+        var attempts = new int[1];
+
+        String result = collections.execute("person", () -> {
+            if (attempts[0]++ == 0) {
+                throw notFound;
+            }
+            return "inserted";
+        });
+
+        assertThat(result).isEqualTo("inserted");
+        verify(collection, times(2)).getInfo();
+    }
+
+    @Test
+    void shouldPrepareCollectionsFromSettings() {
+        type(CollectionType.DOCUMENT);
+        var settings = Settings.builder()
+                .put(ArangoDBConfigurations.COLLECTIONS.get(), "person")
+                .put(ArangoDBConfigurations.COLLECTION_CACHE_TTL.get(), "60000")
+                .build();
+
+        var collections = ArangoDBCollections.of(database, settings);
+
+        assertThat(collections.ttl()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(collections.isKnown("person")).isTrue();
+        verify(collection, never()).create(any(CollectionCreateOptions.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenPreparedDocumentCollectionIsEdge() {
+        type(CollectionType.EDGES);
+        var collections = new ArangoDBCollections(database, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> collections.prepare(List.of("person"), List.of()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldCheckCollectionAsyncOnce() {
+        asyncType(CollectionType.DOCUMENT);
+        var collections = new ArangoDBCollections(database, async, Duration.ofMinutes(1));
+
+        collections.checkAsync("person").toCompletableFuture().join();
+        collections.checkAsync("person").toCompletableFuture().join();
+
+        verify(asyncCollection, times(1)).getInfo();
+        verify(collection, never()).getInfo();
+        assertThat(collections.isKnown("person")).isTrue();
+    }
+
+    @Test
+    void shouldCreateMissingCollectionAsync() {
+        when(asyncCollection.getInfo()).thenReturn(CompletableFuture.failedFuture(notFound()));
+        when(asyncCollection.create(any(CollectionCreateOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(Mockito.mock(CollectionEntity.class)));
+        var collections = new ArangoDBCollections(database, async, Duration.ofMinutes(1));
+
+        collections.checkEdgeAsync("person").toCompletableFuture().join();
+
+        verify(asyncCollection).create(any(CollectionCreateOptions.class));
+        verify(collection, never()).create(any(CollectionCreateOptions.class));
+        assertThat(collections.isKnown("person")).isTrue();
+    }
+
+    @Test
+    void shouldReturnErrorWhenIsNotEdgeCollectionAsync() {
+        asyncType(CollectionType.DOCUMENT);
+        var collections = new ArangoDBCollections(database, async, Duration.ofMinutes(1));
+
+        assertThat(collections.checkEdgeAsync("person").toCompletableFuture())
+                .failsWithin(Duration.ofSeconds(1))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldNotRunOperationWhenCheckAsyncFails() {
+        var failure = Mockito.mock(ArangoDBException.class);
+        when(asyncCollection.getInfo()).thenReturn(CompletableFuture.failedFuture(failure));
+        var collections = new ArangoDBCollections(database, async, Duration.ofMinutes(1));
+        var attempts = new int[1];
+
+        var result = collections.executeAsync("person", () -> {
+            attempts[0]++;
+            return CompletableFuture.completedFuture("inserted");
+        }).toCompletableFuture();
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(attempts[0]).isZero();
+    }
+
+    @Test
+    void shouldRetryAsyncWhenCollectionWasDropped() {
+        asyncType(CollectionType.DOCUMENT);
+        var collections = new ArangoDBCollections(database, async, Duration.ofMinutes(1));
+        var notFound = notFound();
+        var attempts = new int[1];
+
+        var result = collections.executeAsync("person", () -> attempts[0]++ == 0
+                ? CompletableFuture.<String>failedFuture(notFound)
+                : CompletableFuture.completedFuture("inserted"));
+
+        assertThat(result.toCompletableFuture().join()).isEqualTo("inserted");
+        verify(asyncCollection, times(2)).getInfo();
+    }
+
+    private void type(CollectionType type) {
+        var info = Mockito.mock(CollectionPropertiesEntity.class);
+        when(info.getType()).thenReturn(type);
+        when(collection.getInfo()).thenReturn(info);
+    }
+
+    private void asyncType(CollectionType type) {
+        var info = Mockito.mock(CollectionPropertiesEntity.class);
+        when(info.getType()).thenReturn(type);
+        when(asyncCollection.getInfo()).thenReturn(CompletableFuture.completedFuture(info));
+    }
+
+    private static ArangoDBException notFound() {
+        var exception = Mockito.mock(ArangoDBException.class);
+        when(exception.getErrorNum()).thenReturn(1203);
+        return exception;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.ArangoCursorAsync;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class ArangoDBCursorPublisherTest {
+
+    @Test
+    void shouldFetchNextBatchOnlyOnDemand() {
+        ArangoCursorAsync<String> second = cursor(List.of("c"), false);
+        ArangoCursorAsync<String> first = cursor(List.of("a", "b"), true);
+        when(first.nextBatch()).thenReturn(CompletableFuture.completedFuture(second));
+        var publisher = new ArangoDBCursorPublisher<String, String>(
+                () -> CompletableFuture.completedFuture(first), String::toUpperCase);
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(2);
+
+        assertThat(subscriber.items).containsExactly("A", "B");
+        verify(first, never()).nextBatch();
+
+        subscriber.request(5);
+
+        assertThat(subscriber.items).containsExactly("A", "B", "C");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void shouldCloseCursorOnCancel() {
+        ArangoCursorAsync<String> first = cursor(List.of("a", "b"), true);
+        when(first.close()).thenReturn(CompletableFuture.completedFuture(null));
+        var publisher = new ArangoDBCursorPublisher<String, String>(
+                () -> CompletableFuture.completedFuture(first), Function.identity());
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+        subscriber.subscription.cancel();
+        subscriber.request(1);
+
+        assertThat(subscriber.items).containsExactly("a");
+        assertThat(subscriber.completed).isFalse();
+        verify(first).close();
+    }
+
+    @Test
+    void shouldNotCloseExhaustedCursor() {
+        ArangoCursorAsync<String> last = cursor(List.of("a"), false);
+        var publisher = new ArangoDBCursorPublisher<String, String>(
+                () -> CompletableFuture.completedFuture(last), Function.identity());
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+        subscriber.subscription.cancel();
+
+        assertThat(subscriber.completed).isTrue();
+        verify(last, never()).close();
+    }
+
+    private static ArangoCursorAsync<String> cursor(List<String> result, boolean hasMore) {
+        ArangoCursorAsync<String> cursor = mock(ArangoCursorAsync.class);
+        when(cursor.getResult()).thenReturn(result);
+        when(cursor.hasMore()).thenReturn(hasMore);
+        return cursor;
+    }
+
+    private static final class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final List<T> items = new ArrayList<>();
+
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private Flow.Subscription subscription;
+
+        private boolean completed;
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
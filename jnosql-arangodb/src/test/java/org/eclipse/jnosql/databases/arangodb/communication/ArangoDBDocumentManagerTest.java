@@ -16,6 +16,7 @@
 package org.eclipse.jnosql.databases.arangodb.communication;
 
 import com.arangodb.ArangoDB;
+import com.arangodb.model.OverwriteMode;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.graph.CommunicationEdge;
@@ -46,6 +47,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
 import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
@@ -579,6 +581,71 @@ public class ArangoDBDocumentManagerTest {
         });
     }
 
+    @Test
+    void shouldInsertInChunks() {
+        var entities = getEntitiesWithValues();
+        var options = ArangoDBBatchOptions.builder().chunkSize(2).build();
+
+        entityManager.insert(entities, options);
+
+        assertSoftly(softly -> {
+            entities.forEach(entity -> {
+                softly.assertThat(entity.find(KEY_NAME)).isPresent();
+                softly.assertThat(entity.find("_id")).isPresent();
+                softly.assertThat(entity.find("_rev")).isPresent();
+            });
+            softly.assertThat(entityManager.count(COLLECTION_NAME)).isEqualTo(3L);
+        });
+    }
+
+    @Test
+    void shouldUpdateInChunks() {
+        var entities = getEntitiesWithValues();
+        entityManager.insert(entities);
+        var revisions = entities.stream().map(e -> e.find("_rev").orElseThrow().get()).toList();
+        entities.forEach(entity -> entity.add("status", "updated"));
+
+        entityManager.update(entities, ArangoDBBatchOptions.builder().chunkSize(2).build());
+
+        var query = select().from(COLLECTION_NAME).where("status").eq("updated").build();
+        assertSoftly(softly -> {
+            softly.assertThat(entityManager.select(query)).hasSize(3);
+            softly.assertThat(entities.stream().map(e -> e.find("_rev").orElseThrow().get()).toList())
+                    .doesNotContainAnyElementsOf(revisions);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenBatchInsertHasDuplicatedKey() {
+        var entity = getEntity();
+        entityManager.insert(entity);
+        var duplicated = CommunicationEntity.of(COLLECTION_NAME);
+        duplicated.add(KEY_NAME, entity.find(KEY_NAME).orElseThrow().get());
+
+        assertThatThrownBy(() -> entityManager.insert(List.of(duplicated)))
+                .isInstanceOf(ArangoDBException.class);
+    }
+
+    @Test
+    void shouldUpdateOnDuplicatedKey() {
+        var entity = getEntity();
+        entityManager.insert(entity);
+        var duplicated = CommunicationEntity.of(COLLECTION_NAME);
+        duplicated.add(KEY_NAME, entity.find(KEY_NAME).orElseThrow().get());
+        duplicated.add("city", "Recife");
+
+        entityManager.insert(List.of(duplicated), ArangoDBBatchOptions.builder()
+                .onDuplicate(OverwriteMode.update).build());
+
+        var query = select().from(COLLECTION_NAME).where(KEY_NAME).eq(entity.find(KEY_NAME).orElseThrow().get())
+                .build();
+        var result = entityManager.singleResult(query).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(result.find("city").orElseThrow().get()).isEqualTo("Recife");
+            softly.assertThat(result.find("name").orElseThrow().get()).isEqualTo("Poliana");
+        });
+    }
+
     private CommunicationEntity getEntity() {
         CommunicationEntity entity = CommunicationEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+
+class ArangoDBQueryCacheTest {
+
+    @Test
+    void shouldReuseAQLWithOtherValues() {
+        var cache = new ArangoDBQueryCache(10);
+        SelectQuery ada = select().from("person").where("name").eq("Ada").and("age").gt(10).build();
+        SelectQuery poliana = select().from("person").where("name").eq("Poliana").and("age").gt(20).build();
+
+        AQLQueryResult first = cache.select(ada);
+        AQLQueryResult second = cache.select(poliana);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).isEqualTo(QueryAQLConverter.select(ada));
+            soft.assertThat(second).isEqualTo(QueryAQLConverter.select(poliana));
+            soft.assertThat(cache.misses()).isEqualTo(1L);
+            soft.assertThat(cache.hits()).isEqualTo(1L);
+            soft.assertThat(cache.size()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldReuseAQLWithOtherPages() {
+        var cache = new ArangoDBQueryCache(10);
+        SelectQuery firstPage = select().from("person").where("name").eq("Ada").limit(10).build();
+        SelectQuery secondPage = select().from("person").where("name").eq("Ada").skip(10).limit(10).build();
+
+        cache.select(firstPage);
+        AQLQueryResult result = cache.select(secondPage);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).isEqualTo(QueryAQLConverter.select(secondPage));
+            soft.assertThat(result.query()).contains("LIMIT 10, 10");
+            soft.assertThat(cache.hits()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldNotShareAQLBetweenShapes() {
+        var cache = new ArangoDBQueryCache(10);
+        SelectQuery query = select().from("person").where("name").eq("Ada").build();
+
+        cache.select(query);
+        cache.count(query);
+        cache.select(select().from("person").where("name").gt("Ada").build());
+        cache.select(select().from("person").where("name").eq("Ada").orderBy("name").asc().build());
+        cache.delete(DeleteQuery.delete().from("person").where("name").eq("Ada").build());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.hits()).isZero();
+            soft.assertThat(cache.misses()).isEqualTo(5L);
+            soft.assertThat(cache.count(query)).isEqualTo(QueryAQLConverter.count(query));
+        });
+    }
+
+    @Test
+    void shouldConvertNestedConditions() {
+        var cache = new ArangoDBQueryCache(10);
+        SelectQuery query = select().from("person")
+                .where("city").not().eq("Assis")
+                .and("name").in(List.of("Otavio", "Ada"))
+                .or("age").between(10, 20)
+                .or("name").contains("Lu").build();
+
+        cache.select(query);
+        AQLQueryResult result = cache.select(query);
+
+        assertThat(result).isEqualTo(QueryAQLConverter.select(query));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new ArangoDBQueryCache(1);
+
+        cache.select(select().from("person").where("name").eq("Ada").build());
+        cache.select(select().from("person").where("age").eq(10).build());
+        cache.select(select().from("person").where("name").eq("Ada").build());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.size()).isEqualTo(1);
+            soft.assertThat(cache.misses()).isEqualTo(3L);
+        });
+    }
+
+    @Test
+    void shouldDisableCache() {
+        var cache = new ArangoDBQueryCache(0);
+        SelectQuery query = select().from("person").where("name").eq("Ada").build();
+
+        cache.select(query);
+        cache.select(query);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.size()).isZero();
+            soft.assertThat(cache.hits()).isZero();
+            soft.assertThat(cache.misses()).isZero();
+        });
+    }
+
+    @Test
+    void shouldClear() {
+        var cache = new ArangoDBQueryCache(10);
+        cache.select(select().from("person").where("name").eq("Ada").build());
+
+        cache.clear();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.size()).isZero();
+            soft.assertThat(cache.misses()).isZero();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenMaxSizeIsNegative() {
+        assertThatThrownBy(() -> new ArangoDBQueryCache(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldLoadFromSettings() {
+        var settings = Settings.builder().put(ArangoDBConfigurations.QUERY_CACHE_SIZE.get(), "50").build();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ArangoDBQueryCache.of(settings).maxSize()).isEqualTo(50);
+            soft.assertThat(ArangoDBQueryCache.of(Settings.builder().build()).maxSize())
+                    .isEqualTo(ArangoDBQueryCache.DEFAULT_MAX_SIZE);
+        });
+    }
+}
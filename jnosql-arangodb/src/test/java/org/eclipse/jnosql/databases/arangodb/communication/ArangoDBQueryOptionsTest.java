@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArangoDBQueryOptionsTest {
+
+    @Test
+    void shouldKeepServerDefaultsWhenEmpty() {
+        var options = ArangoDBQueryOptions.EMPTY.toAqlQueryOptions();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ArangoDBQueryOptions.EMPTY.batchSize()).isEmpty();
+            soft.assertThat(ArangoDBQueryOptions.EMPTY.stream()).isEmpty();
+            soft.assertThat(options.getBatchSize()).isNull();
+            soft.assertThat(options.getStream()).isNull();
+            soft.assertThat(options.getTtl()).isNull();
+            soft.assertThat(options.getFullCount()).isNull();
+        });
+    }
+
+    @Test
+    void shouldCreateAqlQueryOptions() {
+        var options = ArangoDBQueryOptions.builder()
+                .batchSize(100)
+                .stream(true)
+                .ttl(Duration.ofSeconds(30))
+                .fullCount(true)
+                .memoryLimit(1024L)
+                .maxRuntime(Duration.ofMillis(1500))
+                .build()
+                .toAqlQueryOptions();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(options.getBatchSize()).isEqualTo(100);
+            soft.assertThat(options.getStream()).isTrue();
+            soft.assertThat(options.getTtl()).isEqualTo(30);
+            soft.assertThat(options.getFullCount()).isTrue();
+            soft.assertThat(options.getMemoryLimit()).isEqualTo(1024L);
+            soft.assertThat(options.getMaxRuntime()).isEqualTo(1.5D);
+        });
+    }
+
+    @Test
+    void shouldFallBackToDefaults() {
+        var defaults = ArangoDBQueryOptions.builder().batchSize(500).stream(true).build();
+        var options = ArangoDBQueryOptions.builder().batchSize(10).fullCount(true).build();
+
+        var merged = options.or(defaults);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(merged.batchSize()).contains(10);
+            soft.assertThat(merged.stream()).contains(true);
+            soft.assertThat(merged.fullCount()).contains(true);
+            soft.assertThat(ArangoDBQueryOptions.EMPTY.or(defaults)).isSameAs(defaults);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenBatchSizeIsNotPositive() {
+        assertThatThrownBy(() -> ArangoDBQueryOptions.builder().batchSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenTTLIsNegative() {
+        assertThatThrownBy(() -> ArangoDBQueryOptions.builder().ttl(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRoundUpTTLFractionOfSecond() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ArangoDBQueryOptions.builder().ttl(Duration.ofMillis(500)).build().ttl())
+                    .contains(Duration.ofSeconds(1));
+            soft.assertThat(ArangoDBQueryOptions.builder().ttl(Duration.ofMillis(1500)).build()
+                    .toAqlQueryOptions().getTtl()).isEqualTo(2);
+            soft.assertThat(ArangoDBQueryOptions.builder().ttl(Duration.ZERO).build().ttl())
+                    .contains(Duration.ZERO);
+        });
+    }
+
+    @Test
+    void shouldLoadFromSettings() {
+        var settings = Settings.builder()
+                .put(ArangoDBConfigurations.QUERY_BATCH_SIZE.get(), "200")
+                .put(ArangoDBConfigurations.QUERY_STREAM.get(), "true")
+                .put(ArangoDBConfigurations.QUERY_TTL.get(), "60")
+                .put(ArangoDBConfigurations.QUERY_MEMORY_LIMIT.get(), "2048")
+                .put(ArangoDBConfigurations.QUERY_MAX_RUNTIME.get(), "5000")
+                .build();
+
+        var options = ArangoDBQueryOptions.of(settings);
+
+        assertThat(options).isEqualTo(ArangoDBQueryOptions.builder()
+                .batchSize(200)
+                .stream(true)
+                .ttl(Duration.ofSeconds(60))
+                .memoryLimit(2048L)
+                .maxRuntime(Duration.ofSeconds(5))
+                .build());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.util.RawJson;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommunicationEntitySerdeTest {
+
+    @Test
+    void shouldWriteEntity() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("name", "Poliana");
+        entity.add("age", 30);
+        entity.add("active", true);
+        entity.add(Element.of("address", List.of(Element.of("city", "Salvador"), Element.of("zip", "40000"))));
+        entity.add("phones", List.of("123", "456"));
+
+        JsonObject json = parse(CommunicationEntitySerde.write(entity));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(json.getString("name")).isEqualTo("Poliana");
+            soft.assertThat(json.getInt("age")).isEqualTo(30);
+            soft.assertThat(json.getBoolean("active")).isTrue();
+            soft.assertThat(json.getJsonObject("address").getString("city")).isEqualTo("Salvador");
+            soft.assertThat(json.getJsonArray("phones").getString(1)).isEqualTo("456");
+        });
+    }
+
+    @Test
+    void shouldWriteTheSameDocumentAsJsonObject() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("name", "Poliana");
+        entity.add("salary", new BigDecimal("10.50"));
+        entity.add("map", Map.of("key", "value"));
+        entity.add(Element.of("phones", List.of(
+                List.of(Element.of("type", "home"), Element.of("number", "123")),
+                List.of(Element.of("type", "work"), Element.of("number", "456")))));
+
+        assertThat(parse(CommunicationEntitySerde.write(entity))).isEqualTo(ArangoDBUtil.toJsonObject(entity));
+    }
+
+    @Test
+    void shouldSkipNullKey() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("_key", null);
+        entity.add("name", "Poliana");
+
+        JsonObject json = parse(CommunicationEntitySerde.write(entity));
+
+        assertThat(json).doesNotContainKey("_key");
+    }
+
+    @Test
+    void shouldAddKey() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("name", "Poliana");
+
+        JsonObject json = parse(CommunicationEntitySerde.write(entity, "poliana"));
+
+        assertThat(json.getString("_key")).isEqualTo("poliana");
+    }
+
+    @Test
+    void shouldReadEntity() {
+        var json = RawJson.of("""
+                {"_key": "poliana", "_id": "person/poliana", "_rev": "1", "name": "Poliana", "age": 30,
+                 "salary": 10.5, "nickname": null, "address": {"city": "Salvador"},
+                 "phones": [{"type": "home"}, {"type": "work"}], "numbers": [1, 2]}
+                """);
+
+        CommunicationEntity entity = CommunicationEntitySerde.read(json);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.name()).isEqualTo("person");
+            soft.assertThat(entity.find("_key").orElseThrow().get()).isEqualTo("poliana");
+            soft.assertThat(entity.find("_rev").orElseThrow().get()).isEqualTo("1");
+            soft.assertThat(entity.find("age").orElseThrow().get()).isEqualTo(30);
+            soft.assertThat(entity.find("salary").orElseThrow().get()).isEqualTo(new BigDecimal("10.5"));
+            soft.assertThat(entity.find("address").orElseThrow().get())
+                    .isEqualTo(List.of(Element.of("city", "Salvador")));
+            soft.assertThat(entity.find("phones").orElseThrow().get())
+                    .isEqualTo(List.of(List.of(Element.of("type", "home")), List.of(Element.of("type", "work"))));
+            soft.assertThat(entity.find("numbers").orElseThrow().get()).isEqualTo(List.of(1, 2));
+        });
+    }
+
+    @Test
+    void shouldReadTheSameEntityAsJsonObject() {
+        var json = """
+                {"_key": "poliana", "_id": "person/poliana", "_rev": "1", "name": "Poliana",
+                 "age": 30, "big": 12345678901, "address": {"city": "Salvador"}}
+                """;
+
+        CommunicationEntity entity = CommunicationEntitySerde.read(RawJson.of(json));
+        CommunicationEntity expected = ArangoDBUtil.toEntity(Json.createReader(new StringReader(json)).readObject());
+
+        assertThat(entity.elements()).containsExactlyInAnyOrderElementsOf(expected.elements());
+    }
+
+    @Test
+    void shouldReturnErrorWhenIsNotDocument() {
+        assertThatThrownBy(() -> CommunicationEntitySerde.read(RawJson.of("[1, 2]")))
+                .isInstanceOf(ArangoDBException.class);
+    }
+
+    private static JsonObject parse(RawJson json) {
+        return Json.createReader(new StringReader(json.get())).readObject();
+    }
+}
@@ -169,4 +169,20 @@ public class QueryAQLConverterTest {
     }
 
 
+    @Test
+    public void shouldRunSameFieldThreeTimes() {
+        SelectQuery query = select().from("collection")
+                .where("name").eq("Ada")
+                .or("name").eq("Otavio")
+                .or("name").eq("Lucas").build();
+
+        AQLQueryResult convert = QueryAQLConverter.select(query);
+        Map<String, Object> values = convert.values();
+        assertEquals(3, values.size());
+        assertEquals("Ada", values.get("name"));
+        assertEquals("Otavio", values.get("name_1"));
+        assertEquals("Lucas", values.get("name_2"));
+    }
+
+
 }
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.mapping;
+
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AQLProviderHandlerTest {
+
+    @Test
+    void shouldKeepDefaultStream() {
+        var options = AQLProviderHandler.options(Map.of("value", "FOR p IN Person RETURN p",
+                "stream", AQL.Flag.DEFAULT));
+        assertThat(options).isEqualTo(ArangoDBQueryOptions.EMPTY);
+    }
+
+    @Test
+    void shouldEnableStream() {
+        var options = AQLProviderHandler.options(Map.of("stream", AQL.Flag.TRUE));
+        assertThat(options.stream()).contains(true);
+    }
+
+    @Test
+    void shouldDisableStream() {
+        var options = AQLProviderHandler.options(Map.of("stream", AQL.Flag.FALSE));
+        assertThat(options.stream()).contains(false);
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.jnosql.databases.arangodb.mapping;
 
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryOptions;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
@@ -83,6 +84,13 @@ public class ArangoDBDocumentRepositoryProxyTest {
         assertEquals("Ada", value.get("name"));
     }
 
+    @Test
+    public void shouldFindAllWithCursorOptions() {
+        humanRepository.findAllStreaming();
+        var options = ArangoDBQueryOptions.builder().batchSize(100).stream(true).build();
+        verify(template).aql("FOR p IN Person RETURN p", emptyMap(), options);
+    }
+
     @Test
     public void shouldSaveUsingInsert() {
         Human human = Human.of("Ada", 10);
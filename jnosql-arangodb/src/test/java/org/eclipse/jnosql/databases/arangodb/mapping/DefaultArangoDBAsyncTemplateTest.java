@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.mapping;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBAsyncDocumentManager;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryOptions;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.document.DocumentTemplate;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class, DocumentTemplate.class, AQL.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({ReflectionEntityMetadataExtension.class, DocumentExtension.class, ArangoDBExtension.class})
+class DefaultArangoDBAsyncTemplateTest {
+
+    @Inject
+    private EntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private ArangoDBAsyncTemplate template;
+
+    private ArangoDBAsyncDocumentManager manager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.manager = mock(ArangoDBAsyncDocumentManager.class);
+        Instance instance = mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        template = new DefaultArangoDBAsyncTemplate(instance, converter, entities);
+    }
+
+    @Test
+    void shouldRunAQL() throws Exception {
+        String query = "FOR h IN Human FILTER h.age > @age RETURN h";
+        Map<String, Object> params = Collections.singletonMap("age", 20);
+        SubmissionPublisher<CommunicationEntity> publisher = new SubmissionPublisher<>();
+        when(manager.aql(query, params)).thenReturn(publisher);
+
+        List<Human> result = new ArrayList<>();
+        CompletableFuture<Void> completed = subscribe(template.aql(query, params), result);
+        publisher.submit(human("Ada", 30));
+        publisher.submit(human("Grace", 40));
+        publisher.close();
+        completed.get(1, TimeUnit.SECONDS);
+
+        assertThat(result).containsExactly(Human.of("Ada", 30), Human.of("Grace", 40));
+    }
+
+    @Test
+    void shouldDeleteEdge() {
+        when(manager.deleteEdge("edges/1")).thenReturn(CompletableFuture.completedFuture(null));
+
+        template.deleteEdge("edges/1");
+
+        Mockito.verify(manager).deleteEdge("edges/1");
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        assertThrows(NullPointerException.class, () -> template.insert((Human) null));
+        assertThrows(NullPointerException.class, () -> template.update((Iterable<Human>) null));
+        assertThrows(NullPointerException.class, () -> template.select(null));
+        assertThrows(NullPointerException.class, () -> template.delete(null));
+        assertThrows(NullPointerException.class, () -> template.count((Class<Human>) null));
+        assertThrows(NullPointerException.class, () -> template.aql(null, Collections.emptyMap()));
+        assertThrows(NullPointerException.class, () -> template.aql("FOR h IN Human RETURN h",
+                Collections.emptyMap(), (ArangoDBQueryOptions) null));
+    }
+
+    private static CommunicationEntity human(String name, int age) {
+        return CommunicationEntity.of("Human", Arrays.asList(Element.of("_key", name), Element.of("age", age)));
+    }
+
+    private static <T> CompletableFuture<Void> subscribe(Flow.Publisher<T> publisher, List<T> result) {
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                result.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+        return completed;
+    }
+}
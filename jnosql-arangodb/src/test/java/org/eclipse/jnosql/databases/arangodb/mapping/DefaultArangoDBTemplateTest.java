@@ -20,7 +20,9 @@ import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBCursorResult;
 import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBDocumentManager;
+import org.eclipse.jnosql.databases.arangodb.communication.ArangoDBQueryOptions;
 import org.eclipse.jnosql.databases.arangodb.communication.Human;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
@@ -104,6 +106,31 @@ public class DefaultArangoDBTemplateTest {
         Mockito.verify(manager).aql("FOR p IN Person FILTER p.name = @name RETURN p", String.class);
     }
 
+    @Test
+    public void shouldFindAQLWithOptions() {
+        Map<String, Object> params = Collections.singletonMap("name", "Ada");
+        var options = ArangoDBQueryOptions.builder().batchSize(10).stream(true).build();
+        template.aql("FOR p IN Person FILTER p.name = @name RETURN p", params, options);
+        Mockito.verify(manager).aql("FOR p IN Person FILTER p.name = @name RETURN p", params, options);
+    }
+
+    @Test
+    public void shouldFindAQLCursor() {
+        var options = ArangoDBQueryOptions.builder().fullCount(true).build();
+        var cursor = Mockito.mock(ArangoDBCursorResult.class);
+        when(manager.aqlCursor("FOR p IN Person LIMIT 1 RETURN p", Collections.emptyMap(), options))
+                .thenReturn(cursor);
+        when(cursor.map(Mockito.any())).thenReturn(cursor);
+
+        ArangoDBCursorResult<Human> result = template.aqlCursor("FOR p IN Person LIMIT 1 RETURN p",
+                Collections.emptyMap(), options);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).isSameAs(cursor);
+            Mockito.verify(manager).aqlCursor("FOR p IN Person LIMIT 1 RETURN p", Collections.emptyMap(), options);
+        });
+    }
+
     @Test
     public void shouldDeleteAll(){
         ArgumentCaptor<DeleteQuery> argumentCaptor = ArgumentCaptor.forClass(DeleteQuery.class);
@@ -28,4 +28,7 @@ public interface HumanRepository extends ArangoDBRepository<Human, String> {
 
     @AQL("FOR p IN Person FILTER p.name = @name RETURN p")
     List<Human> findByName(@Param("name") String name);
+
+    @AQL(value = "FOR p IN Person RETURN p", batchSize = 100, stream = AQL.Flag.TRUE)
+    List<Human> findAllStreaming();
 }
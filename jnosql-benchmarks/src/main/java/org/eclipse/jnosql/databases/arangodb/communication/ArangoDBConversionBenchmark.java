@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.util.RawJson;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.benchmarks.DocumentShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the ArangoDB conversion between {@link CommunicationEntity} and the documents sent to the driver,
+ * both through the {@link JsonObject} tree and the streaming {@link CommunicationEntitySerde},
+ * and the translation of select queries into AQL, with and without the {@link ArangoDBQueryCache}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArangoDBConversionBenchmark {
+
+    @Param({"SMALL", "WIDE", "NESTED"})
+    private DocumentShape shape;
+
+    private CommunicationEntity entity;
+
+    private JsonObject json;
+
+    private RawJson rawJson;
+
+    private SelectQuery query;
+
+    private ArangoDBQueryCache queryCache;
+
+    @Setup
+    public void setUp() {
+        this.entity = shape.entity("person");
+        this.json = Json.createObjectBuilder(ArangoDBUtil.toJsonObject(entity))
+                .add("_key", "key")
+                .add("_id", "person/key")
+                .add("_rev", "rev")
+                .build();
+        this.rawJson = RawJson.of(json.toString());
+        this.query = shape.query("person");
+        this.queryCache = new ArangoDBQueryCache(ArangoDBQueryCache.DEFAULT_MAX_SIZE);
+    }
+
+    @Benchmark
+    public JsonObject toJsonObject() {
+        return ArangoDBUtil.toJsonObject(entity);
+    }
+
+    @Benchmark
+    public CommunicationEntity toEntity() {
+        return ArangoDBUtil.toEntity(json);
+    }
+
+    @Benchmark
+    public RawJson write() {
+        return CommunicationEntitySerde.write(entity);
+    }
+
+    @Benchmark
+    public CommunicationEntity read() {
+        return CommunicationEntitySerde.read(rawJson);
+    }
+
+    @Benchmark
+    public AQLQueryResult select() {
+        return QueryAQLConverter.select(query);
+    }
+
+    @Benchmark
+    public AQLQueryResult selectCached() {
+        return queryCache.select(query);
+    }
+}
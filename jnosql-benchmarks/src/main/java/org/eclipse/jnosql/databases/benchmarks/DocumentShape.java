@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.benchmarks;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The document fixtures shared by every benchmark suite, so the drivers are measured against the same input.
+ * Each shape provides an entity, to measure the conversion from and to the native document,
+ * and a select query, to measure the query translation.
+ */
+public enum DocumentShape {
+
+    /**
+     * A handful of scalar fields and a single equality condition.
+     */
+    SMALL {
+        @Override
+        public CommunicationEntity entity(String name) {
+            var entity = CommunicationEntity.of(name);
+            entity.add("_id", "ada");
+            entity.add("name", "Ada Lovelace");
+            entity.add("age", 36);
+            entity.add("active", true);
+            entity.add("score", 98.5D);
+            return entity;
+        }
+
+        @Override
+        public SelectQuery query(String name) {
+            return SelectQuery.builder().select().from(name)
+                    .where(CriteriaCondition.eq(Element.of("name", "Ada Lovelace")))
+                    .build();
+        }
+    },
+    /**
+     * A flat entity with {@link #WIDE_FIELDS} fields of mixed types and a conjunction over half of them.
+     */
+    WIDE {
+        @Override
+        public CommunicationEntity entity(String name) {
+            var entity = CommunicationEntity.of(name);
+            entity.add("_id", "wide");
+            for (int index = 0; index < WIDE_FIELDS; index++) {
+                entity.add("field" + index, value(index));
+            }
+            return entity;
+        }
+
+        @Override
+        public SelectQuery query(String name) {
+            CriteriaCondition[] conditions = new CriteriaCondition[WIDE_FIELDS / 2];
+            for (int index = 0; index < conditions.length; index++) {
+                var element = Element.of("field" + index, value(index));
+                conditions[index] = switch (index % 3) {
+                    case 0 -> CriteriaCondition.eq(element);
+                    case 1 -> CriteriaCondition.gt(element);
+                    default -> CriteriaCondition.lte(element);
+                };
+            }
+            return SelectQuery.builder().select().from(name)
+                    .where(CriteriaCondition.and(conditions))
+                    .build();
+        }
+    },
+    /**
+     * Sub-documents and lists of sub-documents {@link #NESTED_DEPTH} levels deep, queried through
+     * a tree of conjunctions, disjunctions and negations.
+     */
+    NESTED {
+        @Override
+        public CommunicationEntity entity(String name) {
+            var entity = CommunicationEntity.of(name);
+            entity.add("_id", "nested");
+            entity.add("name", "Ada Lovelace");
+            entity.add("tags", List.of("math", "poetry", "engines"));
+            entity.add(Element.of("address", level(NESTED_DEPTH)));
+            entity.add(Element.of("phones", List.of(
+                    List.of(Element.of("type", "home"), Element.of("number", "555-0100")),
+                    List.of(Element.of("type", "work"), Element.of("number", "555-0199")))));
+            return entity;
+        }
+
+        @Override
+        public SelectQuery query(String name) {
+            var condition = CriteriaCondition.eq(Element.of("name", "Ada Lovelace"));
+            for (int depth = 0; depth < NESTED_DEPTH; depth++) {
+                var branch = CriteriaCondition.and(
+                        CriteriaCondition.gt(Element.of("level" + depth, depth)),
+                        CriteriaCondition.in(Element.of("tags", List.of("math", "poetry"))).negate());
+                condition = depth % 2 == 0 ? CriteriaCondition.or(condition, branch)
+                        : CriteriaCondition.and(condition, branch);
+            }
+            return SelectQuery.builder().select().from(name)
+                    .where(condition)
+                    .build();
+        }
+
+        private List<Element> level(int depth) {
+            List<Element> elements = new ArrayList<>();
+            elements.add(Element.of("city", "London"));
+            elements.add(Element.of("zip", "W1" + depth));
+            elements.add(Element.of("level", depth));
+            if (depth > 1) {
+                elements.add(Element.of("child", level(depth - 1)));
+            }
+            return elements;
+        }
+    };
+
+    /**
+     * The number of fields of the {@link #WIDE} entity.
+     */
+    public static final int WIDE_FIELDS = 64;
+
+    /**
+     * The number of sub-document levels of the {@link #NESTED} entity and query.
+     */
+    public static final int NESTED_DEPTH = 5;
+
+    /**
+     * Creates a new entity of this shape; every call returns a new instance, so it is safe to mutate it.
+     *
+     * @param name the entity name
+     * @return the entity
+     */
+    public abstract CommunicationEntity entity(String name);
+
+    /**
+     * Creates the select query of this shape.
+     *
+     * @param name the entity name
+     * @return the select query
+     */
+    public abstract SelectQuery query(String name);
+
+    private static Object value(int index) {
+        return switch (index % 4) {
+            case 0 -> "value-" + index;
+            case 1 -> index;
+            case 2 -> index * 1.5D;
+            default -> index % 2 == 0;
+        };
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.java.json.JsonObject;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.benchmarks.DocumentShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Couchbase conversion between {@link CommunicationEntity} and {@link JsonObject},
+ * and the translation of select queries into N1QL.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CouchbaseConversionBenchmark {
+
+    private static final String DATABASE = "jnosql";
+
+    private static final String SCOPE = "_default";
+
+    @Param({"SMALL", "WIDE", "NESTED"})
+    private DocumentShape shape;
+
+    private CommunicationEntity entity;
+
+    private List<JsonObject> json;
+
+    private SelectQuery query;
+
+    @Setup
+    public void setUp() {
+        this.entity = shape.entity("person");
+        this.json = List.of(EntityConverter.convert(entity).put(EntityConverter.COLLECTION_FIELD, "person"));
+        this.query = shape.query("person");
+    }
+
+    @Benchmark
+    public JsonObject toJsonObject() {
+        return EntityConverter.convert(entity);
+    }
+
+    @Benchmark
+    public List<CommunicationEntity> toEntity() {
+        return EntityConverter.convert(json, DATABASE).toList();
+    }
+
+    @Benchmark
+    public N1QLQuery select() {
+        return N1QLBuilder.of(query, DATABASE, SCOPE).get();
+    }
+}
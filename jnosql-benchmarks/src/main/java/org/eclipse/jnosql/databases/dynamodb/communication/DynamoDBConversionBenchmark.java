@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.dynamodb.communication;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.benchmarks.DocumentShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the DynamoDB conversion between {@link CommunicationEntity} and the {@link AttributeValue} item,
+ * and the translation of select queries into filter expressions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DynamoDBConversionBenchmark {
+
+    @Param({"SMALL", "WIDE", "NESTED"})
+    private DocumentShape shape;
+
+    private CommunicationEntity entity;
+
+    private Map<String, AttributeValue> item;
+
+    private SelectQuery query;
+
+    @Setup
+    public void setUp() {
+        this.entity = shape.entity("person");
+        this.item = DynamoDBConverter.toItem(entity);
+        this.query = shape.query("person");
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> toItem() {
+        return DynamoDBConverter.toItem(entity);
+    }
+
+    @Benchmark
+    public CommunicationEntity toEntity() {
+        return DynamoDBConverter.toCommunicationEntity("person", item);
+    }
+
+    @Benchmark
+    public DynamoDBQuery select() {
+        return new DynamoDBQuerySelectBuilder("person", query).get();
+    }
+}
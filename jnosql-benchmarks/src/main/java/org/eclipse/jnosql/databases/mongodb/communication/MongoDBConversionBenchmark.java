@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.databases.benchmarks.DocumentShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the MongoDB conversion between {@link CommunicationEntity} and BSON, through {@link CommunicationEntityCodec},
+ * and the translation of conditions into filters, with and without the {@link MongoDBFilterCache}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MongoDBConversionBenchmark {
+
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder()
+            .isEncodingCollectibleDocument(true).build();
+
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    @Param({"SMALL", "WIDE", "NESTED"})
+    private DocumentShape shape;
+
+    private CommunicationEntityCodec codec;
+
+    private CommunicationEntity entity;
+
+    private BsonDocument document;
+
+    private CriteriaCondition condition;
+
+    private MongoDBFilterCache filterCache;
+
+    @Setup
+    public void setUp() {
+        this.codec = new CommunicationEntityCodec("person", MongoClientSettings.getDefaultCodecRegistry());
+        this.entity = shape.entity("person");
+        this.document = encode();
+        this.condition = shape.query("person").condition().orElseThrow();
+        this.filterCache = new MongoDBFilterCache(MongoDBFilterCache.DEFAULT_MAX_SIZE);
+    }
+
+    @Benchmark
+    public BsonDocument encode() {
+        var result = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(result), entity, ENCODER_CONTEXT);
+        return result;
+    }
+
+    @Benchmark
+    public CommunicationEntity decode() {
+        return codec.decode(new BsonDocumentReader(document), DECODER_CONTEXT);
+    }
+
+    @Benchmark
+    public Bson filter() {
+        return DocumentQueryConversor.convert(condition);
+    }
+
+    @Benchmark
+    public Bson cachedFilter() {
+        return filterCache.convert(condition);
+    }
+}
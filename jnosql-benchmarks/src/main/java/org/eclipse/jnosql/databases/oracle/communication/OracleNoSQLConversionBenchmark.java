@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.oracle.communication;
+
+import oracle.nosql.driver.values.FieldValue;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.benchmarks.DocumentShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Oracle NoSQL conversion between the entity values and {@link FieldValue},
+ * and the translation of select queries into SQL.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OracleNoSQLConversionBenchmark {
+
+    @Param({"SMALL", "WIDE", "NESTED"})
+    private DocumentShape shape;
+
+    private CommunicationEntity entity;
+
+    private FieldValue value;
+
+    private SelectQuery query;
+
+    @Setup
+    public void setUp() {
+        this.entity = shape.entity("person");
+        this.value = FieldValueConverter.of(entity.toMap());
+        this.query = shape.query("person");
+    }
+
+    @Benchmark
+    public FieldValue toFieldValue() {
+        return FieldValueConverter.of(entity.toMap());
+    }
+
+    @Benchmark
+    public Object toJavaObject() {
+        return FieldValueConverter.toJavaObject(value);
+    }
+
+    @Benchmark
+    public OracleQuery select() {
+        return new SelectBuilder(query, "person").get();
+    }
+}
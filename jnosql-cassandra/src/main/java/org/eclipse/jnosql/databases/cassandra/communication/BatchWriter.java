@@ -0,0 +1,225 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes the statements of a multi-entity insert or save. The statements of the same table whose routing key is the
+ * same, so they target the same partition, are grouped into UNLOGGED batches of up to {@code batchSize} statements,
+ * which Cassandra applies as a single mutation on the replicas of that partition.
+ * The requests of a partition run one after the other, in the order of the writes, so the last write of a row wins
+ * as it does when the entities are written one by one: every statement of a batch shares one write timestamp, so a
+ * batch never holds two writes of the same primary key, the second one starts the next batch instead.
+ * A statement whose primary key cannot be read from its table metadata is sent on its own, and the statements
+ * without a routing key share a single chain.
+ * At most {@code concurrency} partitions are written at once, and no new request is sent after a failure.
+ * The consistency level is set on each request; the time to live stays in each insert.
+ *
+ * @see CassandraConfigurations#BATCH_SIZE
+ * @see CassandraConfigurations#BATCH_CONCURRENCY
+ */
+final class BatchWriter {
+
+    static final int DEFAULT_BATCH_SIZE = 10;
+
+    static final int DEFAULT_CONCURRENCY = 64;
+
+    private static final Object UNKNOWN = new Object();
+
+    private final CqlSession session;
+
+    private final int batchSize;
+
+    private final int concurrency;
+
+    BatchWriter(CqlSession session, int batchSize, int concurrency) {
+        this.session = session;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * A statement to write and the table it writes to.
+     */
+    record Write(String table, BatchableStatement<?> statement) {
+    }
+
+    void write(List<Write> writes, ConsistencyLevel level) {
+        try {
+            writeAsync(writes, level).toCompletableFuture().join();
+        } catch (CompletionException exp) {
+            if (exp.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw exp;
+        }
+    }
+
+    CompletionStage<Void> writeAsync(List<Write> writes, ConsistencyLevel level) {
+        List<List<Statement<?>>> partitions = requests(writes, level);
+        Iterator<List<Statement<?>>> chains = partitions.iterator();
+        AtomicBoolean failed = new AtomicBoolean();
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(concurrency, partitions.size())];
+        for (int index = 0; index < workers.length; index++) {
+            workers[index] = next(chains, failed);
+        }
+        return CompletableFuture.allOf(workers);
+    }
+
+    /**
+     * Returns the requests of each partition, in the order they must be sent.
+     */
+    List<List<Statement<?>>> requests(List<Write> writes, ConsistencyLevel level) {
+        Map<Object, List<Write>> partitions = new LinkedHashMap<>();
+        for (Write write : writes) {
+            ByteBuffer routingKey = write.statement().getRoutingKey();
+            Object partition = routingKey == null ? UNKNOWN : List.of(write.table(), routingKey);
+            partitions.computeIfAbsent(partition, key -> new ArrayList<>()).add(write);
+        }
+        Map<String, List<CqlIdentifier>> primaryKeys = new HashMap<>();
+        List<List<Statement<?>>> requests = new ArrayList<>(partitions.size());
+        partitions.forEach((partition, partitionWrites) -> {
+            List<Statement<?>> chain = new ArrayList<>();
+            if (batchSize == 1 || partition == UNKNOWN) {
+                partitionWrites.forEach(write -> chain.add(withLevel(write.statement(), level)));
+            } else {
+                List<BatchableStatement<?>> chunk = new ArrayList<>();
+                Set<Object> keys = new HashSet<>();
+                for (Write write : partitionWrites) {
+                    Object key = primaryKey(write, primaryKeys);
+                    if (key == null || chunk.size() == batchSize || !keys.add(key)) {
+                        flush(chunk, chain, level);
+                        keys.clear();
+                        if (key == null) {
+                            chain.add(withLevel(write.statement(), level));
+                            continue;
+                        }
+                        keys.add(key);
+                    }
+                    chunk.add(write.statement());
+                }
+                flush(chunk, chain, level);
+            }
+            requests.add(chain);
+        });
+        return requests;
+    }
+
+    private static void flush(List<BatchableStatement<?>> chunk, List<Statement<?>> chain, ConsistencyLevel level) {
+        if (chunk.size() == 1) {
+            chain.add(withLevel(chunk.get(0), level));
+        } else if (chunk.size() > 1) {
+            chain.add(withLevel(BatchStatement.newInstance(DefaultBatchType.UNLOGGED, List.copyOf(chunk)), level));
+        }
+        chunk.clear();
+    }
+
+    /**
+     * Reads the primary key of a bound statement, the values of the partition and clustering columns of its table,
+     * or returns null when it is unknown.
+     */
+    private Object primaryKey(Write write, Map<String, List<CqlIdentifier>> primaryKeys) {
+        if (!(write.statement() instanceof BoundStatement bound)) {
+            return null;
+        }
+        ColumnDefinitions variables = bound.getPreparedStatement().getVariableDefinitions();
+        if (variables.size() == 0) {
+            return null;
+        }
+        ColumnDefinition definition = variables.get(0);
+        List<CqlIdentifier> columns = primaryKeys.computeIfAbsent(
+                definition.getKeyspace().asInternal() + '.' + definition.getTable().asInternal(),
+                name -> session.getMetadata().getKeyspace(definition.getKeyspace())
+                        .flatMap(keyspace -> keyspace.getTable(definition.getTable()))
+                        .map(table -> table.getPrimaryKey().stream().map(ColumnMetadata::getName).toList())
+                        .orElse(List.of()));
+        if (columns.isEmpty()) {
+            return null;
+        }
+        List<ByteBuffer> key = new ArrayList<>(columns.size());
+        for (CqlIdentifier column : columns) {
+            if (!variables.contains(column)) {
+                return null;
+            }
+            key.add(bound.getBytesUnsafe(column));
+        }
+        return key;
+    }
+
+    private CompletableFuture<Void> next(Iterator<List<Statement<?>>> chains, AtomicBoolean failed) {
+        List<Statement<?>> chain;
+        synchronized (chains) {
+            if (failed.get() || !chains.hasNext()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            chain = chains.next();
+        }
+        return send(chain.iterator(), failed).thenCompose(ignored -> next(chains, failed));
+    }
+
+    private CompletableFuture<Void> send(Iterator<Statement<?>> chain, AtomicBoolean failed) {
+        if (failed.get() || !chain.hasNext()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return session.executeAsync(chain.next()).toCompletableFuture()
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        failed.set(true);
+                    }
+                })
+                .thenCompose(result -> send(chain, failed));
+    }
+
+    private static Statement<?> withLevel(Statement<?> statement, ConsistencyLevel level) {
+        if (Objects.isNull(level)) {
+            return statement;
+        }
+        return statement.setConsistencyLevel(level);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchWriter{" +
+                "batchSize=" + batchSize +
+                ", concurrency=" + concurrency +
+                '}';
+    }
+}
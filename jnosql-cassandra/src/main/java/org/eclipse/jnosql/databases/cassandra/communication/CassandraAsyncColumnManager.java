@@ -0,0 +1,509 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.querybuilder.BuildableQuery;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.delete.Delete;
+import com.datastax.oss.driver.api.querybuilder.insert.Insert;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The non-blocking counterpart of {@link CassandraColumnManager}, backed by {@link CqlSession#executeAsync(Statement)}.
+ * Writes and counts return a {@link CompletionStage}, so many requests can be in flight on the same connection
+ * without a thread waiting for each one; the writes of an {@link Iterable} are grouped into UNLOGGED batches by
+ * partition and sent with the same in-flight limit as the blocking manager.
+ * Queries return a {@link Flow.Publisher} that executes the statement when the subscriber first requests items and
+ * fetches the next page of the {@link AsyncResultSet} only when the subscriber asks for more.
+ * It generates the same CQL as the blocking manager, with its own {@link CassandraStatementCache},
+ * and applies the same page size.
+ *
+ * @see CassandraColumnManagerFactory#async(String)
+ */
+public class CassandraAsyncColumnManager implements AutoCloseable {
+
+    private final CqlSession session;
+
+    private final String keyspace;
+
+    private final CassandraStatementCache statements;
+
+    private final int pageSize;
+
+    private final BatchWriter batches;
+
+    private final UdtMetadataCache udts;
+
+    CassandraAsyncColumnManager(CqlSession session, String keyspace, CassandraStatementCache statements,
+                                int pageSize, BatchWriter batches, UdtMetadataCache udts) {
+        this.session = session;
+        this.keyspace = keyspace;
+        this.statements = statements;
+        this.pageSize = pageSize;
+        this.batches = batches;
+        this.udts = udts;
+    }
+
+    /**
+     * @return the keyspace name
+     */
+    public String name() {
+        return keyspace;
+    }
+
+    /**
+     * @return the cache of the prepared statements created for the generated inserts, selects, counts and deletes
+     */
+    public CassandraStatementCache statementCache() {
+        return statements;
+    }
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity to be inserted
+     * @return the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<CommunicationEntity> insert(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return write(entity, null, null);
+    }
+
+    /**
+     * Inserts an entity with a time to live
+     *
+     * @param entity the entity to be inserted
+     * @param ttl    the time to live
+     * @return the inserted entity
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    public CompletionStage<CommunicationEntity> insert(CommunicationEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return write(entity, ttl, null);
+    }
+
+    /**
+     * Inserts the entities, sending every insert at once
+     *
+     * @param entities the entities to be inserted
+     * @return the inserted entities, completed when all of them are written
+     * @throws NullPointerException when entities is null
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities) {
+        requireNonNull(entities, "entities is required");
+        return writeAll(entities, null, null);
+    }
+
+    /**
+     * Inserts the entities with a time to live, sending every insert at once
+     *
+     * @param entities the entities to be inserted
+     * @param ttl      the time to live
+     * @return the inserted entities, completed when all of them are written
+     * @throws NullPointerException when either entities or ttl are null
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities,
+                                                                 Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return writeAll(entities, ttl, null);
+    }
+
+    /**
+     * Updates an entity; in Cassandra an update is an insert
+     *
+     * @param entity the entity to be updated
+     * @return the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<CommunicationEntity> update(CommunicationEntity entity) {
+        return insert(entity);
+    }
+
+    /**
+     * Updates the entities; in Cassandra an update is an insert
+     *
+     * @param entities the entities to be updated
+     * @return the updated entities, completed when all of them are written
+     * @throws NullPointerException when entities is null
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> update(Iterable<CommunicationEntity> entities) {
+        return insert(entities);
+    }
+
+    /**
+     * Saves an entity with a {@link ConsistencyLevel}
+     *
+     * @param entity the entity
+     * @param level  the consistency level
+     * @return the saved entity
+     * @throws NullPointerException when either entity or level are null
+     */
+    public CompletionStage<CommunicationEntity> save(CommunicationEntity entity, ConsistencyLevel level) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(level, "level is required");
+        return write(entity, null, level);
+    }
+
+    /**
+     * Saves an entity with a time to live and a {@link ConsistencyLevel}
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @param level  the consistency level
+     * @return the saved entity
+     * @throws NullPointerException when either entity, ttl or level are null
+     */
+    public CompletionStage<CommunicationEntity> save(CommunicationEntity entity, Duration ttl,
+                                                     ConsistencyLevel level) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        requireNonNull(level, "level is required");
+        return write(entity, ttl, level);
+    }
+
+    /**
+     * Saves the entities with a {@link ConsistencyLevel}, sending every insert at once
+     *
+     * @param entities the entities
+     * @param level    the consistency level
+     * @return the saved entities, completed when all of them are written
+     * @throws NullPointerException when either entities or level are null
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> save(Iterable<CommunicationEntity> entities,
+                                                               ConsistencyLevel level) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(level, "level is required");
+        return writeAll(entities, null, level);
+    }
+
+    /**
+     * Saves the entities with a time to live and a {@link ConsistencyLevel}, sending every insert at once
+     *
+     * @param entities the entities
+     * @param ttl      the time to live
+     * @param level    the consistency level
+     * @return the saved entities, completed when all of them are written
+     * @throws NullPointerException when either entities, ttl or level are null
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> save(Iterable<CommunicationEntity> entities, Duration ttl,
+                                                               ConsistencyLevel level) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        requireNonNull(level, "level is required");
+        return writeAll(entities, ttl, level);
+    }
+
+    /**
+     * Deletes the rows that match the query
+     *
+     * @param query the query
+     * @return the stage completed when the rows are deleted
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Void> delete(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return remove(query, null);
+    }
+
+    /**
+     * Deletes the rows that match the query with a {@link ConsistencyLevel}
+     *
+     * @param query the query
+     * @param level the consistency level
+     * @return the stage completed when the rows are deleted
+     * @throws NullPointerException when either query or level are null
+     */
+    public CompletionStage<Void> delete(DeleteQuery query, ConsistencyLevel level) {
+        requireNonNull(query, "query is required");
+        requireNonNull(level, "level is required");
+        return remove(query, level);
+    }
+
+    private CompletionStage<Void> remove(DeleteQuery query, ConsistencyLevel level) {
+        CqlValues values = values();
+        Delete delete = DeleteQueryConverter.delete(query, keyspace, values);
+        return execute(delete, values, level, null).thenApply(result -> null);
+    }
+
+    /**
+     * Finds the rows that match the query. A {@link CassandraQuery} emits a single page, starting at its paging
+     * state, and then holds the paging state of the next page.
+     *
+     * @param query the query
+     * @return the publisher of the result
+     * @throws NullPointerException when query is null
+     */
+    public Flow.Publisher<CommunicationEntity> select(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return find(query, null);
+    }
+
+    /**
+     * Finds the rows that match the query with a {@link ConsistencyLevel}
+     *
+     * @param query the query
+     * @param level the consistency level
+     * @return the publisher of the result
+     * @throws NullPointerException when either query or level are null
+     * @see #select(SelectQuery)
+     */
+    public Flow.Publisher<CommunicationEntity> select(SelectQuery query, ConsistencyLevel level) {
+        requireNonNull(query, "query is required");
+        requireNonNull(level, "level is required");
+        return find(query, level);
+    }
+
+    private Flow.Publisher<CommunicationEntity> find(SelectQuery query, ConsistencyLevel level) {
+        CqlValues values = values();
+        Select select = QueryUtils.select(query, keyspace, values);
+        if (query instanceof CassandraQuery cassandraQuery) {
+            if (cassandraQuery.isExhausted()) {
+                return CassandraPagePublisher.empty();
+            }
+            return new CassandraPagePublisher(() -> execute(select, values, level,
+                    cassandraQuery.toPaginate().orElse(null)).thenApply(result -> {
+                        cassandraQuery.setPagingState(result.getExecutionInfo().getPagingState());
+                        cassandraQuery.setExhausted(!result.hasMorePages());
+                        return result;
+                    }), 0L, true);
+        }
+        Select statement = query.limit() > 0
+                ? values.limit(select, (int) Math.min(Integer.MAX_VALUE, query.skip() + query.limit())) : select;
+        return new CassandraPagePublisher(() -> execute(statement, values, level, null), query.skip(), false);
+    }
+
+    /**
+     * Returns the number of rows of the table
+     *
+     * @param table the table name
+     * @return the number of rows
+     * @throws NullPointerException when table is null
+     */
+    public CompletionStage<Long> count(String table) {
+        requireNonNull(table, "table is required");
+        return session.executeAsync(QueryBuilder.selectFrom(keyspace, table).countAll().build())
+                .thenApply(result -> result.one().getLong(0));
+    }
+
+    /**
+     * Returns the number of rows that match the query
+     *
+     * @param query the query
+     * @return the number of rows
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Long> count(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        return countRows(query, null);
+    }
+
+    /**
+     * Returns the number of rows that match the query with a {@link ConsistencyLevel}
+     *
+     * @param query the query
+     * @param level the consistency level
+     * @return the number of rows
+     * @throws NullPointerException when either query or level are null
+     */
+    public CompletionStage<Long> count(SelectQuery query, ConsistencyLevel level) {
+        requireNonNull(query, "query is required");
+        requireNonNull(level, "level is required");
+        return countRows(query, level);
+    }
+
+    private CompletionStage<Long> countRows(SelectQuery query, ConsistencyLevel level) {
+        CqlValues values = values();
+        Select count = QueryUtils.select(query, keyspace, values).countAll();
+        return execute(count, values, level, null).thenApply(result -> result.one().getLong(0));
+    }
+
+    /**
+     * Executes CQL
+     *
+     * @param query the Cassandra query language
+     * @return the publisher of the result
+     * @throws NullPointerException when query is null
+     */
+    public Flow.Publisher<CommunicationEntity> cql(String query) {
+        requireNonNull(query, "query is required");
+        return new CassandraPagePublisher(() -> session.executeAsync(paged(SimpleStatement.newInstance(query))));
+    }
+
+    /**
+     * Executes CQL using the provided named values.
+     * <p>E.g.: SELECT * FROM users WHERE id = :i", Map&#60;String, Object&#62;of("i", 1)</p>
+     *
+     * @param query  the Cassandra query language
+     * @param values values required for the execution of {@code query}
+     * @return the publisher of the result
+     * @throws NullPointerException when either query or values are null
+     */
+    public Flow.Publisher<CommunicationEntity> cql(String query, Map<String, Object> values) {
+        requireNonNull(query, "query is required");
+        requireNonNull(values, "values is required");
+        return new CassandraPagePublisher(() -> statements.prepareAsync(query, session::prepareAsync)
+                .thenCompose(prepared -> {
+                    BoundStatement statement = prepared.bind();
+                    for (Map.Entry<String, Object> entry : values.entrySet()) {
+                        TypeCodec<Object> codec = CodecRegistry.DEFAULT
+                                .codecFor((Class<Object>) entry.getValue().getClass());
+                        statement = statement.set(entry.getKey(), entry.getValue(), codec);
+                    }
+                    return session.executeAsync(paged(statement));
+                }));
+    }
+
+    /**
+     * Executes CQL using the provided positional values
+     *
+     * @param query  the Cassandra query language
+     * @param params the values of the bind markers, in order
+     * @return the publisher of the result
+     * @throws NullPointerException when query is null
+     */
+    public Flow.Publisher<CommunicationEntity> cql(String query, Object... params) {
+        requireNonNull(query, "query is required");
+        return new CassandraPagePublisher(() -> statements.prepareAsync(query, session::prepareAsync)
+                .thenCompose(prepared -> session.executeAsync(paged(prepared.bind(params)))));
+    }
+
+    /**
+     * Executes a statement
+     *
+     * @param statement the statement
+     * @return the publisher of the result
+     * @throws NullPointerException when statement is null
+     */
+    public Flow.Publisher<CommunicationEntity> execute(SimpleStatement statement) {
+        requireNonNull(statement, "statement is required");
+        return new CassandraPagePublisher(() -> session.executeAsync(statement));
+    }
+
+    /**
+     * Closes the session.
+     */
+    @Override
+    public void close() {
+        session.close();
+    }
+
+    CqlSession getSession() {
+        return session;
+    }
+
+    private CompletionStage<CommunicationEntity> write(CommunicationEntity entity, Duration ttl,
+                                                       ConsistencyLevel level) {
+        CqlValues values = values();
+        Insert insert = QueryUtils.insert(entity, keyspace, udts, ttl, values);
+        return execute(insert, values, level, null).thenApply(result -> entity);
+    }
+
+    private CompletionStage<Iterable<CommunicationEntity>> writeAll(Iterable<CommunicationEntity> entities,
+                                                                    Duration ttl, ConsistencyLevel level) {
+        List<CommunicationEntity> written = StreamSupport.stream(entities.spliterator(), false)
+                .map(entity -> requireNonNull(entity, "entity is required"))
+                .toList();
+        List<CompletableFuture<BatchWriter.Write>> writes = written.stream()
+                .map(entity -> {
+                    CqlValues values = values();
+                    Insert insert = QueryUtils.insert(entity, keyspace, udts, ttl, values);
+                    return statement(insert, values)
+                            .thenApply(statement -> new BatchWriter.Write(entity.name(), statement))
+                            .toCompletableFuture();
+                })
+                .toList();
+        return CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new))
+                .thenCompose(ignored -> batches.writeAsync(writes.stream().map(CompletableFuture::join).toList(),
+                        level))
+                .<Iterable<CommunicationEntity>>thenApply(ignored -> written);
+    }
+
+    private CompletionStage<AsyncResultSet> execute(BuildableQuery query, CqlValues values,
+                                                    ConsistencyLevel level, ByteBuffer pagingState) {
+        return statement(query, values).thenCompose(statement -> {
+            Statement<?> request = statement;
+            if (Objects.nonNull(level)) {
+                request = request.setConsistencyLevel(level);
+            }
+            if (Objects.nonNull(pagingState)) {
+                request = request.setPagingState(pagingState);
+            }
+            return session.executeAsync(request);
+        });
+    }
+
+    private CompletionStage<BatchableStatement<?>> statement(BuildableQuery query, CqlValues values) {
+        String cql = query.asCql();
+        if (values.isLiteral()) {
+            return CompletableFuture.<BatchableStatement<?>>completedFuture(paged(SimpleStatement.newInstance(cql)));
+        }
+        return statements.prepareAsync(cql, session::prepareAsync)
+                .<BatchableStatement<?>>thenApply(prepared -> paged(CassandraStatementCache.bind(prepared,
+                        values.values(), session.getContext().getCodecRegistry())));
+    }
+
+    /**
+     * Bind markers when the statement cache is enabled; otherwise literals, so the server converts the values.
+     */
+    private CqlValues values() {
+        return statements.isEnabled() ? CqlValues.markers() : CqlValues.literals();
+    }
+
+    private <S extends Statement<S>> S paged(S statement) {
+        if (pageSize > 0) {
+            return statement.setPageSize(pageSize);
+        }
+        return statement;
+    }
+
+    @Override
+    public String toString() {
+        return "CassandraAsyncColumnManager{" +
+                "session=" + session +
+                ", keyspace='" + keyspace + '\'' +
+                ", statements=" + statements +
+                ", pageSize=" + pageSize +
+                ", batches=" + batches +
+                ", udts=" + udts +
+                '}';
+    }
+}
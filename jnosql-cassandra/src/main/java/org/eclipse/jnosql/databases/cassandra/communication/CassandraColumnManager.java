@@ -150,4 +150,12 @@ public interface CassandraColumnManager extends DatabaseManager {
      * @throws NullPointerException when query is null
      */
     CassandraPreparedStatement nativeQueryPrepare(String query) throws NullPointerException;
+
+    /**
+     * Returns the cache of the prepared statements created for the generated inserts, selects, counts and deletes,
+     * with its hit and miss statistics. Each manager has its own cache.
+     *
+     * @return the prepared statement cache
+     */
+    CassandraStatementCache statementCache();
 }
@@ -21,6 +21,7 @@ import com.datastax.oss.driver.api.core.CqlSessionBuilder;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManagerFactory;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * The Cassandra implementation to {@link DatabaseManagerFactory}
@@ -31,8 +32,23 @@ public class CassandraColumnManagerFactory implements DatabaseManagerFactory {
 
     private final CqlSessionBuilder sessionBuilder;
 
-    CassandraColumnManagerFactory(final CqlSessionBuilder sessionBuilder, List<String> queries) {
-        this.sessionBuilder = sessionBuilder;
+    private final int statementCacheSize;
+
+    private final int pageSize;
+
+    private final int batchSize;
+
+    private final int batchConcurrency;
+
+    private final StatementCacheInvalidator invalidator = new StatementCacheInvalidator();
+
+    CassandraColumnManagerFactory(final CqlSessionBuilder sessionBuilder, List<String> queries,
+                                  int statementCacheSize, int pageSize, int batchSize, int batchConcurrency) {
+        this.sessionBuilder = sessionBuilder.addSchemaChangeListener(invalidator);
+        this.statementCacheSize = statementCacheSize;
+        this.pageSize = pageSize;
+        this.batchSize = batchSize;
+        this.batchConcurrency = batchConcurrency;
         load(queries);
     }
 
@@ -44,7 +60,31 @@ public class CassandraColumnManagerFactory implements DatabaseManagerFactory {
 
     @Override
     public CassandraColumnManager apply(String database) {
-        return new DefaultCassandraColumnManager(sessionBuilder.build(), database);
+        CassandraStatementCache statements = new CassandraStatementCache(statementCacheSize);
+        invalidator.register(statements);
+        CqlSession session = sessionBuilder.build();
+        UdtMetadataCache udts = new UdtMetadataCache(session);
+        invalidator.register(udts);
+        return new DefaultCassandraColumnManager(session, database, statements, pageSize,
+                new BatchWriter(session, batchSize, batchConcurrency), udts);
+    }
+
+    /**
+     * Creates the non-blocking manager of the keyspace, with its own session and statement cache.
+     *
+     * @param database the keyspace name
+     * @return a new {@link CassandraAsyncColumnManager}
+     * @throws NullPointerException when database is null
+     */
+    public CassandraAsyncColumnManager async(String database) {
+        Objects.requireNonNull(database, "database is required");
+        CassandraStatementCache statements = new CassandraStatementCache(statementCacheSize);
+        invalidator.register(statements);
+        CqlSession session = sessionBuilder.build();
+        UdtMetadataCache udts = new UdtMetadataCache(session);
+        invalidator.register(udts);
+        return new CassandraAsyncColumnManager(session, database, statements, pageSize,
+                new BatchWriter(session, batchSize, batchConcurrency), udts);
     }
 
     /**
@@ -53,7 +53,30 @@ public enum CassandraConfigurations implements Supplier<String> {
     /**
      * The datacenter that is considered "local" by the load balancing policy.
      */
-    DATA_CENTER("jnosql.cassandra.data.center");
+    DATA_CENTER("jnosql.cassandra.data.center"),
+    /**
+     * The maximum number of prepared statements, created from the generated inserts, selects, counts and deletes,
+     * that each manager keeps for reuse. Zero disables the cache. By default, 1000.
+     *
+     * @see CassandraStatementCache
+     */
+    STATEMENT_CACHE_SIZE("jnosql.cassandra.statement.cache.size"),
+    /**
+     * The number of rows fetched in each page of a select; the rows of the next page are only fetched when the
+     * stream reaches them. By default, the page size of the driver configuration, 5000.
+     */
+    PAGE_SIZE("jnosql.cassandra.page.size"),
+    /**
+     * The maximum number of statements in each UNLOGGED batch of a multi-entity insert or save; only the statements
+     * that write to the same partition of a table are batched together. By default, 10; 1 sends every statement on
+     * its own.
+     */
+    BATCH_SIZE("jnosql.cassandra.batch.size"),
+    /**
+     * The maximum number of batches and statements of a multi-entity insert or save in flight at the same time.
+     * By default, 64.
+     */
+    BATCH_CONCURRENCY("jnosql.cassandra.batch.concurrency");
 
     private final String configuration;
 
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import org.eclipse.jnosql.communication.driver.reactive.PagePublisher;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Flow.Publisher} over the pages of an {@link AsyncResultSet}, which fetches each page on demand through
+ * {@link PagePublisher}. The rows to skip are discarded a whole page at a time when the page has no more rows than
+ * those left to skip.
+ * When it is limited to a single page, the publisher completes at the end of the first page, leaving the next ones
+ * to the paging state of the result.
+ */
+final class CassandraPagePublisher implements Flow.Publisher<CommunicationEntity> {
+
+    private final PagePublisher<Page, Row, CommunicationEntity> publisher;
+
+    CassandraPagePublisher(Supplier<? extends CompletionStage<AsyncResultSet>> query, long skip, boolean singlePage) {
+        this.publisher = new PagePublisher<>(() -> query.get().thenCompose(result -> skip(result, skip, singlePage)),
+                new Pages(singlePage), CassandraConverter::toDocumentEntity);
+    }
+
+    CassandraPagePublisher(Supplier<? extends CompletionStage<AsyncResultSet>> query) {
+        this(query, 0L, false);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super CommunicationEntity> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        publisher.subscribe(subscriber);
+    }
+
+    static Flow.Publisher<CommunicationEntity> empty() {
+        return PagePublisher.empty();
+    }
+
+    private static CompletionStage<Page> skip(AsyncResultSet result, long skip, boolean singlePage) {
+        if (skip > 0 && skip >= result.remaining() && result.hasMorePages() && !singlePage) {
+            long left = skip - result.remaining();
+            return result.fetchNextPage().thenCompose(next -> skip(next, left, false));
+        }
+        return CompletableFuture.completedFuture(new Page(result, skip));
+    }
+
+    private record Page(AsyncResultSet result, long skip) {
+    }
+
+    private record Pages(boolean singlePage) implements PagePublisher.Pages<Page, Row> {
+
+        @Override
+        public Iterator<Row> items(Page page) {
+            Iterator<Row> rows = page.result().currentPage().iterator();
+            for (long skip = page.skip(); skip > 0 && rows.hasNext(); skip--) {
+                rows.next();
+            }
+            return rows;
+        }
+
+        @Override
+        public boolean hasNext(Page page) {
+            return !singlePage && page.result().hasMorePages();
+        }
+
+        @Override
+        public CompletionStage<Page> next(Page page) {
+            return page.result().fetchNextPage().thenApply(result -> new Page(result, 0L));
+        }
+    }
+}
@@ -46,6 +46,14 @@ class CassandraProperties {
 
     private String dataCenter;
 
+    private int statementCacheSize;
+
+    private int pageSize;
+
+    private int batchSize;
+
+    private int batchConcurrency;
+
     public void addQuery(String query) {
         this.queries.add(query);
     }
@@ -58,6 +66,22 @@ class CassandraProperties {
         return queries;
     }
 
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchConcurrency() {
+        return batchConcurrency;
+    }
+
     public CqlSessionBuilder createCluster() {
         CqlSessionBuilder builder = CqlSession.builder();
         nodes.stream().map(h -> new InetSocketAddress(h, port)).forEach(builder::addContactPoint);
@@ -94,6 +118,35 @@ class CassandraProperties {
 
         cp.password = settings.get(CassandraConfigurations.PASSWORD)
                 .map(Object::toString);
+
+        cp.statementCacheSize = settings.get(CassandraConfigurations.STATEMENT_CACHE_SIZE)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(CassandraStatementCache.DEFAULT_MAX_SIZE);
+        if (cp.statementCacheSize < 0) {
+            throw new IllegalArgumentException("The statement cache size cannot be negative: "
+                    + cp.statementCacheSize);
+        }
+
+        cp.pageSize = settings.get(CassandraConfigurations.PAGE_SIZE)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(0);
+        if (cp.pageSize < 0) {
+            throw new IllegalArgumentException("The page size cannot be negative: " + cp.pageSize);
+        }
+
+        cp.batchSize = settings.get(CassandraConfigurations.BATCH_SIZE)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(BatchWriter.DEFAULT_BATCH_SIZE);
+        if (cp.batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive: " + cp.batchSize);
+        }
+
+        cp.batchConcurrency = settings.get(CassandraConfigurations.BATCH_CONCURRENCY)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(BatchWriter.DEFAULT_CONCURRENCY);
+        if (cp.batchConcurrency < 1) {
+            throw new IllegalArgumentException("The batch concurrency must be positive: " + cp.batchConcurrency);
+        }
         return cp;
     }
 }
@@ -0,0 +1,226 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.MapType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded, least-recently-used cache of the {@link PreparedStatement} created for the CQL generated from
+ * inserts, selects, counts and deletes, and for the CQL executed with named values.
+ * The generated CQL uses bind markers, so the key is the shape of the statement: the table, the columns and the
+ * operators of its condition; entities and queries that differ only by their values reuse the same prepared statement,
+ * which lets Cassandra skip parsing and the driver route each request to a replica that owns its partition.
+ * The cache is cleared whenever a table, a user-defined type or a keyspace is updated or dropped, since a prepared
+ * statement keeps the metadata of the schema it was prepared against.
+ * This class is thread-safe; there is one cache for each manager, because a prepared statement belongs to a session.
+ *
+ * @see CassandraConfigurations#STATEMENT_CACHE_SIZE
+ */
+public final class CassandraStatementCache {
+
+    static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private final int maxSize;
+
+    private final Map<String, PreparedStatement> statements;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    CassandraStatementCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                return size() > CassandraStatementCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the number of statements that reused a cached prepared statement
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of statements that had to be prepared
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of prepared statements currently cached
+     */
+    public synchronized int size() {
+        return statements.size();
+    }
+
+    /**
+     * @return the maximum number of prepared statements kept; zero means the cache is disabled
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes every cached prepared statement and resets the hit and miss counters.
+     */
+    public synchronized void clear() {
+        statements.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    synchronized void invalidate() {
+        statements.clear();
+    }
+
+    PreparedStatement prepare(String cql, Function<String, PreparedStatement> preparer) {
+        Objects.requireNonNull(cql, "cql is required");
+        Objects.requireNonNull(preparer, "preparer is required");
+        if (maxSize == 0) {
+            return preparer.apply(cql);
+        }
+        PreparedStatement prepared;
+        synchronized (this) {
+            prepared = statements.get(cql);
+        }
+        if (prepared == null) {
+            misses.increment();
+            prepared = preparer.apply(cql);
+            synchronized (this) {
+                statements.put(cql, prepared);
+            }
+        } else {
+            hits.increment();
+        }
+        return prepared;
+    }
+
+    CompletionStage<PreparedStatement> prepareAsync(String cql,
+                                                    Function<String, CompletionStage<PreparedStatement>> preparer) {
+        Objects.requireNonNull(cql, "cql is required");
+        Objects.requireNonNull(preparer, "preparer is required");
+        if (maxSize == 0) {
+            return preparer.apply(cql);
+        }
+        PreparedStatement prepared;
+        synchronized (this) {
+            prepared = statements.get(cql);
+        }
+        if (prepared != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(prepared);
+        }
+        misses.increment();
+        return preparer.apply(cql).thenApply(statement -> {
+            synchronized (this) {
+                statements.put(cql, statement);
+            }
+            return statement;
+        });
+    }
+
+    /**
+     * Binds the values in the order of the bind markers. A value whose Java type has no codec for the type of its
+     * column, e.g. an {@link Integer} to a {@code bigint}, is converted to the Java type of that column first,
+     * as Cassandra did when the value was written as a literal; the elements of a list, a set or a map are converted
+     * the same way.
+     */
+    static BoundStatement bind(PreparedStatement prepared, List<Object> values, CodecRegistry registry) {
+        ColumnDefinitions variables = prepared.getVariableDefinitions();
+        BoundStatementBuilder builder = prepared.boundStatementBuilder();
+        for (int index = 0; index < values.size(); index++) {
+            DataType type = variables.get(index).getType();
+            Object value = convert(type, values.get(index), registry);
+            if (value == null) {
+                builder = builder.setToNull(index);
+            } else {
+                builder = builder.set(index, value, registry.codecFor(type, value));
+            }
+        }
+        return builder.build();
+    }
+
+    private static Object convert(DataType type, Object value, CodecRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        if (type instanceof ListType list && value instanceof Iterable<?> elements) {
+            List<Object> converted = new ArrayList<>();
+            elements.forEach(element -> converted.add(convert(list.getElementType(), element, registry)));
+            return converted;
+        }
+        if (type instanceof SetType set && value instanceof Iterable<?> elements) {
+            Set<Object> converted = new LinkedHashSet<>();
+            elements.forEach(element -> converted.add(convert(set.getElementType(), element, registry)));
+            return converted;
+        }
+        if (type instanceof MapType map && value instanceof Map<?, ?> entries) {
+            Map<Object, Object> converted = new LinkedHashMap<>();
+            entries.forEach((key, entry) -> converted.put(convert(map.getKeyType(), key, registry),
+                    convert(map.getValueType(), entry, registry)));
+            return converted;
+        }
+        try {
+            registry.codecFor(type, value);
+            return value;
+        } catch (CodecNotFoundException exp) {
+            return Value.of(value).get(registry.codecFor(type).getJavaType().getRawType());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CassandraStatementCache{" +
+                "maxSize=" + maxSize +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                '}';
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.insert.Insert;
+import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
+import com.datastax.oss.driver.api.querybuilder.relation.ColumnRelationBuilder;
+import com.datastax.oss.driver.api.querybuilder.relation.Relation;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
+import com.datastax.oss.driver.api.querybuilder.term.Term;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The values of a generated statement. With markers, each value becomes a bind marker and is kept in the order of
+ * its marker, so statements of the same shape produce the same CQL and can reuse a prepared statement.
+ * With literals, used when the statement cache is disabled, each value is inlined in the CQL, so the server converts it
+ * to the type of its column, e.g. an {@link Integer} to a {@code bigint}.
+ */
+final class CqlValues {
+
+    private final List<Object> values;
+
+    private CqlValues(List<Object> values) {
+        this.values = values;
+    }
+
+    static CqlValues markers() {
+        return new CqlValues(new ArrayList<>());
+    }
+
+    static CqlValues literals() {
+        return new CqlValues(null);
+    }
+
+    boolean isLiteral() {
+        return values == null;
+    }
+
+    /**
+     * @return the values of the bind markers, in order; empty for literals
+     */
+    List<Object> values() {
+        return isLiteral() ? Collections.emptyList() : values;
+    }
+
+    Term term(Object value) {
+        if (isLiteral()) {
+            return QueryBuilder.literal(value);
+        }
+        values.add(value);
+        return QueryBuilder.bindMarker();
+    }
+
+    /**
+     * A single marker bound to the whole list, so the shape does not depend on the number of values.
+     */
+    Relation in(ColumnRelationBuilder<Relation> column, List<?> list) {
+        if (isLiteral()) {
+            return column.in(list.stream().map(QueryBuilder::literal).toArray(Term[]::new));
+        }
+        values.add(list);
+        return column.in(QueryBuilder.bindMarker());
+    }
+
+    Insert ttl(RegularInsert insert, int seconds) {
+        if (isLiteral()) {
+            return insert.usingTtl(seconds);
+        }
+        values.add(seconds);
+        return insert.usingTtl(QueryBuilder.bindMarker());
+    }
+
+    Select limit(Select select, int limit) {
+        if (isLiteral()) {
+            return select.limit(limit);
+        }
+        values.add(limit);
+        return select.limit(QueryBuilder.bindMarker());
+    }
+}
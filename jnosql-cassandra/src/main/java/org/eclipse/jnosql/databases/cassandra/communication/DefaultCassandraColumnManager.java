@@ -17,12 +17,15 @@ package org.eclipse.jnosql.databases.cassandra.communication;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.querybuilder.BuildableQuery;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.delete.Delete;
 import com.datastax.oss.driver.api.querybuilder.insert.Insert;
@@ -31,10 +34,10 @@ import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -45,9 +48,22 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
 
     private final String keyspace;
 
-    DefaultCassandraColumnManager(CqlSession session, String keyspace) {
+    private final CassandraStatementCache statements;
+
+    private final int pageSize;
+
+    private final BatchWriter batches;
+
+    private final UdtMetadataCache udts;
+
+    DefaultCassandraColumnManager(CqlSession session, String keyspace, CassandraStatementCache statements,
+                                  int pageSize, BatchWriter batches, UdtMetadataCache udts) {
         this.session = session;
         this.keyspace = keyspace;
+        this.statements = statements;
+        this.pageSize = pageSize;
+        this.batches = batches;
+        this.udts = udts;
     }
 
     @Override
@@ -55,11 +71,17 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
         return keyspace;
     }
 
+    @Override
+    public CassandraStatementCache statementCache() {
+        return statements;
+    }
+
     @Override
     public CommunicationEntity insert(CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build());
+        CqlValues values = values();
+        final Insert insert = QueryUtils.insert(entity, keyspace, udts, null, values);
+        session.execute(statement(insert, values));
         return entity;
     }
 
@@ -67,8 +89,9 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     public CommunicationEntity insert(CommunicationEntity entity, Duration duration) {
         requireNonNull(entity, "entity is required");
         requireNonNull(duration, "duration is required");
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, duration);
-        session.execute(insert.build());
+        CqlValues values = values();
+        final Insert insert = QueryUtils.insert(entity, keyspace, udts, duration, values);
+        session.execute(statement(insert, values));
         return entity;
     }
 
@@ -86,18 +109,14 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(Collectors.toList());
+        return writeAll(entities, null, null);
     }
 
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration duration) {
         requireNonNull(entities, "entities is required");
         requireNonNull(duration, "entities is duration");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(d -> insert(d, duration))
-                .collect(Collectors.toList());
+        return writeAll(entities, duration, null);
     }
 
     @Override
@@ -105,8 +124,9 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
         requireNonNull(entity, "entities is required");
         requireNonNull(level, "level is required");
 
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build().setConsistencyLevel(level));
+        CqlValues values = values();
+        final Insert insert = QueryUtils.insert(entity, keyspace, udts, null, values);
+        session.execute(statement(insert, values).setConsistencyLevel(level));
         return entity;
     }
 
@@ -116,8 +136,9 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
         requireNonNull(level, "level is required");
         requireNonNull(ttl, "ttl is required");
 
-        final Insert insert = QueryUtils.insert(entity, keyspace, session, ttl);
-        session.execute(insert.build().setConsistencyLevel(level));
+        CqlValues values = values();
+        final Insert insert = QueryUtils.insert(entity, keyspace, udts, ttl, values);
+        session.execute(statement(insert, values).setConsistencyLevel(level));
         return entity;
     }
 
@@ -125,8 +146,7 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     public Iterable<CommunicationEntity> save(Iterable<CommunicationEntity> entities, ConsistencyLevel level) {
         requireNonNull(entities, "entities is required");
         requireNonNull(level, "level is required");
-        return StreamSupport.stream(entities.spliterator(), false).map(c -> this.save(c, level))
-                .collect(Collectors.toList());
+        return writeAll(entities, null, level);
     }
 
     @Override
@@ -134,8 +154,7 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
         requireNonNull(entities, "entities is required");
         requireNonNull(level, "level is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false).map(c -> this.save(c, ttl, level))
-                .collect(Collectors.toList());
+        return writeAll(entities, ttl, level);
     }
 
     @Override
@@ -183,53 +202,51 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
     public void delete(DeleteQuery query, ConsistencyLevel level) {
         requireNonNull(query, "query is required");
         requireNonNull(level, "level is required");
-        final Delete delete = DeleteQueryConverter.delete(query, keyspace);
-        final SimpleStatement build = delete.build();
-        final SimpleStatement simpleStatement = build.setConsistencyLevel(level);
-        session.execute(simpleStatement);
+        CqlValues values = values();
+        final Delete delete = DeleteQueryConverter.delete(query, keyspace, values);
+        session.execute(statement(delete, values).setConsistencyLevel(level));
     }
 
     @Override
     public void delete(DeleteQuery query) {
         requireNonNull(query, "query is required");
-        final Delete delete = DeleteQueryConverter.delete(query, keyspace);
-        session.execute(delete.build());
+        CqlValues values = values();
+        final Delete delete = DeleteQueryConverter.delete(query, keyspace, values);
+        session.execute(statement(delete, values));
     }
 
 
     @Override
     public Stream<CommunicationEntity> cql(String query) {
         requireNonNull(query, "query is required");
-        final ResultSet resultSet = session.execute(query);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return RowSpliterator.stream(session, paged(SimpleStatement.newInstance(query)))
+                .map(CassandraConverter::toDocumentEntity);
     }
 
     @Override
     public Stream<CommunicationEntity> cql(String query, Map<String, Object> values) {
         requireNonNull(query, "query is required");
         requireNonNull(values, "values is required");
-        final PreparedStatement prepare = session.prepare(query);
+        final PreparedStatement prepare = statements.prepare(query, session::prepare);
         BoundStatement statement = prepare.bind();
         for (Map.Entry<String, Object> entry : values.entrySet()) {
             final TypeCodec<Object> codec = CodecRegistry.DEFAULT.codecFor((Class<Object>) entry.getValue().getClass());
             statement = statement.set(entry.getKey(), entry.getValue(), codec);
         }
-        final ResultSet resultSet = session.execute(statement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return RowSpliterator.stream(session, paged(statement)).map(CassandraConverter::toDocumentEntity);
     }
 
     @Override
     public Stream<CommunicationEntity> execute(SimpleStatement statement) {
         requireNonNull(statement, "statement is required");
-        final ResultSet resultSet = session.execute(statement);
-        return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+        return RowSpliterator.stream(session, statement).map(CassandraConverter::toDocumentEntity);
     }
 
     @Override
     public CassandraPreparedStatement nativeQueryPrepare(String query) {
         requireNonNull(query, "query is required");
         final PreparedStatement prepare = session.prepare(query);
-        return new CassandraPreparedStatement(prepare, session);
+        return new CassandraPreparedStatement(prepare, session, pageSize);
     }
 
 
@@ -237,12 +254,66 @@ class DefaultCassandraColumnManager implements CassandraColumnManager {
         return session;
     }
 
+    /**
+     * Inserts the entities through the {@link BatchWriter}, which groups the inserts of the same partition into
+     * UNLOGGED batches.
+     */
+    private List<CommunicationEntity> writeAll(Iterable<CommunicationEntity> entities, Duration ttl,
+                                               ConsistencyLevel level) {
+        List<CommunicationEntity> written = new ArrayList<>();
+        List<BatchWriter.Write> writes = new ArrayList<>();
+        for (CommunicationEntity entity : entities) {
+            requireNonNull(entity, "entity is required");
+            CqlValues values = values();
+            final Insert insert = QueryUtils.insert(entity, keyspace, udts, ttl, values);
+            writes.add(new BatchWriter.Write(entity.name(), statement(insert, values)));
+            written.add(entity);
+        }
+        batches.write(writes, level);
+        return written;
+    }
+
+    /**
+     * Returns the statement to execute the generated CQL: a prepared statement from the cache, bound to the values
+     * of its markers or, when the values are literals, a simple statement.
+     */
+    BatchableStatement<?> statement(BuildableQuery query, CqlValues values) {
+        String cql = query.asCql();
+        if (values.isLiteral()) {
+            return paged(SimpleStatement.newInstance(cql));
+        }
+        PreparedStatement prepared = statements.prepare(cql, session::prepare);
+        return paged(CassandraStatementCache.bind(prepared, values.values(), session.getContext().getCodecRegistry()));
+    }
+
+    /**
+     * Bind markers when the statement cache is enabled; otherwise literals, so the server converts the values to
+     * the types of their columns without a prepared statement.
+     */
+    CqlValues values() {
+        return statements.isEnabled() ? CqlValues.markers() : CqlValues.literals();
+    }
+
+    /**
+     * Applies the page size of the configuration, unless it is the default of the driver.
+     */
+    <S extends Statement<S>> S paged(S statement) {
+        if (pageSize > 0) {
+            return statement.setPageSize(pageSize);
+        }
+        return statement;
+    }
+
 
     @Override
     public String toString() {
         return "DefaultCassandraColumnManager{" +
                 "session=" + session +
                 ", keyspace='" + keyspace + '\'' +
+                ", statements=" + statements +
+                ", pageSize=" + pageSize +
+                ", batches=" + batches +
+                ", udts=" + udts +
                 '}';
     }
 }
@@ -24,7 +24,10 @@ final class DeleteQueryConverter {
     private DeleteQueryConverter() {
     }
 
-    static Delete delete(DeleteQuery query, String keyspace) {
+    /**
+     * Creates the delete with a term from {@code parameters} for each value of the condition.
+     */
+    static Delete delete(DeleteQuery query, String keyspace, CqlValues parameters) {
         final String columnFamily = query.name();
         DeleteSelection deleteSelection = QueryBuilder.deleteFrom(keyspace, columnFamily);
 
@@ -32,6 +35,6 @@ final class DeleteQueryConverter {
             deleteSelection = deleteSelection.column(QueryUtils.getName(column));
         }
 
-        return deleteSelection.where(Relations.createClause(query.condition().orElse(null)));
+        return deleteSelection.where(Relations.createClause(query.condition().orElse(null), parameters));
     }
 }
@@ -17,7 +17,7 @@ package org.eclipse.jnosql.databases.cassandra.communication;
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
-import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
@@ -39,17 +39,18 @@ enum QueryExecutorType implements QueryExecutor {
             if (query.isExhausted()) {
                 return Stream.empty();
             }
-            Select select = QueryUtils.select(query, keyspace);
-            SimpleStatement simpleStatement = select.build();
+            CqlValues values = manager.values();
+            Select select = QueryUtils.select(query, keyspace, values);
+            Statement<?> statement = manager.statement(select, values);
             if (Objects.nonNull(level)) {
-                simpleStatement = simpleStatement.setConsistencyLevel(level);
+                statement = statement.setConsistencyLevel(level);
             }
 
             if (query.toPaginate().isPresent()) {
-                simpleStatement = simpleStatement.setPagingState(query.toPaginate().get());
+                statement = statement.setPagingState(query.toPaginate().get());
             }
 
-            ResultSet resultSet = manager.getSession().execute(simpleStatement);
+            ResultSet resultSet = manager.getSession().execute(statement);
 
             final ByteBuffer pagingState = resultSet.getExecutionInfo().getPagingState();
             query.setPagingState(pagingState);
@@ -72,29 +73,29 @@ enum QueryExecutorType implements QueryExecutor {
         public Stream<CommunicationEntity> execute(String keyspace, SelectQuery query, ConsistencyLevel level,
                                                    DefaultCassandraColumnManager manager) {
 
-            Select cassandraSelect = QueryUtils.select(query, keyspace);
+            CqlValues values = manager.values();
+            Select cassandraSelect = QueryUtils.select(query, keyspace, values);
 
-            if (query.limit() > 0 && query.skip() == 0) {
-                cassandraSelect = cassandraSelect.limit((int) query.limit());
+            if (query.limit() > 0) {
+                cassandraSelect = values.limit(cassandraSelect,
+                        (int) Math.min(Integer.MAX_VALUE, query.skip() + query.limit()));
             }
 
-            SimpleStatement select = cassandraSelect.build();
+            Statement<?> select = manager.statement(cassandraSelect, values);
             if (Objects.nonNull(level)) {
                 select = select.setConsistencyLevel(level);
             }
-            ResultSet resultSet = manager.getSession().execute(select);
-            if (query.limit() > 0 && query.skip() > 0) {
-                return resultSet.all().stream().skip(query.skip()).limit(query.limit()).map(CassandraConverter::toDocumentEntity);
-            }
-            return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
+            Stream<Row> rows = RowSpliterator.stream(manager.getSession(), select, query.skip());
+            return rows.map(CassandraConverter::toDocumentEntity);
         }
     };
 
     @Override
     public long count(String keyspace, SelectQuery query, ConsistencyLevel level, DefaultCassandraColumnManager manager) {
 
-        Select cassandraSelect = QueryUtils.select(query, keyspace).countAll();
-        SimpleStatement select = cassandraSelect.build();
+        CqlValues values = manager.values();
+        Select cassandraSelect = QueryUtils.select(query, keyspace, values).countAll();
+        Statement<?> select = manager.statement(cassandraSelect, values);
         if (Objects.nonNull(level)) {
             select = select.setConsistencyLevel(level);
         }
@@ -16,18 +16,8 @@
 package org.eclipse.jnosql.databases.cassandra.communication;
 
 
-import com.datastax.oss.driver.api.core.CqlIdentifier;
-import com.datastax.oss.driver.api.core.CqlSession;
-import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
-import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
-import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
-import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
-import com.datastax.oss.driver.api.core.type.DataType;
-import com.datastax.oss.driver.api.core.type.SetType;
-import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
-import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.insert.Insert;
@@ -35,9 +25,7 @@ import com.datastax.oss.driver.api.querybuilder.insert.InsertInto;
 import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.datastax.oss.driver.api.querybuilder.term.Term;
-import com.datastax.oss.protocol.internal.ProtocolConstants;
 import jakarta.data.Sort;
-import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.ValueUtil;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
@@ -45,13 +33,9 @@ import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -62,27 +46,37 @@ final class QueryUtils {
     }
 
 
-    static Insert insert(CommunicationEntity entity, String keyspace, CqlSession session, Duration duration) {
+    /**
+     * Creates the insert with a term from {@code parameters} for each column and, when there is a duration,
+     * for the TTL.
+     */
+    static Insert insert(CommunicationEntity entity, String keyspace, UdtMetadataCache udts, Duration duration,
+                         CqlValues parameters) {
 
-        Map<String, Term> values = new HashMap<>();
+        Map<String, Object> values = new LinkedHashMap<>();
         InsertInto insert = QueryBuilder.insertInto(keyspace, entity.name());
         entity.elements()
                 .forEach(c -> {
                     if (UDT.class.isInstance(c)) {
-                        insertUDT(UDT.class.cast(c), keyspace, entity.name(), session, values);
+                        insertUDT(UDT.class.cast(c), keyspace, entity.name(), udts, values);
                     } else {
                         insertSingleField(c, values);
                     }
                 });
 
-        RegularInsert regularInsert = insert.values(values);
+        Map<String, Term> terms = new LinkedHashMap<>();
+        values.forEach((name, value) -> terms.put(name, parameters.term(value)));
+        RegularInsert regularInsert = insert.values(terms);
         if (duration != null) {
-            return regularInsert.usingTtl((int) duration.getSeconds());
+            return parameters.ttl(regularInsert, (int) duration.getSeconds());
         }
         return regularInsert;
     }
 
-    public static Select select(SelectQuery query, String keyspace) {
+    /**
+     * Creates the select with a term from {@code parameters} for each value of the condition.
+     */
+    public static Select select(SelectQuery query, String keyspace, CqlValues parameters) {
         String columnFamily = query.name();
         final List<String> columns = query.columns();
 
@@ -93,7 +87,7 @@ final class QueryUtils {
             select = QueryBuilder.selectFrom(keyspace, columnFamily).columns(columns);
         }
 
-        select = select.where(Relations.createClause(query.condition().orElse(null)));
+        select = select.where(Relations.createClause(query.condition().orElse(null), parameters));
         final Map<String, ClusteringOrder> sort = query.sorts().stream()
                 .collect(Collectors.toMap(Sort::property, mapSort()));
         select = select.orderBy(sort);
@@ -104,83 +98,22 @@ final class QueryUtils {
         return s -> s.isAscending() ? ClusteringOrder.ASC : ClusteringOrder.DESC;
     }
 
-    private static void insertUDT(UDT udt, String keyspace, String columnFamily, CqlSession session,
-                                  Map<String, Term> values) {
-
-        final Optional<KeyspaceMetadata> keyspaceMetadata = session.getMetadata().getKeyspace(keyspace);
-        UserDefinedType userType = keyspaceMetadata
-                .flatMap(ks -> ks.getUserDefinedType(udt.userType()))
-                .orElseThrow(() -> new IllegalArgumentException("Missing UDT definition"));
-
-        final TableMetadata tableMetadata = keyspaceMetadata
-                .flatMap(k -> k.getTable(columnFamily))
-                .orElseThrow(() -> new IllegalArgumentException("Missing Table definition"));
-
-        final ColumnMetadata columnMetadata = tableMetadata.getColumn(getName(udt))
-                .orElseThrow(() -> new IllegalArgumentException("Missing the column definition"));
-
-        final DataType type = columnMetadata.getType();
-        Iterable elements = Iterable.class.cast(udt.get());
-        Object udtValue = getUdtValue(userType, elements, type);
-        values.put(getName(udt), QueryBuilder.literal(udtValue));
-    }
-
-    private static Object getUdtValue(UserDefinedType userType, Iterable elements, DataType type) {
-
-        Collection<Object> udtValues = getCollectionUdt(type);
-
-        UdtValue udtValue = userType.newValue();
-        final List<String> udtNames = userType.getFieldNames().stream().map(CqlIdentifier::asInternal)
-                .toList();
-        for (Object object : elements) {
-            if (Element.class.isInstance(object)) {
-                Element column = Element.class.cast(object);
-                Object convert = ValueUtil.convert(column.value());
-
-                final int index = udtNames.indexOf(column.name());
-                if (index < 0) {
-                    throw new CommunicationException("This field has not been found: " + column.name() +
-                            " the fields available are " + udtNames + " in the UDT type " + userType.getName()
-                            .asCql(true) + " at the keyspace " + userType.getKeyspace());
-                }
-                DataType fieldType = userType.getFieldTypes().get(index);
-                TypeCodec<Object> objectTypeCodec = CodecRegistry.DEFAULT.codecFor(fieldType);
-                if (fieldType instanceof SetType) {
-                    udtValue.set(getName(column), new HashSet<Object>((Collection<?>) convert), objectTypeCodec);
-                } else {
-                    udtValue.set(getName(column), convert, objectTypeCodec);
-                }
-
-            } else if (Iterable.class.isInstance(object)) {
-                udtValues.add(getUdtValue(userType, Iterable.class.cast(Iterable.class.cast(object)), type));
-            }
-        }
-        if (udtValues.isEmpty()) {
-            return udtValue;
-        }
-        return udtValues;
-
-    }
-
-    private static Collection<Object> getCollectionUdt(DataType type) {
-        if (ProtocolConstants.DataType.SET == type.getProtocolCode()) {
-            return new HashSet<>();
-        } else {
-            return new ArrayList<>();
-        }
+    private static void insertUDT(UDT udt, String keyspace, String columnFamily, UdtMetadataCache udts,
+                                  Map<String, Object> values) {
+        values.put(getName(udt), udts.value(udt, keyspace, columnFamily));
     }
 
-    private static void insertSingleField(Element column, Map<String, Term> values) {
+    private static void insertSingleField(Element column, Map<String, Object> values) {
         Object value = column.get();
         if(value == null) {
-            values.put(getName(column), QueryBuilder.literal(null));
+            values.put(getName(column), null);
             return;
         }
         try {
             CodecRegistry.DEFAULT.codecFor(value);
-            values.put(getName(column), QueryBuilder.literal(value));
+            values.put(getName(column), value);
         } catch (CodecNotFoundException exp) {
-            values.put(getName(column), QueryBuilder.literal(ValueUtil.convert(column.value())));
+            values.put(getName(column), ValueUtil.convert(column.value()));
         }
     }
 
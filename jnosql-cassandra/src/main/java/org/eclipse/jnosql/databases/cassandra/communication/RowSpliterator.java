@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams the rows of a statement page by page: the first page is requested when the stream is created,
+ * and the next one only when the rows of the current page are consumed, so a single page is kept in memory.
+ * The rows to skip are discarded a whole page at a time when the page has no more rows than those left to skip,
+ * without reading them.
+ */
+final class RowSpliterator extends Spliterators.AbstractSpliterator<Row> {
+
+    private AsyncResultSet page;
+
+    private Iterator<Row> rows;
+
+    private long skip;
+
+    private RowSpliterator(AsyncResultSet page, long skip) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.page = page;
+        this.skip = skip;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Row> action) {
+        while (true) {
+            if (rows == null) {
+                rows = skipPages();
+            }
+            if (rows.hasNext()) {
+                Row row = rows.next();
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                action.accept(row);
+                return true;
+            }
+            if (!page.hasMorePages()) {
+                return false;
+            }
+            page = join(page.fetchNextPage());
+            rows = null;
+        }
+    }
+
+    private Iterator<Row> skipPages() {
+        while (skip >= page.remaining() && page.hasMorePages()) {
+            skip -= page.remaining();
+            page = join(page.fetchNextPage());
+        }
+        return page.currentPage().iterator();
+    }
+
+    static Stream<Row> stream(CqlSession session, Statement<?> statement) {
+        return stream(session, statement, 0L);
+    }
+
+    static Stream<Row> stream(CqlSession session, Statement<?> statement, long skip) {
+        AsyncResultSet first = join(session.executeAsync(statement));
+        return StreamSupport.stream(new RowSpliterator(first, skip), false);
+    }
+
+    private static AsyncResultSet join(CompletionStage<AsyncResultSet> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException exp) {
+            if (exp.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw exp;
+        }
+    }
+}
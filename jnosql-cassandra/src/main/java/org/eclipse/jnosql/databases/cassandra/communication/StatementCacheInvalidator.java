@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.SchemaChangeListenerBase;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Clears the {@link CassandraStatementCache} and the {@link UdtMetadataCache} of every manager created from a factory
+ * when the schema changes.
+ * It is registered once in the session builder, so every session built from it notifies the same listener;
+ * the caches are weakly referenced, so a manager that is no longer used does not stay registered.
+ */
+final class StatementCacheInvalidator extends SchemaChangeListenerBase {
+
+    private final Set<CassandraStatementCache> caches = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final Set<UdtMetadataCache> udts = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    void register(CassandraStatementCache cache) {
+        caches.add(cache);
+    }
+
+    void register(UdtMetadataCache cache) {
+        udts.add(cache);
+    }
+
+    @Override
+    public void onKeyspaceDropped(KeyspaceMetadata keyspace) {
+        invalidate();
+    }
+
+    @Override
+    public void onTableDropped(TableMetadata table) {
+        invalidate();
+    }
+
+    @Override
+    public void onTableUpdated(TableMetadata current, TableMetadata previous) {
+        invalidate();
+    }
+
+    @Override
+    public void onUserDefinedTypeDropped(UserDefinedType type) {
+        invalidate();
+    }
+
+    @Override
+    public void onUserDefinedTypeUpdated(UserDefinedType current, UserDefinedType previous) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        synchronized (caches) {
+            caches.forEach(CassandraStatementCache::invalidate);
+        }
+        synchronized (udts) {
+            udts.forEach(UdtMetadataCache::invalidate);
+        }
+    }
+}
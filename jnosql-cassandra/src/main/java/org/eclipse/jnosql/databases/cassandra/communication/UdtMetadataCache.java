@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.ValueUtil;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps, for each UDT column written by a manager, the user-defined type, the column type and the codec of each
+ * field, so an insert does not walk the keyspace, table and column metadata of the session for every UDT.
+ * Each manager has its own cache, since the metadata belongs to its session; the cache is cleared through the
+ * {@link StatementCacheInvalidator} when a table, a user-defined type or a keyspace is updated or dropped.
+ */
+final class UdtMetadataCache {
+
+    private final CqlSession session;
+
+    private final Map<Key, UdtValueBuilder> builders = new ConcurrentHashMap<>();
+
+    UdtMetadataCache(CqlSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Converts the fields of the UDT into the value of its column: a {@link UdtValue} or, when the UDT holds a
+     * collection of UDTs, a collection of {@link UdtValue}.
+     */
+    Object value(UDT udt, String keyspace, String columnFamily) {
+        Key key = new Key(keyspace, columnFamily, QueryUtils.getName(udt), udt.userType());
+        UdtValueBuilder builder = builders.computeIfAbsent(key, this::load);
+        return builder.value(Iterable.class.cast(udt.get()));
+    }
+
+    int size() {
+        return builders.size();
+    }
+
+    void invalidate() {
+        builders.clear();
+    }
+
+    private UdtValueBuilder load(Key key) {
+        final Optional<KeyspaceMetadata> keyspaceMetadata = session.getMetadata().getKeyspace(key.keyspace());
+        UserDefinedType userType = keyspaceMetadata
+                .flatMap(ks -> ks.getUserDefinedType(key.userType()))
+                .orElseThrow(() -> new IllegalArgumentException("Missing UDT definition"));
+
+        final TableMetadata tableMetadata = keyspaceMetadata
+                .flatMap(k -> k.getTable(key.columnFamily()))
+                .orElseThrow(() -> new IllegalArgumentException("Missing Table definition"));
+
+        final ColumnMetadata columnMetadata = tableMetadata.getColumn(key.column())
+                .orElseThrow(() -> new IllegalArgumentException("Missing the column definition"));
+        return new UdtValueBuilder(userType, columnMetadata.getType());
+    }
+
+    @Override
+    public String toString() {
+        return "UdtMetadataCache{" +
+                "size=" + builders.size() +
+                '}';
+    }
+
+    private record Key(String keyspace, String columnFamily, String column, String userType) {
+    }
+
+    /**
+     * Builds the values of a user-defined type from the fields of a {@link UDT}, with the field indexes and codecs
+     * resolved once.
+     */
+    static final class UdtValueBuilder {
+
+        private final UserDefinedType userType;
+
+        private final boolean set;
+
+        private final List<String> names;
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        private final TypeCodec<Object>[] codecs;
+
+        private final boolean[] sets;
+
+        @SuppressWarnings("unchecked")
+        UdtValueBuilder(UserDefinedType userType, DataType columnType) {
+            this.userType = userType;
+            this.set = ProtocolConstants.DataType.SET == columnType.getProtocolCode();
+            this.names = userType.getFieldNames().stream().map(CqlIdentifier::asInternal).toList();
+            List<DataType> types = userType.getFieldTypes();
+            this.codecs = new TypeCodec[types.size()];
+            this.sets = new boolean[types.size()];
+            for (int index = 0; index < types.size(); index++) {
+                indexes.putIfAbsent(names.get(index), index);
+                codecs[index] = CodecRegistry.DEFAULT.codecFor(types.get(index));
+                sets[index] = types.get(index) instanceof SetType;
+            }
+        }
+
+        Object value(Iterable<?> elements) {
+            Collection<Object> udtValues = set ? new HashSet<>() : new ArrayList<>();
+            UdtValue udtValue = userType.newValue();
+            for (Object object : elements) {
+                if (Element.class.isInstance(object)) {
+                    Element column = Element.class.cast(object);
+                    Object convert = ValueUtil.convert(column.value());
+                    Integer index = indexes.get(column.name());
+                    if (index == null) {
+                        throw new CommunicationException("This field has not been found: " + column.name() +
+                                " the fields available are " + names + " in the UDT type " + userType.getName()
+                                .asCql(true) + " at the keyspace " + userType.getKeyspace());
+                    }
+                    if (sets[index]) {
+                        udtValue = udtValue.set(index, new HashSet<Object>((Collection<?>) convert), codecs[index]);
+                    } else {
+                        udtValue = udtValue.set(index, convert, codecs[index]);
+                    }
+                } else if (Iterable.class.isInstance(object)) {
+                    udtValues.add(value(Iterable.class.cast(object)));
+                }
+            }
+            if (udtValues.isEmpty()) {
+                return udtValue;
+            }
+            return udtValues;
+        }
+    }
+}
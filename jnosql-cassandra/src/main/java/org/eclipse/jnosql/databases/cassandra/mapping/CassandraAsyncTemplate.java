@@ -0,0 +1,231 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.mapping;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * The non-blocking counterpart of {@link CassandraTemplate}, backed by
+ * {@link org.eclipse.jnosql.databases.cassandra.communication.CassandraAsyncColumnManager}.
+ * Writes and counts return a {@link CompletionStage}; queries return a {@link Flow.Publisher} that honors the
+ * subscriber's demand, fetching the next page of the result only when it is requested.
+ */
+public interface CassandraAsyncTemplate {
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity to be inserted
+     * @param <T>    the entity type
+     * @return the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> insert(T entity);
+
+    /**
+     * Inserts an entity with a time to live
+     *
+     * @param entity the entity to be inserted
+     * @param ttl    the time to live
+     * @param <T>    the entity type
+     * @return the inserted entity
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    <T> CompletionStage<T> insert(T entity, Duration ttl);
+
+    /**
+     * Inserts the entities, sending every insert at once
+     *
+     * @param entities the entities to be inserted
+     * @param <T>      the entity type
+     * @return the inserted entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities);
+
+    /**
+     * Inserts the entities with a time to live, sending every insert at once
+     *
+     * @param entities the entities to be inserted
+     * @param ttl      the time to live
+     * @param <T>      the entity type
+     * @return the inserted entities
+     * @throws NullPointerException when either entities or ttl are null
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities, Duration ttl);
+
+    /**
+     * Updates an entity
+     *
+     * @param entity the entity to be updated
+     * @param <T>    the entity type
+     * @return the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> update(T entity);
+
+    /**
+     * Updates the entities, sending every update at once
+     *
+     * @param entities the entities to be updated
+     * @param <T>      the entity type
+     * @return the updated entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> update(Iterable<T> entities);
+
+    /**
+     * Saves an entity with a {@link ConsistencyLevel}
+     *
+     * @param entity the entity
+     * @param level  the consistency level
+     * @param <T>    the entity type
+     * @return the saved entity
+     * @throws NullPointerException when either entity or level are null
+     */
+    <T> CompletionStage<T> save(T entity, ConsistencyLevel level);
+
+    /**
+     * Saves an entity with a time to live and a {@link ConsistencyLevel}
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @param level  the consistency level
+     * @param <T>    the entity type
+     * @return the saved entity
+     * @throws NullPointerException when either entity, ttl or level are null
+     */
+    <T> CompletionStage<T> save(T entity, Duration ttl, ConsistencyLevel level);
+
+    /**
+     * Saves the entities with a {@link ConsistencyLevel}, sending every insert at once
+     *
+     * @param entities the entities
+     * @param level    the consistency level
+     * @param <T>      the entity type
+     * @return the saved entities
+     * @throws NullPointerException when either entities or level are null
+     */
+    <T> CompletionStage<Iterable<T>> save(Iterable<T> entities, ConsistencyLevel level);
+
+    /**
+     * Deletes the entities that match the query
+     *
+     * @param query the query
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Void> delete(DeleteQuery query);
+
+    /**
+     * Deletes the entities that match the query with a {@link ConsistencyLevel}
+     *
+     * @param query the query
+     * @param level the consistency level
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when either query or level are null
+     */
+    CompletionStage<Void> delete(DeleteQuery query, ConsistencyLevel level);
+
+    /**
+     * Finds the entities that match the query
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when query is null
+     */
+    <T> Flow.Publisher<T> select(SelectQuery query);
+
+    /**
+     * Finds the entities that match the query with a {@link ConsistencyLevel}
+     *
+     * @param query the query
+     * @param level the consistency level
+     * @param <T>   the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when either query or level are null
+     */
+    <T> Flow.Publisher<T> select(SelectQuery query, ConsistencyLevel level);
+
+    /**
+     * Returns the number of entities that match the query
+     *
+     * @param query the query
+     * @return the number of entities
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Long> count(SelectQuery query);
+
+    /**
+     * Returns the number of entities of the type
+     *
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the number of entities
+     * @throws NullPointerException when type is null
+     */
+    <T> CompletionStage<Long> count(Class<T> type);
+
+    /**
+     * Executes CQL
+     *
+     * @param query the Cassandra query language
+     * @param <T>   the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when query is null
+     */
+    <T> Flow.Publisher<T> cql(String query);
+
+    /**
+     * Executes CQL using the provided named values
+     *
+     * @param query  the Cassandra query language
+     * @param values the named values
+     * @param <T>    the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when either query or values are null
+     */
+    <T> Flow.Publisher<T> cql(String query, Map<String, Object> values);
+
+    /**
+     * Executes CQL using the provided positional values
+     *
+     * @param query  the Cassandra query language
+     * @param params the values of the bind markers, in order
+     * @param <T>    the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when query is null
+     */
+    <T> Flow.Publisher<T> cql(String query, Object... params);
+
+    /**
+     * Executes a statement
+     *
+     * @param statement the statement
+     * @param <T>       the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when statement is null
+     */
+    <T> Flow.Publisher<T> execute(SimpleStatement statement);
+}
@@ -15,12 +15,12 @@ import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.enterprise.inject.Typed;
 import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.databases.cassandra.communication.CassandraAsyncColumnManager;
 import org.eclipse.jnosql.databases.cassandra.communication.CassandraColumnManager;
-import org.eclipse.jnosql.databases.cassandra.communication.CassandraColumnManagerFactory;
 import org.eclipse.jnosql.databases.cassandra.communication.CassandraConfiguration;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 
-import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -37,16 +37,13 @@ class ColumnManagerSupplier implements Supplier<CassandraColumnManager> {
     @Produces
     @Typed(CassandraColumnManager.class)
     public CassandraColumnManager get() {
-        Settings settings = MicroProfileSettings.INSTANCE;
-        CassandraConfiguration configuration = new CassandraConfiguration();
-        CassandraColumnManagerFactory factory = configuration.apply(settings);
-        Optional<String> database = settings.get(COLUMN_DATABASE, String.class);
-        String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
-                + COLUMN_DATABASE.get()));
-        CassandraColumnManager manager = factory.apply(db);
-        LOGGER.log(Level.FINEST, "Starting  a CassandraColumnManager instance using Eclipse MicroProfile Config," +
-                " database name: " + db);
-        return manager;
+        return manager(CassandraColumnManager.class, (settings, db) -> new CassandraConfiguration().apply(settings).apply(db));
+    }
+
+    @Produces
+    @Typed(CassandraAsyncColumnManager.class)
+    public CassandraAsyncColumnManager async() {
+        return manager(CassandraAsyncColumnManager.class, (settings, db) -> new CassandraConfiguration().apply(settings).async(db));
     }
 
     public void close(@Disposes CassandraColumnManager manager) {
@@ -54,4 +51,20 @@ class ColumnManagerSupplier implements Supplier<CassandraColumnManager> {
         manager.close();
     }
 
+    public void close(@Disposes CassandraAsyncColumnManager manager) {
+        LOGGER.log(Level.FINEST, "Closing CassandraAsyncColumnManager resource, database name: " + manager.name());
+        manager.close();
+    }
+
+    private static <T> T manager(Class<T> type, BiFunction<Settings, String, T> factory) {
+        Settings settings = MicroProfileSettings.INSTANCE;
+        String db = settings.get(COLUMN_DATABASE, String.class)
+                .orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
+                        + COLUMN_DATABASE.get()));
+        T manager = factory.apply(settings, db);
+        LOGGER.log(Level.FINEST, "Starting  a " + type.getSimpleName() + " instance using Eclipse MicroProfile Config," +
+                " database name: " + db);
+        return manager;
+    }
+
 }
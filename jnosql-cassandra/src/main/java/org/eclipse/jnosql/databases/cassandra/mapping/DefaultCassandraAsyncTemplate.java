@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.mapping;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.driver.reactive.MappingPublisher;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.cassandra.communication.CassandraAsyncColumnManager;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.stream.StreamSupport;
+
+
+@ApplicationScoped
+@Typed(CassandraAsyncTemplate.class)
+class DefaultCassandraAsyncTemplate implements CassandraAsyncTemplate {
+
+    private Instance<CassandraAsyncColumnManager> manager;
+
+    private CassandraColumnEntityConverter converter;
+
+    private EntitiesMetadata entities;
+
+
+    @Inject
+    DefaultCassandraAsyncTemplate(Instance<CassandraAsyncColumnManager> manager,
+                                  CassandraColumnEntityConverter converter,
+                                  EntitiesMetadata entities) {
+        this.manager = manager;
+        this.converter = converter;
+        this.entities = entities;
+    }
+
+    DefaultCassandraAsyncTemplate() {
+        this(null, null, null);
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return this.manager.get().insert(this.converter.toCommunication(entity))
+                .thenApply(this.converter::toEntity);
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return this.manager.get().insert(this.converter.toCommunication(entity), ttl)
+                .thenApply(this.converter::toEntity);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return this.manager.get().insert(toCommunication(entities))
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return this.manager.get().insert(toCommunication(entities), ttl)
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public <T> CompletionStage<T> update(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return this.manager.get().update(this.converter.toCommunication(entity))
+                .thenApply(this.converter::toEntity);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> update(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return this.manager.get().update(toCommunication(entities))
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public <T> CompletionStage<T> save(T entity, ConsistencyLevel level) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(level, "level is required");
+        return this.manager.get().save(this.converter.toCommunication(entity), level)
+                .thenApply(this.converter::toEntity);
+    }
+
+    @Override
+    public <T> CompletionStage<T> save(T entity, Duration ttl, ConsistencyLevel level) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        Objects.requireNonNull(level, "level is required");
+        return this.manager.get().save(this.converter.toCommunication(entity), ttl, level)
+                .thenApply(this.converter::toEntity);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> save(Iterable<T> entities, ConsistencyLevel level) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(level, "level is required");
+        return this.manager.get().save(toCommunication(entities), level)
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public CompletionStage<Void> delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return this.manager.get().delete(query);
+    }
+
+    @Override
+    public CompletionStage<Void> delete(DeleteQuery query, ConsistencyLevel level) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(level, "level is required");
+        return this.manager.get().delete(query, level);
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return toEntities(this.manager.get().select(query));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(SelectQuery query, ConsistencyLevel level) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(level, "level is required");
+        return toEntities(this.manager.get().select(query, level));
+    }
+
+    @Override
+    public CompletionStage<Long> count(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return this.manager.get().count(query);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> count(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        EntityMetadata entityMetadata = this.entities.get(type);
+        return this.manager.get().count(entityMetadata.name());
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> cql(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return toEntities(this.manager.get().cql(query));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> cql(String query, Map<String, Object> values) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(values, "values is required");
+        return toEntities(this.manager.get().cql(query, values));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> cql(String query, Object... params) {
+        Objects.requireNonNull(query, "query is required");
+        return toEntities(this.manager.get().cql(query, params));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> execute(SimpleStatement statement) {
+        Objects.requireNonNull(statement, "statement is required");
+        return toEntities(this.manager.get().execute(statement));
+    }
+
+    private <T> Flow.Publisher<T> toEntities(Flow.Publisher<CommunicationEntity> publisher) {
+        return new MappingPublisher<CommunicationEntity, T>(publisher, this.converter::toEntity);
+    }
+
+    private <T> List<CommunicationEntity> toCommunication(Iterable<T> entities) {
+        return StreamSupport.stream(entities.spliterator(), false)
+                .map(this.converter::toCommunication)
+                .toList();
+    }
+
+    private <T> Iterable<T> toEntities(Iterable<CommunicationEntity> entities) {
+        return StreamSupport.stream(entities.spliterator(), false)
+                .<T>map(this.converter::toEntity)
+                .toList();
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+
+class BatchWriterTest {
+
+    private static final ConsistencyLevel LEVEL = DefaultConsistencyLevel.LOCAL_QUORUM;
+
+    private static final CqlIdentifier ID = CqlIdentifier.fromInternal("id");
+
+    private static final CqlIdentifier NAME = CqlIdentifier.fromInternal("name");
+
+    private final CqlSession session = Mockito.mock(CqlSession.class);
+
+    @BeforeEach
+    void setUp() {
+        ColumnMetadata id = Mockito.mock(ColumnMetadata.class);
+        Mockito.when(id.getName()).thenReturn(ID);
+        TableMetadata table = Mockito.mock(TableMetadata.class);
+        Mockito.when(table.getPrimaryKey()).thenReturn(List.of(id));
+        KeyspaceMetadata keyspace = Mockito.mock(KeyspaceMetadata.class);
+        Mockito.when(keyspace.getTable(any(CqlIdentifier.class))).thenReturn(Optional.of(table));
+        Metadata metadata = Mockito.mock(Metadata.class);
+        Mockito.when(metadata.getKeyspace(any(CqlIdentifier.class))).thenReturn(Optional.of(keyspace));
+        Mockito.when(session.getMetadata()).thenReturn(metadata);
+    }
+
+    @Test
+    void shouldGroupByPartition() {
+        var writer = new BatchWriter(session, 10, 4);
+        List<BatchWriter.Write> writes = List.of(write("person", "ada", "1"), write("person", "ada", "2"),
+                write("person", "otavio", "3"), write("book", "ada", "4"), write("book", "ada", "5"));
+
+        List<List<Statement<?>>> requests = writer.requests(writes, LEVEL);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(requests).hasSize(3).allMatch(chain -> chain.size() == 1);
+            soft.assertThat(requests.get(0).get(0)).isInstanceOf(BatchStatement.class);
+            soft.assertThat(((BatchStatement) requests.get(0).get(0)).size()).isEqualTo(2);
+            soft.assertThat(((BatchStatement) requests.get(0).get(0)).getBatchType())
+                    .isEqualTo(DefaultBatchType.UNLOGGED);
+            soft.assertThat(requests.get(0).get(0).getConsistencyLevel()).isEqualTo(LEVEL);
+            soft.assertThat(requests.get(1).get(0)).isSameAs(writes.get(2).statement());
+            soft.assertThat(requests.get(2).get(0)).isInstanceOf(BatchStatement.class);
+        });
+        Mockito.verify(writes.get(2).statement()).setConsistencyLevel(LEVEL);
+    }
+
+    @Test
+    void shouldSplitPartitionByBatchSize() {
+        var writer = new BatchWriter(session, 2, 4);
+        List<BatchWriter.Write> writes = IntStream.range(0, 5)
+                .mapToObj(index -> write("person", "ada", Integer.toString(index))).toList();
+
+        List<List<Statement<?>>> requests = writer.requests(writes, null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(requests).hasSize(1);
+            List<Statement<?>> chain = requests.get(0);
+            soft.assertThat(chain).hasSize(3);
+            soft.assertThat(((BatchStatement) chain.get(0)).size()).isEqualTo(2);
+            soft.assertThat(((BatchStatement) chain.get(1)).size()).isEqualTo(2);
+            soft.assertThat(chain.get(2)).isSameAs(writes.get(4).statement());
+        });
+    }
+
+    @Test
+    void shouldNotBatchTheSamePrimaryKeyTwice() {
+        var writer = new BatchWriter(session, 10, 4);
+        List<BatchWriter.Write> writes = List.of(write("person", "ada", "1", "first"),
+                write("person", "ada", "2", "first"), write("person", "ada", "1", "second"));
+
+        List<List<Statement<?>>> requests = writer.requests(writes, null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(requests).hasSize(1);
+            List<Statement<?>> chain = requests.get(0);
+            soft.assertThat(chain).hasSize(2);
+            soft.assertThat(((BatchStatement) chain.get(0)).size()).isEqualTo(2);
+            soft.assertThat(chain.get(1)).isSameAs(writes.get(2).statement());
+        });
+    }
+
+    @Test
+    void shouldKeepTheLastWriteOfTheSameKey() {
+        List<Statement<?>> executed = new ArrayList<>();
+        Mockito.when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            executed.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(Mockito.mock(AsyncResultSet.class));
+        });
+        var writer = new BatchWriter(session, 10, 4);
+        List<BatchWriter.Write> writes = List.of(write("person", "ada", "1", "first"),
+                write("person", "ada", "1", "second"));
+
+        writer.write(writes, null);
+
+        List<BoundStatement> written = executed.stream().flatMap(BatchWriterTest::statements)
+                .map(BoundStatement.class::cast)
+                .filter(statement -> bytes("1").equals(statement.getBytesUnsafe(ID)))
+                .toList();
+        assertThat(written).hasSize(2);
+        assertThat(written.get(written.size() - 1).getBytesUnsafe(NAME)).isEqualTo(bytes("second"));
+    }
+
+    @Test
+    void shouldSendAloneWithoutPrimaryKey() {
+        var writer = new BatchWriter(session, 10, 4);
+        List<BatchWriter.Write> writes = List.of(simple("person", "ada"), simple("person", "ada"));
+
+        List<List<Statement<?>>> requests = writer.requests(writes, null);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0)).hasSize(2).allMatch(SimpleStatement.class::isInstance);
+    }
+
+    @Test
+    void shouldChainWritesWithoutRoutingKey() {
+        var writer = new BatchWriter(session, 10, 4);
+        List<BatchWriter.Write> writes = List.of(
+                new BatchWriter.Write("person", SimpleStatement.newInstance("INSERT")),
+                new BatchWriter.Write("person", SimpleStatement.newInstance("INSERT")));
+
+        List<List<Statement<?>>> requests = writer.requests(writes, null);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0)).hasSize(2).allMatch(SimpleStatement.class::isInstance);
+    }
+
+    @Test
+    void shouldWriteThePartitionInOrder() {
+        List<CompletableFuture<AsyncResultSet>> inFlight = new ArrayList<>();
+        Mockito.when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            CompletableFuture<AsyncResultSet> future = new CompletableFuture<>();
+            inFlight.add(future);
+            return future;
+        });
+        var writer = new BatchWriter(session, 1, 4);
+        List<BatchWriter.Write> writes = IntStream.range(0, 3).mapToObj(index -> simple("person", "ada")).toList();
+
+        var result = writer.writeAsync(writes, null).toCompletableFuture();
+        assertThat(inFlight).hasSize(1);
+
+        inFlight.get(0).complete(null);
+        assertThat(inFlight).hasSize(2);
+
+        inFlight.get(1).complete(null);
+        inFlight.get(2).complete(null);
+        assertThat(result).isCompleted();
+        Mockito.verify(session, Mockito.times(3)).executeAsync(any(Statement.class));
+    }
+
+    @Test
+    void shouldLimitRequestsInFlight() {
+        List<CompletableFuture<AsyncResultSet>> inFlight = new ArrayList<>();
+        Mockito.when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            CompletableFuture<AsyncResultSet> future = new CompletableFuture<>();
+            inFlight.add(future);
+            return future;
+        });
+        var writer = new BatchWriter(session, 1, 2);
+        List<BatchWriter.Write> writes = IntStream.range(0, 5).mapToObj(index -> simple("person", "id" + index)).toList();
+
+        var result = writer.writeAsync(writes, null).toCompletableFuture();
+        assertThat(inFlight).hasSize(2);
+
+        inFlight.get(0).complete(null);
+        assertThat(inFlight).hasSize(3);
+
+        for (int index = 1; index < 5; index++) {
+            inFlight.get(index).complete(null);
+        }
+        assertThat(result).isCompleted();
+        Mockito.verify(session, Mockito.times(5)).executeAsync(any(Statement.class));
+    }
+
+    @Test
+    void shouldStopAfterFailure() {
+        Mockito.when(session.executeAsync(any(Statement.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("unavailable")));
+        var writer = new BatchWriter(session, 1, 1);
+        List<BatchWriter.Write> writes = IntStream.range(0, 3).mapToObj(index -> simple("person", "id" + index)).toList();
+
+        assertThatThrownBy(() -> writer.write(writes, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("unavailable");
+        Mockito.verify(session, Mockito.times(1)).executeAsync(any(Statement.class));
+    }
+
+    private static Stream<Statement<?>> statements(Statement<?> request) {
+        if (request instanceof BatchStatement batch) {
+            return StreamSupport.stream(batch.spliterator(), false).map(statement -> (Statement<?>) statement);
+        }
+        return Stream.of(request);
+    }
+
+    private static BatchWriter.Write simple(String table, String key) {
+        return new BatchWriter.Write(table, SimpleStatement.newInstance("INSERT INTO " + table)
+                .setRoutingKey(bytes(key)));
+    }
+
+    private static BatchWriter.Write write(String table, String key, String id) {
+        return write(table, key, id, id);
+    }
+
+    private static BatchWriter.Write write(String table, String key, String id, String name) {
+        ColumnDefinition definition = Mockito.mock(ColumnDefinition.class);
+        Mockito.when(definition.getKeyspace()).thenReturn(CqlIdentifier.fromInternal("library"));
+        Mockito.when(definition.getTable()).thenReturn(CqlIdentifier.fromInternal(table));
+        ColumnDefinitions variables = Mockito.mock(ColumnDefinitions.class);
+        Mockito.when(variables.size()).thenReturn(2);
+        Mockito.when(variables.get(0)).thenReturn(definition);
+        Mockito.when(variables.contains(any(CqlIdentifier.class))).thenReturn(true);
+        PreparedStatement prepared = Mockito.mock(PreparedStatement.class);
+        Mockito.when(prepared.getVariableDefinitions()).thenReturn(variables);
+        BoundStatement statement = Mockito.mock(BoundStatement.class, Mockito.RETURNS_SELF);
+        Mockito.when(statement.getRoutingKey()).thenReturn(bytes(key));
+        Mockito.when(statement.getPreparedStatement()).thenReturn(prepared);
+        Mockito.when(statement.getBytesUnsafe(ID)).thenReturn(bytes(id));
+        Mockito.when(statement.getBytesUnsafe(NAME)).thenReturn(bytes(name));
+        return new BatchWriter.Write(table, statement);
+    }
+
+    private static ByteBuffer bytes(String value) {
+        return ByteBuffer.wrap(value.getBytes());
+    }
+}
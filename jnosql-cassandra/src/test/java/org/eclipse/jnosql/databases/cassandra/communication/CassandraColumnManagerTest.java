@@ -19,6 +19,7 @@ import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.CqlSession;
 import jakarta.data.exceptions.NonUniqueResultException;
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.Element;
@@ -104,6 +105,23 @@ public class CassandraColumnManagerTest {
         entityManager.insert(columnEntity);
     }
 
+    @Test
+    void shouldReusePreparedStatements() {
+        CassandraStatementCache cache = entityManager.statementCache();
+        cache.clear();
+        entityManager.insert(getColumnFamily());
+        entityManager.insert(getColumnFamily());
+        entityManager.select(select().from(Constants.COLUMN_FAMILY).where("id").eq(10L).build()).toList();
+        List<CommunicationEntity> entities = entityManager.select(select().from(Constants.COLUMN_FAMILY)
+                .where("id").eq(11).build()).toList();
+
+        assertSoftly(soft -> {
+            soft.assertThat(entities).isEmpty();
+            soft.assertThat(cache.misses()).isEqualTo(2L);
+            soft.assertThat(cache.hits()).isEqualTo(2L);
+        });
+    }
+
     @Test
     void shouldInsertWithTtl() throws InterruptedException {
         var columnEntity = getColumnFamily();
@@ -509,6 +527,33 @@ public class CassandraColumnManagerTest {
         assertEquals(4, entities.size());
     }
 
+    @Test
+    void shouldSkipPages() {
+        for (long index = 1; index <= 10; index++) {
+            var columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+        Settings database = ColumnDatabase.INSTANCE.getSettings();
+        var builder = Settings.builder();
+        database.keySet().forEach(key -> builder.put(key, database.get(key).orElseThrow()));
+        builder.put(CassandraConfigurations.PAGE_SIZE.get(), "3");
+        try (var manager = new CassandraConfiguration().apply(builder.build()).apply(Constants.KEY_SPACE)) {
+            List<Object> all = manager.select(select().from(Constants.COLUMN_FAMILY).build())
+                    .map(e -> e.find("id").orElseThrow().get()).toList();
+            List<Object> page = manager.select(select().from(Constants.COLUMN_FAMILY).skip(5).limit(4).build())
+                    .map(e -> e.find("id").orElseThrow().get()).toList();
+            List<Object> tail = manager.select(select().from(Constants.COLUMN_FAMILY).skip(7).build())
+                    .map(e -> e.find("id").orElseThrow().get()).toList();
+
+            assertSoftly(soft -> {
+                soft.assertThat(all).hasSize(10);
+                soft.assertThat(page).containsExactlyElementsOf(all.subList(5, 9));
+                soft.assertThat(tail).containsExactlyElementsOf(all.subList(7, 10));
+            });
+        }
+    }
+
     @Test
     void shouldCreateUDTWithSet() {
         var entity = createEntityWithIterableSet();
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CassandraPagePublisherTest {
+
+    @Test
+    void shouldFetchNextPageOnDemand() {
+        AsyncResultSet last = page(1, null);
+        AsyncResultSet first = page(2, last);
+        TestSubscriber subscriber = new TestSubscriber();
+
+        new CassandraPagePublisher(() -> CompletableFuture.completedFuture(first)).subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).hasSize(2);
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+        verify(first, never()).fetchNextPage();
+
+        subscriber.subscription.request(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).hasSize(3);
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+    }
+
+    @Test
+    void shouldSkipWholePages() {
+        AsyncResultSet last = page(2, null);
+        AsyncResultSet first = page(2, last);
+        TestSubscriber subscriber = new TestSubscriber();
+
+        new CassandraPagePublisher(() -> CompletableFuture.completedFuture(first), 3L, false)
+                .subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).hasSize(1);
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+        verify(first, never()).currentPage();
+    }
+
+    @Test
+    void shouldEmitSinglePage() {
+        AsyncResultSet last = page(2, null);
+        AsyncResultSet first = page(2, last);
+        TestSubscriber subscriber = new TestSubscriber();
+
+        new CassandraPagePublisher(() -> CompletableFuture.completedFuture(first), 0L, true)
+                .subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).hasSize(2);
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+        verify(first, never()).fetchNextPage();
+    }
+
+    private static AsyncResultSet page(int size, AsyncResultSet next) {
+        AsyncResultSet page = mock(AsyncResultSet.class);
+        List<Row> rows = IntStream.range(0, size).mapToObj(index -> row()).toList();
+        when(page.currentPage()).thenReturn(rows);
+        when(page.remaining()).thenReturn(size);
+        when(page.hasMorePages()).thenReturn(next != null);
+        if (next != null) {
+            when(page.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(next));
+        }
+        return page;
+    }
+
+    private static Row row() {
+        Row row = mock(Row.class);
+        ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+        when(definitions.iterator()).thenAnswer(invocation -> Collections.emptyIterator());
+        when(row.getColumnDefinitions()).thenReturn(definitions);
+        return row;
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<CommunicationEntity> {
+
+        private final List<CommunicationEntity> items = new ArrayList<>();
+
+        private Flow.Subscription subscription;
+
+        private Throwable error;
+
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(CommunicationEntity item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
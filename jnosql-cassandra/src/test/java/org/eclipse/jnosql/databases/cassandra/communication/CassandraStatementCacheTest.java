@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CassandraStatementCacheTest {
+
+    private static final String SELECT = "SELECT * FROM ks.person WHERE name=?";
+
+    private final List<String> prepared = new ArrayList<>();
+
+    private final Function<String, PreparedStatement> preparer = cql -> {
+        prepared.add(cql);
+        return Mockito.mock(PreparedStatement.class);
+    };
+
+    @Test
+    void shouldReusePreparedStatement() {
+        var cache = new CassandraStatementCache(10);
+
+        PreparedStatement first = cache.prepare(SELECT, preparer);
+        PreparedStatement second = cache.prepare(SELECT, preparer);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(second).isSameAs(first);
+            soft.assertThat(prepared).containsExactly(SELECT);
+            soft.assertThat(cache.hits()).isEqualTo(1L);
+            soft.assertThat(cache.misses()).isEqualTo(1L);
+            soft.assertThat(cache.size()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new CassandraStatementCache(1);
+
+        cache.prepare(SELECT, preparer);
+        cache.prepare("DELETE FROM ks.person WHERE name=?", preparer);
+        cache.prepare(SELECT, preparer);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.size()).isEqualTo(1);
+            soft.assertThat(cache.misses()).isEqualTo(3L);
+            soft.assertThat(prepared).hasSize(3);
+        });
+    }
+
+    @Test
+    void shouldDisableCache() {
+        var cache = new CassandraStatementCache(0);
+
+        cache.prepare(SELECT, preparer);
+        cache.prepare(SELECT, preparer);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.isEnabled()).isFalse();
+            soft.assertThat(cache.size()).isZero();
+            soft.assertThat(cache.hits()).isZero();
+            soft.assertThat(prepared).hasSize(2);
+        });
+    }
+
+    @Test
+    void shouldClear() {
+        var cache = new CassandraStatementCache(10);
+        cache.prepare(SELECT, preparer);
+
+        cache.clear();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.size()).isZero();
+            soft.assertThat(cache.misses()).isZero();
+        });
+    }
+
+    @Test
+    void shouldInvalidateWhenSchemaChanges() {
+        var cache = new CassandraStatementCache(10);
+        var invalidator = new StatementCacheInvalidator();
+        invalidator.register(cache);
+        cache.prepare(SELECT, preparer);
+
+        invalidator.onTableUpdated(Mockito.mock(TableMetadata.class), Mockito.mock(TableMetadata.class));
+        cache.prepare(SELECT, preparer);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.size()).isEqualTo(1);
+            soft.assertThat(cache.misses()).isEqualTo(2L);
+            soft.assertThat(prepared).containsExactly(SELECT, SELECT);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenMaxSizeIsNegative() {
+        assertThatThrownBy(() -> new CassandraStatementCache(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParametersAreNull() {
+        var cache = new CassandraStatementCache(10);
+        assertThatThrownBy(() -> cache.prepare(null, preparer)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> cache.prepare(SELECT, null)).isInstanceOf(NullPointerException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldConvertValueToColumnType() {
+        PreparedStatement statement = prepared(DataTypes.BIGINT, DataTypes.TEXT);
+        BoundStatementBuilder builder = statement.boundStatementBuilder();
+
+        CassandraStatementCache.bind(statement, Arrays.asList(10, null), CodecRegistry.DEFAULT);
+
+        verify(builder).set(eq(0), eq(10L), any());
+        verify(builder).setToNull(1);
+    }
+
+    @Test
+    void shouldConvertCollectionElementsToColumnType() {
+        PreparedStatement statement = prepared(DataTypes.listOf(DataTypes.BIGINT), DataTypes.setOf(DataTypes.BIGINT),
+                DataTypes.mapOf(DataTypes.TEXT, DataTypes.BIGINT));
+        BoundStatementBuilder builder = statement.boundStatementBuilder();
+
+        CassandraStatementCache.bind(statement, List.of(List.of(1, 2), Set.of(3), Map.of("age", 4)),
+                CodecRegistry.DEFAULT);
+
+        verify(builder).set(eq(0), eq(List.of(1L, 2L)), any());
+        verify(builder).set(eq(1), eq(Set.of(3L)), any());
+        verify(builder).set(eq(2), eq(Map.of("age", 4L)), any());
+    }
+
+    private static PreparedStatement prepared(DataType... types) {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ColumnDefinitions variables = mock(ColumnDefinitions.class);
+        for (int index = 0; index < types.length; index++) {
+            ColumnDefinition variable = mock(ColumnDefinition.class);
+            when(variable.getType()).thenReturn(types[index]);
+            when(variables.get(index)).thenReturn(variable);
+        }
+        BoundStatementBuilder builder = mock(BoundStatementBuilder.class, RETURNS_SELF);
+        when(statement.getVariableDefinitions()).thenReturn(variables);
+        when(statement.boundStatementBuilder()).thenReturn(builder);
+        return statement;
+    }
+}
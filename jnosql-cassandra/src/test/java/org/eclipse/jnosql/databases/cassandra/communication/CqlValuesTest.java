@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
+
+class CqlValuesTest {
+
+    private static final CommunicationEntity PERSON = CommunicationEntity.of("person",
+            List.of(Element.of("id", 10), Element.of("name", "Ada")));
+
+    @Test
+    void shouldBindMarkers() {
+        CqlValues values = CqlValues.markers();
+
+        String cql = QueryUtils.insert(PERSON, "ks", null, Duration.ofMinutes(1), values).asCql();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cql).contains("VALUES (?,?)").contains("USING TTL ?");
+            soft.assertThat(values.values()).containsExactly(10, "Ada", 60);
+        });
+    }
+
+    @Test
+    void shouldInlineLiterals() {
+        CqlValues values = CqlValues.literals();
+
+        String cql = QueryUtils.insert(PERSON, "ks", null, Duration.ofMinutes(1), values).asCql();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cql).contains("VALUES (10,'Ada')").contains("USING TTL 60").doesNotContain("?");
+            soft.assertThat(values.isLiteral()).isTrue();
+            soft.assertThat(values.values()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldInlineInAndLimitLiterals() {
+        CqlValues values = CqlValues.literals();
+        var query = select().from("person").where("id").in(List.of(1, 2)).build();
+
+        String cql = values.limit(QueryUtils.select(query, "ks", values), 5).asCql();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cql).contains("id IN (1,2)").contains("LIMIT 5").doesNotContain("?");
+            soft.assertThat(values.values()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldBindInAsSingleMarker() {
+        CqlValues values = CqlValues.markers();
+        var query = select().from("person").where("id").in(List.of(1, 2)).build();
+
+        String cql = QueryUtils.select(query, "ks", values).asCql();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cql).contains("id IN ?");
+            soft.assertThat(values.values()).containsExactly(List.of(1, 2));
+        });
+    }
+}
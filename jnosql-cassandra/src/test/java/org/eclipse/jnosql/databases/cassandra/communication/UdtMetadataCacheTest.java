@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.communication;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.internal.core.type.UserDefinedTypeBuilder;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UdtMetadataCacheTest {
+
+    private static final UserDefinedType FULL_NAME = new UserDefinedTypeBuilder("ks", "fullname")
+            .withField("firstname", DataTypes.TEXT)
+            .withField("lastname", DataTypes.TEXT)
+            .build();
+
+    private final CqlSession session = Mockito.mock(CqlSession.class);
+
+    @Test
+    void shouldLoadMetadataOnce() {
+        mockColumn(FULL_NAME);
+        var cache = new UdtMetadataCache(session);
+
+        Object first = cache.value(udt("Ada"), "ks", "person");
+        Object second = cache.value(udt("Grace"), "ks", "person");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).isInstanceOf(UdtValue.class);
+            soft.assertThat(((UdtValue) first).getString("firstname")).isEqualTo("Ada");
+            soft.assertThat(((UdtValue) second).getString("firstname")).isEqualTo("Grace");
+            soft.assertThat(cache.size()).isEqualTo(1);
+        });
+        Mockito.verify(session, Mockito.times(1)).getMetadata();
+    }
+
+    @Test
+    void shouldBuildCollectionOfUdts() {
+        mockColumn(DataTypes.listOf(FULL_NAME));
+        var cache = new UdtMetadataCache(session);
+        UDT udt = UDT.builder("fullname").withName("name")
+                .addUDTs(List.of(List.of(Element.of("firstname", "Ada")), List.of(Element.of("firstname", "Grace"))))
+                .build();
+
+        Object value = cache.value(udt, "ks", "person");
+
+        assertThat(value).isInstanceOf(List.class);
+        assertThat((List<?>) value).hasSize(2).allMatch(UdtValue.class::isInstance);
+    }
+
+    @Test
+    void shouldReloadAfterSchemaChange() {
+        mockColumn(FULL_NAME);
+        var cache = new UdtMetadataCache(session);
+        var invalidator = new StatementCacheInvalidator();
+        invalidator.register(cache);
+
+        cache.value(udt("Ada"), "ks", "person");
+        invalidator.onUserDefinedTypeUpdated(FULL_NAME, FULL_NAME);
+        cache.value(udt("Ada"), "ks", "person");
+
+        Mockito.verify(session, Mockito.times(2)).getMetadata();
+    }
+
+    @Test
+    void shouldReturnErrorWhenFieldIsMissing() {
+        mockColumn(FULL_NAME);
+        var cache = new UdtMetadataCache(session);
+        UDT udt = UDT.builder("fullname").withName("name")
+                .addUDT(List.of(Element.of("nickname", "Ada"))).build();
+
+        assertThatThrownBy(() -> cache.value(udt, "ks", "person"))
+                .isInstanceOf(CommunicationException.class);
+    }
+
+    private void mockColumn(DataType type) {
+        Metadata metadata = Mockito.mock(Metadata.class);
+        KeyspaceMetadata keyspace = Mockito.mock(KeyspaceMetadata.class);
+        TableMetadata table = Mockito.mock(TableMetadata.class);
+        ColumnMetadata column = Mockito.mock(ColumnMetadata.class);
+        Mockito.when(session.getMetadata()).thenReturn(metadata);
+        Mockito.when(metadata.getKeyspace("ks")).thenReturn(Optional.of(keyspace));
+        Mockito.when(keyspace.getUserDefinedType("fullname")).thenReturn(Optional.of(FULL_NAME));
+        Mockito.when(keyspace.getTable("person")).thenReturn(Optional.of(table));
+        Mockito.when(table.getColumn("name")).thenReturn(Optional.of(column));
+        Mockito.when(column.getType()).thenReturn(type);
+    }
+
+    private static UDT udt(String firstName) {
+        return UDT.builder("fullname").withName("name")
+                .addUDT(List.of(Element.of("firstname", firstName), Element.of("lastname", "Hopper")))
+                .build();
+    }
+}
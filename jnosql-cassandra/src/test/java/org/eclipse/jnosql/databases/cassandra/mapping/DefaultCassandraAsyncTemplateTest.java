@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.cassandra.mapping;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.databases.cassandra.communication.CassandraAsyncColumnManager;
+import org.eclipse.jnosql.mapping.column.ColumnTemplate;
+import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class, ColumnTemplate.class, CQL.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({ReflectionEntityMetadataExtension.class, ColumnExtension.class, CassandraExtension.class})
+class DefaultCassandraAsyncTemplateTest {
+
+    @Inject
+    private CassandraColumnEntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private CassandraAsyncTemplate template;
+
+    private CassandraAsyncColumnManager manager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.manager = mock(CassandraAsyncColumnManager.class);
+        Instance instance = mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        template = new DefaultCassandraAsyncTemplate(instance, converter, entities);
+    }
+
+    @Test
+    void shouldInsertWithTtl() throws Exception {
+        Duration ttl = Duration.ofHours(2);
+        when(manager.insert(any(CommunicationEntity.class), eq(ttl)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+
+        ContactCassandra contact = template.insert(new ContactCassandra("Ada", 30), ttl)
+                .toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+        assertThat(contact).isEqualTo(new ContactCassandra("Ada", 30));
+    }
+
+    @Test
+    void shouldSaveIterableWithConsistency() throws Exception {
+        ConsistencyLevel level = ConsistencyLevel.THREE;
+        when(manager.save(anyList(), eq(level)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+
+        Iterable<ContactCassandra> result = template.save(List.of(new ContactCassandra("Ada", 30),
+                        new ContactCassandra("Grace", 40)), level)
+                .toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+        assertThat(result).containsExactly(new ContactCassandra("Ada", 30), new ContactCassandra("Grace", 40));
+    }
+
+    @Test
+    void shouldDeleteWithConsistency() {
+        DeleteQuery query = DeleteQuery.delete().from("ContactCassandra").build();
+        when(manager.delete(query, ConsistencyLevel.ONE)).thenReturn(CompletableFuture.completedFuture(null));
+
+        template.delete(query, ConsistencyLevel.ONE);
+
+        Mockito.verify(manager).delete(query, ConsistencyLevel.ONE);
+    }
+
+    @Test
+    void shouldRunCQL() throws Exception {
+        String query = "select * from contact where name = ?";
+        SubmissionPublisher<CommunicationEntity> publisher = new SubmissionPublisher<>();
+        when(manager.cql(query, "Ada")).thenReturn(publisher);
+
+        List<ContactCassandra> result = new ArrayList<>();
+        CompletableFuture<Void> completed = subscribe(template.cql(query, "Ada"), result);
+        publisher.submit(contact("Ada", 30));
+        publisher.close();
+        completed.get(1, TimeUnit.SECONDS);
+
+        assertThat(result).containsExactly(new ContactCassandra("Ada", 30));
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        assertThrows(NullPointerException.class, () -> template.insert((ContactCassandra) null));
+        assertThrows(NullPointerException.class, () -> template.insert(new ContactCassandra(), null));
+        assertThrows(NullPointerException.class, () -> template.update((Iterable<ContactCassandra>) null));
+        assertThrows(NullPointerException.class, () -> template.save(new ContactCassandra(), null));
+        assertThrows(NullPointerException.class, () -> template.select(null));
+        assertThrows(NullPointerException.class, () -> template.delete(null));
+        assertThrows(NullPointerException.class, () -> template.count((Class<ContactCassandra>) null));
+        assertThrows(NullPointerException.class, () -> template.cql(null, Collections.emptyMap()));
+    }
+
+    private static CommunicationEntity contact(String name, int age) {
+        return CommunicationEntity.of("ContactCassandra", Arrays.asList(Element.of("name", name),
+                Element.of("age", age)));
+    }
+
+    private static <T> CompletableFuture<Void> subscribe(Flow.Publisher<T> publisher, List<T> result) {
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                result.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+        return completed;
+    }
+}
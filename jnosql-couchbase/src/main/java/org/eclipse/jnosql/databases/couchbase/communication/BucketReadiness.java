@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.RequestCanceledException;
+import com.couchbase.client.core.error.ServiceNotAvailableException;
+import com.couchbase.client.core.error.TimeoutException;
+import com.couchbase.client.java.Bucket;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A one-time readiness gate of a {@link Bucket}: the first operation waits until the bucket is ready, and the
+ * following ones run straight away. The gate opens again only when an operation fails with a connectivity error,
+ * such as a timeout, a cancelled request or an unavailable service, so the next operation waits for the bucket
+ * before running.
+ */
+final class BucketReadiness {
+
+    private static final Logger LOGGER = Logger.getLogger(BucketReadiness.class.getName());
+
+    private final Bucket bucket;
+
+    private final Duration timeout;
+
+    private final Object lock = new Object();
+
+    private volatile boolean ready;
+
+    BucketReadiness(Bucket bucket, Duration timeout) {
+        this.bucket = bucket;
+        this.timeout = timeout;
+    }
+
+    static BucketReadiness of(Bucket bucket) {
+        return new BucketReadiness(bucket, bucket.environment().timeoutConfig().kvDurableTimeout());
+    }
+
+    /**
+     * @return true when the bucket was ready and no connectivity error happened since then
+     */
+    boolean isReady() {
+        return ready;
+    }
+
+    <T> T get(Supplier<T> operation) {
+        if (!ready) {
+            await();
+        }
+        try {
+            return operation.get();
+        } catch (RuntimeException exception) {
+            failed(exception);
+            throw exception;
+        }
+    }
+
+    void run(Runnable operation) {
+        get(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Reopens the gate when the error is a connectivity one; it is called as well by the operations that fail after
+     * {@link #get(Supplier)} returned, such as a streamed query.
+     */
+    void failed(Throwable exception) {
+        if (ready && isConnectivityError(exception)) {
+            LOGGER.log(Level.FINE, "Connectivity error on the bucket {0}, it will be checked again: {1}",
+                    new Object[]{bucket.name(), exception.getMessage()});
+            ready = false;
+        }
+    }
+
+    private static boolean isConnectivityError(Throwable exception) {
+        return exception instanceof TimeoutException
+                || exception instanceof RequestCanceledException
+                || exception instanceof ServiceNotAvailableException;
+    }
+
+    private void await() {
+        synchronized (lock) {
+            if (!ready) {
+                bucket.waitUntilReady(timeout);
+                ready = true;
+            }
+        }
+    }
+}
@@ -18,20 +18,20 @@ package org.eclipse.jnosql.databases.couchbase.communication;
 import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.Scope;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.UpsertOptions;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.Optional;
-import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.eclipse.jnosql.communication.ValueUtil.convert;
 
 /**
@@ -51,14 +51,21 @@ public class CouchbaseBucketManager implements BucketManager {
 
     private final String scopeName;
 
+    private final BucketReadiness readiness;
 
-    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName) {
+    private final int concurrency;
+
+
+    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName,
+                           int concurrency) {
         this.bucket = bucket;
         this.bucketName = bucketName;
         this.collectionName = collectionName;
         this.scopeName = scopeName;
         Scope scope = bucket.scope(scopeName);
         this.collection = scope.collection(collectionName);
+        this.readiness = BucketReadiness.of(bucket);
+        this.concurrency = concurrency;
     }
 
     @Override
@@ -70,7 +77,7 @@ public class CouchbaseBucketManager implements BucketManager {
     public <K, V> void put(K key, V value) {
         requireNonNull(key, "key is required");
         requireNonNull(value, "value is required");
-        waitBucketBeReadyAndGet(() -> collection.upsert(key.toString(), value));
+        readiness.get(() -> collection.upsert(key.toString(), value));
     }
 
     @Override
@@ -83,31 +90,56 @@ public class CouchbaseBucketManager implements BucketManager {
     public void put(final KeyValueEntity entity, final Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        waitBucketBeReadyAndDo(() -> {
+        readiness.run(() -> {
             String key = entity.key(String.class);
             Object value = convert(Value.of(entity.value()));
             collection.upsert(key, value, UpsertOptions.upsertOptions().expiry(ttl));
         });
     }
 
+    /**
+     * Writes the entities through the reactive collection API, with up to
+     * {@link CouchbaseSettings#getKeyValueConcurrency()} writes in flight, and returns when all of them are done.
+     *
+     * @param keyValueEntities the entities
+     * @throws NullPointerException when keyValueEntities or any of its elements is null
+     */
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
-        keyValueEntities.forEach(this::put);
+        put(keyValueEntities, UpsertOptions.upsertOptions());
     }
 
+    /**
+     * Writes the entities with the same expiry through the reactive collection API, with up to
+     * {@link CouchbaseSettings#getKeyValueConcurrency()} writes in flight, and returns when all of them are done.
+     *
+     * @param keyValueEntities the entities
+     * @param ttl              the expiry of every entity
+     * @throws NullPointerException when there is any null parameter
+     */
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
         requireNonNull(ttl, "ttl is required");
-        keyValueEntities.forEach(k -> this.put(k, ttl));
+        put(keyValueEntities, UpsertOptions.upsertOptions().expiry(ttl));
+    }
+
+    private void put(Iterable<KeyValueEntity> keyValueEntities, UpsertOptions options) {
+        ReactiveCollection reactive = collection.reactive();
+        readiness.run(() -> Flux.fromIterable(keyValueEntities)
+                .map(entity -> requireNonNull(entity, "entity is required"))
+                .flatMap(entity -> reactive.upsert(entity.key().toString(),
+                        convert(Value.of(entity.value())), options), concurrency)
+                .then()
+                .block());
     }
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
         requireNonNull(key, "key is required");
         try {
-            return waitBucketBeReadyAndGet(() -> {
+            return readiness.get(() -> {
                 GetResult result = this.collection.get(key.toString());
                 return Optional.of(new CouchbaseValue(result));
             });
@@ -116,31 +148,33 @@ public class CouchbaseBucketManager implements BucketManager {
         }
     }
 
+    /**
+     * Reads the keys through the reactive collection API, with up to
+     * {@link CouchbaseSettings#getKeyValueConcurrency()} reads in flight. The values follow the order of the keys;
+     * the keys not found are skipped.
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the values found
+     * @throws NullPointerException when keys or any of its elements is null
+     */
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        return stream(keys.spliterator(), false)
-                .map(this::get)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(toList());
+        ReactiveCollection reactive = collection.reactive();
+        return readiness.get(() -> Flux.fromIterable(keys)
+                .map(key -> requireNonNull(key, "key is required").toString())
+                .flatMapSequential(key -> reactive.get(key)
+                        .<Value>map(CouchbaseValue::new)
+                        .onErrorResume(DocumentNotFoundException.class, exp -> Mono.empty()), concurrency)
+                .collectList()
+                .block());
     }
 
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
-        waitBucketBeReadyAndDo(() -> collection.remove(key.toString()));
-    }
-
-    private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        runnable.run();
-    }
-
-
-    private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        return supplier.get();
+        readiness.run(() -> collection.remove(key.toString()));
     }
 
 
@@ -150,6 +184,16 @@ public class CouchbaseBucketManager implements BucketManager {
         keys.forEach(this::delete);
     }
 
+    /**
+     * The readiness signal of the bucket: the first operation waits until the bucket is ready, and it is waited for
+     * again only after a connectivity error, such as a timeout or an unavailable service.
+     *
+     * @return true when the bucket was found ready and no connectivity error happened since then
+     */
+    public boolean isReady() {
+        return readiness.isReady();
+    }
+
     /**
      * Closing a {@link CouchbaseBucketManager} has no effect.
      */
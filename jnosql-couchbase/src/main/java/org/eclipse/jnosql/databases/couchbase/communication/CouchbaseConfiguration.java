@@ -43,6 +43,10 @@ public abstract class CouchbaseConfiguration {
     protected String collection;
     protected Set<String> collections = new LinkedHashSet<>();
 
+    protected int keyValueConcurrency = CouchbaseSettings.DEFAULT_KEY_VALUE_CONCURRENCY;
+
+    protected boolean queryStreaming;
+
 
     protected void update(Settings settings) {
         this.host = getHost(settings);
@@ -52,6 +56,8 @@ public abstract class CouchbaseConfiguration {
         this.collections = getCollections(settings);
         this.index = getIndex(settings);
         this.collection = getCollection(settings);
+        this.keyValueConcurrency = getKeyValueConcurrency(settings);
+        this.queryStreaming = getQueryStreaming(settings);
     }
 
     protected String getUser(Settings settings) {
@@ -75,6 +81,21 @@ public abstract class CouchbaseConfiguration {
                 .map(Object::toString).orElse(null);
     }
 
+    private int getKeyValueConcurrency(Settings settings) {
+        int concurrency = settings.get(CouchbaseConfigurations.KEY_VALUE_CONCURRENCY)
+                .map(Object::toString)
+                .map(Integer::valueOf)
+                .orElse(CouchbaseSettings.DEFAULT_KEY_VALUE_CONCURRENCY);
+        return requirePositive(concurrency);
+    }
+
+    private boolean getQueryStreaming(Settings settings) {
+        return settings.get(CouchbaseConfigurations.QUERY_STREAMING)
+                .map(Object::toString)
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
     private Set<String> getCollections(Settings settings) {
         Set<String> collections = new LinkedHashSet<>();
         settings.get(CouchbaseConfigurations.COLLECTIONS)
@@ -142,6 +163,23 @@ public abstract class CouchbaseConfiguration {
         this.collection = collection;
     }
 
+    /**
+     * Set the maximum number of key-value operations in flight when several keys are read or written at once
+     * @param keyValueConcurrency the concurrency
+     * @throws IllegalArgumentException when the concurrency is not positive
+     */
+    public void setKeyValueConcurrency(int keyValueConcurrency) {
+        this.keyValueConcurrency = requirePositive(keyValueConcurrency);
+    }
+
+    /**
+     * Set whether the select queries stream their rows instead of reading the whole result first
+     * @param queryStreaming the streaming mode
+     */
+    public void setQueryStreaming(boolean queryStreaming) {
+        this.queryStreaming = queryStreaming;
+    }
+
     /**
      * add collection in the settings
      *
@@ -159,7 +197,15 @@ public abstract class CouchbaseConfiguration {
      */
     public CouchbaseSettings toCouchbaseSettings() {
         return new CouchbaseSettings(this.host, this.user, this.password,
-                this.scope, this.index, this.collection, this.collections.stream().toList());
+                this.scope, this.index, this.collection, this.collections.stream().toList(),
+                this.keyValueConcurrency, this.queryStreaming);
+    }
+
+    private static int requirePositive(int keyValueConcurrency) {
+        if (keyValueConcurrency <= 0) {
+            throw new IllegalArgumentException("The key-value concurrency must be positive: " + keyValueConcurrency);
+        }
+        return keyValueConcurrency;
     }
 
     @Override
@@ -61,7 +61,19 @@ public enum CouchbaseConfigurations implements Supplier<String> {
      * At the start-up of a {@link CouchbaseConfiguration}, it will read this property to check if the index does exist,
      * if not it will create combined by scope and the database.
      */
-    INDEX("jnosql.couchbase.index");
+    INDEX("jnosql.couchbase.index"),
+    /**
+     * The maximum number of key-value operations in flight when {@link CouchbaseBucketManager} reads or writes
+     * several keys at once. The default value is {@link CouchbaseSettings#DEFAULT_KEY_VALUE_CONCURRENCY}.
+     */
+    KEY_VALUE_CONCURRENCY("jnosql.couchbase.keyvalue.concurrency"),
+    /**
+     * When true, {@link CouchbaseDocumentManager#select(org.eclipse.jnosql.communication.semistructured.SelectQuery)}
+     * streams the N1QL rows through the reactive query API, decoding each one when it is consumed, and fetches the
+     * ids of the query concurrently. The returned stream must be closed when it is not fully consumed.
+     * The default value is false, where the whole result is read before it is returned.
+     */
+    QUERY_STREAMING("jnosql.couchbase.query.streaming");
 
     private final String configuration;
 
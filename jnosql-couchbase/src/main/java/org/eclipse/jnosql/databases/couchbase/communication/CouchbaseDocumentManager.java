@@ -46,4 +46,15 @@ public interface CouchbaseDocumentManager extends DatabaseManager {
      */
     Stream<CommunicationEntity> n1qlQuery(String n1ql) throws NullPointerException;
 
+    /**
+     * The readiness signal of the bucket: the first operation waits until the bucket is ready, and it is waited for
+     * again only after a connectivity error, such as a timeout or an unavailable service.
+     * The default implementation returns true, for the implementations that do not wait for the bucket.
+     *
+     * @return true when the bucket was found ready and no connectivity error happened since then
+     */
+    default boolean isReady() {
+        return true;
+    }
+
 }
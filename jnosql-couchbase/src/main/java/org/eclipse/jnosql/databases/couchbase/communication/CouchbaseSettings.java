@@ -45,6 +45,11 @@ import static com.couchbase.client.java.manager.query.GetAllQueryIndexesOptions.
  */
 public final class CouchbaseSettings {
 
+    /**
+     * The default value of {@link CouchbaseConfigurations#KEY_VALUE_CONCURRENCY}
+     */
+    public static final int DEFAULT_KEY_VALUE_CONCURRENCY = 64;
+
     private static final Logger LOGGER = Logger.getLogger(CouchbaseSettings.class.getName());
 
     private final String host;
@@ -60,9 +65,13 @@ public final class CouchbaseSettings {
     private final String collection;
     private final List<String> collections;
 
+    private final int keyValueConcurrency;
+
+    private final boolean queryStreaming;
+
     CouchbaseSettings(String host, String user, String password,
                       String scope, String index, String collection,
-                      List<String> collections) {
+                      List<String> collections, int keyValueConcurrency, boolean queryStreaming) {
         this.host = host;
         this.user = user;
         this.password = password;
@@ -70,6 +79,8 @@ public final class CouchbaseSettings {
         this.index = index;
         this.collection = collection;
         this.collections = collections;
+        this.keyValueConcurrency = keyValueConcurrency;
+        this.queryStreaming = queryStreaming;
     }
 
 
@@ -139,6 +150,24 @@ public final class CouchbaseSettings {
         return index;
     }
 
+    /**
+     * Returns the maximum number of key-value operations in flight {@link CouchbaseConfigurations#KEY_VALUE_CONCURRENCY}
+     *
+     * @return the key-value concurrency {@link CouchbaseConfigurations#KEY_VALUE_CONCURRENCY}
+     */
+    public int getKeyValueConcurrency() {
+        return keyValueConcurrency;
+    }
+
+    /**
+     * Returns whether the select queries stream their rows {@link CouchbaseConfigurations#QUERY_STREAMING}
+     *
+     * @return the streaming mode {@link CouchbaseConfigurations#QUERY_STREAMING}
+     */
+    public boolean isQueryStreaming() {
+        return queryStreaming;
+    }
+
 
     /**
      * Create a new {@link Cluster} instance using {@link CouchbaseSettings#getHost()}
@@ -246,12 +275,15 @@ public final class CouchbaseSettings {
         return Objects.equals(host, that.host) && Objects.equals(user, that.user)
                 && Objects.equals(password, that.password) && Objects.equals(scope, that.scope)
                 && Objects.equals(index, that.index) && Objects.equals(collection, that.collection)
-                && Objects.equals(collections, that.collections);
+                && Objects.equals(collections, that.collections)
+                && keyValueConcurrency == that.keyValueConcurrency
+                && queryStreaming == that.queryStreaming;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, user, password, scope, index, collection, collections);
+        return Objects.hash(host, user, password, scope, index, collection, collections, keyValueConcurrency,
+                queryStreaming);
     }
 
     @Override
@@ -264,6 +296,8 @@ public final class CouchbaseSettings {
                 ", index='" + index + '\'' +
                 ", collection='" + collection + '\'' +
                 ", collections=" + collections +
+                ", keyValueConcurrency=" + keyValueConcurrency +
+                ", queryStreaming=" + queryStreaming +
                 '}';
     }
 }
@@ -19,21 +19,24 @@ import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.InsertOptions;
 import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryResult;
+import com.couchbase.client.java.query.ReactiveQueryResult;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -56,10 +59,19 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
 
     private final Cluster cluster;
 
-    DefaultCouchbaseDocumentManager(Cluster cluster, String database) {
+    private final BucketReadiness readiness;
+
+    private final boolean streaming;
+
+    private final int concurrency;
+
+    DefaultCouchbaseDocumentManager(Cluster cluster, String database, boolean streaming, int concurrency) {
         this.bucket = cluster.bucket(database);
         this.database = database;
         this.cluster = cluster;
+        this.readiness = BucketReadiness.of(bucket);
+        this.streaming = streaming;
+        this.concurrency = concurrency;
     }
 
     @Override
@@ -70,7 +82,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public CommunicationEntity insert(CommunicationEntity entity) throws NullPointerException {
         requireNonNull(entity, "entity is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
             JsonObject json = EntityConverter.convert(entity);
             Element id = entity.find(EntityConverter.ID_FIELD)
@@ -85,7 +97,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             JsonObject json = EntityConverter.convert(entity);
             Element id = entity.find(EntityConverter.ID_FIELD)
                     .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()));
@@ -113,7 +125,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public CommunicationEntity update(CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
             JsonObject json = EntityConverter.convert(entity);
             Element id = entity.find(EntityConverter.ID_FIELD)
@@ -131,36 +143,47 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
                 .map(this::update).collect(Collectors.toList());
     }
 
+    /**
+     * Deletes the documents with a server-side N1QL {@code DELETE}; the ids in the query are removed by key instead,
+     * concurrently, as in {@link #select(SelectQuery)}.
+     */
     @Override
     public void delete(DeleteQuery query) {
-        waitBucketBeReadyAndDo(() -> {
-            Objects.requireNonNull(query, "query is required");
-            Collection collection = bucket.collection(query.name());
-            SelectQuery delete = DeleteQueryWrapper.of(query);
-            Stream<CommunicationEntity> entities = select(delete);
-            entities.flatMap(d -> d.find(EntityConverter.ID_FIELD).stream())
-                    .filter(Objects::nonNull)
-                    .map(d -> d.get(String.class))
-                    .forEach(collection::remove);
+        Objects.requireNonNull(query, "query is required");
+        readiness.run(() -> {
+            N1QLQuery n1QLQuery = N1QLBuilder.deleteOf(query, database, bucket.defaultScope().name()).get();
+            if (n1QLQuery.hasIds()) {
+                ReactiveCollection collection = bucket.collection(query.name()).reactive();
+                Flux.fromIterable(n1QLQuery.ids())
+                        .flatMap(id -> collection.remove(id)
+                                .onErrorResume(DocumentNotFoundException.class, exp -> {
+                                    LOGGER.log(Level.FINEST, "The id was not found: " + id);
+                                    return Mono.empty();
+                                }), concurrency)
+                        .then()
+                        .block();
+            }
+            if (!n1QLQuery.hasOnlyIds()) {
+                query(n1QLQuery);
+            }
         });
     }
 
-    private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        runnable.run();
-    }
-
-
-    private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        return supplier.get();
+    private QueryResult query(N1QLQuery n1QLQuery) {
+        if (n1QLQuery.isParameterEmpty()) {
+            return cluster.query(n1QLQuery.query());
+        }
+        return cluster.query(n1QLQuery.query(), QueryOptions.queryOptions().parameters(n1QLQuery.params()));
     }
 
     @Override
     public Stream<CommunicationEntity> select(final SelectQuery query) throws NullPointerException {
         Objects.requireNonNull(query, "query is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             N1QLQuery n1QLQuery = N1QLBuilder.of(query, database, bucket.defaultScope().name()).get();
+            if (streaming) {
+                return stream(query, n1QLQuery);
+            }
             List<JsonObject> jsons = new ArrayList<>();
             if (n1QLQuery.hasIds()) {
                 Collection collection = bucket.collection(query.name());
@@ -175,23 +198,45 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
             }
 
             if (!n1QLQuery.hasOnlyIds()) {
-                QueryResult result;
-                if (n1QLQuery.isParameterEmpty()) {
-                    result = cluster.query(n1QLQuery.query());
-                } else {
-                    result = cluster.query(n1QLQuery.query(), QueryOptions
-                            .queryOptions().parameters(n1QLQuery.params()));
-                }
-                jsons.addAll(result.rowsAsObject());
+                jsons.addAll(query(n1QLQuery).rowsAsObject());
             }
             return EntityConverter.convert(jsons, database);
         });
     }
 
+    /**
+     * Streams the documents of the ids, fetched concurrently and kept in the order of the ids, followed by the N1QL
+     * rows, each one decoded only when the caller consumes it. Closing the stream cancels the pending requests.
+     */
+    private Stream<CommunicationEntity> stream(SelectQuery query, N1QLQuery n1QLQuery) {
+        Flux<JsonObject> jsons = Flux.empty();
+        if (n1QLQuery.hasIds()) {
+            ReactiveCollection collection = bucket.collection(query.name()).reactive();
+            jsons = Flux.fromIterable(n1QLQuery.ids())
+                    .flatMapSequential(id -> collection.get(id)
+                            .map(GetResult::contentAsObject)
+                            .onErrorResume(DocumentNotFoundException.class, exp -> {
+                                LOGGER.log(Level.FINEST, "The id was not found: " + id);
+                                return Mono.empty();
+                            }), concurrency);
+        }
+        if (!n1QLQuery.hasOnlyIds()) {
+            QueryOptions options = QueryOptions.queryOptions();
+            if (!n1QLQuery.isParameterEmpty()) {
+                options.parameters(n1QLQuery.params());
+            }
+            jsons = jsons.concatWith(cluster.reactive().query(n1QLQuery.query(), options)
+                    .flatMapMany(ReactiveQueryResult::rowsAsObject));
+        }
+        return jsons.doOnError(readiness::failed)
+                .map(json -> EntityConverter.convert(json, database))
+                .toStream();
+    }
+
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             SelectQuery countQuery = SelectQuery
                     .select("COUNT(*)").from(documentCollection).build();
             N1QLQuery n1QLQuery = N1QLBuilder
@@ -208,16 +253,9 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public long count(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             N1QLQuery n1QLQuery = N1QLBuilder.countOf(query, database, bucket.defaultScope().name()).get();
-            QueryResult result;
-            if (n1QLQuery.isParameterEmpty()) {
-                result = cluster.query(n1QLQuery.query());
-            } else {
-                result = cluster.query(n1QLQuery.query(), QueryOptions
-                        .queryOptions().parameters(n1QLQuery.params()));
-            }
-            return result.rowsAsObject()
+            return query(n1QLQuery).rowsAsObject()
                     .stream()
                     .findFirst()
                     .map(json -> json.getLong("$1"))
@@ -229,7 +267,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     public Stream<CommunicationEntity> n1qlQuery(final String n1ql, final JsonObject params) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
         requireNonNull(params, "params is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             QueryResult query = cluster.query(n1ql, QueryOptions
                     .queryOptions().parameters(params));
             return EntityConverter.convert(query.rowsAsObject(), database);
@@ -240,13 +278,18 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Stream<CommunicationEntity> n1qlQuery(String n1ql) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             QueryResult query = cluster.query(n1ql);
             return EntityConverter.convert(query.rowsAsObject(), database);
         });
     }
 
 
+    @Override
+    public boolean isReady() {
+        return readiness.isReady();
+    }
+
     /**
      * Closing a {@link DefaultCouchbaseDocumentManager} has no effect.
      */
@@ -19,6 +19,7 @@ import jakarta.data.Direction;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.driver.StringMatch;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
@@ -36,13 +37,13 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
 
     private final String scope;
 
-    private final boolean shouldCount;
+    private final Operation operation;
 
-    private N1QLBuilder(SelectQuery query, String database, String scope, boolean shouldCount) {
+    private N1QLBuilder(SelectQuery query, String database, String scope, Operation operation) {
         this.query = query;
         this.database = database;
         this.scope = scope;
-        this.shouldCount = shouldCount;
+        this.operation = operation;
     }
 
     @Override
@@ -52,8 +53,12 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
         JsonObject params = JsonObject.create();
         List<String> ids = new ArrayList<>();
 
-        n1ql.append("select ");
-        n1ql.append(select()).append(' ');
+        if (Operation.DELETE.equals(operation)) {
+            n1ql.append("DELETE ");
+        } else {
+            n1ql.append("select ");
+            n1ql.append(select()).append(' ');
+        }
         n1ql.append("from ")
                 .append(database).append(".")
                 .append(scope).append(".")
@@ -64,7 +69,7 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
             condition(c, n1ql, params, ids);
         });
 
-        if (shouldCount) {
+        if (!Operation.SELECT.equals(operation)) {
             return N1QLQuery.of(n1ql, params, ids);
         }
 
@@ -91,14 +96,14 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
         Element document = condition.element();
         switch (condition.condition()) {
             case EQUALS:
-                if (document.name().equals(EntityConverter.ID_FIELD) && !shouldCount) {
+                if (document.name().equals(EntityConverter.ID_FIELD) && !Operation.COUNT.equals(operation)) {
                     ids.add(document.get(String.class));
                 } else {
                     predicate(n1ql, " = ", document, params);
                 }
                 return;
             case IN:
-                if (document.name().equals(EntityConverter.ID_FIELD) && !shouldCount) {
+                if (document.name().equals(EntityConverter.ID_FIELD) && !Operation.COUNT.equals(operation)) {
                     ids.addAll(document.get(new TypeReference<List<String>>() {
                     }));
                 } else {
@@ -197,7 +202,7 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
     }
 
     private String select() {
-        if (shouldCount) {
+        if (Operation.COUNT.equals(operation)) {
             return "COUNT(*)";
         }
         String documents = String.join(", ", query.columns());
@@ -208,10 +213,22 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
     }
 
     public static N1QLBuilder of(SelectQuery query, String database, String scope) {
-        return new N1QLBuilder(query, database, scope, false);
+        return new N1QLBuilder(query, database, scope, Operation.SELECT);
     }
 
     public static N1QLBuilder countOf(SelectQuery query, String database, String scope) {
-        return new N1QLBuilder(query, database, scope, true);
+        return new N1QLBuilder(query, database, scope, Operation.COUNT);
+    }
+
+    /**
+     * A {@code DELETE} statement of the query; as in the select, the conditions on {@link EntityConverter#ID_FIELD}
+     * are not part of the statement but returned as {@link N1QLQuery#ids()}, to be removed by key.
+     */
+    public static N1QLBuilder deleteOf(DeleteQuery query, String database, String scope) {
+        return new N1QLBuilder(DeleteQueryWrapper.of(query), database, scope, Operation.DELETE);
+    }
+
+    private enum Operation {
+        SELECT, COUNT, DELETE
     }
 }
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.core.error.UnambiguousTimeoutException;
+import com.couchbase.client.java.Bucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BucketReadinessTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    private Bucket bucket;
+
+    private BucketReadiness readiness;
+
+    @BeforeEach
+    void setUp() {
+        bucket = mock(Bucket.class);
+        readiness = new BucketReadiness(bucket, TIMEOUT);
+    }
+
+    @Test
+    void shouldWaitOnlyOnTheFirstOperation() {
+        assertThat(readiness.isReady()).isFalse();
+
+        assertThat(readiness.get(() -> "first")).isEqualTo("first");
+        readiness.run(() -> { });
+        assertThat(readiness.get(() -> "third")).isEqualTo("third");
+
+        verify(bucket, times(1)).waitUntilReady(TIMEOUT);
+        assertThat(readiness.isReady()).isTrue();
+    }
+
+    @Test
+    void shouldWaitAgainAfterConnectivityError() {
+        readiness.get(() -> "first");
+        UnambiguousTimeoutException timeout = mock(UnambiguousTimeoutException.class);
+
+        assertThatThrownBy(() -> readiness.run(() -> {
+            throw timeout;
+        })).isSameAs(timeout);
+        assertThat(readiness.isReady()).isFalse();
+
+        readiness.get(() -> "again");
+        verify(bucket, times(2)).waitUntilReady(TIMEOUT);
+        assertThat(readiness.isReady()).isTrue();
+    }
+
+    @Test
+    void shouldKeepReadyOnOtherErrors() {
+        readiness.get(() -> "first");
+        DocumentNotFoundException notFound = mock(DocumentNotFoundException.class);
+
+        assertThatThrownBy(() -> readiness.run(() -> {
+            throw notFound;
+        })).isSameAs(notFound);
+
+        readiness.get(() -> "again");
+        verify(bucket, times(1)).waitUntilReady(TIMEOUT);
+        assertThat(readiness.isReady()).isTrue();
+    }
+
+    @Test
+    void shouldNotLatchWhenBucketIsNotReady() {
+        UnambiguousTimeoutException timeout = mock(UnambiguousTimeoutException.class);
+        doThrow(timeout).doNothing().when(bucket).waitUntilReady(TIMEOUT);
+
+        assertThatThrownBy(() -> readiness.get(() -> "first")).isSameAs(timeout);
+        assertThat(readiness.isReady()).isFalse();
+
+        assertThat(readiness.get(() -> "second")).isEqualTo("second");
+        assertThat(readiness.isReady()).isTrue();
+    }
+}
@@ -170,6 +170,17 @@ public class CouchbaseBucketManagerTest {
         assertFalse(manager.get(KEY_OTAVIO).isPresent());
     }
 
+    @Test
+    public void shouldGetValuesInKeyOrder() {
+        manager.put(asList(soroEntity, entityOtavio));
+
+        Iterable<Value> values = manager.get(asList(KEY_OTAVIO, "not_found", KEY_SORO));
+
+        Assertions.assertThat(StreamSupport.stream(values.spliterator(), false)
+                .map(value -> value.get(User.class)).collect(Collectors.toList()))
+                .containsExactly(userOtavio, userSoro);
+    }
+
     @Test
     public void shouldRemoveMultiKey() {
 
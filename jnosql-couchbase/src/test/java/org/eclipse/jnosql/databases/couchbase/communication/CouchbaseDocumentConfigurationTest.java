@@ -14,11 +14,14 @@
  */
 package org.eclipse.jnosql.databases.couchbase.communication;
 
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class CouchbaseDocumentConfigurationTest {
@@ -31,6 +34,16 @@ public class CouchbaseDocumentConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldReadQueryStreaming() {
+        CouchbaseDocumentConfiguration configuration = new CouchbaseDocumentConfiguration();
+        configuration.update(Settings.builder().build());
+        assertFalse(configuration.toCouchbaseSettings().isQueryStreaming());
+
+        configuration.update(Settings.builder().put(CouchbaseConfigurations.QUERY_STREAMING.get(), "true").build());
+        assertTrue(configuration.toCouchbaseSettings().isQueryStreaming());
+    }
+
     @Test
     public void shouldGetConfiguration() {
         DatabaseConfiguration configuration = DatabaseConfiguration.getConfiguration();
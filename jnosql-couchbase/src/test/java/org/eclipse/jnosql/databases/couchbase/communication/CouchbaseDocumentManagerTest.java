@@ -134,6 +134,17 @@ public class CouchbaseDocumentManagerTest {
         assertTrue(entityManager.select(query).findAny().isEmpty());
     }
 
+    @Test
+    void shouldRemoveEntityById() throws InterruptedException {
+        entityManager.insert(getEntity());
+        Thread.sleep(1_000L);
+        SelectQuery query = select().from(COLLECTION_PERSON_NAME).where("_id").eq("id").build();
+        DeleteQuery deleteQuery = delete().from(COLLECTION_PERSON_NAME)
+                .where("_id").in(List.of("id", "not_found")).build();
+        entityManager.delete(deleteQuery);
+        assertTrue(entityManager.select(query).findAny().isEmpty());
+    }
+
     @Test
    void shouldSaveSubDocument() {
         CommunicationEntity entity = getEntity();
@@ -317,6 +328,31 @@ public class CouchbaseDocumentManagerTest {
         });
     }
 
+    @Test
+    void shouldStreamSelect() {
+        var streamingSettings = Database.INSTANCE.getSettingsBuilder()
+                .put(CouchbaseConfigurations.QUERY_STREAMING.get(), true).build();
+        CouchbaseDocumentManager streamingManager = Database.INSTANCE.getDocumentConfiguration()
+                .apply(streamingSettings).apply(CouchbaseUtil.BUCKET_NAME);
+        var entity = getEntity();
+        entityManager.insert(entity);
+
+        await().until(
+                () -> !(entityManager.select(select().from(entity.name()).build()).toList().isEmpty())
+        );
+
+        var byName = select().from(COLLECTION_PERSON_NAME).where("name").eq("Poliana").build();
+        var byId = select().from(COLLECTION_PERSON_NAME).where("_id").in(List.of("id", "not_found")).build();
+        assertSoftly(softly -> {
+            softly.assertThat(streamingManager.select(byName).toList())
+                    .extracting(e -> e.find("city").orElseThrow().get(String.class))
+                    .containsExactly("Salvador");
+            softly.assertThat(streamingManager.select(byId).toList())
+                    .extracting(e -> e.find("name").orElseThrow().get(String.class))
+                    .containsExactly("Poliana");
+        });
+    }
+
     @Test
     void shouldFindContains() {
         var entity = getEntity();
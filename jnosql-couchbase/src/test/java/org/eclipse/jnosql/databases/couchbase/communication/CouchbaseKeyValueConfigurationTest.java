@@ -14,13 +14,16 @@
  */
 package org.eclipse.jnosql.databases.couchbase.communication;
 
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CouchbaseKeyValueConfigurationTest {
 
@@ -38,6 +41,27 @@ public class CouchbaseKeyValueConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldUseDefaultKeyValueConcurrency() {
+        configuration.update(Settings.builder().build());
+        assertEquals(CouchbaseSettings.DEFAULT_KEY_VALUE_CONCURRENCY,
+                configuration.toCouchbaseSettings().getKeyValueConcurrency());
+    }
+
+    @Test
+    public void shouldReadKeyValueConcurrency() {
+        configuration.update(Settings.builder()
+                .put(CouchbaseConfigurations.KEY_VALUE_CONCURRENCY.get(), "8").build());
+        assertEquals(8, configuration.toCouchbaseSettings().getKeyValueConcurrency());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeyValueConcurrencyIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> configuration.setKeyValueConcurrency(0));
+        assertThrows(IllegalArgumentException.class, () -> configuration.update(Settings.builder()
+                .put(CouchbaseConfigurations.KEY_VALUE_CONCURRENCY.get(), "-1").build()));
+    }
+
     @Test
     public void shouldReturnFromConfiguration() {
         KeyValueConfiguration configuration = KeyValueConfiguration.getConfiguration();
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
+
+class N1QLBuilderTest {
+
+    @Test
+    void shouldCreateDeleteStatement() {
+        DeleteQuery query = delete().from("person").where("name").eq("Poliana").build();
+
+        N1QLQuery n1QLQuery = N1QLBuilder.deleteOf(query, "jnosql", "_default").get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(n1QLQuery.query()).startsWith("DELETE from jnosql._default.person WHERE  name  = $name_");
+            softly.assertThat(n1QLQuery.params().getNames()).hasSize(1);
+            softly.assertThat(n1QLQuery.params().getString(n1QLQuery.params().getNames().iterator().next()))
+                    .isEqualTo("Poliana");
+            softly.assertThat(n1QLQuery.hasIds()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldCreateDeleteStatementWithoutCondition() {
+        DeleteQuery query = delete().from("person").build();
+
+        N1QLQuery n1QLQuery = N1QLBuilder.deleteOf(query, "jnosql", "_default").get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(n1QLQuery.query()).isEqualTo("DELETE from jnosql._default.person");
+            softly.assertThat(n1QLQuery.isParameterEmpty()).isTrue();
+            softly.assertThat(n1QLQuery.hasOnlyIds()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldExtractIdsFromDelete() {
+        DeleteQuery query = delete().from("person").where("_id").in(List.of("id", "id2")).build();
+
+        N1QLQuery n1QLQuery = N1QLBuilder.deleteOf(query, "jnosql", "_default").get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(n1QLQuery.ids()).containsExactly("id", "id2");
+            softly.assertThat(n1QLQuery.hasOnlyIds()).isTrue();
+        });
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.eclipse.jnosql.communication.driver.attachment.AttachmentTransfer;
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The request body of an attachment upload, which writes the attachment straight to the connection
+ * in chunks instead of buffering it.
+ */
+final class AttachmentHttpEntity extends AbstractHttpEntity {
+
+    private final EntityAttachment attachment;
+
+    AttachmentHttpEntity(EntityAttachment attachment) {
+        this.attachment = attachment;
+        String contentType = attachment.getContentType();
+        setContentType(contentType == null ? ContentType.APPLICATION_OCTET_STREAM.getMimeType() : contentType);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return attachment.getLength();
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return attachment.getData();
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        AttachmentTransfer.transfer(attachment, outputStream);
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.eclipse.jnosql.communication.driver.attachment.AttachmentStore;
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@link AttachmentStore} backed by CouchDB document attachments: the attachment is uploaded as the
+ * request body, streamed in chunks, and downloaded only when its data is read.
+ * The document must exist before an attachment is put on it.
+ */
+final class CouchDBAttachmentStore implements AttachmentStore {
+
+    private final CouchDBHttpClient connector;
+
+    CouchDBAttachmentStore(CouchDBHttpClient connector) {
+        this.connector = connector;
+    }
+
+    @Override
+    public void put(String id, EntityAttachment attachment) {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(attachment, "attachment is required");
+        connector.putAttachment(id, attachment);
+    }
+
+    @Override
+    public Optional<EntityAttachment> get(String id, String name) {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(name, "name is required");
+        return connector.getAttachment(id, name);
+    }
+
+    @Override
+    public void delete(String id, String name) {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(name, "name is required");
+        connector.deleteAttachment(id, name);
+    }
+}
@@ -23,6 +23,7 @@ final class CouchDBConstant {
     static final String REV_RESPONSE = "rev";
     static final String ID_RESPONSE = "id";
     static final String ENTITY = "@entity";
+    static final String ATTACHMENTS = "_attachments";
 
     static final String ALL_DBS = "_all_dbs";
     static final String TOTAL_ROWS_RESPONSE = "total_rows";
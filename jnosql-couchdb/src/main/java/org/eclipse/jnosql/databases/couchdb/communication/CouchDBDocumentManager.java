@@ -16,6 +16,7 @@
  */
 package org.eclipse.jnosql.databases.couchdb.communication;
 
+import org.eclipse.jnosql.communication.driver.attachment.AttachmentStore;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 
 /**
@@ -45,4 +46,12 @@ public interface CouchDBDocumentManager extends DatabaseManager {
      * @throws UnsupportedOperationException if the database does not support counting documents
      */
     long count();
+
+    /**
+     * Returns the store of the document attachments, which uploads and downloads the content as a stream
+     * instead of copying it to the heap.
+     *
+     * @return the {@link AttachmentStore} of this database
+     */
+    AttachmentStore attachments();
 }
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An attachment stored in CouchDB, whose content is downloaded only when {@link #getData()} is called.
+ * CouchDB does not keep a modification date for attachments, so {@link #getLastModified()} is zero and
+ * the ETag is the content digest returned by the server.
+ */
+final class CouchDBEntityAttachment implements EntityAttachment {
+
+    private final String name;
+
+    private final String contentType;
+
+    private final long length;
+
+    private final String etag;
+
+    private final Download download;
+
+    CouchDBEntityAttachment(String name, String contentType, long length, String etag, Download download) {
+        this.name = name;
+        this.contentType = contentType;
+        this.length = length;
+        this.etag = etag;
+        this.download = download;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public long getLastModified() {
+        return 0L;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public InputStream getData() throws IOException {
+        return download.open();
+    }
+
+    @Override
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public String getETag() {
+        return etag == null ? EntityAttachment.super.getETag() : etag;
+    }
+
+    @FunctionalInterface
+    interface Download {
+
+        InputStream open() throws IOException;
+    }
+}
@@ -16,12 +16,14 @@ package org.eclipse.jnosql.databases.couchdb.communication;
 
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 final class CouchDBHttpClient {
@@ -61,6 +63,18 @@ final class CouchDBHttpClient {
         this.httpExecute.delete(database, query);
     }
 
+    public void putAttachment(String id, EntityAttachment attachment) {
+        this.httpExecute.putAttachment(database, id, attachment);
+    }
+
+    public Optional<EntityAttachment> getAttachment(String id, String name) {
+        return this.httpExecute.getAttachment(database, id, name);
+    }
+
+    public void deleteAttachment(String id, String name) {
+        this.httpExecute.deleteAttachment(database, id, name);
+    }
+
     public long count() {
         return httpExecute.count(database);
     }
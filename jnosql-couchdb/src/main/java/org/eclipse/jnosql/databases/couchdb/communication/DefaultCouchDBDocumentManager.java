@@ -17,6 +17,7 @@
 package org.eclipse.jnosql.databases.couchdb.communication;
 
 
+import org.eclipse.jnosql.communication.driver.attachment.AttachmentStore;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
@@ -99,6 +100,11 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
         return connector.count();
     }
 
+    @Override
+    public AttachmentStore attachments() {
+        return new CouchDBAttachmentStore(connector);
+    }
+
     @Override
     public long count(String documentCollection) {
        throw new UnsupportedOperationException("CouchDB does not have support to count by document Collection," +
@@ -16,31 +16,41 @@ package org.eclipse.jnosql.databases.couchdb.communication;
 
 import jakarta.json.JsonObject;
 import jakarta.json.bind.Jsonb;
+import org.apache.commons.codec.EncoderException;
 import org.apache.commons.codec.net.URLCodec;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.Elements;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntPredicate;
 import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -87,9 +97,16 @@ class HttpExecute {
     }
 
     public CommunicationEntity insert(String database, CommunicationEntity entity) {
+        return save(database, entity, null);
+    }
+
+    private CommunicationEntity save(String database, CommunicationEntity entity, Object attachments) {
         Map<String, Object> map = new HashMap<>(entity.toMap());
         String id = map.getOrDefault(CouchDBConstant.ID, "").toString();
         map.put(CouchDBConstant.ENTITY, entity.name());
+        if (attachments != null) {
+            map.putIfAbsent(CouchDBConstant.ATTACHMENTS, attachments);
+        }
         try {
             HttpEntityEnclosingRequestBase request;
             if (id.isEmpty()) {
@@ -117,7 +134,46 @@ class HttpExecute {
         String id = getId(entity);
         Map<String, Object> json = findById(database, id);
         entity.add(CouchDBConstant.REV, json.get(CouchDBConstant.REV));
-        return insert(database, entity);
+        return save(database, entity, json.get(CouchDBConstant.ATTACHMENTS));
+    }
+
+    public void putAttachment(String database, String id, EntityAttachment attachment) {
+        String rev = findById(database, id).get(CouchDBConstant.REV).toString();
+        HttpPut request = new HttpPut(attachmentUrl(database, id, attachment.name()) + "?rev=" + rev);
+        request.setEntity(new AttachmentHttpEntity(attachment));
+        execute(request, JSON, status -> status == HttpStatus.SC_CREATED || status == HttpStatus.SC_ACCEPTED);
+    }
+
+    public Optional<EntityAttachment> getAttachment(String database, String id, String name) {
+        String url = attachmentUrl(database, id, name);
+        HttpHead request = new HttpHead(url);
+        configuration.getHashPassword().ifPresent(s -> request.setHeader(HttpHeaders.AUTHORIZATION, s));
+        try (CloseableHttpResponse result = client.execute(request)) {
+            int status = result.getStatusLine().getStatusCode();
+            if (status == HttpStatus.SC_NOT_FOUND) {
+                return Optional.empty();
+            }
+            if (status != HttpStatus.SC_OK) {
+                throw new CouchDBHttpClientException("There is an error when load the attachment " + name
+                        + " status: " + status);
+            }
+            String contentType = header(result, HttpHeaders.CONTENT_TYPE);
+            String length = header(result, HttpHeaders.CONTENT_LENGTH);
+            String etag = header(result, HttpHeaders.ETAG);
+            return Optional.of(new CouchDBEntityAttachment(name, contentType,
+                    length == null ? -1L : Long.parseLong(length), etag, () -> download(url)));
+        } catch (CouchDBHttpClientException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new CouchDBHttpClientException("An error to access the database", ex);
+        }
+    }
+
+    public void deleteAttachment(String database, String id, String name) {
+        String rev = findById(database, id).get(CouchDBConstant.REV).toString();
+        HttpDelete request = new HttpDelete(attachmentUrl(database, id, name) + "?rev=" + rev);
+        execute(request, null, status -> status == HttpStatus.SC_OK || status == HttpStatus.SC_ACCEPTED
+                || status == HttpStatus.SC_NOT_FOUND);
     }
 
     public Stream<CommunicationEntity> select(String database, SelectQuery query) {
@@ -169,6 +225,42 @@ class HttpExecute {
         return entity;
     }
 
+    private InputStream download(String url) throws IOException {
+        HttpGet request = new HttpGet(url);
+        configuration.getHashPassword().ifPresent(s -> request.setHeader(HttpHeaders.AUTHORIZATION, s));
+        CloseableHttpResponse result = client.execute(request);
+        int status = result.getStatusLine().getStatusCode();
+        if (status != HttpStatus.SC_OK) {
+            result.close();
+            throw new CouchDBHttpClientException("There is an error when download the attachment, status: "
+                    + status);
+        }
+        return new FilterInputStream(result.getEntity().getContent()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    result.close();
+                }
+            }
+        };
+    }
+
+    private String attachmentUrl(String database, String id, String name) {
+        try {
+            return configuration.getUrl().concat(database).concat("/").concat(CODEC.encode(id))
+                    .concat("/").concat(CODEC.encode(name));
+        } catch (EncoderException exp) {
+            throw new CouchDBHttpClientException("There is an error to encode the attachment URL " + name);
+        }
+    }
+
+    private static String header(HttpResponse response, String name) {
+        Header header = response.getFirstHeader(name);
+        return header == null ? null : header.getValue();
+    }
+
     private Map<String, Object> findById(String database, String id) {
         HttpGet request = new HttpGet(configuration.getUrl().concat(database).concat("/").concat(id));
         return execute(request, JSON, HttpStatus.SC_OK);
@@ -186,10 +278,14 @@ class HttpExecute {
     }
 
     private <T> T execute(HttpUriRequest request, Type type, int expectedStatus, boolean ignoreStatus) {
+        return execute(request, type, status -> ignoreStatus || status == expectedStatus);
+    }
+
+    private <T> T execute(HttpUriRequest request, Type type, IntPredicate expectedStatus) {
 
         configuration.getHashPassword().ifPresent(s -> request.setHeader(HttpHeaders.AUTHORIZATION, s));
         try (CloseableHttpResponse result = client.execute(request)) {
-            if (!ignoreStatus && result.getStatusLine().getStatusCode() != expectedStatus) {
+            if (!expectedStatus.test(result.getStatusLine().getStatusCode())) {
                 ByteArrayOutputStream stream = new ByteArrayOutputStream();
                 result.getEntity().writeTo(stream);
                 String response = new String(stream.toByteArray(), UTF_8);
@@ -18,6 +18,8 @@ package org.eclipse.jnosql.databases.couchdb.communication;
 
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.driver.attachment.AttachmentStore;
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.Elements;
@@ -28,6 +30,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -325,6 +330,60 @@ class DefaultCouchDBDocumentManagerTest {
         return entity;
     }
 
+    @Test
+    void shouldPutAndGetAttachment() throws IOException {
+        var entity = getEntity();
+        entityManager.insert(entity);
+        byte[] data = "Salvador".getBytes(StandardCharsets.UTF_8);
+        AttachmentStore attachments = entityManager.attachments();
+
+        attachments.put("id", EntityAttachment.of("city.txt", System.currentTimeMillis(), "text/plain", data));
+
+        var attachment = attachments.get("id", "city.txt").orElseThrow();
+        try (InputStream stream = attachment.getData()) {
+            assertThat(stream.readAllBytes()).isEqualTo(data);
+        }
+        assertThat(attachment.getLength()).isEqualTo(data.length);
+        assertThat(attachment.getContentType()).startsWith("text/plain");
+    }
+
+    @Test
+    void shouldKeepAttachmentOnUpdate() {
+        var entity = getEntity();
+        entityManager.insert(entity);
+        AttachmentStore attachments = entityManager.attachments();
+        attachments.put("id", EntityAttachment.of("city.txt", System.currentTimeMillis(), "text/plain",
+                "Salvador".getBytes(StandardCharsets.UTF_8)));
+
+        var updated = getEntity();
+        updated.add("newField", "10");
+        entityManager.update(updated);
+
+        assertThat(attachments.get("id", "city.txt")).isPresent();
+    }
+
+    @Test
+    void shouldDeleteAttachment() {
+        var entity = getEntity();
+        entityManager.insert(entity);
+        AttachmentStore attachments = entityManager.attachments();
+        attachments.put("id", EntityAttachment.of("city.txt", System.currentTimeMillis(), "text/plain",
+                "Salvador".getBytes(StandardCharsets.UTF_8)));
+
+        attachments.delete("id", "city.txt");
+
+        assertThat(attachments.get("id", "city.txt")).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreMissingAttachmentOnDelete() {
+        var entity = getEntity();
+        entityManager.insert(entity);
+        AttachmentStore attachments = entityManager.attachments();
+
+        Assertions.assertDoesNotThrow(() -> attachments.delete("id", "missing.txt"));
+    }
+
     private CommunicationEntity getEntity() {
         CommunicationEntity entity = CommunicationEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
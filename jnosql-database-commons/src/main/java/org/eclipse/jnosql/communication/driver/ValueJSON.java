@@ -14,26 +14,50 @@
  */
 package org.eclipse.jnosql.communication.driver;
 
+import jakarta.json.Json;
 import jakarta.json.bind.Jsonb;
+import jakarta.json.stream.JsonParser;
 import org.eclipse.jnosql.communication.TypeSupplier;
 import org.eclipse.jnosql.communication.Value;
 
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
  * A {@link Value} implementation that storage all the information as a {@link String} with JSON format.
+ * An object given to {@link ValueJSON#of(Object)} is serialized right away, so later changes to it do not change
+ * the value. Every read of a mutable type, such as a collection, a map or an entity, binds a new instance from the
+ * JSON, so the caller may modify it; the immutable types, such as {@link String}, the numbers, the enums and the
+ * {@code java.time} types, are parsed once per type and reused, including a JSON {@code null}.
+ * For large payloads, {@link ValueJSON#parser()} reads the JSON as a stream of events instead of binding it.
  */
 public class ValueJSON implements Value {
 
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
+    private static final Object NULL = new Object();
+
     private final String json;
 
+    private final Jsonb jsonb;
+
+    private final Map<Class<?>, Object> parsed = new ConcurrentHashMap<>();
+
     ValueJSON(String json) {
-        this.json = json;
+        this(json, JSONB);
     }
 
+    ValueJSON(String json, Jsonb jsonb) {
+        this.json = json;
+        this.jsonb = jsonb;
+    }
 
     @Override
     public Object get() {
@@ -43,13 +67,20 @@ public class ValueJSON implements Value {
     @Override
     public <T> T get(Class<T> clazz) throws NullPointerException, UnsupportedOperationException {
         Objects.requireNonNull(clazz, "clazz is required");
-        return JSONB.fromJson(json, clazz);
+        if (isImmutable(clazz)) {
+            return parse(clazz);
+        }
+        return jsonb.fromJson(json, clazz);
     }
 
     @Override
     public <T> T get(TypeSupplier<T> typeSupplier) throws NullPointerException, UnsupportedOperationException {
         Objects.requireNonNull(typeSupplier, "typeSupplier is required");
-        return JSONB.fromJson(json, typeSupplier.get());
+        Type type = typeSupplier.get();
+        if (type instanceof Class<?> clazz && isImmutable(clazz)) {
+            return parse(clazz);
+        }
+        return jsonb.fromJson(json, type);
     }
 
     @Override
@@ -63,6 +94,44 @@ public class ValueJSON implements Value {
         return false;
     }
 
+    /**
+     * Creates a JSON-P {@link JsonParser} over the JSON, which reads it as a stream of events without
+     * building the bound object, for large payloads where only part of the content is needed.
+     * The caller must close the parser.
+     *
+     * @return a new {@link JsonParser} instance
+     */
+    public JsonParser parser() {
+        return Json.createParser(new StringReader(json));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T parse(Class<?> type) {
+        Object value = parsed.computeIfAbsent(type, t -> {
+            Object result = jsonb.fromJson(json, t);
+            return result == null ? NULL : result;
+        });
+        return value == NULL ? null : (T) value;
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive()
+                || type.isEnum()
+                || type == String.class
+                || type == Boolean.class
+                || type == Character.class
+                || type == Byte.class
+                || type == Short.class
+                || type == Integer.class
+                || type == Long.class
+                || type == Float.class
+                || type == Double.class
+                || type == BigInteger.class
+                || type == BigDecimal.class
+                || type == UUID.class
+                || "java.time".equals(type.getPackageName()) && !type.isInterface();
+    }
+
     /**
      * Returns a new instance of {@link Value} keeping the value as JSON
      *
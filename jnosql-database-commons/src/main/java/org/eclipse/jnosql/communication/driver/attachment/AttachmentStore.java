@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.attachment;
+
+import java.util.Optional;
+
+/**
+ * A database backend that keeps the binary attachments of entities, such as MongoDB GridFS or
+ * CouchDB document attachments. Implementations stream the content through
+ * {@link EntityAttachment#transferTo(java.nio.channels.WritableByteChannel)} on writes and return
+ * attachments that open the content lazily on reads, so payloads are never copied whole to the heap.
+ *
+ * @see AttachmentTransfer
+ */
+public interface AttachmentStore {
+
+    /**
+     * Stores the attachment of the entity, replacing the previous one with the same name
+     *
+     * @param id         the entity id
+     * @param attachment the attachment
+     * @throws NullPointerException when there is any null parameter
+     * @throws org.eclipse.jnosql.communication.CommunicationException when the content cannot be transferred
+     */
+    void put(String id, EntityAttachment attachment);
+
+    /**
+     * Finds the attachment of the entity by name; its content is only read when requested
+     *
+     * @param id   the entity id
+     * @param name the attachment name
+     * @return the attachment, or {@link Optional#empty()} when it does not exist
+     * @throws NullPointerException when there is any null parameter
+     */
+    Optional<EntityAttachment> get(String id, String name);
+
+    /**
+     * Removes the attachment of the entity by name, when it exists
+     *
+     * @param id   the entity id
+     * @param name the attachment name
+     * @throws NullPointerException when there is any null parameter
+     */
+    void delete(String id, String name);
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.attachment;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Moves the content of an {@link EntityAttachment} to a target in fixed-size chunks, so an attachment
+ * is never held whole on the heap while it is sent to a database.
+ *
+ * @see EntityAttachment#transferTo(WritableByteChannel)
+ */
+public final class AttachmentTransfer {
+
+    /**
+     * The default chunk size, 64 KiB.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private AttachmentTransfer() {
+    }
+
+    /**
+     * Writes the attachment content to the output stream
+     *
+     * @param attachment the attachment
+     * @param target     the output stream, which is not closed
+     * @return the number of bytes written
+     * @throws IOException          if there is an I/O problem reading or writing the content
+     * @throws NullPointerException when there is any null parameter
+     */
+    public static long transfer(EntityAttachment attachment, OutputStream target) throws IOException {
+        Objects.requireNonNull(attachment, "attachment is required");
+        Objects.requireNonNull(target, "target is required");
+        return attachment.transferTo(Channels.newChannel(target));
+    }
+
+    /**
+     * Copies the input stream to the channel through a single buffer of {@code chunkSize} bytes
+     *
+     * @param source    the input stream, which is not closed
+     * @param target    the channel, which is not closed
+     * @param chunkSize the buffer size
+     * @return the number of bytes written
+     * @throws IOException              if there is an I/O problem reading or writing the content
+     * @throws NullPointerException     when there is any null parameter
+     * @throws IllegalArgumentException when chunkSize is not positive
+     */
+    public static long copy(InputStream source, WritableByteChannel target, int chunkSize) throws IOException {
+        Objects.requireNonNull(source, "source is required");
+        return copy(Channels.newChannel(source), target, chunkSize);
+    }
+
+    /**
+     * Copies the channel to the other one through a single buffer of {@code chunkSize} bytes
+     *
+     * @param source    the source channel, which is not closed
+     * @param target    the target channel, which is not closed
+     * @param chunkSize the buffer size
+     * @return the number of bytes written
+     * @throws IOException              if there is an I/O problem reading or writing the content
+     * @throws NullPointerException     when there is any null parameter
+     * @throws IllegalArgumentException when chunkSize is not positive
+     */
+    public static long copy(ReadableByteChannel source, WritableByteChannel target, int chunkSize)
+            throws IOException {
+        Objects.requireNonNull(source, "source is required");
+        Objects.requireNonNull(target, "target is required");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than zero: " + chunkSize);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+        long total = 0;
+        while (source.read(buffer) >= 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                total += target.write(buffer);
+            }
+            buffer.clear();
+        }
+        return total;
+    }
+
+    /**
+     * Copies the file channel to the target with {@link FileChannel#transferTo(long, long, WritableByteChannel)},
+     * which lets the operating system move the bytes without copying them to the heap when the target is
+     * a file or a socket channel. When {@code transferTo} moves nothing, e.g.: a non-blocking target that is
+     * not ready, the next chunk is copied through a buffer, so the whole file is always written.
+     *
+     * @param source the file channel, which is not closed
+     * @param target the target channel, which is not closed
+     * @return the number of bytes written
+     * @throws IOException          if there is an I/O problem reading or writing the content
+     * @throws EOFException         when the file ends before the size it had when the copy started
+     * @throws NullPointerException when there is any null parameter
+     */
+    public static long copy(FileChannel source, WritableByteChannel target) throws IOException {
+        Objects.requireNonNull(source, "source is required");
+        Objects.requireNonNull(target, "target is required");
+        long size = source.size();
+        long position = 0;
+        ByteBuffer buffer = null;
+        while (position < size) {
+            long transferred = source.transferTo(position, size - position, target);
+            if (transferred > 0) {
+                position += transferred;
+                continue;
+            }
+            if (buffer == null) {
+                buffer = ByteBuffer.allocate((int) Math.min(DEFAULT_CHUNK_SIZE, size - position));
+            }
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), size - position));
+            if (source.read(buffer, position) < 0) {
+                throw new EOFException("The file ended at byte " + position + " of " + size);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += target.write(buffer);
+            }
+        }
+        return position;
+    }
+}
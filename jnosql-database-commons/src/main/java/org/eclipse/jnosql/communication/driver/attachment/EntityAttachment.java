@@ -17,6 +17,7 @@ package org.eclipse.jnosql.communication.driver.attachment;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.Objects;
 
@@ -46,6 +47,20 @@ public interface EntityAttachment {
      * @return the size of the content in bytes
      */
     long getLength();
+
+    /**
+     * Writes the content of the attachment to the channel in chunks of
+     * {@link AttachmentTransfer#DEFAULT_CHUNK_SIZE} bytes, without holding the whole content on the heap.
+     *
+     * @param target the channel to write to, which is not closed
+     * @return the number of bytes written
+     * @throws IOException if there is an I/O problem reading or writing the content
+     */
+    default long transferTo(WritableByteChannel target) throws IOException {
+        try (InputStream data = getData()) {
+            return AttachmentTransfer.copy(data, target, AttachmentTransfer.DEFAULT_CHUNK_SIZE);
+        }
+    }
     
     /**
      * @return an ETag value for the current version of the content
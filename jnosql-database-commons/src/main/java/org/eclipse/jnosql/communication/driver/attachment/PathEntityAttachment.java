@@ -18,8 +18,11 @@ import org.eclipse.jnosql.communication.CommunicationException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 
 /**
@@ -67,6 +70,18 @@ public class PathEntityAttachment implements EntityAttachment {
         return Files.newInputStream(path);
     }
 
+    /**
+     * Writes the file with {@link FileChannel#transferTo(long, long, WritableByteChannel)}, so the bytes go from
+     * the file to the target without being copied to the heap when the target is a file or a socket channel.
+     */
+    @Override
+    public long transferTo(WritableByteChannel target) throws IOException {
+        Objects.requireNonNull(target, "target is required");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return AttachmentTransfer.copy(channel, target);
+        }
+    }
+
     @Override
     public long getLength() {
         try {
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.List;
+
+/**
+ * Exports the measures to every enabled {@link DatabaseMetrics}.
+ */
+final class CompositeDatabaseMetrics implements DatabaseMetrics {
+
+    private final List<DatabaseMetrics> metrics;
+
+    CompositeDatabaseMetrics(List<DatabaseMetrics> metrics) {
+        this.metrics = List.copyOf(metrics);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        for (DatabaseMetrics metric : metrics) {
+            if (metric.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void record(OperationMetric metric) {
+        for (DatabaseMetrics exporter : metrics) {
+            if (exporter.isEnabled()) {
+                exporter.record(metric);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Measures the time the driver spends converting between entities and the database native format,
+ * so the instrumented managers can split it from the database time.
+ * Drivers wrap their conversions with {@link #measure(Supplier)}; the time is only taken while an instrumented
+ * operation is running on the current thread, otherwise the conversion is just called; until the first instrumented
+ * operation, it is called without even looking up the clock of the thread.
+ */
+public final class ConversionClock {
+
+    private static final ThreadLocal<ConversionClock> CLOCKS = ThreadLocal.withInitial(ConversionClock::new);
+
+    private static volatile boolean enabled;
+
+    private int operations;
+
+    private boolean converting;
+
+    private long nanos;
+
+    private ConversionClock() {
+    }
+
+    /**
+     * Runs the conversion, adding its time to the operation running on the current thread.
+     * Nested conversions are measured once, by the outermost call.
+     *
+     * @param conversion the conversion
+     * @param <T>        the conversion result type
+     * @return the conversion result
+     * @throws NullPointerException when conversion is null
+     */
+    public static <T> T measure(Supplier<T> conversion) {
+        Objects.requireNonNull(conversion, "conversion is required");
+        if (!enabled) {
+            return conversion.get();
+        }
+        ConversionClock clock = CLOCKS.get();
+        if (clock.operations == 0 || clock.converting) {
+            return conversion.get();
+        }
+        clock.converting = true;
+        long start = System.nanoTime();
+        try {
+            return conversion.get();
+        } finally {
+            clock.nanos += System.nanoTime() - start;
+            clock.converting = false;
+        }
+    }
+
+    /**
+     * Starts measuring the conversions of the current thread.
+     *
+     * @return the mark to give to {@link #end(long)}
+     */
+    static long begin() {
+        if (!enabled) {
+            enabled = true;
+        }
+        ConversionClock clock = CLOCKS.get();
+        clock.operations++;
+        return clock.nanos;
+    }
+
+    /**
+     * Stops measuring the conversions started by {@link #begin()}.
+     *
+     * @param mark the mark returned by {@link #begin()}
+     * @return the conversion time since the mark in nanoseconds
+     */
+    static long end(long mark) {
+        ConversionClock clock = CLOCKS.get();
+        long elapsed = clock.nanos - mark;
+        if (--clock.operations == 0) {
+            clock.nanos = 0L;
+        }
+        return elapsed;
+    }
+}
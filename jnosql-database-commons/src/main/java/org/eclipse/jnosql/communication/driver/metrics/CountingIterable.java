@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Counts the elements of an {@link Iterable} given to an operation while the delegate manager iterates it, so a
+ * one-shot iterable is only read by the delegate. A {@link Collection} is passed as is and counted by its size.
+ *
+ * @param <T> the element type
+ */
+final class CountingIterable<T> implements Iterable<T> {
+
+    private final Iterable<T> source;
+
+    private long count;
+
+    private CountingIterable(Iterable<T> source) {
+        this.source = source;
+    }
+
+    static <T> CountingIterable<T> of(Iterable<T> source) {
+        return new CountingIterable<>(source);
+    }
+
+    /**
+     * @return the iterable to give to the delegate manager
+     */
+    Iterable<T> input() {
+        if (source == null || source instanceof Collection<?>) {
+            return source;
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of elements, or the most elements read by any iteration of the delegate manager
+     */
+    long count() {
+        if (source == null) {
+            return 0L;
+        }
+        if (source instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        return count;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = source.iterator();
+        return new Iterator<>() {
+
+            private long read;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                T next = iterator.next();
+                if (++read > count) {
+                    count = read;
+                }
+                return next;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+/**
+ * The SPI that exports the measures of the instrumented managers, e.g., to Micrometer or as JFR events.
+ * The implementations are loaded with {@link java.util.ServiceLoader}; {@link JFRDatabaseMetrics} is the built-in one,
+ * enabled with the system property {@value Instrumentation#JFR_PROPERTY}.
+ * The managers check {@link #isEnabled()} before every operation, and skip any measuring when it returns false.
+ * The conversion time is only reported by the drivers that measure their conversions with {@link ConversionClock},
+ * currently the MongoDB codec and the ArangoDB serde; the operations of the other drivers report a conversion time
+ * of zero, so their whole time is counted as database time.
+ *
+ * @see Instrumentation
+ */
+public interface DatabaseMetrics {
+
+    /**
+     * The metrics that record nothing; {@link Instrumentation} does not decorate the managers with it.
+     */
+    DatabaseMetrics NONE = new DatabaseMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(OperationMetric metric) {
+        }
+    };
+
+    /**
+     * Checks whether the measures are currently exported. It is called on every operation, so it must be cheap.
+     *
+     * @return true when the measures are exported
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Exports the measures of an operation. It is called on the thread that ran, or finished streaming, the operation.
+     *
+     * @param metric the measures
+     */
+    void record(OperationMetric metric);
+}
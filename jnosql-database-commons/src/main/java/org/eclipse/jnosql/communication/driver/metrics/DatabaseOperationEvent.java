@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The JFR event committed by {@link JFRDatabaseMetrics} for each database operation.
+ */
+@Name("org.eclipse.jnosql.DatabaseOperation")
+@Label("Database Operation")
+@Category({"Eclipse JNoSQL", "Database"})
+@Description("An operation of an instrumented Eclipse JNoSQL manager")
+@StackTrace(false)
+final class DatabaseOperationEvent extends jdk.jfr.Event {
+
+    @Label("Database")
+    String database;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Entity")
+    String entity;
+
+    @Label("Total Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long totalTime;
+
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long databaseTime;
+
+    @Label("Conversion Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long conversionTime;
+
+    @Label("Entities")
+    long entities;
+
+    @Label("Failure")
+    String failure;
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * Decorates the managers of any driver so every operation is measured and exported to the {@link DatabaseMetrics}:
+ * the total time, the time spent converting entities, split from the database time, and the number of entities
+ * written, read or streamed.
+ * The exporters are the {@link DatabaseMetrics} loaded with {@link ServiceLoader} and, when the system property
+ * {@value #JFR_PROPERTY} is {@code true}, the built-in {@link JFRDatabaseMetrics}.
+ * When there is none, the manager is returned as is, so there is no overhead.
+ * <pre>{@code
+ * DatabaseManager manager = Instrumentation.wrap(factory.apply("database"));
+ * }</pre>
+ */
+public final class Instrumentation {
+
+    /**
+     * The system property that enables the built-in {@link JFRDatabaseMetrics} exporter.
+     */
+    public static final String JFR_PROPERTY = "jnosql.metrics.jfr";
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Returns the metrics loaded with {@link ServiceLoader}, plus {@link JFRDatabaseMetrics} when
+     * {@value #JFR_PROPERTY} is {@code true}; when there are several, the measures are exported to all of them.
+     *
+     * @return the metrics, or {@link DatabaseMetrics#NONE} when there is none
+     */
+    public static DatabaseMetrics metrics() {
+        return ServiceLoaderHolder.METRICS;
+    }
+
+    /**
+     * Decorates the manager with the metrics loaded with {@link ServiceLoader}.
+     *
+     * @param manager the manager
+     * @return the instrumented manager, or the manager itself when there is no metrics
+     * @throws NullPointerException when manager is null
+     */
+    public static DatabaseManager wrap(DatabaseManager manager) {
+        return wrap(manager, metrics());
+    }
+
+    /**
+     * Decorates the manager with the given metrics; a {@link GraphDatabaseManager} keeps its graph operations.
+     *
+     * @param manager the manager
+     * @param metrics the metrics
+     * @return the instrumented manager, or the manager itself when the metrics is {@link DatabaseMetrics#NONE}
+     * @throws NullPointerException when there is any null parameter
+     */
+    public static DatabaseManager wrap(DatabaseManager manager, DatabaseMetrics metrics) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(metrics, "metrics is required");
+        if (manager instanceof GraphDatabaseManager graph) {
+            return wrap(graph, metrics);
+        }
+        if (metrics == DatabaseMetrics.NONE || isInstrumented(manager, metrics)) {
+            return manager;
+        }
+        return new InstrumentedDatabaseManager(manager, metrics);
+    }
+
+    /**
+     * Decorates the graph manager with the metrics loaded with {@link ServiceLoader}.
+     *
+     * @param manager the manager
+     * @return the instrumented manager, or the manager itself when there is no metrics
+     * @throws NullPointerException when manager is null
+     */
+    public static GraphDatabaseManager wrap(GraphDatabaseManager manager) {
+        return wrap(manager, metrics());
+    }
+
+    /**
+     * Decorates the graph manager with the given metrics.
+     *
+     * @param manager the manager
+     * @param metrics the metrics
+     * @return the instrumented manager, or the manager itself when the metrics is {@link DatabaseMetrics#NONE}
+     * @throws NullPointerException when there is any null parameter
+     */
+    public static GraphDatabaseManager wrap(GraphDatabaseManager manager, DatabaseMetrics metrics) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(metrics, "metrics is required");
+        if (metrics == DatabaseMetrics.NONE || isInstrumented(manager, metrics)) {
+            return manager;
+        }
+        return new InstrumentedGraphDatabaseManager(manager, metrics);
+    }
+
+    /**
+     * Decorates the bucket manager with the metrics loaded with {@link ServiceLoader}.
+     *
+     * @param manager the manager
+     * @return the instrumented manager, or the manager itself when there is no metrics
+     * @throws NullPointerException when manager is null
+     */
+    public static BucketManager wrap(BucketManager manager) {
+        return wrap(manager, metrics());
+    }
+
+    /**
+     * Decorates the bucket manager with the given metrics.
+     *
+     * @param manager the manager
+     * @param metrics the metrics
+     * @return the instrumented manager, or the manager itself when the metrics is {@link DatabaseMetrics#NONE}
+     * @throws NullPointerException when there is any null parameter
+     */
+    public static BucketManager wrap(BucketManager manager, DatabaseMetrics metrics) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(metrics, "metrics is required");
+        if (metrics == DatabaseMetrics.NONE || isInstrumented(manager, metrics)) {
+            return manager;
+        }
+        return new InstrumentedBucketManager(manager, metrics);
+    }
+
+    private static boolean isInstrumented(DatabaseManager manager, DatabaseMetrics metrics) {
+        return manager instanceof InstrumentedDatabaseManager instrumented && instrumented.metrics == metrics;
+    }
+
+    private static boolean isInstrumented(BucketManager manager, DatabaseMetrics metrics) {
+        return manager instanceof InstrumentedBucketManager instrumented && instrumented.metrics == metrics;
+    }
+
+    private static final class ServiceLoaderHolder {
+
+        private static final DatabaseMetrics METRICS = load();
+
+        private static DatabaseMetrics load() {
+            List<DatabaseMetrics> metrics = new ArrayList<>();
+            ServiceLoader.load(DatabaseMetrics.class).forEach(metrics::add);
+            if (Boolean.getBoolean(JFR_PROPERTY)) {
+                metrics.add(new JFRDatabaseMetrics());
+            }
+            if (metrics.isEmpty()) {
+                return DatabaseMetrics.NONE;
+            }
+            if (metrics.size() == 1) {
+                return metrics.get(0);
+            }
+            return new CompositeDatabaseMetrics(metrics);
+        }
+    }
+}
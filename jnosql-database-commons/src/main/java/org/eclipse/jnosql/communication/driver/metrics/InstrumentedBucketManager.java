@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link BucketManager} decorator that records every operation to the {@link DatabaseMetrics}.
+ * Key-value operations are not bound to an entity, so the bucket name identifies them.
+ */
+final class InstrumentedBucketManager implements BucketManager {
+
+    private final BucketManager delegate;
+
+    final DatabaseMetrics metrics;
+
+    InstrumentedBucketManager(BucketManager delegate, DatabaseMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        record(Operation.PUT, () -> {
+            delegate.put(key, value);
+            return null;
+        }, r -> 1L);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        record(Operation.PUT, () -> {
+            delegate.put(entity);
+            return null;
+        }, r -> 1L);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        record(Operation.PUT, () -> {
+            delegate.put(entity, ttl);
+            return null;
+        }, r -> 1L);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        var counted = CountingIterable.of(entities);
+        record(Operation.PUT, () -> {
+            delegate.put(counted.input());
+            return null;
+        }, r -> counted.count());
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        var counted = CountingIterable.of(entities);
+        record(Operation.PUT, () -> {
+            delegate.put(counted.input(), ttl);
+            return null;
+        }, r -> counted.count());
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        return record(Operation.GET, () -> delegate.get(key), v -> v.isPresent() ? 1L : 0L);
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        var counted = CountingIterable.of(keys);
+        return record(Operation.GET, () -> delegate.get(counted.input()),
+                values -> values instanceof Collection<?> collection ? collection.size() : counted.count());
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        record(Operation.DELETE, () -> {
+            delegate.delete(key);
+            return null;
+        }, r -> 1L);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        var counted = CountingIterable.of(keys);
+        record(Operation.DELETE, () -> {
+            delegate.delete(counted.input());
+            return null;
+        }, r -> counted.count());
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private <T> T record(Operation operation, Supplier<T> call, ToLongFunction<T> entities) {
+        return Recording.run(metrics, name(), operation, null, call, entities);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.time.Duration;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link DatabaseManager} decorator that records every operation to the {@link DatabaseMetrics}.
+ * The stream returned by select is measured while it is consumed, and recorded once it is exhausted or closed.
+ */
+class InstrumentedDatabaseManager implements DatabaseManager {
+
+    private final DatabaseManager delegate;
+
+    final DatabaseMetrics metrics;
+
+    InstrumentedDatabaseManager(DatabaseManager delegate, DatabaseMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        return record(Operation.INSERT, entity.name(), () -> delegate.insert(entity), e -> 1L);
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        return record(Operation.INSERT, entity.name(), () -> delegate.insert(entity, ttl), e -> 1L);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        var counted = CountingIterable.of(entities);
+        return record(Operation.INSERT, null, () -> delegate.insert(counted.input()), r -> counted.count());
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        var counted = CountingIterable.of(entities);
+        return record(Operation.INSERT, null, () -> delegate.insert(counted.input(), ttl), r -> counted.count());
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        return record(Operation.UPDATE, entity.name(), () -> delegate.update(entity), e -> 1L);
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        var counted = CountingIterable.of(entities);
+        return record(Operation.UPDATE, null, () -> delegate.update(counted.input()), r -> counted.count());
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        record(Operation.DELETE, query.name(), () -> delegate.delete(query));
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        if (!metrics.isEnabled()) {
+            return delegate.select(query);
+        }
+        Recording recording = Recording.start(metrics, name(), Operation.SELECT, query.name());
+        Stream<CommunicationEntity> entities;
+        try {
+            entities = delegate.select(query);
+        } catch (RuntimeException exception) {
+            recording.fail(exception);
+            throw exception;
+        }
+        recording.pause();
+        var spliterator = new RecordingSpliterator(entities, recording);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(entities::close)
+                .onClose(recording::finish);
+    }
+
+    @Override
+    public long count(String entity) {
+        return record(Operation.COUNT, entity, () -> delegate.count(entity), c -> 0L);
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        return record(Operation.COUNT, query.name(), () -> delegate.count(query), c -> 0L);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    <T> T record(Operation operation, String entity, Supplier<T> call, ToLongFunction<T> entities) {
+        return Recording.run(metrics, name(), operation, entity, call, entities);
+    }
+
+    void record(Operation operation, String entity, Runnable call) {
+        record(operation, entity, () -> {
+            call.run();
+            return null;
+        }, r -> 0L);
+    }
+
+    /**
+     * Times the advances of the delegate stream, leaving the time of the downstream action out,
+     * and counts the entities streamed.
+     */
+    private static final class RecordingSpliterator implements Spliterator<CommunicationEntity>,
+            Consumer<CommunicationEntity> {
+
+        private final Spliterator<CommunicationEntity> source;
+
+        private final Recording recording;
+
+        private CommunicationEntity current;
+
+        private RecordingSpliterator(Stream<CommunicationEntity> entities, Recording recording) {
+            this.recording = recording;
+            recording.resume();
+            this.source = entities.spliterator();
+            recording.pause();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CommunicationEntity> action) {
+            recording.resume();
+            boolean advanced;
+            try {
+                advanced = source.tryAdvance(this);
+            } catch (RuntimeException exception) {
+                recording.fail(exception);
+                throw exception;
+            }
+            recording.pause();
+            if (!advanced) {
+                recording.finish();
+                return false;
+            }
+            recording.increment();
+            CommunicationEntity entity = current;
+            current = null;
+            action.accept(entity);
+            return true;
+        }
+
+        @Override
+        public void accept(CommunicationEntity entity) {
+            this.current = entity;
+        }
+
+        @Override
+        public Spliterator<CommunicationEntity> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import org.eclipse.jnosql.communication.graph.CommunicationEdge;
+import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link GraphDatabaseManager} decorator that also records the edge operations to the {@link DatabaseMetrics}.
+ */
+final class InstrumentedGraphDatabaseManager extends InstrumentedDatabaseManager implements GraphDatabaseManager {
+
+    private final GraphDatabaseManager delegate;
+
+    InstrumentedGraphDatabaseManager(GraphDatabaseManager delegate, DatabaseMetrics metrics) {
+        super(delegate, metrics);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CommunicationEdge edge(CommunicationEntity source, String label, CommunicationEntity target,
+                                  Map<String, Object> properties) {
+        return record(Operation.INSERT_EDGE, label, () -> delegate.edge(source, label, target, properties), e -> 1L);
+    }
+
+    @Override
+    public void remove(CommunicationEntity source, String label, CommunicationEntity target) {
+        record(Operation.DELETE_EDGE, label, () -> delegate.remove(source, label, target));
+    }
+
+    @Override
+    public <K> void deleteEdge(K id) {
+        record(Operation.DELETE_EDGE, null, () -> delegate.deleteEdge(id));
+    }
+
+    @Override
+    public <K> Optional<CommunicationEdge> findEdgeById(K id) {
+        return record(Operation.SELECT_EDGE, null, () -> delegate.findEdgeById(id), e -> e.isPresent() ? 1L : 0L);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jdk.jfr.EventType;
+
+/**
+ * The built-in {@link DatabaseMetrics} that commits a JFR event, {@code org.eclipse.jnosql.DatabaseOperation},
+ * per operation. It is registered when the system property {@value Instrumentation#JFR_PROPERTY} is {@code true},
+ * and it is only enabled while a flight recording that includes the event is running,
+ * e.g., {@code java -XX:StartFlightRecording ...}, so the managers skip the measuring otherwise.
+ */
+public final class JFRDatabaseMetrics implements DatabaseMetrics {
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(DatabaseOperationEvent.class);
+
+    @Override
+    public boolean isEnabled() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    @Override
+    public void record(OperationMetric metric) {
+        DatabaseOperationEvent event = new DatabaseOperationEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.database = metric.database();
+        event.operation = metric.operation().name();
+        event.entity = metric.entity();
+        event.totalTime = metric.totalNanos();
+        event.databaseTime = metric.databaseNanos();
+        event.conversionTime = metric.conversionNanos();
+        event.entities = metric.entities();
+        event.failure = metric.failure().map(Throwable::toString).orElse(null);
+        event.commit();
+    }
+}
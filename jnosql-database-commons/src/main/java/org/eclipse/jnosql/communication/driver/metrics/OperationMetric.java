@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The measures of a single database operation.
+ * The total time covers the call to the manager and, for {@link Operation#SELECT}, the consumption of the returned stream;
+ * the conversion time is the part of it reported by the driver through {@link ConversionClock}.
+ *
+ * @param database        the database name, from the manager
+ * @param operation       the operation
+ * @param entity          the entity or collection name, or null when the operation is not bound to one
+ * @param totalNanos      the total elapsed time in nanoseconds
+ * @param conversionNanos the time spent converting between entities and the native format in nanoseconds
+ * @param entities        the number of entities written, read or streamed
+ * @param error           the failure of the operation, or null when it succeeded
+ */
+public record OperationMetric(String database, Operation operation, String entity, long totalNanos,
+                              long conversionNanos, long entities, Throwable error) {
+
+    public OperationMetric {
+        Objects.requireNonNull(operation, "operation is required");
+    }
+
+    /**
+     * @return the time spent in the database and the driver, without the conversion time, in nanoseconds
+     */
+    public long databaseNanos() {
+        return Math.max(0L, totalNanos - conversionNanos);
+    }
+
+    /**
+     * @return the failure of the operation
+     */
+    public Optional<Throwable> failure() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * @return true when the operation failed
+     */
+    public boolean isFailed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Accumulates the measures of an operation over one or more timed segments, e.g., the call to select and then
+ * each advance of the returned stream, and exports them once to the {@link DatabaseMetrics}.
+ */
+final class Recording {
+
+    private final DatabaseMetrics metrics;
+
+    private final String database;
+
+    private final Operation operation;
+
+    private final String entity;
+
+    private long start;
+
+    private long mark;
+
+    private long totalNanos;
+
+    private long conversionNanos;
+
+    private long entities;
+
+    private boolean finished;
+
+    private Recording(DatabaseMetrics metrics, String database, Operation operation, String entity) {
+        this.metrics = metrics;
+        this.database = database;
+        this.operation = operation;
+        this.entity = entity;
+    }
+
+    static Recording start(DatabaseMetrics metrics, String database, Operation operation, String entity) {
+        Recording recording = new Recording(metrics, database, operation, entity);
+        recording.resume();
+        return recording;
+    }
+
+    /**
+     * Runs the call as one timed segment and exports it, counting the entities from the result; when the metrics
+     * is not enabled, the call just runs.
+     */
+    static <T> T run(DatabaseMetrics metrics, String database, Operation operation, String entity,
+                     Supplier<T> call, ToLongFunction<T> entities) {
+        if (!metrics.isEnabled()) {
+            return call.get();
+        }
+        Recording recording = start(metrics, database, operation, entity);
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException exception) {
+            recording.fail(exception);
+            throw exception;
+        }
+        recording.entities(entities.applyAsLong(result));
+        recording.stop();
+        return result;
+    }
+
+    void resume() {
+        this.mark = ConversionClock.begin();
+        this.start = System.nanoTime();
+    }
+
+    void pause() {
+        this.totalNanos += System.nanoTime() - start;
+        this.conversionNanos += ConversionClock.end(mark);
+    }
+
+    void entities(long entities) {
+        this.entities += entities;
+    }
+
+    void increment() {
+        this.entities++;
+    }
+
+    /**
+     * Pauses the recording and exports it.
+     */
+    void stop() {
+        pause();
+        finish();
+    }
+
+    /**
+     * Pauses the recording and exports it as failed.
+     */
+    void fail(Throwable error) {
+        pause();
+        record(error);
+    }
+
+    /**
+     * Exports the recording when it is not running; only the first call has effect.
+     */
+    void finish() {
+        record(null);
+    }
+
+    private void record(Throwable error) {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        metrics.record(new OperationMetric(database, operation, entity, totalNanos, conversionNanos, entities, error));
+    }
+}
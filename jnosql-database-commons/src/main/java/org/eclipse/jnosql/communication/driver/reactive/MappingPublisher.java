@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Publisher} that applies a function to each item of the source publisher, e.g., to convert the
+ * communication entities of an asynchronous manager into the entities of a template.
+ * The subscription is forwarded untouched, so the subscriber's demand reaches the source; a failing function
+ * cancels the source and is signalled as the error of the subscription.
+ *
+ * @param <T> the type of the source items
+ * @param <R> the type emitted to the subscriber
+ */
+public final class MappingPublisher<T, R> implements Flow.Publisher<R> {
+
+    private final Flow.Publisher<T> source;
+
+    private final Function<T, R> mapper;
+
+    /**
+     * Creates the publisher.
+     *
+     * @param source the source publisher
+     * @param mapper the function applied to each item
+     * @throws NullPointerException when there is any null parameter
+     */
+    public MappingPublisher(Flow.Publisher<T> source, Function<T, R> mapper) {
+        this.source = Objects.requireNonNull(source, "source is required");
+        this.mapper = Objects.requireNonNull(mapper, "mapper is required");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        source.subscribe(new MappingSubscriber<>(subscriber, mapper));
+    }
+
+    private static final class MappingSubscriber<T, R> implements Flow.Subscriber<T> {
+
+        private final Flow.Subscriber<? super R> downstream;
+
+        private final Function<T, R> mapper;
+
+        private Flow.Subscription subscription;
+
+        private boolean done;
+
+        private MappingSubscriber(Flow.Subscriber<? super R> downstream, Function<T, R> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            R result;
+            try {
+                result = mapper.apply(item);
+            } catch (RuntimeException exception) {
+                done = true;
+                subscription.cancel();
+                downstream.onError(exception);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Flow.Publisher} over the pages of a result of an asynchronous driver, such as a cursor that returns its
+ * documents in batches. The query runs when the subscriber first requests items, and each following page is fetched
+ * only when the current one is fully emitted and there is still demand, so a slow subscriber never makes the driver
+ * buffer more than one page.
+ * Each item is converted by the mapper as it is emitted; a failing conversion releases the page through
+ * {@link Pages#close(Object)} and is signalled as the error of the subscription. Cancelling the subscription releases
+ * the page as well. Every subscription runs the query again.
+ *
+ * @param <P> the type of the pages of the driver
+ * @param <S> the type of the items in a page
+ * @param <T> the type emitted to the subscriber
+ */
+public final class PagePublisher<P, S, T> implements Flow.Publisher<T> {
+
+    private final Supplier<? extends CompletionStage<P>> query;
+
+    private final Pages<P, S> pages;
+
+    private final Function<? super S, ? extends T> mapper;
+
+    /**
+     * Creates the publisher.
+     *
+     * @param query  runs the query and returns its first page
+     * @param pages  reads the pages of the driver
+     * @param mapper converts each item
+     * @throws NullPointerException when there is any null parameter
+     */
+    public PagePublisher(Supplier<? extends CompletionStage<P>> query, Pages<P, S> pages,
+                         Function<? super S, ? extends T> mapper) {
+        this.query = Objects.requireNonNull(query, "query is required");
+        this.pages = Objects.requireNonNull(pages, "pages is required");
+        this.mapper = Objects.requireNonNull(mapper, "mapper is required");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        subscriber.onSubscribe(new PageSubscription<>(subscriber, query, pages, mapper));
+    }
+
+    /**
+     * Returns a publisher that completes without items, for a query that does not need to run.
+     *
+     * @param <T> the item type
+     * @return the empty publisher
+     */
+    public static <T> Flow.Publisher<T> empty() {
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber is required");
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onComplete();
+        };
+    }
+
+    /**
+     * Reads the pages of a driver result.
+     *
+     * @param <P> the type of the pages
+     * @param <S> the type of the items in a page
+     */
+    public interface Pages<P, S> {
+
+        /**
+         * @param page the page
+         * @return the items of the page
+         */
+        Iterator<S> items(P page);
+
+        /**
+         * @param page the page
+         * @return true when there is a page after this one
+         */
+        boolean hasNext(P page);
+
+        /**
+         * Fetches the page after this one; it is only called when {@link #hasNext(Object)} returns true.
+         *
+         * @param page the page
+         * @return the next page
+         */
+        CompletionStage<P> next(P page);
+
+        /**
+         * Releases the resources of the result, e.g., a server-side cursor, when the subscription is cancelled or
+         * fails before the last page. By default, it does nothing.
+         *
+         * @param page the current page
+         */
+        default void close(P page) {
+        }
+    }
+
+    private static final class PageSubscription<P, S, T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> downstream;
+
+        private final Supplier<? extends CompletionStage<P>> query;
+
+        private final Pages<P, S> pages;
+
+        private final Function<? super S, ? extends T> mapper;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private volatile P page;
+
+        private volatile Iterator<S> items;
+
+        private volatile boolean fetching;
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable error;
+
+        private boolean done;
+
+        private PageSubscription(Flow.Subscriber<? super T> downstream, Supplier<? extends CompletionStage<P>> query,
+                                 Pages<P, S> pages, Function<? super S, ? extends T> mapper) {
+            this.downstream = downstream;
+            this.query = query;
+            this.pages = pages;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("The number of requested items must be positive: " + n);
+                drain();
+                return;
+            }
+            requested.getAndAccumulate(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            if (started.compareAndSet(false, true)) {
+                fetch(query);
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            close();
+        }
+
+        private void fetch(Supplier<? extends CompletionStage<P>> next) {
+            fetching = true;
+            CompletionStage<P> stage;
+            try {
+                stage = next.get();
+            } catch (RuntimeException exception) {
+                onPage(null, exception);
+                return;
+            }
+            stage.whenComplete(this::onPage);
+        }
+
+        private void onPage(P result, Throwable throwable) {
+            if (throwable != null) {
+                error = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
+            } else {
+                try {
+                    items = pages.items(result);
+                    page = result;
+                } catch (RuntimeException exception) {
+                    error = exception;
+                }
+            }
+            fetching = false;
+            if (cancelled) {
+                close();
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (cancelled || done) {
+                    return;
+                }
+                if (error != null) {
+                    done = true;
+                    downstream.onError(error);
+                    return;
+                }
+                Iterator<S> current = items;
+                if (current != null) {
+                    long demand = requested.get();
+                    long emitted = 0;
+                    while (emitted != demand && current.hasNext() && !cancelled) {
+                        T item;
+                        try {
+                            item = mapper.apply(current.next());
+                        } catch (RuntimeException exception) {
+                            done = true;
+                            close();
+                            downstream.onError(exception);
+                            return;
+                        }
+                        downstream.onNext(item);
+                        emitted++;
+                    }
+                    if (emitted > 0 && demand != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+                    if (!current.hasNext() && !fetching && !cancelled) {
+                        P last = page;
+                        if (!pages.hasNext(last)) {
+                            done = true;
+                            downstream.onComplete();
+                            return;
+                        } else if (requested.get() > 0) {
+                            items = null;
+                            fetch(() -> pages.next(last));
+                        }
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void close() {
+            P current = page;
+            if (current != null) {
+                pages.close(current);
+            }
+        }
+    }
+}
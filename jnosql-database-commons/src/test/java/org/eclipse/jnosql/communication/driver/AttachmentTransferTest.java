@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import org.eclipse.jnosql.communication.driver.attachment.AttachmentTransfer;
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AttachmentTransferTest {
+
+    private static final byte[] DATA = data(200_000);
+
+    @Test
+    void shouldTransferPathAttachmentThroughFileChannel() throws IOException {
+        Path source = Files.createTempFile("jnosql-source", ".bin");
+        Path target = Files.createTempFile("jnosql-target", ".bin");
+        try {
+            Files.write(source, DATA);
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+                long written = EntityAttachment.of(source).transferTo(channel);
+                assertThat(written).isEqualTo(DATA.length);
+            }
+            assertThat(Files.readAllBytes(target)).isEqualTo(DATA);
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(target);
+        }
+    }
+
+    @Test
+    void shouldCopyFileWhenTargetIsNotReady() throws IOException {
+        Path source = Files.createTempFile("jnosql-source", ".bin");
+        try {
+            Files.write(source, DATA);
+            var target = new RecordingChannel(1);
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+                long written = AttachmentTransfer.copy(channel, target);
+                assertThat(written).isEqualTo(DATA.length);
+            }
+            assertThat(target.content()).isEqualTo(DATA);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenFileShrinks() throws IOException {
+        Path source = Files.createTempFile("jnosql-source", ".bin");
+        try {
+            Files.write(source, DATA);
+            try (FileChannel file = FileChannel.open(source, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                var target = new RecordingChannel(1) {
+                    @Override
+                    public int write(ByteBuffer content) throws IOException {
+                        file.truncate(0);
+                        return super.write(content);
+                    }
+                };
+                assertThrows(EOFException.class, () -> AttachmentTransfer.copy(file, target));
+            }
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Test
+    void shouldTransferMemoryAttachment() throws IOException {
+        var attachment = EntityAttachment.of("data.bin", 0L, "application/octet-stream", DATA);
+        var output = new ByteArrayOutputStream();
+
+        long written = AttachmentTransfer.transfer(attachment, output);
+
+        assertThat(written).isEqualTo(DATA.length);
+        assertThat(output.toByteArray()).isEqualTo(DATA);
+    }
+
+    @Test
+    void shouldTransferStreamAttachmentInChunks() throws IOException {
+        var attachment = new StreamAttachment(DATA);
+        var target = new RecordingChannel();
+
+        long written = attachment.transferTo(target);
+
+        assertThat(written).isEqualTo(DATA.length);
+        assertThat(target.content()).isEqualTo(DATA);
+        assertThat(target.writes).allMatch(size -> size <= AttachmentTransfer.DEFAULT_CHUNK_SIZE);
+    }
+
+    @Test
+    void shouldCopyWithChunkSize() throws IOException {
+        var target = new RecordingChannel();
+
+        long written = AttachmentTransfer.copy(new ByteArrayInputStream(DATA), target, 1024);
+
+        assertThat(written).isEqualTo(DATA.length);
+        assertThat(target.content()).isEqualTo(DATA);
+        assertThat(target.writes).allMatch(size -> size <= 1024);
+    }
+
+    @Test
+    void shouldReturnErrorWhenChunkSizeIsInvalid() {
+        var target = new RecordingChannel();
+        assertThrows(IllegalArgumentException.class,
+                () -> AttachmentTransfer.copy(new ByteArrayInputStream(DATA), target, 0));
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        var attachment = EntityAttachment.of("data.bin", 0L, "application/octet-stream", DATA);
+        assertThrows(NullPointerException.class, () -> AttachmentTransfer.transfer(null, new ByteArrayOutputStream()));
+        assertThrows(NullPointerException.class, () -> AttachmentTransfer.transfer(attachment, null));
+    }
+
+    private static byte[] data(int size) {
+        byte[] data = new byte[size];
+        new Random(42).nextBytes(data);
+        return data;
+    }
+
+    private record StreamAttachment(byte[] data) implements EntityAttachment {
+
+        @Override
+        public String name() {
+            return "stream.bin";
+        }
+
+        @Override
+        public long getLastModified() {
+            return 0L;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public InputStream getData() {
+            return new ByteArrayInputStream(data);
+        }
+
+        @Override
+        public long getLength() {
+            return data.length;
+        }
+    }
+
+    private static class RecordingChannel implements WritableByteChannel {
+
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        private final WritableByteChannel channel = Channels.newChannel(output);
+
+        private final List<Integer> writes = new ArrayList<>();
+
+        private int rejected;
+
+        RecordingChannel() {
+            this(0);
+        }
+
+        /**
+         * @param rejected the number of writes that accept no byte, as a non-blocking channel that is not ready
+         */
+        RecordingChannel(int rejected) {
+            this.rejected = rejected;
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            if (rejected > 0) {
+                rejected--;
+                return 0;
+            }
+            writes.add(source.remaining());
+            return channel.write(source);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        byte[] content() {
+            return output.toByteArray();
+        }
+    }
+}
@@ -14,11 +14,15 @@
  */
 package org.eclipse.jnosql.communication.driver;
 
+import jakarta.json.bind.Jsonb;
+import jakarta.json.stream.JsonParser;
 import org.assertj.core.api.Assertions;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -54,4 +58,62 @@ public class ValueJSONTest {
         Assertions.assertThat(valueResult).contains("1", "2", "3");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldBindNewInstancePerRead() {
+        Value value = ValueJSON.of("[\"1\", \"2\"]");
+        List<String> first = value.get(new TypeReference<>() {
+        });
+        first.add("3");
+        List<String> second = value.get(new TypeReference<>() {
+        });
+        Assertions.assertThat(second).containsExactly("1", "2").isNotSameAs(first);
+        Assertions.assertThat(value.get(String[].class)).containsExactly("1", "2");
+    }
+
+    @Test
+    public void shouldReuseImmutableValue() {
+        Value value = ValueJSON.of("\"Ada\"");
+        Assertions.assertThat(value.get(String.class)).isEqualTo("Ada").isSameAs(value.get(String.class));
+    }
+
+    @Test
+    public void shouldSerializeEagerly() {
+        List<String> names = new ArrayList<>(List.of("Ada"));
+        Value value = ValueJSON.of(names);
+        names.add("Grace");
+        Assertions.assertThat(value.get()).isEqualTo("[\"Ada\"]");
+        Assertions.assertThat(value.get(new TypeReference<List<String>>() {
+        })).containsExactly("Ada");
+    }
+
+    @Test
+    public void shouldBindNewEntityPerRead() {
+        User user = new User("Ada", 36);
+        Value value = ValueJSON.of(user);
+        Assertions.assertThat(value.get(User.class)).isEqualTo(user).isNotSameAs(value.get(User.class));
+    }
+
+    @Test
+    public void shouldCacheNullValue() {
+        Jsonb jsonb = Mockito.spy(JsonbSupplier.getInstance().get());
+        Value value = new ValueJSON("null", jsonb);
+        Assertions.assertThat(value.get(String.class)).isNull();
+        Assertions.assertThat(value.get(String.class)).isNull();
+        Mockito.verify(jsonb, Mockito.times(1)).fromJson("null", String.class);
+    }
+
+    @Test
+    public void shouldStreamWithParser() {
+        ValueJSON value = (ValueJSON) ValueJSON.of("{\"name\": \"Ada\", \"age\": 36}");
+        List<String> keys = new ArrayList<>();
+        try (JsonParser parser = value.parser()) {
+            while (parser.hasNext()) {
+                if (parser.next() == JsonParser.Event.KEY_NAME) {
+                    keys.add(parser.getString());
+                }
+            }
+        }
+        Assertions.assertThat(keys).containsExactly("name", "age");
+    }
+
+}
@@ -0,0 +1,311 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
+import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InstrumentationTest {
+
+    private final List<OperationMetric> metrics = new ArrayList<>();
+
+    private DatabaseMetrics exporter;
+
+    private DatabaseManager delegate;
+
+    private DatabaseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        this.exporter = metrics::add;
+        this.delegate = Mockito.mock(DatabaseManager.class);
+        when(delegate.name()).thenReturn("database");
+        this.manager = Instrumentation.wrap(delegate, exporter);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> Instrumentation.wrap((DatabaseManager) null, exporter))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> Instrumentation.wrap(delegate, null))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> Instrumentation.wrap((BucketManager) null, exporter))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldNotWrapWhenMetricsIsNone() {
+        assertThat(Instrumentation.wrap(delegate, DatabaseMetrics.NONE)).isSameAs(delegate);
+    }
+
+    @Test
+    void shouldNotWrapTwice() {
+        assertThat(Instrumentation.wrap(manager, exporter)).isSameAs(manager);
+    }
+
+    @Test
+    void shouldWrapAgainWithOtherMetrics() {
+        List<OperationMetric> others = new ArrayList<>();
+        var wrapped = Instrumentation.wrap(manager, others::add);
+        when(delegate.count("person")).thenReturn(1L);
+
+        wrapped.count("person");
+
+        assertThat(wrapped).isNotSameAs(manager);
+        assertThat(metrics).hasSize(1);
+        assertThat(others).hasSize(1);
+    }
+
+    @Test
+    void shouldNotWrapBucketTwice() {
+        var bucket = Instrumentation.wrap(Mockito.mock(BucketManager.class), exporter);
+        assertThat(Instrumentation.wrap(bucket, exporter)).isSameAs(bucket);
+    }
+
+    @Test
+    void shouldWrapBucketAgainWithOtherMetrics() {
+        var delegateBucket = Mockito.mock(BucketManager.class);
+        List<OperationMetric> others = new ArrayList<>();
+        var bucket = Instrumentation.wrap(delegateBucket, exporter);
+        var wrapped = Instrumentation.wrap(bucket, others::add);
+
+        wrapped.delete("key");
+
+        assertThat(wrapped).isNotSameAs(bucket);
+        assertThat(metrics).hasSize(1);
+        assertThat(others).hasSize(1);
+        verify(delegateBucket).delete("key");
+    }
+
+    @Test
+    void shouldKeepGraphOperations() {
+        var graph = Mockito.mock(GraphDatabaseManager.class);
+        assertThat(Instrumentation.wrap((DatabaseManager) graph, exporter)).isInstanceOf(GraphDatabaseManager.class);
+    }
+
+    @Test
+    void shouldRecordInsert() {
+        var entity = CommunicationEntity.of("person");
+        when(delegate.insert(entity)).thenReturn(entity);
+
+        assertThat(manager.insert(entity)).isSameAs(entity);
+
+        assertThat(metrics).singleElement().satisfies(metric -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metric.database()).isEqualTo("database");
+            soft.assertThat(metric.operation()).isEqualTo(Operation.INSERT);
+            soft.assertThat(metric.entity()).isEqualTo("person");
+            soft.assertThat(metric.entities()).isEqualTo(1L);
+            soft.assertThat(metric.totalNanos()).isNotNegative();
+            soft.assertThat(metric.isFailed()).isFalse();
+        }));
+    }
+
+    @Test
+    void shouldRecordEntitiesOfIterable() {
+        var entities = List.of(CommunicationEntity.of("person"), CommunicationEntity.of("person"));
+        when(delegate.update(entities)).thenReturn(entities);
+
+        manager.update(entities);
+
+        assertThat(metrics).singleElement().satisfies(metric -> {
+            assertThat(metric.operation()).isEqualTo(Operation.UPDATE);
+            assertThat(metric.entities()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    void shouldCountOneShotIterableOnce() {
+        Iterable<CommunicationEntity> entities = Stream.of(CommunicationEntity.of("person"),
+                CommunicationEntity.of("person"), CommunicationEntity.of("person"))::iterator;
+        when(delegate.insert(Mockito.<Iterable<CommunicationEntity>>any())).thenAnswer(invocation -> {
+            Iterable<CommunicationEntity> input = invocation.getArgument(0);
+            List<CommunicationEntity> inserted = new ArrayList<>();
+            input.forEach(inserted::add);
+            return inserted;
+        });
+
+        assertThat(manager.insert(entities)).hasSize(3);
+
+        assertThat(metrics).singleElement().satisfies(metric -> assertThat(metric.entities()).isEqualTo(3L));
+    }
+
+    @Test
+    void shouldNotRegisterJFRByDefault() {
+        assertThat(Instrumentation.metrics()).isSameAs(DatabaseMetrics.NONE);
+        assertThat(Instrumentation.wrap(delegate)).isSameAs(delegate);
+    }
+
+    @Test
+    void shouldRecordFailure() {
+        var query = DeleteQuery.delete().from("person").build();
+        var exception = new IllegalStateException("failure");
+        Mockito.doThrow(exception).when(delegate).delete(query);
+
+        assertThatThrownBy(() -> manager.delete(query)).isSameAs(exception);
+
+        assertThat(metrics).singleElement().satisfies(metric -> {
+            assertThat(metric.operation()).isEqualTo(Operation.DELETE);
+            assertThat(metric.failure()).contains(exception);
+        });
+    }
+
+    @Test
+    void shouldRecordSelectWhenStreamIsConsumed() {
+        var query = SelectQuery.select().from("person").build();
+        when(delegate.select(query)).thenReturn(Stream.of(CommunicationEntity.of("person"),
+                CommunicationEntity.of("person"), CommunicationEntity.of("person")));
+
+        var entities = manager.select(query);
+        assertThat(metrics).isEmpty();
+
+        assertThat(entities.toList()).hasSize(3);
+        assertThat(metrics).singleElement().satisfies(metric -> {
+            assertThat(metric.operation()).isEqualTo(Operation.SELECT);
+            assertThat(metric.entity()).isEqualTo("person");
+            assertThat(metric.entities()).isEqualTo(3L);
+        });
+    }
+
+    @Test
+    void shouldRecordSelectOnceWhenStreamIsClosed() {
+        var query = SelectQuery.select().from("person").build();
+        var closed = new AtomicBoolean();
+        when(delegate.select(query)).thenReturn(Stream.of(CommunicationEntity.of("person"),
+                CommunicationEntity.of("person")).onClose(() -> closed.set(true)));
+
+        try (var entities = manager.select(query)) {
+            assertThat(entities.findFirst()).isPresent();
+        }
+
+        assertThat(closed).isTrue();
+        assertThat(metrics).singleElement().satisfies(metric -> assertThat(metric.entities()).isEqualTo(1L));
+    }
+
+    @Test
+    void shouldSplitConversionTime() {
+        var entity = CommunicationEntity.of("person");
+        when(delegate.insert(entity)).thenAnswer(invocation -> ConversionClock.measure(() -> {
+            sleep();
+            return entity;
+        }));
+
+        manager.insert(entity);
+
+        assertThat(metrics).singleElement().satisfies(metric -> {
+            assertThat(metric.conversionNanos()).isPositive();
+            assertThat(metric.conversionNanos()).isLessThanOrEqualTo(metric.totalNanos());
+            assertThat(metric.databaseNanos()).isEqualTo(metric.totalNanos() - metric.conversionNanos());
+        });
+    }
+
+    @Test
+    void shouldNotMeasureConversionOutsideOperation() {
+        assertThat(ConversionClock.measure(() -> "converted")).isEqualTo("converted");
+        assertThat(metrics).isEmpty();
+    }
+
+    @Test
+    void shouldSkipWhenMetricsIsDisabled() {
+        var disabled = new DatabaseMetrics() {
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+
+            @Override
+            public void record(OperationMetric metric) {
+                metrics.add(metric);
+            }
+        };
+        var entity = CommunicationEntity.of("person");
+        when(delegate.insert(entity)).thenReturn(entity);
+
+        Instrumentation.wrap(delegate, disabled).insert(entity);
+
+        verify(delegate).insert(entity);
+        assertThat(metrics).isEmpty();
+    }
+
+    @Test
+    void shouldRecordBucketOperations() {
+        var bucket = Mockito.mock(BucketManager.class);
+        when(bucket.name()).thenReturn("bucket");
+        when(bucket.get("key")).thenReturn(Optional.of(Value.of("value")));
+        var instrumented = Instrumentation.wrap(bucket, exporter);
+
+        instrumented.put(List.of(KeyValueEntity.of("key", "value"), KeyValueEntity.of("key2", "value2")));
+        instrumented.get("key");
+
+        assertThat(metrics).hasSize(2);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(metrics.get(0).operation()).isEqualTo(Operation.PUT);
+            soft.assertThat(metrics.get(0).database()).isEqualTo("bucket");
+            soft.assertThat(metrics.get(0).entities()).isEqualTo(2L);
+            soft.assertThat(metrics.get(1).operation()).isEqualTo(Operation.GET);
+            soft.assertThat(metrics.get(1).entities()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldCountOneShotKeysOnce() {
+        var bucket = Mockito.mock(BucketManager.class);
+        when(bucket.name()).thenReturn("bucket");
+        Mockito.doAnswer(invocation -> {
+            Iterable<?> keys = invocation.getArgument(0);
+            keys.forEach(key -> {
+            });
+            return null;
+        }).when(bucket).delete(Mockito.<Iterable<String>>any());
+        Iterable<String> keys = Stream.of("key", "key2")::iterator;
+
+        Instrumentation.wrap(bucket, exporter).delete(keys);
+
+        assertThat(metrics).singleElement().satisfies(metric -> {
+            assertThat(metric.operation()).isEqualTo(Operation.DELETE);
+            assertThat(metric.entities()).isEqualTo(2L);
+        });
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
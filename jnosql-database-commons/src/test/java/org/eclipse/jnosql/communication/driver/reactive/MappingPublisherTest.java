@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappingPublisherTest {
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        Flow.Publisher<String> source = PagePublisher.empty();
+        assertThatThrownBy(() -> new MappingPublisher<String, String>(null, Function.identity()))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new MappingPublisher<String, String>(source, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldMapItemsOnDemand() {
+        var publisher = new MappingPublisher<>(source(List.of("a", "b", "c")), String::toUpperCase);
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(2);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly("A", "B");
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+
+        subscriber.request(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly("A", "B", "C");
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+    }
+
+    @Test
+    void shouldCancelSourceWhenMapperFails() {
+        IllegalStateException exception = new IllegalStateException("conversion");
+        var publisher = new MappingPublisher<String, String>(source(List.of("a", "b")), item -> {
+            if ("b".equals(item)) {
+                throw exception;
+            }
+            return item;
+        });
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly("a");
+            soft.assertThat(subscriber.error).isSameAs(exception);
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+    }
+
+    @Test
+    void shouldForwardSourceError() {
+        IllegalStateException exception = new IllegalStateException("unavailable");
+        Flow.Publisher<String> source = new PagePublisher<Integer, String, String>(
+                () -> CompletableFuture.failedFuture(exception), new SinglePage(List.of()), Function.identity());
+        var publisher = new MappingPublisher<>(source, String::toUpperCase);
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+
+        assertThat(subscriber.error).isSameAs(exception);
+    }
+
+    private static Flow.Publisher<String> source(List<String> items) {
+        return new PagePublisher<>(() -> CompletableFuture.completedFuture(0), new SinglePage(items),
+                Function.identity());
+    }
+
+    private record SinglePage(List<String> items) implements PagePublisher.Pages<Integer, String> {
+
+        @Override
+        public Iterator<String> items(Integer page) {
+            return items.iterator();
+        }
+
+        @Override
+        public boolean hasNext(Integer page) {
+            return false;
+        }
+
+        @Override
+        public CompletionStage<Integer> next(Integer page) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
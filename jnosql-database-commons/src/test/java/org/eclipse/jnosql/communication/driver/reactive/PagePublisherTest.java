@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PagePublisherTest {
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        Pages pages = new Pages(List.of());
+        assertThatThrownBy(() -> new PagePublisher<>(null, pages, Function.identity()))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new PagePublisher<Integer, String, String>(pages::first, null, Function.identity()))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new PagePublisher<>(pages::first, pages, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotRunQueryBeforeRequest() {
+        AtomicInteger queries = new AtomicInteger();
+        Pages pages = new Pages(List.of(List.of("a")));
+        var publisher = new PagePublisher<>(() -> {
+            queries.incrementAndGet();
+            return pages.first();
+        }, pages, Function.identity());
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        assertThat(queries).hasValue(0);
+        subscriber.request(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(queries).hasValue(1);
+            soft.assertThat(subscriber.items).containsExactly("a");
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+    }
+
+    @Test
+    void shouldFetchNextPageOnlyOnDemand() {
+        Pages pages = new Pages(List.of(List.of("a", "b"), List.of("c")));
+        var publisher = new PagePublisher<>(pages::first, pages, String::toUpperCase);
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(2);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly("A", "B");
+            soft.assertThat(subscriber.completed).isFalse();
+            soft.assertThat(pages.fetched).hasValue(1);
+        });
+
+        subscriber.request(5);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly("A", "B", "C");
+            soft.assertThat(subscriber.completed).isTrue();
+            soft.assertThat(pages.fetched).hasValue(2);
+        });
+    }
+
+    @Test
+    void shouldEmitPagesCompletedLater() {
+        Pages pages = new Pages(List.of(List.of("a"), List.of("b")));
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        var publisher = new PagePublisher<>(() -> first, pages, Function.identity());
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+        assertThat(subscriber.items).isEmpty();
+
+        first.complete(0);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly("a", "b");
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+    }
+
+    @Test
+    void shouldClosePageOnCancel() {
+        Pages pages = new Pages(List.of(List.of("a", "b"), List.of("c")));
+        var publisher = new PagePublisher<>(pages::first, pages, Function.identity());
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+        subscriber.subscription.cancel();
+        subscriber.request(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly("a");
+            soft.assertThat(subscriber.completed).isFalse();
+            soft.assertThat(pages.closed).containsExactly(0);
+        });
+    }
+
+    @Test
+    void shouldClosePageWhenMapperFails() {
+        Pages pages = new Pages(List.of(List.of("a", "b")));
+        IllegalStateException exception = new IllegalStateException("conversion");
+        var publisher = new PagePublisher<Integer, String, String>(pages::first, pages, item -> {
+            throw exception;
+        });
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).isEmpty();
+            soft.assertThat(subscriber.error).isSameAs(exception);
+            soft.assertThat(pages.closed).containsExactly(0);
+        });
+    }
+
+    @Test
+    void shouldSignalQueryError() {
+        Pages pages = new Pages(List.of());
+        IllegalStateException exception = new IllegalStateException("unavailable");
+        var publisher = new PagePublisher<>(() -> CompletableFuture.<Integer>failedFuture(
+                new CompletionException(exception)), pages, Function.identity());
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).isEmpty();
+            soft.assertThat(subscriber.error).isSameAs(exception);
+        });
+    }
+
+    @Test
+    void shouldSignalErrorWhenQueryThrows() {
+        Pages pages = new Pages(List.of());
+        IllegalStateException exception = new IllegalStateException("unavailable");
+        var publisher = new PagePublisher<Integer, String, String>(() -> {
+            throw exception;
+        }, pages, Function.identity());
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+
+        assertThat(subscriber.error).isSameAs(exception);
+    }
+
+    @Test
+    void shouldSignalErrorWhenRequestIsNotPositive() {
+        Pages pages = new Pages(List.of(List.of("a")));
+        var publisher = new PagePublisher<>(pages::first, pages, Function.identity());
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(0);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCompleteEmpty() {
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        PagePublisher.<String>empty().subscribe(subscriber);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).isEmpty();
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+    }
+
+    private static final class Pages implements PagePublisher.Pages<Integer, String> {
+
+        private final List<List<String>> pages;
+
+        private final AtomicInteger fetched = new AtomicInteger();
+
+        private final List<Integer> closed = new ArrayList<>();
+
+        private Pages(List<List<String>> pages) {
+            this.pages = pages;
+        }
+
+        CompletionStage<Integer> first() {
+            fetched.incrementAndGet();
+            return CompletableFuture.completedFuture(0);
+        }
+
+        @Override
+        public Iterator<String> items(Integer page) {
+            return pages.get(page).iterator();
+        }
+
+        @Override
+        public boolean hasNext(Integer page) {
+            return page + 1 < pages.size();
+        }
+
+        @Override
+        public CompletionStage<Integer> next(Integer page) {
+            fetched.incrementAndGet();
+            return CompletableFuture.completedFuture(page + 1);
+        }
+
+        @Override
+        public void close(Integer page) {
+            if (hasNext(page)) {
+                closed.add(page);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+final class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+    final List<T> items = new ArrayList<>();
+
+    Flow.Subscription subscription;
+
+    Throwable error;
+
+    boolean completed;
+
+    void request(long n) {
+        subscription.request(n);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+        items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        this.error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+        this.completed = true;
+    }
+}
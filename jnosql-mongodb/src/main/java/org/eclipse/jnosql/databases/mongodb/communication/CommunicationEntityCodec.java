@@ -0,0 +1,268 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonReaderMark;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.BsonTypeCodecMap;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.ValueUtil;
+import org.eclipse.jnosql.communication.driver.metrics.ConversionClock;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.Elements;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.ID_FIELD;
+
+/**
+ * A {@link CollectibleCodec} that reads a {@link CommunicationEntity} straight from the {@link BsonReader}
+ * and writes it straight to the {@link BsonWriter}, so there is no intermediate {@link org.bson.Document}
+ * tree between the wire format and the entity.
+ * Each instance is bound to a collection, which becomes the {@link CommunicationEntity#name()} of the decoded
+ * entities; scalar values are delegated to the codec registry of the database.
+ * The time spent in the codec is reported to {@link ConversionClock} as conversion time.
+ */
+final class CommunicationEntityCodec implements CollectibleCodec<CommunicationEntity> {
+
+    private static final BsonTypeClassMap BSON_TYPE_CLASS_MAP = new BsonTypeClassMap();
+
+    private final String name;
+
+    private final CodecRegistry registry;
+
+    private final BsonTypeCodecMap codecs;
+
+    CommunicationEntityCodec(String name, CodecRegistry registry) {
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.registry = Objects.requireNonNull(registry, "registry is required");
+        this.codecs = new BsonTypeCodecMap(BSON_TYPE_CLASS_MAP, registry);
+    }
+
+    /**
+     * Creates a registry where {@link CommunicationEntity} is decoded and encoded by this codec,
+     * falling back to the given registry for any other type.
+     *
+     * @param name     the collection name
+     * @param registry the database registry
+     * @return the codec registry
+     */
+    static CodecRegistry registry(String name, CodecRegistry registry) {
+        return CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(new CommunicationEntityCodec(name, registry)), registry);
+    }
+
+    @Override
+    public CommunicationEntity decode(BsonReader reader, DecoderContext decoderContext) {
+        return ConversionClock.measure(() -> CommunicationEntity.of(name, readDocument(reader, decoderContext, true)));
+    }
+
+    @Override
+    public void encode(BsonWriter writer, CommunicationEntity entity, EncoderContext encoderContext) {
+        ConversionClock.measure(() -> {
+            writeEntity(writer, entity, encoderContext);
+            return null;
+        });
+    }
+
+    private void writeEntity(BsonWriter writer, CommunicationEntity entity, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        var id = entity.find(ID_FIELD);
+        if (encoderContext.isEncodingCollectibleDocument() && id.isPresent()) {
+            writer.writeName(ID_FIELD);
+            writeValue(writer, id.get().value(), encoderContext);
+        }
+        for (Element element : entity.elements()) {
+            if (encoderContext.isEncodingCollectibleDocument() && ID_FIELD.equals(element.name())) {
+                continue;
+            }
+            writer.writeName(element.name());
+            writeValue(writer, element.value(), encoderContext);
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<CommunicationEntity> getEncoderClass() {
+        return CommunicationEntity.class;
+    }
+
+    @Override
+    public CommunicationEntity generateIdIfAbsentFromDocument(CommunicationEntity entity) {
+        if (!documentHasId(entity)) {
+            entity.add(Elements.of(ID_FIELD, new ObjectId()));
+        }
+        return entity;
+    }
+
+    @Override
+    public boolean documentHasId(CommunicationEntity entity) {
+        return entity.find(ID_FIELD).isPresent();
+    }
+
+    @Override
+    public BsonValue getDocumentId(CommunicationEntity entity) {
+        var id = entity.find(ID_FIELD)
+                .orElseThrow(() -> new IllegalStateException("The entity does not contain an _id"));
+        var document = new BsonDocument();
+        var writer = new BsonDocumentWriter(document);
+        writer.writeStartDocument();
+        writer.writeName(ID_FIELD);
+        writeValue(writer, id.value(), EncoderContext.builder().build());
+        writer.writeEndDocument();
+        return document.get(ID_FIELD);
+    }
+
+    private List<Element> readDocument(BsonReader reader, DecoderContext context, boolean ignoreNull) {
+        List<Element> elements = new ArrayList<>();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String key = reader.readName();
+            if (ignoreNull && reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            elements.add(readElement(key, reader, context));
+        }
+        reader.readEndDocument();
+        return elements;
+    }
+
+    private Element readElement(String key, BsonReader reader, DecoderContext context) {
+        BsonType type = reader.getCurrentBsonType();
+        if (type == BsonType.DOCUMENT) {
+            return Element.of(key, readDocument(reader, context, true));
+        } else if (type == BsonType.ARRAY && isDocumentArray(reader)) {
+            List<List<Element>> documents = new ArrayList<>();
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                documents.add(readDocument(reader, context, false));
+            }
+            reader.readEndArray();
+            return Element.of(key, documents);
+        }
+        Object value = readValue(reader, context);
+        if (value instanceof Binary binary) {
+            return Element.of(key, Value.of(binary.getData()));
+        }
+        return Element.of(key, Value.of(value));
+    }
+
+    private Object readValue(BsonReader reader, DecoderContext context) {
+        BsonType type = reader.getCurrentBsonType();
+        if (type == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        Decoder<?> decoder = codecs.get(type);
+        return context.decodeWithChildContext(decoder, reader);
+    }
+
+    private static boolean isDocumentArray(BsonReader reader) {
+        BsonReaderMark mark = reader.getMark();
+        try {
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (reader.getCurrentBsonType() != BsonType.DOCUMENT) {
+                    return false;
+                }
+                reader.skipValue();
+            }
+            return true;
+        } finally {
+            mark.reset();
+        }
+    }
+
+    private void writeValue(BsonWriter writer, Value value, EncoderContext context) {
+        Object converted = ValueUtil.convert(value, MongoDBValueWriteDecorator.MONGO_DB_VALUE_WRITER);
+        writeObject(writer, converted, context);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void writeObject(BsonWriter writer, Object value, EncoderContext context) {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value instanceof Element element) {
+            writer.writeStartDocument();
+            writer.writeName(element.name());
+            writeValue(writer, element.value(), context);
+            writer.writeEndDocument();
+        } else if (isSubDocument(value)) {
+            writeSubDocument(writer, (Iterable<?>) value, context);
+        } else if (isSubDocumentList(value)) {
+            writer.writeStartArray();
+            for (Object item : (Iterable<?>) value) {
+                writeSubDocument(writer, (Iterable<?>) item, context);
+            }
+            writer.writeEndArray();
+        } else {
+            Encoder encoder = registry.get(value.getClass());
+            context.encodeWithChildContext(encoder, writer, value);
+        }
+    }
+
+    private void writeSubDocument(BsonWriter writer, Iterable<?> elements, EncoderContext context) {
+        writer.writeStartDocument();
+        for (Object item : elements) {
+            Element element = (Element) item;
+            writer.writeName(element.name());
+            writeValue(writer, element.value(), context);
+        }
+        writer.writeEndDocument();
+    }
+
+    private static boolean isSubDocument(Object value) {
+        if (!(value instanceof Iterable<?> iterable)) {
+            return false;
+        }
+        for (Object item : iterable) {
+            if (!(item instanceof Element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSubDocumentList(Object value) {
+        if (!(value instanceof Iterable<?> iterable)) {
+            return false;
+        }
+        for (Object item : iterable) {
+            if (!isSubDocument(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
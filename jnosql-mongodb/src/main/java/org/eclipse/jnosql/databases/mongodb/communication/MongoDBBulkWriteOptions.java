@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.Objects;
+
+/**
+ * The options used by {@link MongoDBDocumentManager} when it writes several entities at once,
+ * either through {@code insertMany} or through {@code bulkWrite}.
+ *
+ * @param batchSize the maximum number of documents sent to the server per round trip
+ * @param ordered   when true the server stops at the first failing document, otherwise it keeps going
+ * @see MongoDBDocumentConfigurations#BULK_WRITE_BATCH_SIZE
+ * @see MongoDBDocumentConfigurations#BULK_WRITE_ORDERED
+ */
+public record MongoDBBulkWriteOptions(int batchSize, boolean ordered) {
+
+    static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    /**
+     * The default options: batches of {@value DEFAULT_BATCH_SIZE} documents in ordered mode.
+     */
+    public static final MongoDBBulkWriteOptions DEFAULT = new MongoDBBulkWriteOptions(DEFAULT_BATCH_SIZE, true);
+
+    /**
+     * Creates a {@link MongoDBBulkWriteOptions} instance
+     *
+     * @param batchSize the maximum number of documents sent to the server per round trip
+     * @param ordered   when true the server stops at the first failing document
+     * @throws IllegalArgumentException when batchSize is not positive
+     */
+    public MongoDBBulkWriteOptions {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than zero: " + batchSize);
+        }
+    }
+
+    /**
+     * Creates a {@link MongoDBBulkWriteOptions} instance
+     *
+     * @param batchSize the maximum number of documents sent to the server per round trip
+     * @param ordered   when true the server stops at the first failing document
+     * @return a {@link MongoDBBulkWriteOptions} instance
+     * @throws IllegalArgumentException when batchSize is not positive
+     */
+    public static MongoDBBulkWriteOptions of(int batchSize, boolean ordered) {
+        return new MongoDBBulkWriteOptions(batchSize, ordered);
+    }
+
+    static MongoDBBulkWriteOptions of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        int batchSize = settings.get(MongoDBDocumentConfigurations.BULK_WRITE_BATCH_SIZE)
+                .map(Object::toString).map(Integer::valueOf)
+                .orElse(DEFAULT_BATCH_SIZE);
+        boolean ordered = settings.get(MongoDBDocumentConfigurations.BULK_WRITE_ORDERED)
+                .map(Object::toString).map(Boolean::valueOf)
+                .orElse(Boolean.TRUE);
+        return new MongoDBBulkWriteOptions(batchSize, ordered);
+    }
+}
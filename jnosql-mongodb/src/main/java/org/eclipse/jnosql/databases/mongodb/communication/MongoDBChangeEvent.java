@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A change that happened in a MongoDB collection, delivered by a change stream.
+ * Inserts, replacements and updates carry the entity when the stream looks it up, see
+ * {@link MongoDBChangeStreamOptions.MongoDBChangeStreamOptionsBuilder#fullDocument(com.mongodb.client.model.changestream.FullDocument)};
+ * deletes only carry the document key.
+ * The resume token allows a new stream to continue right after this event.
+ *
+ * @param <T> the entity type
+ * @see MongoDBDocumentManager#watch(String, MongoDBChangeStreamOptions)
+ */
+public final class MongoDBChangeEvent<T> {
+
+    private final OperationType operation;
+
+    private final String collection;
+
+    private final BsonDocument documentKey;
+
+    private final T entity;
+
+    private final BsonDocument resumeToken;
+
+    private MongoDBChangeEvent(OperationType operation, String collection, BsonDocument documentKey, T entity,
+                               BsonDocument resumeToken) {
+        this.operation = operation;
+        this.collection = collection;
+        this.documentKey = documentKey;
+        this.entity = entity;
+        this.resumeToken = resumeToken;
+    }
+
+    /**
+     * @return the kind of change, such as insert, update, replace or delete
+     */
+    public OperationType operation() {
+        return operation;
+    }
+
+    /**
+     * @return the collection name, absent on events that are not about a collection, such as invalidate
+     */
+    public Optional<String> collection() {
+        return Optional.ofNullable(collection);
+    }
+
+    /**
+     * @return the {@code _id} of the changed document
+     */
+    public Optional<BsonDocument> documentKey() {
+        return Optional.ofNullable(documentKey);
+    }
+
+    /**
+     * @return the changed entity, absent on deletes or when the stream does not look it up
+     */
+    public Optional<T> entity() {
+        return Optional.ofNullable(entity);
+    }
+
+    /**
+     * @return the token to resume a change stream right after this event
+     */
+    public BsonDocument resumeToken() {
+        return resumeToken;
+    }
+
+    /**
+     * Converts the entity of this event, keeping the other information.
+     *
+     * @param mapper the entity mapper
+     * @param <R>    the new entity type
+     * @return a new event with the mapped entity
+     * @throws NullPointerException when mapper is null
+     */
+    public <R> MongoDBChangeEvent<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is required");
+        R mapped = entity == null ? null : mapper.apply(entity);
+        return new MongoDBChangeEvent<>(operation, collection, documentKey, mapped, resumeToken);
+    }
+
+    /**
+     * Creates a {@link MongoDBChangeEvent} instance
+     *
+     * @param operation   the kind of change
+     * @param collection  the collection name, nullable
+     * @param documentKey the {@code _id} of the changed document, nullable
+     * @param entity      the changed entity, nullable
+     * @param resumeToken the resume token
+     * @param <T>         the entity type
+     * @return a {@link MongoDBChangeEvent} instance
+     * @throws NullPointerException when operation or resumeToken is null
+     */
+    public static <T> MongoDBChangeEvent<T> of(OperationType operation, String collection, BsonDocument documentKey,
+                                               T entity, BsonDocument resumeToken) {
+        Objects.requireNonNull(operation, "operation is required");
+        Objects.requireNonNull(resumeToken, "resumeToken is required");
+        return new MongoDBChangeEvent<>(operation, collection, documentKey, entity, resumeToken);
+    }
+
+    static MongoDBChangeEvent<CommunicationEntity> of(ChangeStreamDocument<CommunicationEntity> document) {
+        var namespace = document.getNamespace();
+        return new MongoDBChangeEvent<>(document.getOperationType(),
+                namespace == null ? null : namespace.getCollectionName(),
+                document.getDocumentKey(), document.getFullDocument(), document.getResumeToken());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MongoDBChangeEvent<?> that)) {
+            return false;
+        }
+        return operation == that.operation
+                && Objects.equals(collection, that.collection)
+                && Objects.equals(documentKey, that.documentKey)
+                && Objects.equals(entity, that.entity)
+                && Objects.equals(resumeToken, that.resumeToken);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operation, collection, documentKey, entity, resumeToken);
+    }
+
+    @Override
+    public String toString() {
+        return "MongoDBChangeEvent{" +
+                "operation=" + operation +
+                ", collection='" + collection + '\'' +
+                ", documentKey=" + documentKey +
+                ", entity=" + entity +
+                ", resumeToken=" + resumeToken +
+                '}';
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.model.changestream.FullDocument;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.conversions.Bson;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The options of a MongoDB change stream: the server-side pipeline that filters the events, where the stream
+ * starts, through a resume token or an operation time, and how the changed document is looked up.
+ * By default, the stream starts now and looks up the current entity of updates,
+ * {@link FullDocument#UPDATE_LOOKUP}, so every insert, replace and update carries its entity.
+ * This class is immutable; use {@link MongoDBChangeStreamOptions#builder()} to create an instance.
+ *
+ * @see MongoDBDocumentManager#watch(String, MongoDBChangeStreamOptions)
+ */
+public final class MongoDBChangeStreamOptions {
+
+    /**
+     * The default options: no filter, starting now and looking up the entity of updates.
+     */
+    public static final MongoDBChangeStreamOptions DEFAULT = builder().build();
+
+    private final List<Bson> pipeline;
+
+    private final BsonDocument resumeAfter;
+
+    private final BsonDocument startAfter;
+
+    private final BsonTimestamp startAtOperationTime;
+
+    private final FullDocument fullDocument;
+
+    private final Integer batchSize;
+
+    private final Duration maxAwaitTime;
+
+    private MongoDBChangeStreamOptions(MongoDBChangeStreamOptionsBuilder builder) {
+        this.pipeline = builder.pipeline;
+        this.resumeAfter = builder.resumeAfter;
+        this.startAfter = builder.startAfter;
+        this.startAtOperationTime = builder.startAtOperationTime;
+        this.fullDocument = builder.fullDocument;
+        this.batchSize = builder.batchSize;
+        this.maxAwaitTime = builder.maxAwaitTime;
+    }
+
+    /**
+     * @return the aggregation stages that filter or reshape the events on the server
+     */
+    public List<Bson> pipeline() {
+        return pipeline;
+    }
+
+    /**
+     * @return the resume token after which the stream starts
+     */
+    public Optional<BsonDocument> resumeAfter() {
+        return Optional.ofNullable(resumeAfter);
+    }
+
+    /**
+     * @return the resume token after which the stream starts, even after an invalidate event
+     */
+    public Optional<BsonDocument> startAfter() {
+        return Optional.ofNullable(startAfter);
+    }
+
+    /**
+     * @return the cluster time at which the stream starts
+     */
+    public Optional<BsonTimestamp> startAtOperationTime() {
+        return Optional.ofNullable(startAtOperationTime);
+    }
+
+    /**
+     * @return how the changed document is looked up
+     */
+    public FullDocument fullDocument() {
+        return fullDocument;
+    }
+
+    /**
+     * @return the number of events returned per batch by the cursor
+     */
+    public Optional<Integer> batchSize() {
+        return Optional.ofNullable(batchSize);
+    }
+
+    /**
+     * @return the maximum time the server waits for new events before returning an empty batch
+     */
+    public Optional<Duration> maxAwaitTime() {
+        return Optional.ofNullable(maxAwaitTime);
+    }
+
+    <T> ChangeStreamIterable<T> apply(ChangeStreamIterable<T> changes) {
+        changes.fullDocument(fullDocument);
+        if (resumeAfter != null) {
+            changes.resumeAfter(resumeAfter);
+        }
+        if (startAfter != null) {
+            changes.startAfter(startAfter);
+        }
+        if (startAtOperationTime != null) {
+            changes.startAtOperationTime(startAtOperationTime);
+        }
+        if (batchSize != null) {
+            changes.batchSize(batchSize);
+        }
+        if (maxAwaitTime != null) {
+            changes.maxAwaitTime(maxAwaitTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return changes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MongoDBChangeStreamOptions that)) {
+            return false;
+        }
+        return Objects.equals(pipeline, that.pipeline)
+                && Objects.equals(resumeAfter, that.resumeAfter)
+                && Objects.equals(startAfter, that.startAfter)
+                && Objects.equals(startAtOperationTime, that.startAtOperationTime)
+                && fullDocument == that.fullDocument
+                && Objects.equals(batchSize, that.batchSize)
+                && Objects.equals(maxAwaitTime, that.maxAwaitTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pipeline, resumeAfter, startAfter, startAtOperationTime, fullDocument, batchSize,
+                maxAwaitTime);
+    }
+
+    @Override
+    public String toString() {
+        return "MongoDBChangeStreamOptions{" +
+                "pipeline=" + pipeline +
+                ", resumeAfter=" + resumeAfter +
+                ", startAfter=" + startAfter +
+                ", startAtOperationTime=" + startAtOperationTime +
+                ", fullDocument=" + fullDocument +
+                ", batchSize=" + batchSize +
+                ", maxAwaitTime=" + maxAwaitTime +
+                '}';
+    }
+
+    /**
+     * Creates a new builder instance
+     *
+     * @return a {@link MongoDBChangeStreamOptionsBuilder} instance
+     */
+    public static MongoDBChangeStreamOptionsBuilder builder() {
+        return new MongoDBChangeStreamOptionsBuilder();
+    }
+
+    /**
+     * The builder of {@link MongoDBChangeStreamOptions}
+     */
+    public static final class MongoDBChangeStreamOptionsBuilder {
+
+        private List<Bson> pipeline = List.of();
+
+        private BsonDocument resumeAfter;
+
+        private BsonDocument startAfter;
+
+        private BsonTimestamp startAtOperationTime;
+
+        private FullDocument fullDocument = FullDocument.UPDATE_LOOKUP;
+
+        private Integer batchSize;
+
+        private Duration maxAwaitTime;
+
+        private MongoDBChangeStreamOptionsBuilder() {
+        }
+
+        /**
+         * Defines the aggregation stages that filter or reshape the events on the server,
+         * e.g.: {@code Aggregates.match(Filters.in("operationType", "insert", "update"))}
+         *
+         * @param pipeline the aggregation stages
+         * @return this builder
+         * @throws NullPointerException when pipeline is null
+         */
+        public MongoDBChangeStreamOptionsBuilder pipeline(List<? extends Bson> pipeline) {
+            Objects.requireNonNull(pipeline, "pipeline is required");
+            this.pipeline = List.copyOf(pipeline);
+            return this;
+        }
+
+        /**
+         * Defines the aggregation stages that filter or reshape the events on the server
+         *
+         * @param pipeline the aggregation stages
+         * @return this builder
+         * @throws NullPointerException when pipeline is null
+         */
+        public MongoDBChangeStreamOptionsBuilder pipeline(Bson... pipeline) {
+            Objects.requireNonNull(pipeline, "pipeline is required");
+            return pipeline(Arrays.asList(pipeline));
+        }
+
+        /**
+         * Defines the resume token after which the stream starts; it replaces any start defined by
+         * {@link #startAfter(BsonDocument)} or {@link #startAtOperationTime(BsonTimestamp)}
+         *
+         * @param resumeToken the resume token of a previous event
+         * @return this builder
+         * @throws NullPointerException when resumeToken is null
+         */
+        public MongoDBChangeStreamOptionsBuilder resumeAfter(BsonDocument resumeToken) {
+            this.resumeAfter = Objects.requireNonNull(resumeToken, "resumeToken is required");
+            this.startAfter = null;
+            this.startAtOperationTime = null;
+            return this;
+        }
+
+        /**
+         * Defines the resume token after which the stream starts; unlike {@link #resumeAfter(BsonDocument)}
+         * it accepts the token of an invalidate event. It replaces any start defined by
+         * {@link #resumeAfter(BsonDocument)} or {@link #startAtOperationTime(BsonTimestamp)}
+         *
+         * @param resumeToken the resume token of a previous event
+         * @return this builder
+         * @throws NullPointerException when resumeToken is null
+         */
+        public MongoDBChangeStreamOptionsBuilder startAfter(BsonDocument resumeToken) {
+            this.startAfter = Objects.requireNonNull(resumeToken, "resumeToken is required");
+            this.resumeAfter = null;
+            this.startAtOperationTime = null;
+            return this;
+        }
+
+        /**
+         * Defines the cluster time at which the stream starts; it replaces any start defined by
+         * {@link #resumeAfter(BsonDocument)} or {@link #startAfter(BsonDocument)}
+         *
+         * @param operationTime the cluster time
+         * @return this builder
+         * @throws NullPointerException when operationTime is null
+         */
+        public MongoDBChangeStreamOptionsBuilder startAtOperationTime(BsonTimestamp operationTime) {
+            this.startAtOperationTime = Objects.requireNonNull(operationTime, "operationTime is required");
+            this.resumeAfter = null;
+            this.startAfter = null;
+            return this;
+        }
+
+        /**
+         * Defines how the changed document is looked up
+         *
+         * @param fullDocument the full document lookup mode
+         * @return this builder
+         * @throws NullPointerException when fullDocument is null
+         */
+        public MongoDBChangeStreamOptionsBuilder fullDocument(FullDocument fullDocument) {
+            this.fullDocument = Objects.requireNonNull(fullDocument, "fullDocument is required");
+            return this;
+        }
+
+        /**
+         * Defines the number of events returned per batch by the cursor
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is negative
+         */
+        public MongoDBChangeStreamOptionsBuilder batchSize(int batchSize) {
+            if (batchSize < 0) {
+                throw new IllegalArgumentException("batchSize cannot be negative: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Defines the maximum time the server waits for new events before returning an empty batch
+         *
+         * @param maxAwaitTime the maximum await time
+         * @return this builder
+         * @throws NullPointerException when maxAwaitTime is null
+         */
+        public MongoDBChangeStreamOptionsBuilder maxAwaitTime(Duration maxAwaitTime) {
+            this.maxAwaitTime = Objects.requireNonNull(maxAwaitTime, "maxAwaitTime is required");
+            return this;
+        }
+
+        /**
+         * Creates a {@link MongoDBChangeStreamOptions} instance
+         *
+         * @return a {@link MongoDBChangeStreamOptions} instance
+         */
+        public MongoDBChangeStreamOptions build() {
+            return new MongoDBChangeStreamOptions(this);
+        }
+    }
+}
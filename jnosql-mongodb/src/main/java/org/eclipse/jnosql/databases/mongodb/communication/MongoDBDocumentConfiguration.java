@@ -43,6 +43,8 @@ public class MongoDBDocumentConfiguration implements DatabaseConfiguration {
 
     static final int DEFAULT_PORT = 27017;
 
+    private static final String DEFAULT_CONNECTION_STRING = "mongodb://localhost";
+
 
     /**
      * Creates a {@link MongoDBDocumentManagerFactory} from map configurations
@@ -74,7 +76,41 @@ public class MongoDBDocumentConfiguration implements DatabaseConfiguration {
     @Override
     public MongoDBDocumentManagerFactory apply(Settings settings) throws NullPointerException {
         requireNonNull(settings, "settings is required");
+        MongoClient mongoClient = MongoClients.create(clientSettings(settings));
+        return new MongoDBDocumentManagerFactory(mongoClient, MongoDBBulkWriteOptions.of(settings),
+                MongoDBFindOptions.of(settings), MongoDBFilterCache.maxSize(settings));
+    }
 
+    /**
+     * Creates a {@link MongoDBReactiveDocumentManagerFactory}, backed by the Reactive Streams driver,
+     * from settings
+     *
+     * @param settings the settings
+     * @return a MongoDBReactiveDocumentManagerFactory instance
+     * @throws NullPointerException when the settings is null
+     */
+    public MongoDBReactiveDocumentManagerFactory reactive(Settings settings) throws NullPointerException {
+        requireNonNull(settings, "settings is required");
+        var mongoClient = com.mongodb.reactivestreams.client.MongoClients.create(clientSettings(settings));
+        return new MongoDBReactiveDocumentManagerFactory(mongoClient, MongoDBBulkWriteOptions.of(settings),
+                MongoDBFindOptions.of(settings), MongoDBFilterCache.maxSize(settings));
+    }
+
+    /**
+     * Creates a {@link MongoDBReactiveDocumentManagerFactory} from the Reactive Streams mongoClient
+     *
+     * @param mongoClient the reactive mongo client {@link com.mongodb.reactivestreams.client.MongoClient}
+     * @return a MongoDBReactiveDocumentManagerFactory instance
+     * @throws NullPointerException when the mongoClient is null
+     */
+    public MongoDBReactiveDocumentManagerFactory reactive(com.mongodb.reactivestreams.client.MongoClient mongoClient)
+            throws NullPointerException {
+        requireNonNull(mongoClient, "mongo client is required");
+        return new MongoDBReactiveDocumentManagerFactory(mongoClient, MongoDBBulkWriteOptions.DEFAULT,
+                MongoDBFindOptions.EMPTY, MongoDBFilterCache.DEFAULT_MAX_SIZE);
+    }
+
+    private MongoClientSettings clientSettings(Settings settings) {
         List<ServerAddress> servers = settings
                 .prefixSupplier(Arrays.asList(MongoDBDocumentConfigurations.HOST,
                         Configurations.HOST))
@@ -85,27 +121,21 @@ public class MongoDBDocumentConfiguration implements DatabaseConfiguration {
                 .toList();
 
         if (servers.isEmpty()) {
-            Optional<ConnectionString> connectionString = settings
+            ConnectionString connectionString = settings
                     .get(MongoDBDocumentConfigurations.URL, String.class)
-                    .map(ConnectionString::new);
-
-            return connectionString.map(c -> MongoClientSettings.builder()
-                    .applyConnectionString(c)
-                    .build())
-                    .map(MongoClients::create)
-                    .map(MongoDBDocumentManagerFactory::new)
-                    .orElseGet(() -> new MongoDBDocumentManagerFactory(MongoClients.create()));
+                    .map(ConnectionString::new)
+                    .orElseGet(() -> new ConnectionString(DEFAULT_CONNECTION_STRING));
+            return MongoClientSettings.builder()
+                    .applyConnectionString(connectionString)
+                    .build();
         }
 
         Optional<MongoCredential> credential = MongoAuthentication.of(settings);
 
-
-        final MongoClientSettings mongoClientSettings = credential.map(c -> MongoClientSettings.builder().credential(c)
+        return credential.map(c -> MongoClientSettings.builder().credential(c)
                 .applyToClusterSettings(builder -> builder.hosts(servers))).orElseGet(() ->
                 MongoClientSettings.builder()
                         .applyToClusterSettings(builder -> builder.hosts(servers))).build();
-
-        return new MongoDBDocumentManagerFactory(MongoClients.create(mongoClientSettings));
     }
 
     public MongoDBDocumentManagerFactory get(String pathFileConfig) throws NullPointerException {
@@ -48,7 +48,43 @@ public enum MongoDBDocumentConfigurations implements Supplier<String> {
     /**
      * Authentication mechanisms {@link com.mongodb.AuthenticationMechanism}
      */
-    AUTHENTICATION_MECHANISM("jnosql.mongodb.authentication.mechanism");
+    AUTHENTICATION_MECHANISM("jnosql.mongodb.authentication.mechanism"),
+    /**
+     * The maximum number of documents sent per round trip when several entities are inserted or updated at once.
+     * The default value is 1000.
+     */
+    BULK_WRITE_BATCH_SIZE("jnosql.mongodb.bulk.write.batch.size"),
+    /**
+     * Defines whether multi-entity writes are ordered, stopping at the first failure, or unordered.
+     * The default value is true.
+     */
+    BULK_WRITE_ORDERED("jnosql.mongodb.bulk.write.ordered"),
+    /**
+     * The default number of documents returned per batch by the cursor of a select.
+     */
+    FIND_BATCH_SIZE("jnosql.mongodb.find.batch.size"),
+    /**
+     * The default maximum execution time, in milliseconds, of a select on the server.
+     */
+    FIND_MAX_TIME("jnosql.mongodb.find.max.time"),
+    /**
+     * Defines by default whether a select may write temporary data to disk while sorting.
+     */
+    FIND_ALLOW_DISK_USE("jnosql.mongodb.find.allow.disk.use"),
+    /**
+     * Defines by default whether the server should keep idle cursors of a select open.
+     */
+    FIND_NO_CURSOR_TIMEOUT("jnosql.mongodb.find.no.cursor.timeout"),
+    /**
+     * The default read preference name of a select, e.g.: primary, secondaryPreferred, nearest.
+     * {@link com.mongodb.ReadPreference#valueOf(String)}
+     */
+    READ_PREFERENCE("jnosql.mongodb.read.preference"),
+    /**
+     * The maximum number of query filter templates each manager caches by condition shape; zero disables the cache.
+     * The default value is 1000.
+     */
+    FILTER_CACHE_SIZE("jnosql.mongodb.filter.cache.size");
 
     private final String configuration;
 
@@ -17,34 +17,41 @@ package org.eclipse.jnosql.databases.mongodb.communication;
 
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.Projections;
-import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
 import com.mongodb.client.result.DeleteResult;
-import jakarta.data.Sort;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
-import org.eclipse.jnosql.communication.semistructured.Element;
-import org.eclipse.jnosql.communication.semistructured.Elements;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.StreamSupport.stream;
-import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.ID_FIELD;
-import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.getDocument;
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.id;
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.removeNullId;
 
 /**
  * The mongodb implementation to {@link DatabaseManager} that does not support TTL methods
@@ -55,13 +62,32 @@ public class MongoDBDocumentManager implements DatabaseManager {
 
     private static final BsonDocument EMPTY = new BsonDocument();
 
+    private static final String GRIDFS_DEFAULT_BUCKET = "fs";
+
     private final MongoDatabase mongoDatabase;
 
     private final String database;
 
+    private final MongoDBBulkWriteOptions bulkWriteOptions;
+
+    private final MongoDBFindOptions findOptions;
+
+    private final MongoDBFilterCache filterCache;
+
+    private final Map<String, CodecRegistry> registries = new ConcurrentHashMap<>();
+
     MongoDBDocumentManager(MongoDatabase mongoDatabase, String database) {
+        this(mongoDatabase, database, MongoDBBulkWriteOptions.DEFAULT, MongoDBFindOptions.EMPTY,
+                new MongoDBFilterCache(MongoDBFilterCache.DEFAULT_MAX_SIZE));
+    }
+
+    MongoDBDocumentManager(MongoDatabase mongoDatabase, String database, MongoDBBulkWriteOptions bulkWriteOptions,
+                           MongoDBFindOptions findOptions, MongoDBFilterCache filterCache) {
         this.mongoDatabase = mongoDatabase;
         this.database = database;
+        this.bulkWriteOptions = bulkWriteOptions;
+        this.findOptions = findOptions;
+        this.filterCache = filterCache;
     }
 
 
@@ -70,23 +96,22 @@ public class MongoDBDocumentManager implements DatabaseManager {
         return database;
     }
 
+    /**
+     * Returns the cache of query filter templates used by select, count and delete, with its hit and miss counters.
+     *
+     * @return the {@link MongoDBFilterCache} instance of this manager
+     */
+    public MongoDBFilterCache filterCache() {
+        return filterCache;
+    }
+
     @Override
     public CommunicationEntity insert(CommunicationEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
         String collectionName = entity.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        var document = getDocument(entity);
-        if (document.get(ID_FIELD) == null) {
-            document.remove(ID_FIELD);
-            entity.remove(ID_FIELD);
-        }
-
-        collection.insertOne(document);
-        boolean hasNotId = entity.elements().stream()
-                .map(Element::name).noneMatch(k -> k.equals(ID_FIELD));
-        if (hasNotId) {
-            entity.add(Elements.of(ID_FIELD, document.get(ID_FIELD)));
-        }
+        MongoCollection<CommunicationEntity> collection = entityCollection(collectionName);
+        removeNullId(entity);
+        collection.insertOne(entity);
         return entity;
     }
 
@@ -96,12 +121,34 @@ public class MongoDBDocumentManager implements DatabaseManager {
         throw new UnsupportedOperationException("MongoDB does not support save with TTL");
     }
 
+    /**
+     * Inserts the entities in batches through {@code insertMany}, using the {@link MongoDBBulkWriteOptions}
+     * defined at configuration.
+     *
+     * @param entities the entities to be inserted
+     * @return the inserted entities with the generated {@code _id} when it was absent
+     * @throws NullPointerException when entities is null
+     * @see MongoDBDocumentManager#insert(Iterable, MongoDBBulkWriteOptions)
+     */
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        return insert(entities, bulkWriteOptions);
+    }
+
+    /**
+     * Inserts the entities in batches through {@code insertMany}. Consecutive entities that share the same
+     * collection are grouped up to {@link MongoDBBulkWriteOptions#batchSize()} documents per round trip.
+     * When an entity has no {@code _id}, the one generated by the driver is appended to it.
+     *
+     * @param entities the entities to be inserted
+     * @param options  the bulk write options
+     * @return the inserted entities
+     * @throws NullPointerException when there is any null parameter
+     */
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, MongoDBBulkWriteOptions options) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .toList();
+        Objects.requireNonNull(options, "options is required");
+        return inBatches(entities, options, batch -> insertMany(batch, options));
     }
 
     @Override
@@ -118,24 +165,42 @@ public class MongoDBDocumentManager implements DatabaseManager {
     public CommunicationEntity update(CommunicationEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
 
-        CommunicationEntity copy = entity.copy();
         String collectionName = entity.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Document id = copy.find(ID_FIELD)
-                .map(d -> new Document(d.name(), d.value().get()))
-                .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
-                        "the field `id` is required"));
-        copy.remove(ID_FIELD);
-        collection.findOneAndReplace(id, getDocument(entity));
+        MongoCollection<CommunicationEntity> collection = entityCollection(collectionName);
+        collection.replaceOne(id(entity), entity);
         return entity;
     }
 
+    /**
+     * Updates the entities in batches through {@code bulkWrite}, using the {@link MongoDBBulkWriteOptions}
+     * defined at configuration.
+     *
+     * @param entities the entities to be updated
+     * @return the updated entities
+     * @throws NullPointerException          when entities is null
+     * @throws UnsupportedOperationException when an entity does not have the {@code _id} field
+     * @see MongoDBDocumentManager#update(Iterable, MongoDBBulkWriteOptions)
+     */
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        return update(entities, bulkWriteOptions);
+    }
+
+    /**
+     * Updates the entities in batches through {@code bulkWrite}, where each entity becomes a
+     * {@link ReplaceOneModel} filtered by its {@code _id}. Consecutive entities that share the same
+     * collection are grouped up to {@link MongoDBBulkWriteOptions#batchSize()} documents per round trip.
+     *
+     * @param entities the entities to be updated
+     * @param options  the bulk write options
+     * @return the updated entities
+     * @throws NullPointerException          when there is any null parameter
+     * @throws UnsupportedOperationException when an entity does not have the {@code _id} field
+     */
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities, MongoDBBulkWriteOptions options) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .toList();
+        Objects.requireNonNull(options, "options is required");
+        return inBatches(entities, options, batch -> replaceMany(batch, options));
     }
 
 
@@ -145,21 +210,35 @@ public class MongoDBDocumentManager implements DatabaseManager {
 
         String collectionName = query.name();
         MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Bson mongoDBQuery = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        Bson mongoDBQuery = query.condition().map(filterCache::convert).orElse(EMPTY);
         collection.deleteMany(mongoDBQuery);
     }
 
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) {
+        return select(query, MongoDBFindOptions.EMPTY);
+    }
+
+    /**
+     * Finds the documents that match the given query, applying the cursor options on top of the
+     * defaults defined at configuration.
+     *
+     * @param query   the query
+     * @param options the cursor options, such as batch size, hint and max time
+     * @return the stream result
+     * @throws NullPointerException when there is any null parameter
+     */
+    public Stream<CommunicationEntity> select(SelectQuery query, MongoDBFindOptions options) {
         Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
         String collectionName = query.name();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Bson mongoDBQuery = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
-        FindIterable<Document> documents = collection.find(mongoDBQuery);
+        MongoCollection<CommunicationEntity> collection = collection(collectionName, options);
+        Bson mongoDBQuery = query.condition().map(filterCache::convert).orElse(EMPTY);
+        FindIterable<CommunicationEntity> documents = find(collection, mongoDBQuery, options);
         documents.projection(Projections.include(query.columns()));
 
         if (!query.sorts().isEmpty()) {
-            documents.sort(sort(query.sorts()));
+            documents.sort(MongoDBUtils.sort(query.sorts()));
         }
 
         if (query.skip() > 0) {
@@ -170,8 +249,7 @@ public class MongoDBDocumentManager implements DatabaseManager {
             documents.limit((int) query.limit());
         }
 
-        return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> CommunicationEntity.of(collectionName, ds));
+        return stream(documents.spliterator(), false);
 
     }
 
@@ -179,7 +257,7 @@ public class MongoDBDocumentManager implements DatabaseManager {
     public long count(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
         String collectionName = query.name();
-        Bson mongoDBQuery = query.condition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        Bson mongoDBQuery = query.condition().map(filterCache::convert).orElse(EMPTY);
         return count(collectionName, mongoDBQuery);
     }
 
@@ -243,10 +321,9 @@ public class MongoDBDocumentManager implements DatabaseManager {
     public Stream<CommunicationEntity> aggregate(String collectionName, List<Bson> pipeline) {
         Objects.requireNonNull(pipeline, "pipeline is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        AggregateIterable<Document> aggregate = collection.aggregate(pipeline);
-        return stream(aggregate.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> CommunicationEntity.of(collectionName, ds));
+        MongoCollection<CommunicationEntity> collection = entityCollection(collectionName);
+        AggregateIterable<CommunicationEntity> aggregate = collection.aggregate(pipeline);
+        return stream(aggregate.spliterator(), false);
     }
 
     /**
@@ -258,21 +335,138 @@ public class MongoDBDocumentManager implements DatabaseManager {
      * @throws NullPointerException when filter or collectionName is null
      */
     public Stream<CommunicationEntity> select(String collectionName, Bson filter) {
+        return select(collectionName, filter, MongoDBFindOptions.EMPTY);
+    }
+
+    /**
+     * Finds all documents in the collection, applying the cursor options on top of the
+     * defaults defined at configuration.
+     *
+     * @param collectionName the collection name
+     * @param filter         the query filter
+     * @param options        the cursor options, such as batch size, hint and max time
+     * @return the stream result
+     * @throws NullPointerException when there is any null parameter
+     */
+    public Stream<CommunicationEntity> select(String collectionName, Bson filter, MongoDBFindOptions options) {
         Objects.requireNonNull(filter, "filter is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        FindIterable<Document> documents = collection.find(filter);
-        return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> CommunicationEntity.of(collectionName, ds));
+        Objects.requireNonNull(options, "options is required");
+        MongoCollection<CommunicationEntity> collection = collection(collectionName, options);
+        FindIterable<CommunicationEntity> documents = find(collection, filter, options);
+        return stream(documents.spliterator(), false);
+    }
+
+    /**
+     * Opens a change stream on the collection, which delivers the inserts, updates, replacements and deletes
+     * from now on as they happen, so a read model can be kept up to date without scanning the collection again.
+     * The stream blocks while it waits for the next change and holds a server cursor, so close it when done.
+     *
+     * @param collectionName the collection name
+     * @return the stream of changes
+     * @throws NullPointerException when collectionName is null
+     */
+    public Stream<MongoDBChangeEvent<CommunicationEntity>> watch(String collectionName) {
+        return watch(collectionName, MongoDBChangeStreamOptions.DEFAULT);
+    }
+
+    /**
+     * Opens a change stream on the collection, which delivers the inserts, updates, replacements and deletes
+     * as they happen. The options define the server-side pipeline that filters the events and where the stream
+     * starts, e.g.: right after the {@link MongoDBChangeEvent#resumeToken()} of the last processed event.
+     * The stream blocks while it waits for the next change and holds a server cursor, so close it when done.
+     *
+     * @param collectionName the collection name
+     * @param options        the change stream options
+     * @return the stream of changes
+     * @throws NullPointerException when there is any null parameter
+     */
+    public Stream<MongoDBChangeEvent<CommunicationEntity>> watch(String collectionName,
+                                                                 MongoDBChangeStreamOptions options) {
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        Objects.requireNonNull(options, "options is required");
+        MongoCollection<CommunicationEntity> collection = entityCollection(collectionName);
+        MongoChangeStreamCursor<ChangeStreamDocument<CommunicationEntity>> cursor =
+                options.apply(collection.watch(options.pipeline())).cursor();
+        Spliterator<ChangeStreamDocument<CommunicationEntity>> spliterator =
+                Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL);
+        return stream(spliterator, false)
+                .map(MongoDBChangeEvent::of)
+                .onClose(cursor::close);
+    }
+
+    /**
+     * Returns the attachment store backed by the default GridFS bucket, {@code fs}.
+     *
+     * @return the {@link MongoDBGridFSAttachmentStore} instance
+     */
+    public MongoDBGridFSAttachmentStore attachments() {
+        return attachments(GRIDFS_DEFAULT_BUCKET);
+    }
+
+    /**
+     * Returns the attachment store backed by the given GridFS bucket, which streams the attachment content
+     * in chunks instead of copying it to the heap.
+     *
+     * @param bucketName the GridFS bucket name
+     * @return the {@link MongoDBGridFSAttachmentStore} instance
+     * @throws NullPointerException when bucketName is null
+     */
+    public MongoDBGridFSAttachmentStore attachments(String bucketName) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        return new MongoDBGridFSAttachmentStore(mongoDatabase, bucketName);
     }
 
-    private Bson sort(Sort<?> sort) {
-        return sort.isAscending() ? Sorts.ascending(sort.property()) : Sorts.descending(sort.property());
+    private MongoCollection<CommunicationEntity> entityCollection(String collectionName) {
+        CodecRegistry registry = registries.computeIfAbsent(collectionName,
+                name -> CommunicationEntityCodec.registry(name, mongoDatabase.getCodecRegistry()));
+        return mongoDatabase.getCollection(collectionName, CommunicationEntity.class)
+                .withCodecRegistry(registry);
     }
 
-    private Bson sort(List<Sort<?>> sorts) {
-        List<Bson> bsonSorts = sorts.stream().map(this::sort).toList();
-        return Sorts.orderBy(bsonSorts);
+    private MongoCollection<CommunicationEntity> collection(String collectionName, MongoDBFindOptions options) {
+        MongoCollection<CommunicationEntity> collection = entityCollection(collectionName);
+        return options.apply(findOptions.apply(collection));
+    }
+
+    private FindIterable<CommunicationEntity> find(MongoCollection<CommunicationEntity> collection, Bson filter,
+                                                   MongoDBFindOptions options) {
+        return options.apply(findOptions.apply(collection.find(filter)));
+    }
+
+    private List<CommunicationEntity> inBatches(Iterable<CommunicationEntity> entities, MongoDBBulkWriteOptions options,
+                                                Consumer<List<CommunicationEntity>> writer) {
+        List<CommunicationEntity> result = new ArrayList<>();
+        List<CommunicationEntity> batch = new ArrayList<>();
+        for (CommunicationEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            if (!batch.isEmpty() && (batch.size() == options.batchSize()
+                    || !batch.get(0).name().equals(entity.name()))) {
+                writer.accept(batch);
+                batch = new ArrayList<>();
+            }
+            batch.add(entity);
+            result.add(entity);
+        }
+        if (!batch.isEmpty()) {
+            writer.accept(batch);
+        }
+        return result;
+    }
+
+    private void insertMany(List<CommunicationEntity> batch, MongoDBBulkWriteOptions options) {
+        MongoCollection<CommunicationEntity> collection = entityCollection(batch.get(0).name());
+        batch.forEach(MongoDBUtils::removeNullId);
+        collection.insertMany(batch, new InsertManyOptions().ordered(options.ordered()));
+    }
+
+    private void replaceMany(List<CommunicationEntity> batch, MongoDBBulkWriteOptions options) {
+        MongoCollection<CommunicationEntity> collection = entityCollection(batch.get(0).name());
+        List<ReplaceOneModel<CommunicationEntity>> replacements = new ArrayList<>(batch.size());
+        for (CommunicationEntity entity : batch) {
+            replacements.add(new ReplaceOneModel<>(id(entity), entity));
+        }
+        collection.bulkWrite(replacements, new BulkWriteOptions().ordered(options.ordered()));
     }
 
     /**
@@ -27,14 +27,30 @@ public class MongoDBDocumentManagerFactory implements DatabaseManagerFactory {
 
     private final MongoClient mongoClient;
 
+    private final MongoDBBulkWriteOptions bulkWriteOptions;
+
+    private final MongoDBFindOptions findOptions;
+
+    private final int filterCacheSize;
+
     MongoDBDocumentManagerFactory(MongoClient mongoClient) {
+        this(mongoClient, MongoDBBulkWriteOptions.DEFAULT, MongoDBFindOptions.EMPTY,
+                MongoDBFilterCache.DEFAULT_MAX_SIZE);
+    }
+
+    MongoDBDocumentManagerFactory(MongoClient mongoClient, MongoDBBulkWriteOptions bulkWriteOptions,
+                                  MongoDBFindOptions findOptions, int filterCacheSize) {
         this.mongoClient = mongoClient;
+        this.bulkWriteOptions = bulkWriteOptions;
+        this.findOptions = findOptions;
+        this.filterCacheSize = filterCacheSize;
     }
 
     @Override
     public MongoDBDocumentManager apply(String database) {
         Objects.requireNonNull(database, "database is required");
-        return new MongoDBDocumentManager(mongoClient.getDatabase(database), database);
+        return new MongoDBDocumentManager(mongoClient.getDatabase(database), database, bulkWriteOptions, findOptions,
+                new MongoDBFilterCache(filterCacheSize));
     }
 
 
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, least-recently-used cache of the {@link Bson} filter templates built from query conditions.
+ * The key is the shape of the condition, its operators and field names, so a derived query that runs
+ * again with other values reuses the template and only substitutes the values: the filter is written straight
+ * into documents, without the operator dispatch, the {@code Filters} builders or the regular expression compilation.
+ * This class is thread-safe; every manager has its own cache, so managers never contend on the same lock.
+ *
+ * @see MongoDBDocumentConfigurations#FILTER_CACHE_SIZE
+ */
+public final class MongoDBFilterCache {
+
+    static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private final int maxSize;
+
+    private final Map<DocumentQueryConversor.Shape, DocumentQueryConversor.FilterTemplate> templates;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    MongoDBFilterCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DocumentQueryConversor.Shape,
+                    DocumentQueryConversor.FilterTemplate> eldest) {
+                return size() > MongoDBFilterCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the number of conversions that reused a cached template
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of conversions that had to build a new template
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of templates currently cached
+     */
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    /**
+     * @return the maximum number of templates kept; zero means the cache is disabled
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes every cached template and resets the hit and miss counters.
+     */
+    public synchronized void clear() {
+        templates.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    Bson convert(CriteriaCondition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        if (maxSize == 0) {
+            return DocumentQueryConversor.convert(condition);
+        }
+        List<Element> parameters = new ArrayList<>();
+        var shape = DocumentQueryConversor.shape(condition, parameters);
+        DocumentQueryConversor.FilterTemplate template;
+        synchronized (this) {
+            template = templates.get(shape);
+        }
+        if (template == null) {
+            misses.increment();
+            template = DocumentQueryConversor.compile(condition);
+            synchronized (this) {
+                templates.put(shape, template);
+            }
+        } else {
+            hits.increment();
+        }
+        return template.apply(parameters.iterator());
+    }
+
+    /**
+     * @return the maximum size configured by {@link MongoDBDocumentConfigurations#FILTER_CACHE_SIZE}
+     * @throws IllegalArgumentException when the size is negative
+     */
+    static int maxSize(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        int maxSize = settings.get(MongoDBDocumentConfigurations.FILTER_CACHE_SIZE)
+                .map(Object::toString).map(Integer::valueOf)
+                .orElse(DEFAULT_MAX_SIZE);
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative: " + maxSize);
+        }
+        return maxSize;
+    }
+
+    @Override
+    public String toString() {
+        return "MongoDBFilterCache{" +
+                "maxSize=" + maxSize +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                '}';
+    }
+}
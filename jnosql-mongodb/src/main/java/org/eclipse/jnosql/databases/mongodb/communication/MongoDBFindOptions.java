@@ -0,0 +1,328 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cursor options applied to a MongoDB find operation, such as the cursor batch size, the index hint,
+ * the server-side time limit and the read preference. Every option is optional: when absent, the
+ * value configured through {@link MongoDBDocumentConfigurations} is used, or the driver's default otherwise.
+ * This class is immutable; use {@link MongoDBFindOptions#builder()} to create an instance.
+ *
+ * @see MongoDBDocumentManager#select(org.eclipse.jnosql.communication.semistructured.SelectQuery, MongoDBFindOptions)
+ */
+public final class MongoDBFindOptions {
+
+    /**
+     * The options without any value defined, so the driver's defaults are kept.
+     */
+    public static final MongoDBFindOptions EMPTY = new MongoDBFindOptions(builder());
+
+    private final Integer batchSize;
+
+    private final Bson hint;
+
+    private final String hintName;
+
+    private final Duration maxTime;
+
+    private final Boolean allowDiskUse;
+
+    private final Boolean noCursorTimeout;
+
+    private final ReadPreference readPreference;
+
+    private MongoDBFindOptions(MongoDBFindOptionsBuilder builder) {
+        this.batchSize = builder.batchSize;
+        this.hint = builder.hint;
+        this.hintName = builder.hintName;
+        this.maxTime = builder.maxTime;
+        this.allowDiskUse = builder.allowDiskUse;
+        this.noCursorTimeout = builder.noCursorTimeout;
+        this.readPreference = builder.readPreference;
+    }
+
+    /**
+     * @return the number of documents returned per batch by the cursor
+     */
+    public Optional<Integer> batchSize() {
+        return Optional.ofNullable(batchSize);
+    }
+
+    /**
+     * @return the index specification to use as hint
+     */
+    public Optional<Bson> hint() {
+        return Optional.ofNullable(hint);
+    }
+
+    /**
+     * @return the index name to use as hint
+     */
+    public Optional<String> hintName() {
+        return Optional.ofNullable(hintName);
+    }
+
+    /**
+     * @return the maximum execution time on the server
+     */
+    public Optional<Duration> maxTime() {
+        return Optional.ofNullable(maxTime);
+    }
+
+    /**
+     * @return whether the server may write temporary data to disk while sorting
+     */
+    public Optional<Boolean> allowDiskUse() {
+        return Optional.ofNullable(allowDiskUse);
+    }
+
+    /**
+     * @return whether the server should keep idle cursors open
+     */
+    public Optional<Boolean> noCursorTimeout() {
+        return Optional.ofNullable(noCursorTimeout);
+    }
+
+    /**
+     * @return the read preference used by the query
+     */
+    public Optional<ReadPreference> readPreference() {
+        return Optional.ofNullable(readPreference);
+    }
+
+    <T> MongoCollection<T> apply(MongoCollection<T> collection) {
+        if (readPreference != null) {
+            return collection.withReadPreference(readPreference);
+        }
+        return collection;
+    }
+
+    <T> FindIterable<T> apply(FindIterable<T> documents) {
+        if (batchSize != null) {
+            documents.batchSize(batchSize);
+        }
+        if (hint != null) {
+            documents.hint(hint);
+        }
+        if (hintName != null) {
+            documents.hintString(hintName);
+        }
+        if (maxTime != null) {
+            documents.maxTime(maxTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (allowDiskUse != null) {
+            documents.allowDiskUse(allowDiskUse);
+        }
+        if (noCursorTimeout != null) {
+            documents.noCursorTimeout(noCursorTimeout);
+        }
+        return documents;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MongoDBFindOptions that)) {
+            return false;
+        }
+        return Objects.equals(batchSize, that.batchSize)
+                && Objects.equals(hint, that.hint)
+                && Objects.equals(hintName, that.hintName)
+                && Objects.equals(maxTime, that.maxTime)
+                && Objects.equals(allowDiskUse, that.allowDiskUse)
+                && Objects.equals(noCursorTimeout, that.noCursorTimeout)
+                && Objects.equals(readPreference, that.readPreference);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batchSize, hint, hintName, maxTime, allowDiskUse, noCursorTimeout, readPreference);
+    }
+
+    @Override
+    public String toString() {
+        return "MongoDBFindOptions{" +
+                "batchSize=" + batchSize +
+                ", hint=" + hint +
+                ", hintName='" + hintName + '\'' +
+                ", maxTime=" + maxTime +
+                ", allowDiskUse=" + allowDiskUse +
+                ", noCursorTimeout=" + noCursorTimeout +
+                ", readPreference=" + readPreference +
+                '}';
+    }
+
+    /**
+     * Creates a new builder instance
+     *
+     * @return a {@link MongoDBFindOptionsBuilder} instance
+     */
+    public static MongoDBFindOptionsBuilder builder() {
+        return new MongoDBFindOptionsBuilder();
+    }
+
+    static MongoDBFindOptions of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        MongoDBFindOptionsBuilder builder = builder();
+        settings.get(MongoDBDocumentConfigurations.FIND_BATCH_SIZE)
+                .map(Object::toString).map(Integer::valueOf)
+                .ifPresent(builder::batchSize);
+        settings.get(MongoDBDocumentConfigurations.FIND_MAX_TIME)
+                .map(Object::toString).map(Long::valueOf).map(Duration::ofMillis)
+                .ifPresent(builder::maxTime);
+        settings.get(MongoDBDocumentConfigurations.FIND_ALLOW_DISK_USE)
+                .map(Object::toString).map(Boolean::valueOf)
+                .ifPresent(builder::allowDiskUse);
+        settings.get(MongoDBDocumentConfigurations.FIND_NO_CURSOR_TIMEOUT)
+                .map(Object::toString).map(Boolean::valueOf)
+                .ifPresent(builder::noCursorTimeout);
+        settings.get(MongoDBDocumentConfigurations.READ_PREFERENCE)
+                .map(Object::toString).map(ReadPreference::valueOf)
+                .ifPresent(builder::readPreference);
+        return builder.build();
+    }
+
+    /**
+     * The builder of {@link MongoDBFindOptions}
+     */
+    public static final class MongoDBFindOptionsBuilder {
+
+        private Integer batchSize;
+
+        private Bson hint;
+
+        private String hintName;
+
+        private Duration maxTime;
+
+        private Boolean allowDiskUse;
+
+        private Boolean noCursorTimeout;
+
+        private ReadPreference readPreference;
+
+        private MongoDBFindOptionsBuilder() {
+        }
+
+        /**
+         * Defines the number of documents returned per batch by the cursor
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is negative
+         */
+        public MongoDBFindOptionsBuilder batchSize(int batchSize) {
+            if (batchSize < 0) {
+                throw new IllegalArgumentException("batchSize cannot be negative: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Defines the index specification to use as hint
+         *
+         * @param hint the index specification
+         * @return this builder
+         * @throws NullPointerException when hint is null
+         */
+        public MongoDBFindOptionsBuilder hint(Bson hint) {
+            this.hint = Objects.requireNonNull(hint, "hint is required");
+            this.hintName = null;
+            return this;
+        }
+
+        /**
+         * Defines the index name to use as hint
+         *
+         * @param hintName the index name
+         * @return this builder
+         * @throws NullPointerException when hintName is null
+         */
+        public MongoDBFindOptionsBuilder hint(String hintName) {
+            this.hintName = Objects.requireNonNull(hintName, "hintName is required");
+            this.hint = null;
+            return this;
+        }
+
+        /**
+         * Defines the maximum execution time on the server
+         *
+         * @param maxTime the maximum time
+         * @return this builder
+         * @throws NullPointerException when maxTime is null
+         */
+        public MongoDBFindOptionsBuilder maxTime(Duration maxTime) {
+            this.maxTime = Objects.requireNonNull(maxTime, "maxTime is required");
+            return this;
+        }
+
+        /**
+         * Defines whether the server may write temporary data to disk while sorting
+         *
+         * @param allowDiskUse the allow disk use flag
+         * @return this builder
+         */
+        public MongoDBFindOptionsBuilder allowDiskUse(boolean allowDiskUse) {
+            this.allowDiskUse = allowDiskUse;
+            return this;
+        }
+
+        /**
+         * Defines whether the server should keep idle cursors open
+         *
+         * @param noCursorTimeout the no cursor timeout flag
+         * @return this builder
+         */
+        public MongoDBFindOptionsBuilder noCursorTimeout(boolean noCursorTimeout) {
+            this.noCursorTimeout = noCursorTimeout;
+            return this;
+        }
+
+        /**
+         * Defines the read preference used by the query
+         *
+         * @param readPreference the read preference
+         * @return this builder
+         * @throws NullPointerException when readPreference is null
+         */
+        public MongoDBFindOptionsBuilder readPreference(ReadPreference readPreference) {
+            this.readPreference = Objects.requireNonNull(readPreference, "readPreference is required");
+            return this;
+        }
+
+        /**
+         * Creates a {@link MongoDBFindOptions} instance
+         *
+         * @return a {@link MongoDBFindOptions} instance
+         */
+        public MongoDBFindOptions build() {
+            return new MongoDBFindOptions(this);
+        }
+    }
+}
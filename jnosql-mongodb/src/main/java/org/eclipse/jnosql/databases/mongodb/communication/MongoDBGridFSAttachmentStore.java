@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import com.mongodb.client.gridfs.GridFSUploadStream;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.eclipse.jnosql.communication.driver.attachment.AttachmentStore;
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Sorts.descending;
+
+/**
+ * The {@link AttachmentStore} backed by a MongoDB GridFS bucket. The content is streamed to the bucket
+ * chunk by chunk, and the attachments returned by {@link #get(String, String)} only open a download stream
+ * when their data is read.
+ * Each attachment is a GridFS file whose filename is the attachment name and whose metadata holds the entity id,
+ * the content type and the last modification date.
+ *
+ * @see MongoDBDocumentManager#attachments(String)
+ */
+public final class MongoDBGridFSAttachmentStore implements AttachmentStore {
+
+    static final String ENTITY_FIELD = "entity";
+
+    static final String CONTENT_TYPE_FIELD = "contentType";
+
+    static final String LAST_MODIFIED_FIELD = "lastModified";
+
+    private final GridFSBucket bucket;
+
+    MongoDBGridFSAttachmentStore(MongoDatabase database, String bucketName) {
+        Objects.requireNonNull(database, "database is required");
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        this.bucket = GridFSBuckets.create(database, bucketName);
+    }
+
+    MongoDBGridFSAttachmentStore(GridFSBucket bucket) {
+        this.bucket = Objects.requireNonNull(bucket, "bucket is required");
+    }
+
+    @Override
+    public void put(String id, EntityAttachment attachment) {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(attachment, "attachment is required");
+        Document metadata = new Document(ENTITY_FIELD, id)
+                .append(CONTENT_TYPE_FIELD, attachment.getContentType())
+                .append(LAST_MODIFIED_FIELD, attachment.getLastModified());
+        GridFSUploadOptions options = new GridFSUploadOptions().metadata(metadata);
+        GridFSUploadStream upload = bucket.openUploadStream(attachment.name(), options);
+        try {
+            attachment.transferTo(Channels.newChannel(upload));
+        } catch (IOException | RuntimeException exception) {
+            upload.abort();
+            throw new CommunicationException("There is an error to upload the attachment " + attachment.name(),
+                    exception);
+        }
+        upload.close();
+        ObjectId current = upload.getObjectId();
+        for (ObjectId previous : files(id, attachment.name())) {
+            if (!previous.equals(current)) {
+                bucket.delete(previous);
+            }
+        }
+    }
+
+    @Override
+    public Optional<EntityAttachment> get(String id, String name) {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(name, "name is required");
+        GridFSFile file = bucket.find(filter(id, name)).sort(descending("uploadDate")).first();
+        return Optional.ofNullable(file).map(GridFSEntityAttachment::new);
+    }
+
+    @Override
+    public void delete(String id, String name) {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(name, "name is required");
+        files(id, name).forEach(bucket::delete);
+    }
+
+    private List<ObjectId> files(String id, String name) {
+        List<ObjectId> files = new ArrayList<>();
+        bucket.find(filter(id, name)).forEach(file -> files.add(file.getObjectId()));
+        return files;
+    }
+
+    private static Bson filter(String id, String name) {
+        return and(eq("filename", name), eq("metadata." + ENTITY_FIELD, id));
+    }
+
+    @Override
+    public String toString() {
+        return "MongoDBGridFSAttachmentStore{" +
+                "bucket=" + bucket.getBucketName() +
+                '}';
+    }
+
+    private final class GridFSEntityAttachment implements EntityAttachment {
+
+        private final GridFSFile file;
+
+        private GridFSEntityAttachment(GridFSFile file) {
+            this.file = file;
+        }
+
+        @Override
+        public String name() {
+            return file.getFilename();
+        }
+
+        @Override
+        public long getLastModified() {
+            Document metadata = file.getMetadata();
+            if (metadata != null && metadata.get(LAST_MODIFIED_FIELD) instanceof Number lastModified) {
+                return lastModified.longValue();
+            }
+            return file.getUploadDate().getTime();
+        }
+
+        @Override
+        public String getContentType() {
+            Document metadata = file.getMetadata();
+            return metadata == null ? null : metadata.getString(CONTENT_TYPE_FIELD);
+        }
+
+        @Override
+        public InputStream getData() {
+            return bucket.openDownloadStream(file.getObjectId());
+        }
+
+        @Override
+        public long getLength() {
+            return file.getLength();
+        }
+    }
+}
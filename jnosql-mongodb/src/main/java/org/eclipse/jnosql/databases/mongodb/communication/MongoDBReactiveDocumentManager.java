@@ -0,0 +1,419 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.reactivestreams.FlowAdapters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.id;
+import static org.eclipse.jnosql.databases.mongodb.communication.MongoDBUtils.removeNullId;
+
+/**
+ * The non-blocking counterpart of {@link MongoDBDocumentManager}, backed by the MongoDB Reactive Streams driver.
+ * Writes and counts return a {@link CompletionStage}; queries return a {@link Flow.Publisher} that honors the
+ * subscriber's demand, so documents are fetched from the server as they are requested.
+ * A query is sent to the database only when its publisher is subscribed.
+ * Closing a {@link MongoDBReactiveDocumentManager} has no effect.
+ *
+ * @see MongoDBReactiveDocumentManagerFactory
+ */
+public class MongoDBReactiveDocumentManager implements AutoCloseable {
+
+    private static final BsonDocument EMPTY = new BsonDocument();
+
+    private final MongoDatabase mongoDatabase;
+
+    private final String database;
+
+    private final MongoDBBulkWriteOptions bulkWriteOptions;
+
+    private final MongoDBFindOptions findOptions;
+
+    private final MongoDBFilterCache filterCache;
+
+    private final Map<String, CodecRegistry> registries = new ConcurrentHashMap<>();
+
+    MongoDBReactiveDocumentManager(MongoDatabase mongoDatabase, String database,
+                                   MongoDBBulkWriteOptions bulkWriteOptions, MongoDBFindOptions findOptions,
+                                   MongoDBFilterCache filterCache) {
+        this.mongoDatabase = mongoDatabase;
+        this.database = database;
+        this.bulkWriteOptions = bulkWriteOptions;
+        this.findOptions = findOptions;
+        this.filterCache = filterCache;
+    }
+
+    /**
+     * @return the database name
+     */
+    public String name() {
+        return database;
+    }
+
+    /**
+     * Returns the cache of query filter templates used by select, count and delete, with its hit and miss counters.
+     *
+     * @return the {@link MongoDBFilterCache} instance of this manager
+     */
+    public MongoDBFilterCache filterCache() {
+        return filterCache;
+    }
+
+    /**
+     * Inserts an entity; when it has no {@code _id}, the generated one is appended to it.
+     *
+     * @param entity the entity to be inserted
+     * @return the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<CommunicationEntity> insert(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        removeNullId(entity);
+        var collection = entityCollection(entity.name());
+        return MongoDBPublishers.first(collection.insertOne(entity)).thenApply(r -> entity);
+    }
+
+    /**
+     * Inserts the entities in batches, using the {@link MongoDBBulkWriteOptions} defined at configuration.
+     *
+     * @param entities the entities to be inserted
+     * @return the inserted entities
+     * @throws NullPointerException when entities is null
+     * @see MongoDBReactiveDocumentManager#insert(Iterable, MongoDBBulkWriteOptions)
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities) {
+        return insert(entities, bulkWriteOptions);
+    }
+
+    /**
+     * Inserts the entities in batches through {@code insertMany}. Consecutive entities that share the same
+     * collection are grouped up to {@link MongoDBBulkWriteOptions#batchSize()} documents per round trip, and
+     * the batches are sent one after the other, so a failed batch stops the following ones.
+     * When an entity has no {@code _id}, the one generated by the driver is appended to it.
+     *
+     * @param entities the entities to be inserted
+     * @param options  the bulk write options
+     * @return the inserted entities
+     * @throws NullPointerException when there is any null parameter
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> insert(Iterable<CommunicationEntity> entities,
+                                                                 MongoDBBulkWriteOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return inBatches(entities, options, batch -> insertMany(batch, options));
+    }
+
+    /**
+     * Replaces the document that has the same {@code _id} as the entity.
+     * When the entity does not have the {@code _id} field, the returned stage fails with
+     * {@link UnsupportedOperationException}.
+     *
+     * @param entity the entity to be updated
+     * @return the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<CommunicationEntity> update(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        Bson id;
+        try {
+            id = id(entity);
+        } catch (UnsupportedOperationException exception) {
+            return CompletableFuture.failedStage(exception);
+        }
+        var collection = entityCollection(entity.name());
+        return MongoDBPublishers.first(collection.replaceOne(id, entity)).thenApply(r -> entity);
+    }
+
+    /**
+     * Updates the entities in batches, using the {@link MongoDBBulkWriteOptions} defined at configuration.
+     *
+     * @param entities the entities to be updated
+     * @return the updated entities
+     * @throws NullPointerException when entities is null
+     * @see MongoDBReactiveDocumentManager#update(Iterable, MongoDBBulkWriteOptions)
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> update(Iterable<CommunicationEntity> entities) {
+        return update(entities, bulkWriteOptions);
+    }
+
+    /**
+     * Updates the entities in batches through {@code bulkWrite}, where each entity becomes a
+     * {@link ReplaceOneModel} filtered by its {@code _id}. Consecutive entities that share the same
+     * collection are grouped up to {@link MongoDBBulkWriteOptions#batchSize()} documents per round trip, and
+     * the batches are sent one after the other, so a failed batch stops the following ones.
+     * When an entity does not have the {@code _id} field, the returned stage fails with
+     * {@link UnsupportedOperationException}.
+     *
+     * @param entities the entities to be updated
+     * @param options  the bulk write options
+     * @return the updated entities
+     * @throws NullPointerException when there is any null parameter
+     */
+    public CompletionStage<Iterable<CommunicationEntity>> update(Iterable<CommunicationEntity> entities,
+                                                                 MongoDBBulkWriteOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        return inBatches(entities, options, batch -> replaceMany(batch, options));
+    }
+
+    /**
+     * Deletes the documents that match the query.
+     *
+     * @param query the query
+     * @return the number of documents deleted
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Long> delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Bson mongoDBQuery = query.condition().map(filterCache::convert).orElse(EMPTY);
+        return delete(query.name(), mongoDBQuery);
+    }
+
+    /**
+     * Removes all documents from the collection that match the given query filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the delete filter
+     * @return the number of documents deleted.
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public CompletionStage<Long> delete(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        return MongoDBPublishers.first(collection.deleteMany(filter)).thenApply(DeleteResult::getDeletedCount);
+    }
+
+    /**
+     * Finds the documents that match the given query.
+     *
+     * @param query the query
+     * @return the publisher of the result
+     * @throws NullPointerException when query is null
+     */
+    public Flow.Publisher<CommunicationEntity> select(SelectQuery query) {
+        return select(query, MongoDBFindOptions.EMPTY);
+    }
+
+    /**
+     * Finds the documents that match the given query, applying the cursor options on top of the
+     * defaults defined at configuration.
+     *
+     * @param query   the query
+     * @param options the cursor options, such as batch size, hint and max time
+     * @return the publisher of the result
+     * @throws NullPointerException when there is any null parameter
+     */
+    public Flow.Publisher<CommunicationEntity> select(SelectQuery query, MongoDBFindOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        Bson mongoDBQuery = query.condition().map(filterCache::convert).orElse(EMPTY);
+        FindPublisher<CommunicationEntity> documents = find(query.name(), mongoDBQuery, options);
+        documents.projection(Projections.include(query.columns()));
+
+        if (!query.sorts().isEmpty()) {
+            documents.sort(MongoDBUtils.sort(query.sorts()));
+        }
+
+        if (query.skip() > 0) {
+            documents.skip((int) query.skip());
+        }
+
+        if (query.limit() > 0) {
+            documents.limit((int) query.limit());
+        }
+        return FlowAdapters.toFlowPublisher(documents);
+    }
+
+    /**
+     * Finds all documents in the collection.
+     *
+     * @param collectionName the collection name
+     * @param filter         the query filter
+     * @return the publisher of the result
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public Flow.Publisher<CommunicationEntity> select(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        return FlowAdapters.toFlowPublisher(find(collectionName, filter, MongoDBFindOptions.EMPTY));
+    }
+
+    /**
+     * Aggregates documents according to the specified aggregation pipeline.
+     *
+     * @param collectionName the collection name
+     * @param pipeline       the aggregation pipeline
+     * @return the publisher of the result
+     * @throws NullPointerException when pipeline or collectionName is null
+     */
+    public Flow.Publisher<CommunicationEntity> aggregate(String collectionName, List<Bson> pipeline) {
+        Objects.requireNonNull(pipeline, "pipeline is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        return FlowAdapters.toFlowPublisher(entityCollection(collectionName).aggregate(pipeline));
+    }
+
+    /**
+     * Returns the number of documents that match the given query.
+     *
+     * @param query the query
+     * @return the number of documents founded.
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Long> count(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Bson mongoDBQuery = query.condition().map(filterCache::convert).orElse(EMPTY);
+        return count(query.name(), mongoDBQuery);
+    }
+
+    /**
+     * Returns the number of documents in the collection.
+     *
+     * @param collectionName the collection name
+     * @return the number of documents
+     * @throws NullPointerException when collectionName is null
+     */
+    public CompletionStage<Long> count(String collectionName) {
+        return count(collectionName, EMPTY);
+    }
+
+    /**
+     * Returns the number of documents in the collection that match the given query filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the query filter
+     * @return the number of documents founded.
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public CompletionStage<Long> count(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        return MongoDBPublishers.first(collection.countDocuments(filter));
+    }
+
+    /**
+     * Closing a {@link MongoDBReactiveDocumentManager} has no effect.
+     */
+    @Override
+    public void close() {
+
+    }
+
+    private FindPublisher<CommunicationEntity> find(String collectionName, Bson filter, MongoDBFindOptions options) {
+        MongoCollection<CommunicationEntity> collection = withReadPreference(
+                withReadPreference(entityCollection(collectionName), findOptions), options);
+        return apply(apply(collection.find(filter), findOptions), options);
+    }
+
+    private static <T> MongoCollection<T> withReadPreference(MongoCollection<T> collection,
+                                                             MongoDBFindOptions options) {
+        return options.readPreference().map(collection::withReadPreference).orElse(collection);
+    }
+
+    private static <T> FindPublisher<T> apply(FindPublisher<T> documents, MongoDBFindOptions options) {
+        options.batchSize().ifPresent(documents::batchSize);
+        options.hint().ifPresent(documents::hint);
+        options.hintName().ifPresent(documents::hintString);
+        options.maxTime().ifPresent(maxTime -> documents.maxTime(maxTime.toMillis(), TimeUnit.MILLISECONDS));
+        options.allowDiskUse().ifPresent(documents::allowDiskUse);
+        options.noCursorTimeout().ifPresent(documents::noCursorTimeout);
+        return documents;
+    }
+
+    private MongoCollection<CommunicationEntity> entityCollection(String collectionName) {
+        CodecRegistry registry = registries.computeIfAbsent(collectionName,
+                name -> CommunicationEntityCodec.registry(name, mongoDatabase.getCodecRegistry()));
+        return mongoDatabase.getCollection(collectionName, CommunicationEntity.class)
+                .withCodecRegistry(registry);
+    }
+
+    private CompletionStage<Iterable<CommunicationEntity>> inBatches(Iterable<CommunicationEntity> entities,
+                                                                     MongoDBBulkWriteOptions options,
+                                                                     Function<List<CommunicationEntity>,
+                                                                             CompletionStage<?>> writer) {
+        List<CommunicationEntity> result = new ArrayList<>();
+        List<List<CommunicationEntity>> batches = new ArrayList<>();
+        List<CommunicationEntity> batch = new ArrayList<>();
+        for (CommunicationEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            if (!batch.isEmpty() && (batch.size() == options.batchSize()
+                    || !batch.get(0).name().equals(entity.name()))) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+            }
+            batch.add(entity);
+            result.add(entity);
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        CompletionStage<Void> written = CompletableFuture.completedFuture(null);
+        for (List<CommunicationEntity> next : batches) {
+            written = written.thenCompose(ignored -> writer.apply(next)).thenAccept(ignored -> {
+            });
+        }
+        return written.thenApply(ignored -> result);
+    }
+
+    private CompletionStage<?> insertMany(List<CommunicationEntity> batch, MongoDBBulkWriteOptions options) {
+        MongoCollection<CommunicationEntity> collection = entityCollection(batch.get(0).name());
+        batch.forEach(MongoDBUtils::removeNullId);
+        return MongoDBPublishers.first(collection.insertMany(batch, new InsertManyOptions().ordered(options.ordered())));
+    }
+
+    private CompletionStage<?> replaceMany(List<CommunicationEntity> batch, MongoDBBulkWriteOptions options) {
+        MongoCollection<CommunicationEntity> collection = entityCollection(batch.get(0).name());
+        List<ReplaceOneModel<CommunicationEntity>> replacements = new ArrayList<>(batch.size());
+        for (CommunicationEntity entity : batch) {
+            replacements.add(new ReplaceOneModel<>(id(entity), entity));
+        }
+        return MongoDBPublishers.first(collection.bulkWrite(replacements,
+                new BulkWriteOptions().ordered(options.ordered())));
+    }
+
+    @Override
+    public String toString() {
+        return "MongoDBReactiveDocumentManager{" +
+                "database='" + database + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The factory of {@link MongoDBReactiveDocumentManager}, backed by the MongoDB Reactive Streams driver.
+ *
+ * @see MongoDBDocumentConfiguration#reactive(org.eclipse.jnosql.communication.Settings)
+ */
+public class MongoDBReactiveDocumentManagerFactory implements Function<String, MongoDBReactiveDocumentManager>,
+        AutoCloseable {
+
+    private final MongoClient mongoClient;
+
+    private final MongoDBBulkWriteOptions bulkWriteOptions;
+
+    private final MongoDBFindOptions findOptions;
+
+    private final int filterCacheSize;
+
+    MongoDBReactiveDocumentManagerFactory(MongoClient mongoClient, MongoDBBulkWriteOptions bulkWriteOptions,
+                                          MongoDBFindOptions findOptions, int filterCacheSize) {
+        this.mongoClient = mongoClient;
+        this.bulkWriteOptions = bulkWriteOptions;
+        this.findOptions = findOptions;
+        this.filterCacheSize = filterCacheSize;
+    }
+
+    @Override
+    public MongoDBReactiveDocumentManager apply(String database) {
+        Objects.requireNonNull(database, "database is required");
+        return new MongoDBReactiveDocumentManager(mongoClient.getDatabase(database), database, bulkWriteOptions,
+                findOptions, new MongoDBFilterCache(filterCacheSize));
+    }
+
+    @Override
+    public void close() {
+        mongoClient.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MongoDBReactiveDocumentManagerFactory{" + "mongoClient=" + mongoClient +
+                '}';
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.mapping;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.driver.reactive.MappingPublisher;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBFindOptions;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBReactiveDocumentManager;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.stream.StreamSupport;
+
+
+@ApplicationScoped
+@Typed(MongoDBReactiveTemplate.class)
+class DefaultMongoDBReactiveTemplate implements MongoDBReactiveTemplate {
+
+    private Instance<MongoDBReactiveDocumentManager> manager;
+
+    private EntityConverter converter;
+
+    private EntitiesMetadata entities;
+
+
+    @Inject
+    DefaultMongoDBReactiveTemplate(Instance<MongoDBReactiveDocumentManager> manager,
+                                   EntityConverter converter,
+                                   EntitiesMetadata entities) {
+        this.manager = manager;
+        this.converter = converter;
+        this.entities = entities;
+    }
+
+    DefaultMongoDBReactiveTemplate() {
+        this(null, null, null);
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return this.manager.get().insert(this.converter.toCommunication(entity))
+                .thenApply(this.converter::toEntity);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return this.manager.get().insert(toCommunication(entities))
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public <T> CompletionStage<T> update(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return this.manager.get().update(this.converter.toCommunication(entity))
+                .thenApply(this.converter::toEntity);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> update(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return this.manager.get().update(toCommunication(entities))
+                .thenApply(this::toEntities);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> delete(Class<T> entity, Bson filter) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        return this.manager.get().delete(entityMetadata.name(), filter);
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Flow.Publisher<CommunicationEntity> publisher = this.manager.get().select(query);
+        return new MappingPublisher<CommunicationEntity, T>(publisher, this.converter::toEntity);
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(SelectQuery query, MongoDBFindOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        Flow.Publisher<CommunicationEntity> publisher = this.manager.get().select(query, options);
+        return new MappingPublisher<CommunicationEntity, T>(publisher, this.converter::toEntity);
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(Class<T> entity, Bson filter) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        Flow.Publisher<CommunicationEntity> publisher = this.manager.get().select(entityMetadata.name(), filter);
+        return new MappingPublisher<CommunicationEntity, T>(publisher, this.converter::toEntity);
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> aggregate(Class<T> entity, List<Bson> pipeline) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(pipeline, "pipeline is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        Flow.Publisher<CommunicationEntity> publisher = this.manager.get().aggregate(entityMetadata.name(), pipeline);
+        return new MappingPublisher<CommunicationEntity, T>(publisher, this.converter::toEntity);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> count(Class<T> entity, Bson filter) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        return this.manager.get().count(entityMetadata.name(), filter);
+    }
+
+    private <T> List<CommunicationEntity> toCommunication(Iterable<T> entities) {
+        return StreamSupport.stream(entities.spliterator(), false)
+                .map(this.converter::toCommunication)
+                .toList();
+    }
+
+    private <T> Iterable<T> toEntities(Iterable<CommunicationEntity> entities) {
+        return StreamSupport.stream(entities.spliterator(), false)
+                .<T>map(this.converter::toEntity)
+                .toList();
+    }
+}
@@ -21,7 +21,11 @@ import jakarta.inject.Inject;
 import org.bson.BsonValue;
 import org.bson.conversions.Bson;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBChangeEvent;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBChangeStreamOptions;
 import org.eclipse.jnosql.databases.mongodb.communication.MongoDBDocumentManager;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBFindOptions;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
@@ -124,6 +128,24 @@ class DefaultMongoDBTemplate extends AbstractSemiStructuredTemplate implements M
         return entityStream.map(this.converter::toEntity);
     }
 
+    @Override
+    public <T> Stream<T> select(Class<T> entity, Bson filter, MongoDBFindOptions options) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(options, "options is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        Stream<CommunicationEntity> entityStream = this.manager().select(entityMetadata.name(), filter, options);
+        return entityStream.map(this.converter::toEntity);
+    }
+
+    @Override
+    public <T> Stream<T> select(SelectQuery query, MongoDBFindOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        Stream<CommunicationEntity> entityStream = this.manager().select(query, options);
+        return entityStream.map(this.converter::toEntity);
+    }
+
     @Override
     public Stream<Map<String, BsonValue>> aggregate(String collectionName, Bson... pipeline) {
         Objects.requireNonNull(collectionName, "collectionName is required");
@@ -171,4 +193,18 @@ class DefaultMongoDBTemplate extends AbstractSemiStructuredTemplate implements M
         return this.manager().count(entityMetadata.name(), filter);
     }
 
+    @Override
+    public <T> Stream<MongoDBChangeEvent<T>> watch(Class<T> entity) {
+        return watch(entity, MongoDBChangeStreamOptions.DEFAULT);
+    }
+
+    @Override
+    public <T> Stream<MongoDBChangeEvent<T>> watch(Class<T> entity, MongoDBChangeStreamOptions options) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(options, "options is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        return this.manager().watch(entityMetadata.name(), options)
+                .map(event -> event.<T>map(this.converter::toEntity));
+    }
+
 }
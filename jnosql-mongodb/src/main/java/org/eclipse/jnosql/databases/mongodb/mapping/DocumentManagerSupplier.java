@@ -17,10 +17,9 @@ import jakarta.enterprise.inject.Typed;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.databases.mongodb.communication.MongoDBDocumentConfiguration;
 import org.eclipse.jnosql.databases.mongodb.communication.MongoDBDocumentManager;
-import org.eclipse.jnosql.databases.mongodb.communication.MongoDBDocumentManagerFactory;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 
-import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -32,21 +31,11 @@ class DocumentManagerSupplier implements Supplier<MongoDBDocumentManager> {
 
     private static final Logger LOGGER = Logger.getLogger(DocumentManagerSupplier.class.getName());
 
-
     @Override
     @Produces
     @Typed(MongoDBDocumentManager.class)
     public MongoDBDocumentManager get() {
-        Settings settings = MicroProfileSettings.INSTANCE;
-        MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
-        MongoDBDocumentManagerFactory factory = configuration.apply(settings);
-        Optional<String> database = settings.get(DOCUMENT_DATABASE, String.class);
-        String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
-                + DOCUMENT_DATABASE));
-        MongoDBDocumentManager manager = factory.apply(db);
-        LOGGER.log(Level.FINEST, "Starting  a MongoDBDocumentManager instance using Eclipse MicroProfile Config," +
-                " database name: " + db);
-        return manager;
+        return manager(MongoDBDocumentManager.class, (settings, db) -> new MongoDBDocumentConfiguration().apply(settings).apply(db));
     }
 
     public void close(@Disposes MongoDBDocumentManager manager) {
@@ -54,4 +43,15 @@ class DocumentManagerSupplier implements Supplier<MongoDBDocumentManager> {
         manager.close();
     }
 
+    static <T> T manager(Class<T> type, BiFunction<Settings, String, T> factory) {
+        Settings settings = MicroProfileSettings.INSTANCE;
+        String db = settings.get(DOCUMENT_DATABASE, String.class)
+                .orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
+                        + DOCUMENT_DATABASE));
+        T manager = factory.apply(settings, db);
+        LOGGER.log(Level.FINEST, "Starting  a " + type.getSimpleName() + " instance using Eclipse MicroProfile Config," +
+                " database name: " + db);
+        return manager;
+    }
+
 }
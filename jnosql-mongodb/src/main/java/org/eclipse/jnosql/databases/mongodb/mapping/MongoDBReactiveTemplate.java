@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.databases.mongodb.mapping;
+
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBFindOptions;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * The non-blocking counterpart of {@link MongoDBTemplate}, backed by
+ * {@link org.eclipse.jnosql.databases.mongodb.communication.MongoDBReactiveDocumentManager}.
+ * Writes and counts return a {@link CompletionStage}; queries return a {@link Flow.Publisher} that honors the
+ * subscriber's demand.
+ */
+public interface MongoDBReactiveTemplate {
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity to be inserted
+     * @param <T>    the entity type
+     * @return the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> insert(T entity);
+
+    /**
+     * Inserts the entities
+     *
+     * @param entities the entities to be inserted
+     * @param <T>      the entity type
+     * @return the inserted entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities);
+
+    /**
+     * Updates an entity
+     *
+     * @param entity the entity to be updated
+     * @param <T>    the entity type
+     * @return the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> update(T entity);
+
+    /**
+     * Updates the entities
+     *
+     * @param entities the entities to be updated
+     * @param <T>      the entity type
+     * @return the updated entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> update(Iterable<T> entities);
+
+    /**
+     * Removes all documents from the collection that match the given query filter.
+     *
+     * @param entity the entity to take the collection name
+     * @param filter the delete filter
+     * @param <T>    the entity type
+     * @return the number of documents deleted.
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> CompletionStage<Long> delete(Class<T> entity, Bson filter);
+
+    /**
+     * Executes a {@link SelectQuery}.
+     *
+     * @param query the select query
+     * @param <T>   the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when query is null
+     */
+    <T> Flow.Publisher<T> select(SelectQuery query);
+
+    /**
+     * Executes a {@link SelectQuery} applying the given cursor options.
+     *
+     * @param query   the select query
+     * @param options the cursor options, such as batch size, hint and max time
+     * @param <T>     the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> Flow.Publisher<T> select(SelectQuery query, MongoDBFindOptions options);
+
+    /**
+     * Finds all documents in the collection.
+     *
+     * @param entity the entity type
+     * @param filter the query filter
+     * @param <T>    the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when filter or entity is null
+     */
+    <T> Flow.Publisher<T> select(Class<T> entity, Bson filter);
+
+    /**
+     * Aggregates documents according to the specified aggregation pipeline.
+     *
+     * @param entity   the entity type
+     * @param pipeline the aggregation pipeline
+     * @param <T>      the entity type
+     * @return the publisher of the result
+     * @throws NullPointerException when pipeline or entity is null
+     */
+    <T> Flow.Publisher<T> aggregate(Class<T> entity, List<Bson> pipeline);
+
+    /**
+     * Returns the number of items in the collection that match the given query filter.
+     *
+     * @param entity the entity type
+     * @param filter the filter
+     * @param <T>    the entity type
+     * @return the number of documents founded.
+     * @throws NullPointerException when filter or entity is null
+     */
+    <T> CompletionStage<Long> count(Class<T> entity, Bson filter);
+}
@@ -17,6 +17,10 @@ package org.eclipse.jnosql.databases.mongodb.mapping;
 
 import org.bson.BsonValue;
 import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBChangeEvent;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBChangeStreamOptions;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBFindOptions;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
 
 import java.util.List;
@@ -74,6 +78,29 @@ public interface MongoDBTemplate extends DocumentTemplate {
      */
     <T> Stream<T> select(Class<T> entity, Bson filter);
 
+    /**
+     * Finds all documents in the collection, applying the given cursor options.
+     *
+     * @param entity  the collection name
+     * @param filter  the query filter
+     * @param options the cursor options, such as batch size, hint and max time
+     * @param <T>     the entity type
+     * @return the stream result
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> Stream<T> select(Class<T> entity, Bson filter, MongoDBFindOptions options);
+
+    /**
+     * Executes a {@link SelectQuery} applying the given cursor options.
+     *
+     * @param query   the select query
+     * @param options the cursor options, such as batch size, hint and max time
+     * @param <T>     the entity type
+     * @return the stream result
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> Stream<T> select(SelectQuery query, MongoDBFindOptions options);
+
     /**
      * Aggregates documents according to the specified aggregation pipeline.
      *
@@ -136,4 +163,28 @@ public interface MongoDBTemplate extends DocumentTemplate {
      * @throws NullPointerException when filter or collectionName is null
      */
     <T> long count(Class<T> entity, Bson filter);
+
+    /**
+     * Opens a change stream on the entity collection, which delivers the inserts, updates, replacements and deletes
+     * from now on as they happen. The stream blocks while it waits for the next change, so close it when done.
+     *
+     * @param entity the entity type
+     * @param <T>    the entity type
+     * @return the stream of changes
+     * @throws NullPointerException when entity is null
+     */
+    <T> Stream<MongoDBChangeEvent<T>> watch(Class<T> entity);
+
+    /**
+     * Opens a change stream on the entity collection with the given options, such as a server-side pipeline
+     * and the resume token of the last processed event.
+     * The stream blocks while it waits for the next change, so close it when done.
+     *
+     * @param entity  the entity type
+     * @param options the change stream options
+     * @param <T>     the entity type
+     * @return the stream of changes
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> Stream<MongoDBChangeEvent<T>> watch(Class<T> entity, MongoDBChangeStreamOptions options);
 }
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2022 Eclipse Contribuitor
+ * All rights reserved. This program and the accompanying materials
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *    You may elect to redistribute this code under either of these licenses.
+ */
+
+package org.eclipse.jnosql.databases.mongodb.mapping;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Typed;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBDocumentConfiguration;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBReactiveDocumentManager;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBReactiveDocumentManagerFactory;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Produces the {@link MongoDBReactiveDocumentManager}. It is apart from {@link DocumentManagerSupplier} because the
+ * Reactive Streams driver is an optional dependency: without it, this bean cannot be loaded and is left out,
+ * while the blocking manager is still produced.
+ */
+@ApplicationScoped
+class ReactiveDocumentManagerSupplier {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveDocumentManagerSupplier.class.getName());
+
+    private MongoDBReactiveDocumentManagerFactory factory;
+
+    @Produces
+    @Typed(MongoDBReactiveDocumentManager.class)
+    public MongoDBReactiveDocumentManager get() {
+        return DocumentManagerSupplier.manager(MongoDBReactiveDocumentManager.class,
+                (settings, db) -> factory(settings).apply(db));
+    }
+
+    public void close(@Disposes MongoDBReactiveDocumentManager manager) {
+        LOGGER.log(Level.FINEST, "Closing MongoDBReactiveDocumentManager resource, database name: " + manager.name());
+        manager.close();
+    }
+
+    /**
+     * The reactive managers share one client, which is closed with this bean.
+     */
+    @PreDestroy
+    synchronized void destroy() {
+        if (factory != null) {
+            LOGGER.log(Level.FINEST, "Closing the MongoDBReactiveDocumentManagerFactory resource");
+            factory.close();
+            factory = null;
+        }
+    }
+
+    private synchronized MongoDBReactiveDocumentManagerFactory factory(Settings settings) {
+        if (factory == null) {
+            factory = new MongoDBDocumentConfiguration().reactive(settings);
+        }
+        return factory;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.MongoClientSettings;
+import org.assertj.core.api.SoftAssertions;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommunicationEntityCodecTest {
+
+    private final CommunicationEntityCodec codec = new CommunicationEntityCodec("person",
+            MongoClientSettings.getDefaultCodecRegistry());
+
+    @Test
+    void shouldEncodeEntity() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("name", "Poliana");
+        entity.add("age", 30);
+        entity.add("_id", "id");
+        entity.add(Element.of("address", List.of(Element.of("city", "Salvador"), Element.of("zip", "40000"))));
+
+        BsonDocument document = encode(entity);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(document.getFirstKey()).isEqualTo("_id");
+            soft.assertThat(document.getString("name").getValue()).isEqualTo("Poliana");
+            soft.assertThat(document.getInt32("age").getValue()).isEqualTo(30);
+            soft.assertThat(document.getDocument("address").getString("city").getValue()).isEqualTo("Salvador");
+        });
+    }
+
+    @Test
+    void shouldEncodeSubDocumentList() {
+        var entity = CommunicationEntity.of("person");
+        entity.add(Element.of("phones", List.of(
+                List.of(Element.of("type", "home"), Element.of("number", "123")),
+                List.of(Element.of("type", "work"), Element.of("number", "456")))));
+
+        BsonDocument document = encode(entity);
+
+        var phones = document.getArray("phones");
+        assertThat(phones).hasSize(2);
+        assertThat(phones.get(1).asDocument().getString("type").getValue()).isEqualTo("work");
+    }
+
+    @Test
+    void shouldEncodeUUIDAsString() {
+        var uuid = UUID.randomUUID();
+        var entity = CommunicationEntity.of("person");
+        entity.add("uuid", uuid);
+
+        BsonDocument document = encode(entity);
+
+        assertThat(document.getString("uuid").getValue()).isEqualTo(uuid.toString());
+    }
+
+    @Test
+    void shouldDecodeEntity() {
+        var document = new BsonDocument("_id", new BsonString("id"))
+                .append("name", new BsonString("Poliana"))
+                .append("nickname", BsonNull.VALUE)
+                .append("address", new BsonDocument("city", new BsonString("Salvador")))
+                .append("phones", new BsonArray(List.of(
+                        new BsonDocument("type", new BsonString("home")),
+                        new BsonDocument("type", new BsonString("work")))))
+                .append("numbers", new BsonArray(List.of(new BsonInt32(1), new BsonInt32(2))));
+
+        CommunicationEntity entity = decode(document);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entity.name()).isEqualTo("person");
+            soft.assertThat(entity.find("nickname")).isEmpty();
+            soft.assertThat(entity.find("name").orElseThrow().get()).isEqualTo("Poliana");
+            soft.assertThat(entity.find("address").orElseThrow().get())
+                    .isEqualTo(List.of(Element.of("city", "Salvador")));
+            soft.assertThat(entity.find("phones").orElseThrow().get())
+                    .isEqualTo(List.of(List.of(Element.of("type", "home")), List.of(Element.of("type", "work"))));
+            soft.assertThat(entity.find("numbers").orElseThrow().get()).isEqualTo(List.of(1, 2));
+        });
+    }
+
+    @Test
+    void shouldDecodeBinaryAsByteArray() {
+        byte[] data = {1, 2, 3};
+        var document = new BsonDocument("data", new BsonBinary(data));
+
+        CommunicationEntity entity = decode(document);
+
+        assertThat(entity.find("data").orElseThrow().get()).isEqualTo(data);
+    }
+
+    @Test
+    void shouldGenerateIdIfAbsent() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("name", "Poliana");
+
+        codec.generateIdIfAbsentFromDocument(entity);
+
+        assertThat(codec.documentHasId(entity)).isTrue();
+        assertThat(entity.find("_id").orElseThrow().get()).isInstanceOf(ObjectId.class);
+    }
+
+    @Test
+    void shouldReturnDocumentId() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("_id", "id");
+
+        BsonValue id = codec.getDocumentId(entity);
+
+        assertThat(id).isEqualTo(new BsonString("id"));
+    }
+
+    private BsonDocument encode(CommunicationEntity entity) {
+        var document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), entity,
+                EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        return document;
+    }
+
+    private CommunicationEntity decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
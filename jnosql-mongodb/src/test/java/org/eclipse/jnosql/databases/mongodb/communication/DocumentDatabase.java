@@ -52,6 +52,13 @@ public enum DocumentDatabase {
     }
 
 
+    public MongoDBReactiveDocumentManager reactive(String database) {
+        Settings settings = getSettings();
+        MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
+        MongoDBReactiveDocumentManagerFactory factory = configuration.reactive(settings);
+        return factory.apply(database);
+    }
+
     private Settings getSettings() {
         Map<String,Object> settings = new HashMap<>();
         settings.put(MongoDBDocumentConfigurations.HOST.get()+".1", host());
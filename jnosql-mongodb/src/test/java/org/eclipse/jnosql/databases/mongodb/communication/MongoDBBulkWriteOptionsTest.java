@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MongoDBBulkWriteOptionsTest {
+
+    @Test
+    void shouldReturnErrorWhenBatchSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> MongoDBBulkWriteOptions.of(0, true));
+        assertThrows(IllegalArgumentException.class, () -> MongoDBBulkWriteOptions.of(-1, false));
+    }
+
+    @Test
+    void shouldUseDefaultWhenSettingsIsEmpty() {
+        var options = MongoDBBulkWriteOptions.of(Settings.builder().build());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(options.batchSize()).isEqualTo(MongoDBBulkWriteOptions.DEFAULT_BATCH_SIZE);
+            soft.assertThat(options.ordered()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldLoadFromSettings() {
+        var settings = Settings.builder()
+                .put(MongoDBDocumentConfigurations.BULK_WRITE_BATCH_SIZE, "250")
+                .put(MongoDBDocumentConfigurations.BULK_WRITE_ORDERED, "false")
+                .build();
+        var options = MongoDBBulkWriteOptions.of(settings);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(options.batchSize()).isEqualTo(250);
+            soft.assertThat(options.ordered()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenSettingsIsNull() {
+        assertThrows(NullPointerException.class, () -> MongoDBBulkWriteOptions.of(null));
+    }
+}
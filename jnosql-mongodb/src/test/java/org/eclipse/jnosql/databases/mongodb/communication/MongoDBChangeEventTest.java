@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.client.model.changestream.OperationType;
+import org.assertj.core.api.SoftAssertions;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MongoDBChangeEventTest {
+
+    private final BsonDocument token = new BsonDocument("_data", new BsonString("token"));
+
+    private final BsonDocument key = new BsonDocument("_id", new BsonString("Poliana"));
+
+    @Test
+    void shouldMapEntity() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("_id", "Poliana");
+        var event = MongoDBChangeEvent.of(OperationType.UPDATE, "person", key, entity, token);
+
+        MongoDBChangeEvent<String> mapped = event.map(CommunicationEntity::name);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(mapped.operation()).isEqualTo(OperationType.UPDATE);
+            soft.assertThat(mapped.collection()).contains("person");
+            soft.assertThat(mapped.documentKey()).contains(key);
+            soft.assertThat(mapped.entity()).contains("person");
+            soft.assertThat(mapped.resumeToken()).isEqualTo(token);
+        });
+    }
+
+    @Test
+    void shouldNotMapAbsentEntity() {
+        MongoDBChangeEvent<CommunicationEntity> event = MongoDBChangeEvent.of(OperationType.DELETE, "person", key,
+                null, token);
+
+        MongoDBChangeEvent<String> mapped = event.map(e -> {
+            throw new IllegalStateException("should not map a delete");
+        });
+
+        assertThat(mapped.entity()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        assertThrows(NullPointerException.class, () -> MongoDBChangeEvent.of(null, "person", key, null, token));
+        assertThrows(NullPointerException.class, () -> MongoDBChangeEvent.of(OperationType.INSERT, "person", key,
+                null, null));
+        var event = MongoDBChangeEvent.of(OperationType.INSERT, "person", key, null, token);
+        assertThrows(NullPointerException.class, () -> event.map(null));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.FullDocument;
+import org.assertj.core.api.SoftAssertions;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class MongoDBChangeStreamOptionsTest {
+
+    @Test
+    void shouldLookUpUpdatesByDefault() {
+        var options = MongoDBChangeStreamOptions.DEFAULT;
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(options.pipeline()).isEmpty();
+            soft.assertThat(options.fullDocument()).isEqualTo(FullDocument.UPDATE_LOOKUP);
+            soft.assertThat(options.resumeAfter()).isEmpty();
+            soft.assertThat(options.startAfter()).isEmpty();
+            soft.assertThat(options.startAtOperationTime()).isEmpty();
+            soft.assertThat(options.batchSize()).isEmpty();
+            soft.assertThat(options.maxAwaitTime()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenBatchSizeIsNegative() {
+        var builder = MongoDBChangeStreamOptions.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.batchSize(-1));
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        var builder = MongoDBChangeStreamOptions.builder();
+        assertThrows(NullPointerException.class, () -> builder.pipeline((List<Document>) null));
+        assertThrows(NullPointerException.class, () -> builder.resumeAfter(null));
+        assertThrows(NullPointerException.class, () -> builder.startAfter(null));
+        assertThrows(NullPointerException.class, () -> builder.startAtOperationTime(null));
+        assertThrows(NullPointerException.class, () -> builder.fullDocument(null));
+        assertThrows(NullPointerException.class, () -> builder.maxAwaitTime(null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldApplyOptions() {
+        var token = new BsonDocument("_data", new BsonString("token"));
+        var match = Aggregates.match(Filters.in("operationType", "insert", "update"));
+        var options = MongoDBChangeStreamOptions.builder()
+                .pipeline(match)
+                .resumeAfter(token)
+                .fullDocument(FullDocument.WHEN_AVAILABLE)
+                .batchSize(50)
+                .maxAwaitTime(Duration.ofSeconds(1))
+                .build();
+        ChangeStreamIterable<Document> changes = mock(ChangeStreamIterable.class);
+
+        options.apply(changes);
+
+        Mockito.verify(changes).fullDocument(FullDocument.WHEN_AVAILABLE);
+        Mockito.verify(changes).resumeAfter(token);
+        Mockito.verify(changes).batchSize(50);
+        Mockito.verify(changes).maxAwaitTime(1000L, TimeUnit.MILLISECONDS);
+        Mockito.verify(changes, never()).startAfter(any());
+        Mockito.verify(changes, never()).startAtOperationTime(any());
+        SoftAssertions.assertSoftly(soft -> soft.assertThat(options.pipeline()).containsExactly(match));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotApplyAbsentOptions() {
+        ChangeStreamIterable<Document> changes = mock(ChangeStreamIterable.class);
+
+        MongoDBChangeStreamOptions.DEFAULT.apply(changes);
+
+        Mockito.verify(changes).fullDocument(FullDocument.UPDATE_LOOKUP);
+        Mockito.verify(changes, never()).resumeAfter(any());
+        Mockito.verify(changes, never()).batchSize(anyInt());
+    }
+
+    @Test
+    void shouldBeEqualsWhenOptionsAreEquals() {
+        var time = new BsonTimestamp(1, 1);
+        var first = MongoDBChangeStreamOptions.builder().startAtOperationTime(time).build();
+        var second = MongoDBChangeStreamOptions.builder().startAtOperationTime(time).build();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).isEqualTo(second);
+            soft.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+            soft.assertThat(first).isNotEqualTo(MongoDBChangeStreamOptions.DEFAULT);
+        });
+    }
+
+    @Test
+    void shouldKeepOnlyTheLastStart() {
+        var token = new BsonDocument("_data", new BsonString("token"));
+        var time = new BsonTimestamp(1, 1);
+
+        var resume = MongoDBChangeStreamOptions.builder().startAtOperationTime(time).startAfter(token)
+                .resumeAfter(token).build();
+        var start = MongoDBChangeStreamOptions.builder().resumeAfter(token).startAfter(token).build();
+        var operationTime = MongoDBChangeStreamOptions.builder().resumeAfter(token).startAfter(token)
+                .startAtOperationTime(time).build();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(resume.resumeAfter()).contains(token);
+            soft.assertThat(resume.startAfter()).isEmpty();
+            soft.assertThat(resume.startAtOperationTime()).isEmpty();
+            soft.assertThat(start.resumeAfter()).isEmpty();
+            soft.assertThat(start.startAfter()).contains(token);
+            soft.assertThat(operationTime.resumeAfter()).isEmpty();
+            soft.assertThat(operationTime.startAfter()).isEmpty();
+            soft.assertThat(operationTime.startAtOperationTime()).contains(time);
+        });
+    }
+}
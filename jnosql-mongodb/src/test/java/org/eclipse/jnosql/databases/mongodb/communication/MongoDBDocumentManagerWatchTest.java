@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import org.assertj.core.api.SoftAssertions;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MongoDBDocumentManagerWatchTest {
+
+    private final BsonDocument token = new BsonDocument("_data", new BsonString("token"));
+
+    private final BsonDocument key = new BsonDocument("_id", new BsonString("Poliana"));
+
+    private ChangeStreamIterable<CommunicationEntity> changes;
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<CommunicationEntity>> cursor;
+
+    private MongoDBDocumentManager manager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoDatabase database = mock(MongoDatabase.class);
+        MongoCollection<CommunicationEntity> collection = mock(MongoCollection.class);
+        this.changes = mock(ChangeStreamIterable.class, Answers.RETURNS_SELF);
+        this.cursor = mock(MongoChangeStreamCursor.class);
+        when(database.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+        when(database.getCollection("person", CommunicationEntity.class)).thenReturn(collection);
+        when(collection.withCodecRegistry(any())).thenReturn(collection);
+        when(collection.watch(anyList())).thenReturn(changes);
+        when(changes.cursor()).thenReturn(cursor);
+        this.manager = new MongoDBDocumentManager(database, "database");
+    }
+
+    @Test
+    void shouldDeliverEventToSubscriber() {
+        var entity = CommunicationEntity.of("person");
+        entity.add("_id", "Poliana");
+        var change = change(OperationType.INSERT, entity, token);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(change);
+
+        List<MongoDBChangeEvent<CommunicationEntity>> events;
+        try (var stream = manager.watch("person")) {
+            events = stream.toList();
+        }
+
+        assertThat(events).hasSize(1);
+        var event = events.get(0);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(event.operation()).isEqualTo(OperationType.INSERT);
+            soft.assertThat(event.collection()).contains("person");
+            soft.assertThat(event.documentKey()).contains(key);
+            soft.assertThat(event.entity()).contains(entity);
+            soft.assertThat(event.resumeToken()).isEqualTo(token);
+        });
+        verify(cursor).close();
+    }
+
+    @Test
+    void shouldResumeAfterToken() {
+        var next = new BsonDocument("_data", new BsonString("next"));
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(change(OperationType.DELETE, null, next));
+        var options = MongoDBChangeStreamOptions.builder().resumeAfter(token).build();
+
+        List<MongoDBChangeEvent<CommunicationEntity>> events;
+        try (var stream = manager.watch("person", options)) {
+            events = stream.toList();
+        }
+
+        verify(changes).resumeAfter(token);
+        verify(changes, never()).startAfter(any());
+        verify(changes, never()).startAtOperationTime(any());
+        assertThat(events).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.operation()).isEqualTo(OperationType.DELETE);
+                    assertThat(event.entity()).isEmpty();
+                    assertThat(event.resumeToken()).isEqualTo(next);
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChangeStreamDocument<CommunicationEntity> change(OperationType operation, CommunicationEntity entity,
+                                                             BsonDocument resumeToken) {
+        ChangeStreamDocument<CommunicationEntity> change = mock(ChangeStreamDocument.class);
+        when(change.getOperationType()).thenReturn(operation);
+        when(change.getNamespace()).thenReturn(new MongoNamespace("database", "person"));
+        when(change.getDocumentKey()).thenReturn(key);
+        when(change.getFullDocument()).thenReturn(entity);
+        when(change.getResumeToken()).thenReturn(resumeToken);
+        return change;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.assertj.core.api.SoftAssertions;
+import org.bson.Document;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MongoDBFilterCacheTest {
+
+    @Test
+    void shouldReuseTemplateForTheSameShape() {
+        var cache = new MongoDBFilterCache(10);
+
+        var first = cache.convert(condition("Poliana", 20));
+        var second = cache.convert(condition("Ada", 30));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.misses()).isEqualTo(1L);
+            soft.assertThat(cache.hits()).isEqualTo(1L);
+            soft.assertThat(cache.size()).isEqualTo(1);
+            soft.assertThat(first.toBsonDocument())
+                    .isEqualTo(DocumentQueryConversor.convert(condition("Poliana", 20)).toBsonDocument());
+            soft.assertThat(second.toBsonDocument())
+                    .isEqualTo(DocumentQueryConversor.convert(condition("Ada", 30)).toBsonDocument());
+        });
+    }
+
+    @Test
+    void shouldMissWhenShapeChanges() {
+        var cache = new MongoDBFilterCache(10);
+
+        cache.convert(condition("Poliana", 20));
+        cache.convert(SelectQuery.select().from("person").where("name").eq("Poliana")
+                .or("age").gt(20).build().condition().orElseThrow());
+        cache.convert(SelectQuery.select().from("person").where("city").eq("Salvador")
+                .build().condition().orElseThrow());
+
+        assertThat(cache.misses()).isEqualTo(3L);
+        assertThat(cache.hits()).isZero();
+    }
+
+    @Test
+    void shouldConvertNotAndInWithTemplates() {
+        var cache = new MongoDBFilterCache(10);
+        var not = SelectQuery.select().from("person").where("name").not().eq("Lucas")
+                .build().condition().orElseThrow();
+        var in = SelectQuery.select().from("person").where("age").in(List.of(10, 20))
+                .build().condition().orElseThrow();
+
+        cache.convert(not);
+        var notFilter = cache.convert(not);
+        cache.convert(in);
+        var inFilter = cache.convert(in);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.hits()).isEqualTo(2L);
+            soft.assertThat(notFilter.toBsonDocument())
+                    .isEqualTo(DocumentQueryConversor.convert(not).toBsonDocument());
+            soft.assertThat(inFilter.toBsonDocument())
+                    .isEqualTo(DocumentQueryConversor.convert(in).toBsonDocument());
+        });
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = new MongoDBFilterCache(2);
+        var name = SelectQuery.select().from("person").where("name").eq("Poliana").build().condition().orElseThrow();
+        var age = SelectQuery.select().from("person").where("age").eq(10).build().condition().orElseThrow();
+        var city = SelectQuery.select().from("person").where("city").eq("Salvador").build().condition().orElseThrow();
+
+        cache.convert(name);
+        cache.convert(age);
+        cache.convert(name);
+        cache.convert(city);
+        cache.convert(name);
+        cache.convert(age);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.size()).isEqualTo(2);
+            soft.assertThat(cache.hits()).isEqualTo(2L);
+            soft.assertThat(cache.misses()).isEqualTo(4L);
+        });
+    }
+
+    @Test
+    void shouldNotCacheWhenDisabled() {
+        var cache = new MongoDBFilterCache(0);
+
+        cache.convert(condition("Poliana", 20));
+        cache.convert(condition("Ada", 30));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hits()).isZero();
+    }
+
+    @Test
+    void shouldClear() {
+        var cache = new MongoDBFilterCache(10);
+        cache.convert(condition("Poliana", 20));
+        cache.convert(condition("Ada", 30));
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hits()).isZero();
+        assertThat(cache.misses()).isZero();
+    }
+
+    @Test
+    void shouldReadMaxSizeFromSettings() {
+        var settings = Settings.builder().put(MongoDBDocumentConfigurations.FILTER_CACHE_SIZE, 50).build();
+
+        assertThat(MongoDBFilterCache.maxSize(settings)).isEqualTo(50);
+        assertThat(MongoDBFilterCache.maxSize(Settings.builder().build()))
+                .isEqualTo(MongoDBFilterCache.DEFAULT_MAX_SIZE);
+    }
+
+    @Test
+    void shouldRenderTheSameFilterAsTheConversion() {
+        var cache = new MongoDBFilterCache(10);
+        List<CriteriaCondition> conditions = List.of(
+                CriteriaCondition.like(Element.of("name", "Pol%")),
+                CriteriaCondition.contains(Element.of("name", "lian")),
+                CriteriaCondition.startsWith(Element.of("name", "Po")),
+                CriteriaCondition.endsWith(Element.of("name", "na")),
+                CriteriaCondition.between(Element.of("age", List.of(10, 20))),
+                CriteriaCondition.or(CriteriaCondition.gte(Element.of("age", 10)),
+                        CriteriaCondition.and(CriteriaCondition.lte(Element.of("age", 5)),
+                                CriteriaCondition.eq(Element.of("name", "Ada")))),
+                CriteriaCondition.and(CriteriaCondition.lt(Element.of("age", 10)),
+                        CriteriaCondition.eq(Element.of("name", null)).negate()));
+
+        SoftAssertions.assertSoftly(soft -> conditions.forEach(condition -> {
+            cache.convert(condition);
+            soft.assertThat(cache.convert(condition).toBsonDocument())
+                    .isEqualTo(DocumentQueryConversor.convert(condition).toBsonDocument());
+        }));
+        assertThat(cache.hits()).isEqualTo(conditions.size());
+    }
+
+    @Test
+    void shouldBuildDocumentsWithoutFiltersOnHit() {
+        var cache = new MongoDBFilterCache(10);
+        cache.convert(condition("Poliana", 20));
+
+        var filter = cache.convert(condition("Ada", 30));
+
+        assertThat(filter).isInstanceOf(Document.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenMaxSizeIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new MongoDBFilterCache(-1));
+    }
+
+    @Test
+    void shouldReturnErrorWhenConditionIsNull() {
+        var cache = new MongoDBFilterCache(10);
+        assertThrows(NullPointerException.class, () -> cache.convert(null));
+    }
+
+    private static CriteriaCondition condition(String name, int age) {
+        return SelectQuery.select().from("person").where("name").eq(name).and("age").gt(age)
+                .build().condition().orElseThrow();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.FindIterable;
+import org.assertj.core.api.SoftAssertions;
+import org.bson.Document;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class MongoDBFindOptionsTest {
+
+    @Test
+    void shouldBeEmptyByDefault() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(MongoDBFindOptions.EMPTY.batchSize()).isEmpty();
+            soft.assertThat(MongoDBFindOptions.EMPTY.hint()).isEmpty();
+            soft.assertThat(MongoDBFindOptions.EMPTY.hintName()).isEmpty();
+            soft.assertThat(MongoDBFindOptions.EMPTY.maxTime()).isEmpty();
+            soft.assertThat(MongoDBFindOptions.EMPTY.allowDiskUse()).isEmpty();
+            soft.assertThat(MongoDBFindOptions.EMPTY.noCursorTimeout()).isEmpty();
+            soft.assertThat(MongoDBFindOptions.EMPTY.readPreference()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenBatchSizeIsNegative() {
+        var builder = MongoDBFindOptions.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.batchSize(-1));
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        var builder = MongoDBFindOptions.builder();
+        assertThrows(NullPointerException.class, () -> builder.hint((String) null));
+        assertThrows(NullPointerException.class, () -> builder.maxTime(null));
+        assertThrows(NullPointerException.class, () -> builder.readPreference(null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldApplyOnFindIterable() {
+        FindIterable<Document> documents = mock(FindIterable.class);
+        var options = MongoDBFindOptions.builder()
+                .batchSize(500)
+                .hint("name_1")
+                .maxTime(Duration.ofSeconds(2))
+                .allowDiskUse(true)
+                .noCursorTimeout(true)
+                .build();
+
+        options.apply(documents);
+
+        Mockito.verify(documents).batchSize(500);
+        Mockito.verify(documents).hintString("name_1");
+        Mockito.verify(documents).maxTime(2_000L, TimeUnit.MILLISECONDS);
+        Mockito.verify(documents).allowDiskUse(true);
+        Mockito.verify(documents).noCursorTimeout(true);
+        Mockito.verify(documents, never()).hint(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotApplyEmptyOptions() {
+        FindIterable<Document> documents = mock(FindIterable.class);
+        MongoDBFindOptions.EMPTY.apply(documents);
+        Mockito.verify(documents, never()).batchSize(anyInt());
+        Mockito.verifyNoMoreInteractions(documents);
+    }
+
+    @Test
+    void shouldLoadFromSettings() {
+        var settings = Settings.builder()
+                .put(MongoDBDocumentConfigurations.FIND_BATCH_SIZE, "250")
+                .put(MongoDBDocumentConfigurations.FIND_MAX_TIME, "1000")
+                .put(MongoDBDocumentConfigurations.FIND_ALLOW_DISK_USE, "true")
+                .put(MongoDBDocumentConfigurations.READ_PREFERENCE, "secondaryPreferred")
+                .build();
+        var options = MongoDBFindOptions.of(settings);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(options.batchSize()).contains(250);
+            soft.assertThat(options.maxTime()).contains(Duration.ofSeconds(1));
+            soft.assertThat(options.allowDiskUse()).contains(true);
+            soft.assertThat(options.noCursorTimeout()).isEmpty();
+            soft.assertThat(options.readPreference()).contains(ReadPreference.secondaryPreferred());
+        });
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
+class MongoDBGridFSAttachmentStoreTest {
+
+    private static MongoDBGridFSAttachmentStore attachments;
+
+    @BeforeAll
+    static void setUp() {
+        attachments = DocumentDatabase.INSTANCE.get("database").attachments("attachments");
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        attachments.delete("poliana", "note.txt");
+    }
+
+    @Test
+    void shouldPutPathAttachment() throws IOException {
+        byte[] data = new byte[1_000_000];
+        new Random(42).nextBytes(data);
+        Path file = Files.createTempFile("photo", ".bin");
+        try {
+            Files.write(file, data);
+            var source = EntityAttachment.of(file);
+            attachments.put("poliana", source);
+
+            var attachment = attachments.get("poliana", source.name()).orElseThrow();
+            assertThat(attachment.getLength()).isEqualTo(data.length);
+            try (InputStream stream = attachment.getData()) {
+                assertThat(stream.readAllBytes()).isEqualTo(data);
+            }
+        } finally {
+            attachments.delete("poliana", file.getFileName().toString());
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void shouldReplaceAttachment() throws IOException {
+        attachments.put("poliana", EntityAttachment.of("note.txt", 1L, "text/plain",
+                "first".getBytes(StandardCharsets.UTF_8)));
+        attachments.put("poliana", EntityAttachment.of("note.txt", 2L, "text/plain",
+                "second".getBytes(StandardCharsets.UTF_8)));
+
+        var attachment = attachments.get("poliana", "note.txt").orElseThrow();
+        assertThat(attachment.getLastModified()).isEqualTo(2L);
+        assertThat(attachment.getContentType()).isEqualTo("text/plain");
+        try (InputStream stream = attachment.getData()) {
+            assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("second");
+        }
+    }
+
+    @Test
+    void shouldDeleteAttachment() {
+        attachments.put("poliana", EntityAttachment.of("note.txt", 1L, "text/plain",
+                "first".getBytes(StandardCharsets.UTF_8)));
+
+        attachments.delete("poliana", "note.txt");
+
+        assertThat(attachments.get("poliana", "note.txt")).isEmpty();
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        assertThrows(NullPointerException.class, () -> attachments.put(null, null));
+        assertThrows(NullPointerException.class, () -> attachments.get("poliana", null));
+        assertThrows(NullPointerException.class, () -> attachments.delete(null, "note.txt"));
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.communication;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.mongodb.client.model.Filters.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.MATCHES;
+import static org.eclipse.jnosql.communication.driver.IntegrationTest.NAMED;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
+class MongoDBReactiveDocumentManagerTest {
+
+    public static final String COLLECTION_NAME = "person";
+    private static MongoDBReactiveDocumentManager entityManager;
+
+    @BeforeAll
+    public static void setUp() {
+        entityManager = DocumentDatabase.INSTANCE.reactive("database");
+    }
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        await(entityManager.delete(DeleteQuery.delete().from(COLLECTION_NAME).build()));
+    }
+
+    @Test
+    void shouldInsert() throws Exception {
+        CommunicationEntity entity = await(entityManager.insert(getEntity()));
+        assertThat(entity.find("_id")).isPresent();
+    }
+
+    @Test
+    void shouldInsertIterable() throws Exception {
+        List<CommunicationEntity> entities = Stream.generate(this::getEntity).limit(3).toList();
+        await(entityManager.insert(entities));
+        assertThat(entities).allMatch(e -> e.find("_id").isPresent());
+        assertThat(await(entityManager.count(COLLECTION_NAME))).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldInsertIterableInBatches() throws Exception {
+        List<CommunicationEntity> entities = Stream.generate(this::getEntity).limit(5).toList();
+        await(entityManager.insert(entities, MongoDBBulkWriteOptions.of(2, false)));
+        assertThat(entities).allMatch(e -> e.find("_id").isPresent());
+        assertThat(await(entityManager.count(COLLECTION_NAME))).isEqualTo(5L);
+    }
+
+    @Test
+    void shouldUpdateIterableInBatches() throws Exception {
+        List<CommunicationEntity> entities = Stream.generate(this::getEntity).limit(5).toList();
+        await(entityManager.insert(entities));
+        entities.forEach(e -> e.add("city", "Rio de Janeiro"));
+        await(entityManager.update(entities, MongoDBBulkWriteOptions.of(2, true)));
+        assertThat(await(entityManager.count(COLLECTION_NAME, eq("city", "Rio de Janeiro")))).isEqualTo(5L);
+    }
+
+    @Test
+    void shouldReturnFailedStageWhenUpdateHasNoId() {
+        var stage = entityManager.update(getEntity()).toCompletableFuture();
+        assertThat(stage).failsWithin(10, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(UnsupportedOperationException.class);
+        var stages = entityManager.update(List.of(getEntity())).toCompletableFuture();
+        assertThat(stages).failsWithin(10, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldUpdate() throws Exception {
+        CommunicationEntity entity = await(entityManager.insert(getEntity()));
+        entity.add("city", "Rio de Janeiro");
+        await(entityManager.update(entity));
+        assertThat(await(entityManager.count(COLLECTION_NAME, eq("city", "Rio de Janeiro")))).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldSelect() throws Exception {
+        await(entityManager.insert(Stream.generate(this::getEntity).limit(5).toList()));
+        var query = SelectQuery.select().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+
+        List<CommunicationEntity> result = collect(entityManager.select(query));
+
+        assertThat(result).hasSize(5)
+                .allMatch(e -> e.find("name").isPresent());
+    }
+
+    @Test
+    void shouldSelectWithFilter() throws Exception {
+        await(entityManager.insert(getEntity()));
+        List<CommunicationEntity> result = collect(entityManager.select(COLLECTION_NAME, eq("name", "Poliana")));
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    void shouldDelete() throws Exception {
+        await(entityManager.insert(getEntity()));
+        long deleted = await(entityManager.delete(COLLECTION_NAME, eq("name", "Poliana")));
+        assertThat(deleted).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        assertThrows(NullPointerException.class, () -> entityManager.insert((CommunicationEntity) null));
+        assertThrows(NullPointerException.class, () -> entityManager.select((SelectQuery) null));
+        assertThrows(NullPointerException.class, () -> entityManager.select(COLLECTION_NAME, null));
+        assertThrows(NullPointerException.class, () -> entityManager.count(null, eq("name", "Poliana")));
+    }
+
+    private CommunicationEntity getEntity() {
+        CommunicationEntity entity = CommunicationEntity.of(COLLECTION_NAME);
+        entity.add("name", "Poliana");
+        entity.add("city", "Salvador");
+        return entity;
+    }
+
+    private static <T> T await(CompletionStage<T> stage) throws Exception {
+        return stage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private static <T> List<T> collect(Flow.Publisher<T> publisher) throws Exception {
+        List<T> result = new ArrayList<>();
+        CompletableFuture<List<T>> completed = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T item) {
+                result.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(result);
+            }
+        });
+        return await(completed);
+    }
+}
@@ -71,6 +71,16 @@ class MongoDBSpecificFeaturesTest {
                 () -> entityManager.select(null, filter));
     }
 
+    @Test
+    void shouldReturnErrorOnWatchWhenThereIsNullParameter() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> entityManager.watch(null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> entityManager.watch(COLLECTION_NAME, null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> entityManager.watch(null, MongoDBChangeStreamOptions.DEFAULT));
+    }
+
     @Test
     void shouldFindDocument() {
         CommunicationEntity entity = entityManager.insert(getEntity());
@@ -193,5 +203,41 @@ class MongoDBSpecificFeaturesTest {
 
     }
 
+    @Test
+    void shouldInsertInBatches() {
+        List<CommunicationEntity> entities = Stream.generate(this::getEntity).limit(5).toList();
+        Iterable<CommunicationEntity> inserted = entityManager.insert(entities, MongoDBBulkWriteOptions.of(2, false));
+
+        assertThat(inserted).hasSize(5)
+                .allMatch(e -> e.find("_id").isPresent());
+        Assertions.assertEquals(5L, entityManager.count(COLLECTION_NAME, eq("name", "Poliana")));
+    }
+
+    @Test
+    void shouldUpdateInBatches() {
+        List<CommunicationEntity> entities = Stream.generate(this::getEntity).limit(5).toList();
+        entityManager.insert(entities);
+        entities.forEach(e -> e.add("city", "Rio de Janeiro"));
+
+        entityManager.update(entities, MongoDBBulkWriteOptions.of(2, true));
+
+        Assertions.assertEquals(5L, entityManager.count(COLLECTION_NAME, eq("city", "Rio de Janeiro")));
+    }
+
+    @Test
+    void shouldReturnErrorOnUpdateInBatchesWithoutId() {
+        List<CommunicationEntity> entities = List.of(getEntity());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> entityManager.update(entities, MongoDBBulkWriteOptions.DEFAULT));
+    }
+
+    @Test
+    void shouldReturnErrorOnBatchesWhenThereIsNullParameter() {
+        List<CommunicationEntity> entities = List.of(getEntity());
+        Assertions.assertThrows(NullPointerException.class,
+                () -> entityManager.insert(entities, null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> entityManager.update(null, MongoDBBulkWriteOptions.DEFAULT));
+    }
 
 }
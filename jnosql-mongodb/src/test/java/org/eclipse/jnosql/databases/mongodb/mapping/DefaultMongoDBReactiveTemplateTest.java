@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.mongodb.mapping;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBReactiveDocumentManager;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.document.DocumentTemplate;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.reflection.spi.ReflectionEntityMetadataExtension;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.client.model.Filters.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class, DocumentTemplate.class, MongoDBTemplate.class})
+@AddPackages(Music.class)
+@AddPackages(Reflections.class)
+@AddExtensions({ReflectionEntityMetadataExtension.class,
+        DocumentExtension.class})
+class DefaultMongoDBReactiveTemplateTest {
+
+    @Inject
+    private EntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private MongoDBReactiveTemplate template;
+
+    private MongoDBReactiveDocumentManager manager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.manager = mock(MongoDBReactiveDocumentManager.class);
+        Instance instance = mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        template = new DefaultMongoDBReactiveTemplate(instance, converter, entities);
+    }
+
+    @Test
+    void shouldDeleteWithEntity() {
+        Bson filter = eq("name", "Poliana");
+        when(manager.delete("Birthday", filter)).thenReturn(CompletableFuture.completedFuture(1L));
+
+        template.delete(Birthday.class, filter);
+
+        Mockito.verify(manager).delete("Birthday", filter);
+    }
+
+    @Test
+    void shouldCountWithEntity() throws Exception {
+        Bson filter = eq("name", "Poliana");
+        when(manager.count("Birthday", filter)).thenReturn(CompletableFuture.completedFuture(2L));
+
+        long count = template.count(Birthday.class, filter).toCompletableFuture().get(1, TimeUnit.SECONDS);
+
+        assertThat(count).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldSelectWithEntity() throws Exception {
+        var entity = CommunicationEntity.of("Birthday", Arrays
+                .asList(Element.of("_id", "Poliana"),
+                        Element.of("age", 30)));
+        Bson filter = eq("name", "Poliana");
+        SubmissionPublisher<CommunicationEntity> publisher = new SubmissionPublisher<>();
+        when(manager.select("Birthday", filter)).thenReturn(publisher);
+
+        List<Birthday> result = new ArrayList<>();
+        CompletableFuture<Void> completed = subscribe(template.select(Birthday.class, filter), result);
+        publisher.submit(entity);
+        publisher.close();
+        completed.get(1, TimeUnit.SECONDS);
+
+        assertThat(result).containsExactly(new Birthday("Poliana", 30));
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereIsNullParameter() {
+        Bson filter = eq("name", "Poliana");
+        assertThrows(NullPointerException.class, () -> template.insert((Birthday) null));
+        assertThrows(NullPointerException.class, () -> template.update((Iterable<Birthday>) null));
+        assertThrows(NullPointerException.class, () -> template.select((SelectQuery) null));
+        assertThrows(NullPointerException.class, () -> template.select(Birthday.class, null));
+        assertThrows(NullPointerException.class, () -> template.delete(null, filter));
+        assertThrows(NullPointerException.class, () -> template.count(Birthday.class, null));
+    }
+
+    private static <T> CompletableFuture<Void> subscribe(Flow.Publisher<T> publisher, List<T> result) {
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                result.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+        return completed;
+    }
+}
@@ -17,13 +17,21 @@ package org.eclipse.jnosql.databases.mongodb.mapping;
 
 import com.mongodb.client.model.Accumulators;
 import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.changestream.OperationType;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import org.assertj.core.api.SoftAssertions;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
 import org.bson.conversions.Bson;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBChangeEvent;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBChangeStreamOptions;
 import org.eclipse.jnosql.databases.mongodb.communication.MongoDBDocumentManager;
+import org.eclipse.jnosql.databases.mongodb.communication.MongoDBFindOptions;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
@@ -47,6 +55,7 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static com.mongodb.client.model.Filters.eq;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
@@ -243,4 +252,89 @@ class DefaultMongoDBTemplateTest {
         assertThrows(NullPointerException.class, () -> template.count((Class<Birthday>) null, filter));
         assertThrows(NullPointerException.class, () -> template.count(Birthday.class, null));
     }
+
+    @Test
+    void shouldSelectWithEntityAndFindOptions() {
+        var entity = CommunicationEntity.of("Birthday", Arrays
+                .asList(Element.of("_id", "Poliana"),
+                        Element.of("age", 30)));
+        Bson filter = eq("name", "Poliana");
+        var options = MongoDBFindOptions.builder().batchSize(500).hint("name_1").build();
+        Mockito.when(manager.select("Birthday", filter, options))
+                .thenReturn(Stream.of(entity));
+        Stream<Birthday> stream = template.select(Birthday.class, filter, options);
+        Birthday poliana = stream.findFirst()
+                .orElseThrow(() -> new IllegalStateException("There is an issue on the test"));
+
+        assertEquals("Poliana", poliana.getName());
+        assertEquals(30, poliana.getAge());
+    }
+
+    @Test
+    void shouldSelectQueryWithFindOptions() {
+        var entity = CommunicationEntity.of("Birthday", Arrays
+                .asList(Element.of("_id", "Poliana"),
+                        Element.of("age", 30)));
+        var query = SelectQuery.select().from("Birthday").build();
+        var options = MongoDBFindOptions.builder().allowDiskUse(true).build();
+        Mockito.when(manager.select(query, options))
+                .thenReturn(Stream.of(entity));
+        Stream<Birthday> stream = template.select(query, options);
+        Birthday poliana = stream.findFirst()
+                .orElseThrow(() -> new IllegalStateException("There is an issue on the test"));
+
+        assertEquals("Poliana", poliana.getName());
+    }
+
+    @Test
+    void shouldReturnErrorOnSelectWithFindOptionsMethod() {
+        Bson filter = eq("name", "Poliana");
+        var query = SelectQuery.select().from("Birthday").build();
+        assertThrows(NullPointerException.class, () -> template.select(Birthday.class, filter, null));
+        assertThrows(NullPointerException.class, () -> template.select((Class<Birthday>) null, filter,
+                MongoDBFindOptions.EMPTY));
+        assertThrows(NullPointerException.class, () -> template.select(query, null));
+        assertThrows(NullPointerException.class, () -> template.select((SelectQuery) null, MongoDBFindOptions.EMPTY));
+    }
+
+    @Test
+    void shouldWatchEntity() {
+        var entity = CommunicationEntity.of("Birthday", Arrays
+                .asList(Element.of("_id", "Poliana"),
+                        Element.of("age", 30)));
+        var resumeToken = new BsonDocument("_data", new BsonString("token"));
+        var key = new BsonDocument("_id", new BsonString("Poliana"));
+        var options = MongoDBChangeStreamOptions.builder().resumeAfter(resumeToken).build();
+        Mockito.when(manager.watch("Birthday", options))
+                .thenReturn(Stream.of(
+                        MongoDBChangeEvent.of(OperationType.INSERT, "Birthday", key, entity, resumeToken),
+                        MongoDBChangeEvent.<CommunicationEntity>of(OperationType.DELETE, "Birthday", key, null,
+                                resumeToken)));
+
+        List<MongoDBChangeEvent<Birthday>> events = template.watch(Birthday.class, options).toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(events).hasSize(2);
+            soft.assertThat(events.get(0).operation()).isEqualTo(OperationType.INSERT);
+            soft.assertThat(events.get(0).entity()).get().extracting(Birthday::getName).isEqualTo("Poliana");
+            soft.assertThat(events.get(1).operation()).isEqualTo(OperationType.DELETE);
+            soft.assertThat(events.get(1).entity()).isEmpty();
+            soft.assertThat(events.get(1).documentKey()).contains(key);
+        });
+    }
+
+    @Test
+    void shouldWatchEntityWithDefaultOptions() {
+        Mockito.when(manager.watch("Birthday", MongoDBChangeStreamOptions.DEFAULT))
+                .thenReturn(Stream.empty());
+        assertThat(template.watch(Birthday.class)).isEmpty();
+        Mockito.verify(manager).watch("Birthday", MongoDBChangeStreamOptions.DEFAULT);
+    }
+
+    @Test
+    void shouldReturnErrorOnWatchMethod() {
+        assertThrows(NullPointerException.class, () -> template.watch(null));
+        assertThrows(NullPointerException.class, () -> template.watch(null, MongoDBChangeStreamOptions.DEFAULT));
+        assertThrows(NullPointerException.class, () -> template.watch(Birthday.class, null));
+    }
 }